@@ -15,6 +15,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -163,6 +164,39 @@ public class ClasspathBuilder {
     if (f == null || !Files.isReadable(f)) {
       return null;
     }
+    if (!isSourceOnly) {
+      var shared = toClasspathWithSharedCache(f);
+      if (shared != null) {
+        return shared;
+      }
+    }
     return FileSystem.getClasspath(f.toString(), encoding, isSourceOnly, null, null, null, release);
   }
+
+  /**
+   * Creates a {@link ClasspathJarWithSharedCache} for binary archives so that the class files are shared with other
+   * environments using the same archive (see {@link SharedBinaryTypeCache}).
+   *
+   * @param f
+   *          The classpath entry.
+   * @return The {@link ClasspathJarWithSharedCache} or {@code null} if the entry is no archive or a multi-release
+   *         archive.
+   */
+  private static Classpath toClasspathWithSharedCache(Path f) {
+    var fileName = f.getFileName();
+    if (fileName == null || !Files.isRegularFile(f)) {
+      return null;
+    }
+    var name = fileName.toString().toLowerCase(Locale.ROOT);
+    if (!name.endsWith(".jar") && !name.endsWith(".zip") || "jrt-fs.jar".equals(name)) {
+      return null;
+    }
+
+    var archive = f.toAbsolutePath().normalize();
+    var index = ClasspathIndex.archiveIndexFor(archive);
+    if (index == null || index.isMultiRelease()) {
+      return null; // release specific entries are resolved by the default implementation
+    }
+    return new ClasspathJarWithSharedCache(archive, index.size(), index.lastModified(), SharedBinaryTypeCache.shared());
+  }
 }
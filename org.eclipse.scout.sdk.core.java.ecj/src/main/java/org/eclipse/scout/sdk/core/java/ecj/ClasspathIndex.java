@@ -0,0 +1,519 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.ecj;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.ZipFile;
+
+import org.eclipse.jdt.internal.compiler.batch.ClasspathJar;
+import org.eclipse.jdt.internal.compiler.batch.ClasspathJrt;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem.Classpath;
+import org.eclipse.scout.sdk.core.log.SdkLog;
+import org.eclipse.scout.sdk.core.util.FinalValue;
+
+/**
+ * <h3>{@link ClasspathIndex}</h3>
+ * <p>
+ * Index of the packages and type names of a list of {@link Classpath} entries. It can be used to answer lookups for
+ * types or packages that do not exist on the classpath without opening any archive.
+ * <p>
+ * The index of an archive is stored in the {@link #storageDirectory() storage directory} keyed by the path, the size
+ * and the last modification time of the archive. Stored indices are memory-mapped, so that they are only built once
+ * for all processes. The JRT image of a {@link JreInfo} is indexed the same way. In addition, the indices are cached
+ * process wide and are shared by all {@link ClasspathIndex} instances. Classpath entries which can not be indexed (e.g.
+ * source or class folders) are asked directly.
+ * <p>
+ * The indices of the classpath entries are resolved lazily on the first lookup.
+ *
+ * @since 13.0
+ */
+public class ClasspathIndex {
+
+  /**
+   * Name of the system property holding the directory in which the archive indices are stored. If not set, a folder in
+   * the temp directory is used.
+   */
+  public static final String STORAGE_DIRECTORY_PROPERTY = "org.eclipse.scout.sdk.classpathIndexDirectory";
+
+  private static final char PACKAGE_SEPARATOR = '/';
+  private static final String MULTI_RELEASE_PREFIX = "META-INF/versions/";
+  private static final String INDEX_FILE_SUFFIX = ".idx";
+  private static final int MAGIC = 0x5343_4958; // SCIX
+  private static final int FORMAT_VERSION = 1;
+  @SuppressWarnings("StaticCollection")
+  private static final Map<Path, ArchiveIndex> ARCHIVE_INDICES = new ConcurrentHashMap<>();
+  private static volatile Path storageDirectory = defaultStorageDirectory();
+
+  private final Classpath[] m_classpath;
+  private final JreInfo m_jre;
+  private final FinalValue<Entries> m_entries;
+
+  /**
+   * @param classpath
+   *          The {@link Classpath} entries to index. Must not be {@code null}.
+   */
+  public ClasspathIndex(Classpath[] classpath) {
+    this(classpath, null);
+  }
+
+  /**
+   * @param classpath
+   *          The {@link Classpath} entries to index. Must not be {@code null}.
+   * @param jre
+   *          The {@link JreInfo} whose JRT image is part of the classpath. May be {@code null}. In that case the JRT
+   *          image is not indexed.
+   */
+  public ClasspathIndex(Classpath[] classpath, JreInfo jre) {
+    m_classpath = Arrays.copyOf(classpath, classpath.length);
+    m_jre = jre;
+    m_entries = new FinalValue<>();
+  }
+
+  protected Entries entries() {
+    return m_entries.computeIfAbsentAndGet(this::createEntries);
+  }
+
+  protected Entries createEntries() {
+    List<ArchiveIndex> archives = new ArrayList<>(m_classpath.length);
+    List<Classpath> notIndexed = new ArrayList<>();
+    for (var cp : m_classpath) {
+      ArchiveIndex archive = null;
+      if (cp instanceof ClasspathJar) {
+        archive = archiveIndexFor(Paths.get(cp.getPath()));
+      }
+      else if (cp instanceof ClasspathJrt && m_jre != null && m_jre.supportsJrtModules()) {
+        archive = jrtIndexFor(m_jre);
+      }
+
+      if (archive == null) {
+        notIndexed.add(cp);
+      }
+      else {
+        archives.add(archive);
+      }
+    }
+    return new Entries(archives, notIndexed);
+  }
+
+  /**
+   * Checks if the package given may exist in one of the classpath entries.
+   *
+   * @param qualifiedPackageName
+   *          The package name using '/' as delimiter (e.g. {@code java/util}).
+   * @return {@code false} if it is sure that the package does not exist in any of the classpath entries. {@code true}
+   *         if the package may exist.
+   */
+  public boolean mayContainPackage(String qualifiedPackageName) {
+    var entries = entries();
+    var key = qualifiedPackageName.getBytes(StandardCharsets.UTF_8);
+    for (var archive : entries.archives()) {
+      if (archive.containsPackage(key)) {
+        return true;
+      }
+    }
+    return isPackageInNotIndexed(entries, qualifiedPackageName);
+  }
+
+  /**
+   * Checks if the type given may exist in one of the classpath entries.
+   *
+   * @param qualifiedPackageName
+   *          The package name using '/' as delimiter (e.g. {@code java/util}).
+   * @param typeName
+   *          The simple name of the type (e.g. {@code List}).
+   * @return {@code false} if it is sure that the type does not exist in any of the classpath entries. {@code true} if
+   *         the type may exist.
+   */
+  public boolean mayContainType(String qualifiedPackageName, String typeName) {
+    var entries = entries();
+    var key = typeKey(qualifiedPackageName, typeName).getBytes(StandardCharsets.UTF_8);
+    for (var archive : entries.archives()) {
+      if (archive.containsType(key)) {
+        return true;
+      }
+    }
+    return isPackageInNotIndexed(entries, qualifiedPackageName);
+  }
+
+  protected static boolean isPackageInNotIndexed(Entries entries, String qualifiedPackageName) {
+    for (var cp : entries.notIndexed()) {
+      if (cp.isPackage(qualifiedPackageName, null)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Removes all archive indices from the process wide cache. The stored indices are not deleted.
+   */
+  public static void clearCache() {
+    ARCHIVE_INDICES.clear();
+  }
+
+  /**
+   * @return The directory in which the archive indices are stored or {@code null} if the indices are not stored.
+   */
+  public static Path storageDirectory() {
+    return storageDirectory;
+  }
+
+  /**
+   * @param directory
+   *          The directory in which the archive indices are stored or {@code null} if the indices should not be stored.
+   */
+  public static void setStorageDirectory(Path directory) {
+    storageDirectory = directory;
+  }
+
+  private static Path defaultStorageDirectory() {
+    try {
+      var configured = System.getProperty(STORAGE_DIRECTORY_PROPERTY);
+      if (configured != null && !configured.isBlank()) {
+        return Paths.get(configured);
+      }
+      return Paths.get(System.getProperty("java.io.tmpdir"), "scout-sdk", "classpath-index");
+    }
+    catch (RuntimeException e) {
+      SdkLog.debug("Unable to compute the classpath index directory. Indices are not stored.", e);
+      return null;
+    }
+  }
+
+  static ArchiveIndex archiveIndexFor(Path archive) {
+    return indexFor(archive, "", ClasspathIndex::readArchive);
+  }
+
+  static ArchiveIndex jrtIndexFor(JreInfo jre) {
+    var jreHome = jre.jreHome();
+    // the index is keyed by the modules image of the JRE
+    return indexFor(jreHome.resolve("lib").resolve("modules"), jre.version(), (image, packages, types) -> readJrt(jreHome, packages, types));
+  }
+
+  private static ArchiveIndex indexFor(Path file, String variant, ContentReader reader) {
+    try {
+      var normalized = file.toAbsolutePath().normalize();
+      var size = Files.size(normalized);
+      var lastModified = Files.getLastModifiedTime(normalized).toMillis();
+      var existing = ARCHIVE_INDICES.get(normalized);
+      if (existing != null && existing.isIndexOf(size, lastModified)) {
+        return existing;
+      }
+
+      // the index is loaded or created outside the map operation: no I/O while holding a lock of the map
+      var created = loadOrCreate(normalized, variant, size, lastModified, reader);
+      return ARCHIVE_INDICES.merge(normalized, created, (previous, candidate) -> previous.isIndexOf(size, lastModified) ? previous : candidate);
+    }
+    catch (IOException | RuntimeException e) {
+      SdkLog.debug("Unable to index classpath archive '{}'. Archive will not be indexed.", file, e);
+      return null;
+    }
+  }
+
+  private static ArchiveIndex loadOrCreate(Path archive, String variant, long size, long lastModified, ContentReader reader) throws IOException {
+    var directory = storageDirectory();
+    var prefix = hash(archive + "|" + variant) + '-';
+    var indexFile = directory == null ? null : directory.resolve(prefix + size + '-' + lastModified + INDEX_FILE_SUFFIX);
+    if (indexFile != null && Files.isRegularFile(indexFile)) {
+      try {
+        return ArchiveIndex.map(indexFile, size, lastModified);
+      }
+      catch (IOException | RuntimeException e) {
+        SdkLog.debug("Unable to read classpath index '{}'. Index is created again.", indexFile, e);
+      }
+    }
+
+    Set<String> packages = new HashSet<>();
+    Set<String> types = new HashSet<>();
+    var multiRelease = reader.read(archive, packages, types);
+    var content = ArchiveIndex.encode(size, lastModified, multiRelease, packages, types);
+    if (indexFile != null) {
+      store(indexFile, prefix, content);
+    }
+    return new ArchiveIndex(ByteBuffer.wrap(content).asReadOnlyBuffer());
+  }
+
+  private static void store(Path indexFile, String prefix, byte[] content) {
+    try {
+      var directory = indexFile.getParent();
+      Files.createDirectories(directory);
+      // remove the indices of previous versions of the archive
+      try (var previous = Files.newDirectoryStream(directory, prefix + '*' + INDEX_FILE_SUFFIX)) {
+        for (var file : previous) {
+          Files.deleteIfExists(file);
+        }
+      }
+      catch (IOException e) {
+        SdkLog.debug("Unable to delete outdated classpath indices.", e);
+      }
+      var tmp = Files.createTempFile(directory, prefix, ".tmp");
+      Files.write(tmp, content);
+      Files.move(tmp, indexFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    catch (IOException | RuntimeException e) {
+      SdkLog.debug("Unable to store classpath index '{}'.", indexFile, e);
+    }
+  }
+
+  private static boolean readArchive(Path archive, Set<String> packages, Set<String> types) throws IOException {
+    var multiRelease = false;
+    try (var zip = new ZipFile(archive.toFile())) {
+      var entries = zip.entries();
+      while (entries.hasMoreElements()) {
+        var entry = entries.nextElement();
+        if (!entry.isDirectory()) {
+          var name = entry.getName();
+          multiRelease = multiRelease || name.startsWith(MULTI_RELEASE_PREFIX);
+          addEntry(name, packages, types);
+        }
+      }
+    }
+    return multiRelease;
+  }
+
+  private static boolean readJrt(Path jreHome, Set<String> packages, Set<String> types) throws IOException {
+    try (var jrt = FileSystems.newFileSystem(URI.create("jrt:/"), Map.of("java.home", jreHome.toString()));
+         var files = Files.walk(jrt.getPath("/modules"))) {
+      files
+          .filter(Files::isRegularFile)
+          .filter(p -> p.getNameCount() > 2)
+          .map(p -> p.subpath(2, p.getNameCount()).toString()) // remove /modules/<module-name>
+          .forEach(name -> addEntry(name, packages, types));
+    }
+    return false;
+  }
+
+  static void addEntry(String entryName, Set<String> packages, Set<String> types) {
+    var name = entryName;
+    if (name.startsWith(MULTI_RELEASE_PREFIX)) {
+      // multi-release jar: META-INF/versions/<version>/<package>/<type>
+      var versionEnd = name.indexOf(PACKAGE_SEPARATOR, MULTI_RELEASE_PREFIX.length());
+      if (versionEnd < 0) {
+        return;
+      }
+      name = name.substring(versionEnd + 1);
+    }
+
+    var extensionPos = name.lastIndexOf('.');
+    if (extensionPos < 0) {
+      return;
+    }
+    var extension = name.substring(extensionPos);
+    if (!".class".equals(extension) && !".java".equals(extension)) {
+      return;
+    }
+
+    var lastSeparatorPos = name.lastIndexOf(PACKAGE_SEPARATOR);
+    var packageName = lastSeparatorPos < 0 ? "" : name.substring(0, lastSeparatorPos);
+    var typeName = name.substring(lastSeparatorPos + 1, extensionPos);
+    types.add(typeKey(packageName, typeName));
+    if (!packages.add(packageName)) {
+      return; // parent packages have already been registered
+    }
+
+    // parent packages exist as well (even if they contain no types)
+    var parentEnd = packageName.lastIndexOf(PACKAGE_SEPARATOR);
+    while (parentEnd > 0) {
+      var parent = packageName.substring(0, parentEnd);
+      if (!packages.add(parent)) {
+        break;
+      }
+      parentEnd = parent.lastIndexOf(PACKAGE_SEPARATOR);
+    }
+  }
+
+  private static String typeKey(String qualifiedPackageName, String typeName) {
+    return qualifiedPackageName + PACKAGE_SEPARATOR + typeName;
+  }
+
+  private static String hash(String value) {
+    try {
+      var digest = MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+      return HexFormat.of().formatHex(digest, 0, 16);
+    }
+    catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e); // SHA-256 is available on all Java platforms
+    }
+  }
+
+  @FunctionalInterface
+  private interface ContentReader {
+    /**
+     * @return {@code true} if the archive contains release specific entries.
+     */
+    boolean read(Path archive, Set<String> packages, Set<String> types) throws IOException;
+  }
+
+  protected record Entries(List<ArchiveIndex> archives, List<Classpath> notIndexed) {
+  }
+
+  /**
+   * Index of a single archive. The package names and the type names (prefixed with the package name) are stored as
+   * sorted tables of UTF-8 strings in a {@link ByteBuffer} so that it can be used directly from a memory-mapped file:
+   *
+   * <pre>
+   * int magic, int version, long size, long lastModified, byte multiRelease, int numPackages, int numTypes,
+   * int[numPackages] packageOffsets, int[numTypes] typeOffsets, (int length, byte[length] utf8)*
+   * </pre>
+   */
+  static final class ArchiveIndex {
+    private static final int HEADER_SIZE = 4 + 4 + 8 + 8 + 1 + 4 + 4;
+
+    private final ByteBuffer m_data;
+    private final long m_size;
+    private final long m_lastModified;
+    private final boolean m_multiRelease;
+    private final int m_numPackages;
+    private final int m_numTypes;
+
+    private ArchiveIndex(ByteBuffer data) {
+      m_data = data;
+      if (data.getInt(0) != MAGIC || data.getInt(4) != FORMAT_VERSION) {
+        throw new IllegalArgumentException("Unsupported classpath index format.");
+      }
+      m_size = data.getLong(8);
+      m_lastModified = data.getLong(16);
+      m_multiRelease = data.get(24) != 0;
+      m_numPackages = data.getInt(25);
+      m_numTypes = data.getInt(29);
+    }
+
+    static ArchiveIndex map(Path indexFile, long size, long lastModified) throws IOException {
+      try (var channel = FileChannel.open(indexFile)) {
+        var index = new ArchiveIndex(channel.map(MapMode.READ_ONLY, 0, channel.size())); // the mapping stays valid after closing the channel
+        if (!index.isIndexOf(size, lastModified)) {
+          throw new IllegalArgumentException("Classpath index '" + indexFile + "' belongs to another archive version.");
+        }
+        return index;
+      }
+    }
+
+    static byte[] encode(long size, long lastModified, boolean multiRelease, Collection<String> packages, Collection<String> types) {
+      var sortedPackages = sortedUtf8(packages);
+      var sortedTypes = sortedUtf8(types);
+      var stringsStart = HEADER_SIZE + (sortedPackages.length + sortedTypes.length) * 4;
+      var length = stringsStart;
+      for (var s : sortedPackages) {
+        length += 4 + s.length;
+      }
+      for (var s : sortedTypes) {
+        length += 4 + s.length;
+      }
+
+      var buffer = ByteBuffer.allocate(length);
+      buffer.putInt(MAGIC).putInt(FORMAT_VERSION).putLong(size).putLong(lastModified).put((byte) (multiRelease ? 1 : 0))
+          .putInt(sortedPackages.length).putInt(sortedTypes.length);
+      var offset = stringsStart;
+      for (var s : sortedPackages) {
+        buffer.putInt(offset);
+        offset += 4 + s.length;
+      }
+      for (var s : sortedTypes) {
+        buffer.putInt(offset);
+        offset += 4 + s.length;
+      }
+      for (var s : sortedPackages) {
+        buffer.putInt(s.length).put(s);
+      }
+      for (var s : sortedTypes) {
+        buffer.putInt(s.length).put(s);
+      }
+      return buffer.array();
+    }
+
+    private static byte[][] sortedUtf8(Collection<String> values) {
+      var result = values.stream()
+          .map(s -> s.getBytes(StandardCharsets.UTF_8))
+          .toArray(byte[][]::new);
+      Arrays.sort(result, Arrays::compareUnsigned);
+      return result;
+    }
+
+    boolean isIndexOf(long size, long lastModified) {
+      return m_size == size && m_lastModified == lastModified;
+    }
+
+    long size() {
+      return m_size;
+    }
+
+    long lastModified() {
+      return m_lastModified;
+    }
+
+    /**
+     * @return {@code true} if the archive contains release specific entries (below {@code META-INF/versions/}).
+     */
+    boolean isMultiRelease() {
+      return m_multiRelease;
+    }
+
+    boolean containsPackage(byte[] qualifiedPackageName) {
+      return contains(HEADER_SIZE, m_numPackages, qualifiedPackageName);
+    }
+
+    boolean containsType(byte[] typeKey) {
+      return contains(HEADER_SIZE + m_numPackages * 4, m_numTypes, typeKey);
+    }
+
+    private boolean contains(int table, int count, byte[] key) {
+      var low = 0;
+      var high = count - 1;
+      while (low <= high) {
+        var mid = (low + high) >>> 1;
+        var cmp = compare(m_data.getInt(table + mid * 4), key);
+        if (cmp < 0) {
+          low = mid + 1;
+        }
+        else if (cmp > 0) {
+          high = mid - 1;
+        }
+        else {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private int compare(int offset, byte[] key) {
+      var length = m_data.getInt(offset);
+      var start = offset + 4;
+      var n = Math.min(length, key.length);
+      for (var i = 0; i < n; i++) {
+        var cmp = Byte.compareUnsigned(m_data.get(start + i), key[i]);
+        if (cmp != 0) {
+          return cmp;
+        }
+      }
+      return length - key.length;
+    }
+  }
+}
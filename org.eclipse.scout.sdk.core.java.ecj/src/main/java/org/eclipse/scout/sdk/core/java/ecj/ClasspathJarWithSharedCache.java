@@ -0,0 +1,88 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.ecj;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import org.eclipse.jdt.internal.compiler.batch.ClasspathJar;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
+import org.eclipse.jdt.internal.compiler.env.NameEnvironmentAnswer;
+import org.eclipse.scout.sdk.core.log.SdkLog;
+import org.eclipse.scout.sdk.core.util.Ensure;
+
+/**
+ * <h3>{@link ClasspathJarWithSharedCache}</h3>
+ * <p>
+ * A {@link ClasspathJar} which gets the class files from a {@link SharedBinaryTypeCache}. Archives having release
+ * specific entries (multi-release jars) are not supported.
+ *
+ * @since 13.0
+ */
+public class ClasspathJarWithSharedCache extends ClasspathJar {
+
+  private final SharedBinaryTypeCache m_cache;
+  private final Path m_archive;
+  private final long m_size;
+  private final long m_lastModified;
+
+  /**
+   * @param archive
+   *          The normalized absolute path of the archive. Must not be {@code null}.
+   * @param size
+   *          The size of the archive in bytes.
+   * @param lastModified
+   *          The last modification time of the archive in milliseconds.
+   * @param cache
+   *          The {@link SharedBinaryTypeCache} to use. Must not be {@code null}.
+   */
+  public ClasspathJarWithSharedCache(Path archive, long size, long lastModified, SharedBinaryTypeCache cache) {
+    super(archive.toFile(), true, null, null);
+    m_archive = archive;
+    m_size = size;
+    m_lastModified = lastModified;
+    m_cache = Ensure.notNull(cache);
+  }
+
+  @Override
+  public NameEnvironmentAnswer findClass(char[] binaryFileName, String qualifiedPackageName, String moduleName, String qualifiedBinaryFileName, boolean asBinaryOnly) {
+    if (zipFile == null || accessRuleSet != null || annotationZipFile != null || annotationPaths != null) {
+      return super.findClass(binaryFileName, qualifiedPackageName, moduleName, qualifiedBinaryFileName, asBinaryOnly);
+    }
+    if (!isPackage(qualifiedPackageName, moduleName)) {
+      return null;
+    }
+
+    try {
+      var reader = m_cache.read(archiveId(), zipFile, qualifiedBinaryFileName);
+      if (reader == null) {
+        return null;
+      }
+      return new NameEnvironmentAnswer(reader, null, reader.moduleName);
+    }
+    catch (ClassFormatException | IOException e) {
+      SdkLog.debug("Unable to read '{}' from '{}'.", qualifiedBinaryFileName, m_archive, e);
+      return null;
+    }
+  }
+
+  protected SharedBinaryTypeCache.ArchiveId archiveId() {
+    var module = getModule();
+    var moduleName = module == null ? null : new String(module.name());
+    return new SharedBinaryTypeCache.ArchiveId(m_archive, m_size, m_lastModified, moduleName);
+  }
+
+  /**
+   * @return The {@link SharedBinaryTypeCache} of this classpath entry.
+   */
+  public SharedBinaryTypeCache cache() {
+    return m_cache;
+  }
+}
@@ -15,6 +15,7 @@ import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.internal.compiler.batch.FileSystem;
 import org.eclipse.jdt.internal.compiler.env.NameEnvironmentAnswer;
 import org.eclipse.jdt.internal.compiler.lookup.ModuleBinding;
+import org.eclipse.scout.sdk.core.util.FinalValue;
 
 /**
  * <h3>{@link FileSystemWithOverride}</h3>
@@ -26,12 +27,14 @@ public class FileSystemWithOverride extends FileSystem {
   private final JreInfo m_jreInfo;
   private final CompilationUnitOverrideSupport m_overrideSupport;
   private final Set<ClasspathEntry> m_cpEntries;
+  private final FinalValue<ClasspathIndex> m_index;
 
   protected FileSystemWithOverride(ClasspathBuilder cp) {
     super(cp.fullClasspath().toArray(new Classpath[0]), null, false);
     m_jreInfo = cp.jreInfo();
     m_cpEntries = cp.userClasspathEntries();
     m_overrideSupport = new CompilationUnitOverrideSupport();
+    m_index = new FinalValue<>();
   }
 
   private NameEnvironmentAnswer searchInOverrideSupport(char[] typeName, char[][] packageName) {
@@ -52,6 +55,10 @@ public class FileSystemWithOverride extends FileSystem {
     return null;
   }
 
+  private boolean mayContainType(char[][] packageName, char[] typeName) {
+    return index().mayContainType(new String(CharOperation.concatWith(packageName, '/')), new String(typeName));
+  }
+
   @Override
   public char[][] getModulesDeclaringPackage(char[][] packageName, char[] moduleName) {
     if (!hasModule(moduleName)) {
@@ -70,6 +77,9 @@ public class FileSystemWithOverride extends FileSystem {
       if (answer != null) {
         return answer;
       }
+      if (compoundName != null && compoundName.length > 0 && !mayContainType(CharOperation.subarray(compoundName, 0, compoundName.length - 1), compoundName[compoundName.length - 1])) {
+        return null; // answer negative lookups without opening the archives
+      }
     }
     return super.findType(compoundName, moduleName);
   }
@@ -81,6 +91,9 @@ public class FileSystemWithOverride extends FileSystem {
       if (answer != null) {
         return answer;
       }
+      if (typeName != null && !mayContainType(packageName, typeName)) {
+        return null; // answer negative lookups without opening the archives
+      }
     }
     return super.findType(typeName, packageName, moduleName);
   }
@@ -88,8 +101,13 @@ public class FileSystemWithOverride extends FileSystem {
   @Override
   public boolean isPackage(char[][] compoundName, char[] packageName) {
     var fqnWithSlash = CharOperation.concatWith(compoundName, packageName, '/');
-    return overrideSupport().containsPackage(fqnWithSlash)
-        || super.isPackage(compoundName, packageName);
+    if (overrideSupport().containsPackage(fqnWithSlash)) {
+      return true;
+    }
+    if (!index().mayContainPackage(new String(fqnWithSlash))) {
+      return false; // answer negative lookups without opening the archives
+    }
+    return super.isPackage(compoundName, packageName);
   }
 
   @Override
@@ -120,6 +138,13 @@ public class FileSystemWithOverride extends FileSystem {
     return m_jreInfo;
   }
 
+  /**
+   * @return The {@link ClasspathIndex} of this file system. It is created on first use.
+   */
+  public ClasspathIndex index() {
+    return m_index.computeIfAbsentAndGet(() -> new ClasspathIndex(classpaths, m_jreInfo));
+  }
+
   @Override
   public void cleanup() {
     m_overrideSupport.clear();
@@ -25,6 +25,7 @@ import org.eclipse.scout.sdk.core.java.model.api.IJavaEnvironment;
  * @since 7.1.0
  * @see EmptyJavaEnvironmentFactory
  * @see RunningJavaEnvironmentFactory
+ * @see PooledRunningJavaEnvironmentFactory
  */
 public final class JavaEnvironmentFactories {
 
@@ -95,4 +96,20 @@ public final class JavaEnvironmentFactories {
           .withoutScoutSdk();
     }
   }
+
+  /**
+   * {@link IJavaEnvironment} factory with the same classpath as the running JRE. The environments are leased from the
+   * {@link JavaEnvironmentPool#shared() shared pool} so that subsequent calls reuse the already opened classpath and
+   * resolved types. Use this factory for many short tasks on a classpath that does not change.
+   *
+   * @since 13.0
+   */
+  public static final class PooledRunningJavaEnvironmentFactory implements IJavaEnvironmentFactory {
+    @Override
+    public JavaEnvironmentWithEcjBuilder<?> get() {
+      return new JavaEnvironmentWithEcjBuilder<>()
+          .withoutScoutSdk()
+          .withPool(JavaEnvironmentPool.shared());
+    }
+  }
 }
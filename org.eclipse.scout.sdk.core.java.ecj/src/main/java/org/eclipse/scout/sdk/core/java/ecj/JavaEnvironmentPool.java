@@ -0,0 +1,333 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.ecj;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
+import org.eclipse.scout.sdk.core.log.SdkLog;
+import org.eclipse.scout.sdk.core.util.CacheStatistics;
+import org.eclipse.scout.sdk.core.util.Ensure;
+
+/**
+ * <h3>{@link JavaEnvironmentPool}</h3>
+ * <p>
+ * Pool of {@link JavaEnvironmentWithEcj} instances. Environments are keyed by the Java home, the classpath entries and
+ * the {@link CompilerOptions}. A task {@link #lease(Path, Collection, CompilerOptions, Supplier) leases} an
+ * environment exclusively. When the lease is closed, the compilation unit overrides registered by the task are removed
+ * and the environment is kept for the next task with the same key. This way the opened archives and all already
+ * resolved types can be reused.
+ * <p>
+ * At most {@link #maxIdle()} environments are kept. If there are more, the least recently used ones are closed.
+ * Environments that have not been used for longer than {@link #maxIdleTime()} are closed as well. If an archive of
+ * the classpath has been modified since the environment was created, it is not reused. Changes within source or class
+ * folders are not detected. Call {@link #clear()} if the content of such folders changed.
+ * <p>
+ * This class is thread safe.
+ *
+ * @since 13.0
+ * @see JavaEnvironmentWithEcjBuilder#withPool(JavaEnvironmentPool)
+ */
+public class JavaEnvironmentPool implements AutoCloseable {
+
+  /**
+   * The default number of idle environments kept by a pool.
+   */
+  public static final int DEFAULT_MAX_IDLE = 4;
+
+  /**
+   * The default time after which an idle environment is closed.
+   */
+  public static final Duration DEFAULT_MAX_IDLE_TIME = Duration.ofMinutes(5);
+
+  private static final JavaEnvironmentPool SHARED = new JavaEnvironmentPool(DEFAULT_MAX_IDLE, DEFAULT_MAX_IDLE_TIME);
+
+  private final int m_maxIdle;
+  private final Duration m_maxIdleTime;
+  private final Deque<PooledEnvironment> m_idle; // least recently used first. Only accessed under lock of itself.
+  private final CacheStatistics m_statistics;
+  private int m_generation; // only accessed under lock of m_idle
+  private int m_numLeased; // only accessed under lock of m_idle
+
+  /**
+   * @param maxIdle
+   *          The maximum number of idle environments to keep. Must not be negative.
+   * @param maxIdleTime
+   *          The time after which an idle environment is closed. Must not be {@code null}.
+   */
+  public JavaEnvironmentPool(int maxIdle, Duration maxIdleTime) {
+    Ensure.isTrue(maxIdle >= 0, "maxIdle must not be negative.");
+    m_maxIdle = maxIdle;
+    m_maxIdleTime = Ensure.notNull(maxIdleTime);
+    m_idle = new ArrayDeque<>();
+    m_statistics = new CacheStatistics(JavaEnvironmentPool.class.getSimpleName());
+  }
+
+  /**
+   * @return The process wide {@link JavaEnvironmentPool} using {@link #DEFAULT_MAX_IDLE} and
+   *         {@link #DEFAULT_MAX_IDLE_TIME}.
+   */
+  public static JavaEnvironmentPool shared() {
+    return SHARED;
+  }
+
+  /**
+   * Leases an environment for the given arguments. If an idle environment with the same arguments exists, it is reused.
+   * Otherwise, a new one is created using the factory given.
+   * <p>
+   * The environment may only be used until the returned {@link Lease} is closed.
+   *
+   * @param javaHome
+   *          The Java home of the environment or {@code null} if the running Java home is used.
+   * @param classpath
+   *          The classpath entries of the environment. Must not be {@code null}.
+   * @param options
+   *          The {@link CompilerOptions} of the environment. May be {@code null}.
+   * @param factory
+   *          Creates a new environment for these arguments if there is no idle one. Must not be {@code null}.
+   * @return A new {@link Lease}.
+   */
+  public Lease lease(Path javaHome, Collection<? extends ClasspathEntry> classpath, CompilerOptions options, Supplier<? extends JavaEnvironmentWithEcj> factory) {
+    var key = PoolKey.of(javaHome, classpath, options);
+    var fingerprint = fingerprintOf(classpath);
+    Collection<PooledEnvironment> toClose = new ArrayList<>();
+    PooledEnvironment pooled = null;
+    int generation;
+    synchronized (m_idle) {
+      collectExpired(toClose);
+      var it = m_idle.descendingIterator(); // most recently used first
+      while (it.hasNext()) {
+        var candidate = it.next();
+        if (candidate.m_key.equals(key)) {
+          it.remove();
+          if (candidate.m_fingerprint.equals(fingerprint)) {
+            pooled = candidate;
+            break;
+          }
+          toClose.add(candidate); // an archive has been modified
+        }
+      }
+      generation = m_generation;
+      m_numLeased++;
+    }
+    closeAll(toClose);
+
+    if (pooled == null) {
+      m_statistics.miss();
+      var start = System.nanoTime();
+      try {
+        pooled = new PooledEnvironment(key, fingerprint, Ensure.notNull(factory.get()), generation);
+      }
+      catch (RuntimeException e) {
+        synchronized (m_idle) {
+          m_numLeased--;
+        }
+        throw e;
+      }
+      m_statistics.loaded(System.nanoTime() - start);
+    }
+    else {
+      m_statistics.hit();
+    }
+    return new Lease(pooled);
+  }
+
+  protected void release(PooledEnvironment pooled) {
+    var reusable = pooled.m_env.isInitialized() && resetForReuse(pooled.m_env);
+    Collection<PooledEnvironment> toClose = new ArrayList<>();
+    synchronized (m_idle) {
+      m_numLeased--;
+      if (reusable && pooled.m_generation == m_generation && m_maxIdle > 0) {
+        pooled.m_lastUsed = System.nanoTime();
+        m_idle.addLast(pooled);
+      }
+      else {
+        toClose.add(pooled);
+      }
+      collectExpired(toClose);
+    }
+    closeAll(toClose);
+  }
+
+  protected static boolean resetForReuse(JavaEnvironmentWithEcj env) {
+    try {
+      env.removeOverrides();
+      return true;
+    }
+    catch (RuntimeException e) {
+      SdkLog.warning("Unable to reset Java environment. It will not be reused.", e);
+      return false;
+    }
+  }
+
+  private void collectExpired(Collection<PooledEnvironment> collector) {
+    var oldestAllowed = System.nanoTime() - m_maxIdleTime.toNanos();
+    while (!m_idle.isEmpty() && (m_idle.size() > m_maxIdle || m_idle.peekFirst().m_lastUsed - oldestAllowed < 0)) {
+      collector.add(m_idle.pollFirst());
+    }
+  }
+
+  private static void closeAll(Iterable<PooledEnvironment> environments) {
+    for (var pooled : environments) {
+      try {
+        pooled.m_env.close();
+      }
+      catch (RuntimeException e) {
+        SdkLog.warning("Unable to close pooled Java environment.", e);
+      }
+    }
+  }
+
+  protected static List<Object> fingerprintOf(Iterable<? extends ClasspathEntry> classpath) {
+    List<Object> fingerprint = new ArrayList<>();
+    for (var entry : classpath) {
+      try {
+        var attributes = Files.readAttributes(entry.path(), BasicFileAttributes.class);
+        if (attributes.isRegularFile()) {
+          fingerprint.add(attributes.size());
+          fingerprint.add(attributes.lastModifiedTime().toMillis());
+        }
+      }
+      catch (IOException e) {
+        SdkLog.debug("Unable to read attributes of classpath entry '{}'.", entry.path(), e);
+        fingerprint.add(null);
+      }
+    }
+    return fingerprint;
+  }
+
+  /**
+   * Closes all idle environments. Environments currently leased are closed as soon as their lease is closed.
+   */
+  public void clear() {
+    Collection<PooledEnvironment> toClose;
+    synchronized (m_idle) {
+      toClose = new ArrayList<>(m_idle);
+      m_idle.clear();
+      m_generation++;
+    }
+    closeAll(toClose);
+    SdkLog.debug("Cleared {}.", m_statistics);
+  }
+
+  @Override
+  public void close() {
+    clear();
+  }
+
+  /**
+   * @return The number of idle environments in this pool.
+   */
+  public int idleCount() {
+    synchronized (m_idle) {
+      return m_idle.size();
+    }
+  }
+
+  /**
+   * @return The number of environments currently leased.
+   */
+  public int leasedCount() {
+    synchronized (m_idle) {
+      return m_numLeased;
+    }
+  }
+
+  /**
+   * @return The maximum number of idle environments kept by this pool.
+   */
+  public int maxIdle() {
+    return m_maxIdle;
+  }
+
+  /**
+   * @return The time after which an idle environment is closed.
+   */
+  public Duration maxIdleTime() {
+    return m_maxIdleTime;
+  }
+
+  /**
+   * @return The {@link CacheStatistics} of this pool. A hit is a lease that could reuse an existing environment.
+   */
+  public CacheStatistics statistics() {
+    return m_statistics;
+  }
+
+  /**
+   * An exclusive lease of a pooled {@link JavaEnvironmentWithEcj}. Closing the lease returns the environment to the
+   * pool.
+   */
+  public final class Lease implements AutoCloseable {
+    private final PooledEnvironment m_pooled;
+    private boolean m_closed;
+
+    private Lease(PooledEnvironment pooled) {
+      m_pooled = pooled;
+    }
+
+    /**
+     * @return The leased {@link JavaEnvironmentWithEcj}. It must not be used anymore after this lease has been closed.
+     */
+    public JavaEnvironmentWithEcj environment() {
+      return m_pooled.m_env;
+    }
+
+    @Override
+    public synchronized void close() {
+      if (m_closed) {
+        return;
+      }
+      m_closed = true;
+      release(m_pooled);
+    }
+  }
+
+  protected static final class PooledEnvironment {
+    private final PoolKey m_key;
+    private final List<Object> m_fingerprint;
+    private final JavaEnvironmentWithEcj m_env;
+    private final int m_generation;
+    private long m_lastUsed; // only accessed under lock of the pool
+
+    private PooledEnvironment(PoolKey key, List<Object> fingerprint, JavaEnvironmentWithEcj env, int generation) {
+      m_key = key;
+      m_fingerprint = fingerprint;
+      m_env = env;
+      m_generation = generation;
+    }
+  }
+
+  private record PoolKey(Path javaHome, List<Object> classpath, Map<String, String> options, boolean ignoreMethodBodies) {
+    private static PoolKey of(Path javaHome, Collection<? extends ClasspathEntry> classpath, CompilerOptions options) {
+      var normalizedJavaHome = javaHome == null ? null : javaHome.toAbsolutePath().normalize();
+      List<Object> entries = new ArrayList<>(classpath.size() * 3);
+      for (var entry : classpath) {
+        entries.add(entry.path().toAbsolutePath().normalize());
+        entries.add(entry.mode());
+        entries.add(entry.encoding());
+      }
+      Map<String, String> opts = options == null ? Map.of() : new TreeMap<>(options.getMap());
+      return new PoolKey(normalizedJavaHome, entries, opts, options != null && options.ignoreMethodBodies);
+    }
+  }
+}
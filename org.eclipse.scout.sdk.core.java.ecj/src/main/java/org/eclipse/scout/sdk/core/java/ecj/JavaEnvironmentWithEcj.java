@@ -11,8 +11,10 @@ package org.eclipse.scout.sdk.core.java.ecj;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.newSetFromMap;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toSet;
 import static org.eclipse.scout.sdk.core.java.ecj.SpiWithEcjUtils.bindingToType;
 import static org.eclipse.scout.sdk.core.java.ecj.SpiWithEcjUtils.sourceMethodOf;
 import static org.eclipse.scout.sdk.core.log.SdkLog.onTrace;
@@ -26,13 +28,17 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.StringTokenizer;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.eclipse.jdt.core.compiler.CharOperation;
 import org.eclipse.jdt.internal.compiler.ast.AbstractMethodDeclaration;
@@ -49,12 +55,16 @@ import org.eclipse.jdt.internal.compiler.impl.CompilerOptions;
 import org.eclipse.jdt.internal.compiler.lookup.AnnotationBinding;
 import org.eclipse.jdt.internal.compiler.lookup.ArrayBinding;
 import org.eclipse.jdt.internal.compiler.lookup.BaseTypeBinding;
+import org.eclipse.jdt.internal.compiler.lookup.BinaryTypeBinding;
 import org.eclipse.jdt.internal.compiler.lookup.ElementValuePair;
 import org.eclipse.jdt.internal.compiler.lookup.FieldBinding;
+import org.eclipse.jdt.internal.compiler.lookup.LookupEnvironment;
 import org.eclipse.jdt.internal.compiler.lookup.MethodBinding;
 import org.eclipse.jdt.internal.compiler.lookup.MissingTypeBinding;
+import org.eclipse.jdt.internal.compiler.lookup.PackageBinding;
 import org.eclipse.jdt.internal.compiler.lookup.ReferenceBinding;
 import org.eclipse.jdt.internal.compiler.lookup.SourceTypeBinding;
+import org.eclipse.jdt.internal.compiler.lookup.TagBits;
 import org.eclipse.jdt.internal.compiler.lookup.TypeBinding;
 import org.eclipse.jdt.internal.compiler.lookup.TypeVariableBinding;
 import org.eclipse.scout.sdk.core.java.JavaTypes;
@@ -66,8 +76,12 @@ import org.eclipse.scout.sdk.core.java.model.spi.AnnotationElementSpi;
 import org.eclipse.scout.sdk.core.java.model.spi.AnnotationSpi;
 import org.eclipse.scout.sdk.core.java.model.spi.ClasspathSpi;
 import org.eclipse.scout.sdk.core.java.model.spi.CompilationUnitSpi;
+import org.eclipse.scout.sdk.core.java.model.spi.ImportSpi;
 import org.eclipse.scout.sdk.core.java.model.spi.JavaElementSpi;
+import org.eclipse.scout.sdk.core.java.model.spi.MemberSpi;
+import org.eclipse.scout.sdk.core.java.model.spi.MethodParameterSpi;
 import org.eclipse.scout.sdk.core.java.model.spi.PackageSpi;
+import org.eclipse.scout.sdk.core.java.model.spi.TypeParameterSpi;
 import org.eclipse.scout.sdk.core.java.model.spi.TypeSpi;
 import org.eclipse.scout.sdk.core.log.SdkLog;
 import org.eclipse.scout.sdk.core.util.CompositeObject;
@@ -100,6 +114,8 @@ public class JavaEnvironmentWithEcj extends AbstractJavaEnvironment implements A
 
   // state
   private volatile boolean m_initialized;
+  private boolean m_keepNameEnvironmentOnReload; // only accessed under lock
+  private final Set<String> m_changedOverrides; // names of the loaded types whose compilation unit override changed. only accessed under lock
 
   protected JavaEnvironmentWithEcj(Path javaHome, Collection<? extends ClasspathEntry> classpath, CompilerOptions options) {
     m_javaHome = javaHome;
@@ -110,6 +126,7 @@ public class JavaEnvironmentWithEcj extends AbstractJavaEnvironment implements A
     m_evpCache = new ConcurrentHashMap<>();
     m_mvpCache = new ConcurrentHashMap<>();
     m_sourceCache = new HashMap<>(); // normal map is ok: all access is synchronized
+    m_changedOverrides = new HashSet<>(); // normal set is ok: all access is synchronized
     m_fs = new FinalValue<>();
     m_compiler = new FinalValue<>();
     m_classpath = new FinalValue<>();
@@ -239,12 +256,260 @@ public class JavaEnvironmentWithEcj extends AbstractJavaEnvironment implements A
   }
 
   private void doReloadStart() {
-    // backup old FS so that it can be closed after reload
-    m_oldFsDuringReload = m_fs.get();
-    clear(false); // old FS is still used during reload (to find new SPIs). Do not close it here already.
+    if (m_keepNameEnvironmentOnReload && m_fs.isSet()) {
+      // only the overrides changed: the name environment (with its opened archives and caches) is still valid. Only the compiler must be recreated.
+      clearCompiler();
+    }
+    else {
+      // backup old FS so that it can be closed after reload
+      m_oldFsDuringReload = m_fs.get();
+      clear(false); // old FS is still used during reload (to find new SPIs). Do not close it here already.
+    }
     m_initialized = true;
   }
 
+  @Override
+  public void reloadOverrides() {
+    synchronized (lock()) {
+      if (m_changedOverrides.isEmpty() || reloadChangedTypes()) {
+        return;
+      }
+
+      // the outdated types cannot be removed from the compiler: recreate it but keep the name environment
+      m_keepNameEnvironmentOnReload = true;
+      try {
+        reload();
+      }
+      finally {
+        m_keepNameEnvironmentOnReload = false;
+      }
+    }
+  }
+
+  /**
+   * Removes the types whose compilation unit override changed from the current compiler. The types whose hierarchy
+   * references such a type are removed as well. All other bindings and the elements and caches depending on them are
+   * kept.
+   *
+   * @return {@code true} if the outdated types have been removed. {@code false} if the compiler must be recreated.
+   */
+  private boolean reloadChangedTypes() {
+    var changedTypes = new ArrayList<>(m_changedOverrides);
+    m_changedOverrides.clear();
+    if (!m_compiler.isSet()) {
+      return true; // no bindings exist yet
+    }
+
+    Set<ReferenceBinding> outdatedTypes = newSetFromMap(new IdentityHashMap<>());
+    changedTypes.stream()
+        .map(this::findExistingBindingFor)
+        .filter(Objects::nonNull)
+        .filter(ReferenceBinding::isValidBinding) // types which were not found are only forgotten below
+        .forEach(binding -> addWithCompilationUnit(binding, outdatedTypes));
+
+    var packages = loadedPackagesOf(getCompiler().lookupEnvironment);
+    addHierarchyDependents(packages, outdatedTypes);
+
+    // remove the outdated types from the compiler so that they are loaded again on the next lookup
+    for (var pck : packages) {
+      var knownTypes = pck.knownTypes;
+      for (var i = 0; i < knownTypes.valueTable.length; i++) {
+        var type = knownTypes.valueTable[i];
+        if (type == null) {
+          continue;
+        }
+        if (outdatedTypes.contains(type) || (!type.isValidBinding() && changedTypes.contains(qualifiedNameOf(pck, knownTypes.keyTable[i])))) {
+          knownTypes.put(knownTypes.keyTable[i], null);
+        }
+      }
+    }
+    if (outdatedTypes.isEmpty()) {
+      return true;
+    }
+    var outdatedNames = outdatedTypes.stream()
+        .map(type -> CharOperation.toString(type.compoundName))
+        .collect(toSet());
+    if (outdatedNames.stream().map(this::findExistingBindingFor).anyMatch(outdatedTypes::contains)) {
+      SdkLog.debug("Outdated types could not be removed from the compiler. Recreating it.");
+      return false;
+    }
+
+    // remove the elements depending on the outdated types and connect their API elements with the new ones
+    Set<JavaElementSpi> outdatedElements = newSetFromMap(new IdentityHashMap<>());
+    m_elements.values().stream()
+        .filter(element -> isOutdated(element, outdatedNames))
+        .forEach(outdatedElements::add);
+    m_elements.values().removeIf(outdatedElements::contains);
+    m_evpCache.keySet().removeIf(binding -> outdatedTypes.contains(topLevelTypeOf(binding)));
+    m_mvpCache.keySet().removeIf(binding -> outdatedTypes.contains(topLevelTypeOf(binding)));
+    removeTypesFromCache(fqn -> outdatedNames.stream().anyMatch(fqn::contains)); // includes inner, array and parameterized types
+    reattachApis(outdatedElements);
+    return true;
+  }
+
+  private static boolean isOutdated(JavaElementSpi element, Set<String> outdatedNames) {
+    try {
+      return outdatedNames.contains(primaryTypeNameOf(element));
+    }
+    catch (RuntimeException e) {
+      SdkLog.debug("Unable to compute the primary type of element '{}'. Handling it as outdated.", element, e);
+      return true;
+    }
+  }
+
+  private static String qualifiedNameOf(PackageBinding pck, char[] typeName) {
+    return CharOperation.toString(CharOperation.arrayConcat(pck.compoundName, typeName));
+  }
+
+  private static void addWithCompilationUnit(ReferenceBinding type, Set<ReferenceBinding> collector) {
+    if (type instanceof SourceTypeBinding sourceType && sourceType.scope != null) {
+      // all types of the compilation unit are created together: they must be removed together
+      collector.addAll(Arrays.asList(sourceType.scope.compilationUnitScope().topLevelTypes));
+    }
+    else {
+      collector.add(type);
+    }
+  }
+
+  private static void addHierarchyDependents(Collection<PackageBinding> packages, Set<ReferenceBinding> outdatedTypes) {
+    var added = true;
+    while (added) {
+      added = false;
+      Map<ReferenceBinding, Boolean> visited = new IdentityHashMap<>();
+      var candidates = packages.stream()
+          .flatMap(pck -> Arrays.stream(pck.knownTypes.valueTable))
+          .filter(type -> type instanceof SourceTypeBinding || type instanceof BinaryTypeBinding)
+          .filter(type -> !outdatedTypes.contains(type))
+          .toList();
+      for (var candidate : candidates) {
+        if (!outdatedTypes.contains(candidate) && hierarchyReferences(candidate, outdatedTypes, visited)) {
+          addWithCompilationUnit(candidate, outdatedTypes);
+          added = true;
+        }
+      }
+    }
+  }
+
+  /**
+   * @return {@code true} if the super hierarchy of the type given or of one of its member types contains an outdated
+   *         type. Parts of the hierarchy that have not been resolved yet are not loaded: they are resolved by name and
+   *         will therefore find the new types.
+   */
+  private static boolean hierarchyReferences(ReferenceBinding type, Set<ReferenceBinding> outdatedTypes, Map<ReferenceBinding, Boolean> visited) {
+    if (superTypesOf(type).anyMatch(superType -> isOrExtendsOutdated(superType, outdatedTypes, visited))) {
+      return true;
+    }
+    if ((type.tagBits & TagBits.HasUnresolvedMemberTypes) != 0) {
+      return false;
+    }
+    return Arrays.stream(type.memberTypes())
+        .anyMatch(memberType -> hierarchyReferences(memberType, outdatedTypes, visited));
+  }
+
+  private static boolean isOrExtendsOutdated(ReferenceBinding type, Set<ReferenceBinding> outdatedTypes, Map<ReferenceBinding, Boolean> visited) {
+    var existing = visited.get(type);
+    if (existing != null) {
+      return existing;
+    }
+    visited.put(type, Boolean.FALSE); // guard against cycles in inconsistent hierarchies
+    var result = outdatedTypes.contains(topLevelTypeOf(type))
+        || superTypesOf(type).anyMatch(superType -> isOrExtendsOutdated(superType, outdatedTypes, visited));
+    visited.put(type, result);
+    return result;
+  }
+
+  private static Stream<ReferenceBinding> superTypesOf(ReferenceBinding type) {
+    var superClass = (type.tagBits & TagBits.HasUnresolvedSuperclass) == 0 ? type.superclass() : null;
+    var superInterfaces = (type.tagBits & TagBits.HasUnresolvedSuperinterfaces) == 0 ? type.superInterfaces() : null;
+    return Stream.concat(Stream.of(superClass), superInterfaces == null ? Stream.empty() : Arrays.stream(superInterfaces))
+        .filter(Objects::nonNull)
+        .map(superType -> (ReferenceBinding) superType.original());
+  }
+
+  private static ReferenceBinding topLevelTypeOf(TypeBinding type) {
+    if (type == null || !(type.leafComponentType().erasure().unannotated() instanceof ReferenceBinding referenceType)) {
+      return null;
+    }
+    return referenceType.outermostEnclosingType();
+  }
+
+  private static Collection<PackageBinding> loadedPackagesOf(LookupEnvironment lookupEnvironment) {
+    Set<PackageBinding> packages = newSetFromMap(new IdentityHashMap<>());
+    packages.add(lookupEnvironment.defaultPackage);
+    packages.addAll(lookupEnvironment.UnNamedModule.declaredPackages.values());
+    Arrays.stream(lookupEnvironment.knownModules.valueTable)
+        .filter(Objects::nonNull)
+        .forEach(module -> packages.addAll(module.declaredPackages.values()));
+    packages.removeIf(pck -> pck == null || pck.knownTypes == null);
+    return packages;
+  }
+
+  /**
+   * @return The fully qualified name of the primary type the element given belongs to or an empty {@link String} if it
+   *         does not belong to a type (e.g. packages).
+   */
+  private static String primaryTypeNameOf(JavaElementSpi element) {
+    if (element instanceof TypeSpi type) {
+      var leaf = type.getArrayDimension() > 0 ? type.getLeafComponentType() : type;
+      var declaringType = leaf.getDeclaringType();
+      while (declaringType != null) {
+        leaf = declaringType;
+        declaringType = leaf.getDeclaringType();
+      }
+      return leaf.getName();
+    }
+    JavaElementSpi owner = null;
+    if (element instanceof MemberSpi member) {
+      owner = member.getDeclaringType();
+    }
+    else if (element instanceof MethodParameterSpi parameter) {
+      owner = parameter.getDeclaringMethod();
+    }
+    else if (element instanceof TypeParameterSpi typeParameter) {
+      owner = typeParameter.getDeclaringMember();
+    }
+    else if (element instanceof AnnotationSpi annotation) {
+      owner = annotation.getOwner();
+    }
+    else if (element instanceof AnnotationElementSpi annotationElement) {
+      owner = annotationElement.getDeclaringAnnotation();
+    }
+    else if (element instanceof CompilationUnitSpi compilationUnit) {
+      owner = compilationUnit.getMainType();
+    }
+    else if (element instanceof ImportSpi importSpi) {
+      owner = importSpi.getCompilationUnit();
+    }
+    if (owner == null) {
+      return "";
+    }
+    return primaryTypeNameOf(owner);
+  }
+
+  /**
+   * Removes all compilation unit overrides from this environment. The name environment (with its opened archives and
+   * caches) is kept. All elements that have been created before become invalid if there were overrides.
+   * <p>
+   * This method is intended to reset an environment before it is reused by another task (see
+   * {@link JavaEnvironmentPool}).
+   *
+   * @return {@code true} if overrides have been removed. {@code false} if there were no overrides.
+   */
+  protected boolean removeOverrides() {
+    synchronized (lock()) {
+      var overrideSupport = m_fs.opt()
+          .map(FileSystemWithOverride::overrideSupport)
+          .orElse(null);
+      if (overrideSupport == null || overrideSupport.size() < 1) {
+        return false;
+      }
+      overrideSupport.clear();
+      clearCompiler();
+      m_sourceCache.clear();
+      return true;
+    }
+  }
+
   protected boolean isInitialized() {
     return m_initialized;
   }
@@ -267,10 +532,7 @@ public class JavaEnvironmentWithEcj extends AbstractJavaEnvironment implements A
   }
 
   private void clear(boolean closeFs) {
-    cleanup();
-    m_elements.clear();
-    m_evpCache.clear();
-    m_mvpCache.clear();
+    clearCompiler();
     m_sourceCache.clear();
 
     var oldFs = m_fs.get();
@@ -278,10 +540,21 @@ public class JavaEnvironmentWithEcj extends AbstractJavaEnvironment implements A
     if (closeFs && oldFs != null) {
       oldFs.cleanup();
     }
-    m_compiler = new FinalValue<>();
     m_classpath = new FinalValue<>();
   }
 
+  /**
+   * Removes all state depending on the current compiler (all bindings).
+   */
+  private void clearCompiler() {
+    cleanup();
+    m_changedOverrides.clear();
+    m_elements.clear();
+    m_evpCache.clear();
+    m_mvpCache.clear();
+    m_compiler = new FinalValue<>();
+  }
+
   @Override
   protected void onReloadEnd() {
     super.onReloadEnd();
@@ -362,6 +635,7 @@ public class JavaEnvironmentWithEcj extends AbstractJavaEnvironment implements A
 
       if (reloadRequired) {
         m_sourceCache.keySet().removeIf(cuFileName -> CharOperation.endsWith(cuFileName.array(), cu.getFileName()));
+        m_changedOverrides.add(fqn);
       }
 
       return reloadRequired;
@@ -468,178 +742,157 @@ public class JavaEnvironmentWithEcj extends AbstractJavaEnvironment implements A
         .toList());
   }
 
-  public VoidTypeWithEcj createVoidType() {
-    assertInitialized();
+  /**
+   * Gets the element with given key or creates a new one using the factory given.
+   * <p>
+   * Elements already created are returned without acquiring the environment lock. Only the creation of new elements
+   * (which may access the compiler) is executed under the lock of {@link #lock()}.
+   *
+   * @param key
+   *          The cache key of the element.
+   * @param factory
+   *          The factory to create the element if it does not exist yet.
+   * @return The existing or newly created element.
+   */
+  @SuppressWarnings("unchecked")
+  protected <T extends JavaElementSpi> T getOrCreateElement(Object key, Supplier<T> factory) {
+    var existing = m_elements.get(key); // fast check without locking
+    if (existing != null) {
+      return (T) existing;
+    }
     synchronized (lock()) {
-      return (VoidTypeWithEcj) m_elements.computeIfAbsent(VoidTypeWithEcj.class, k -> new VoidTypeWithEcj(this));
+      return (T) m_elements.computeIfAbsent(key, k -> factory.get());
     }
   }
 
+  public VoidTypeWithEcj createVoidType() {
+    assertInitialized();
+    return getOrCreateElement(VoidTypeWithEcj.class, () -> new VoidTypeWithEcj(this));
+  }
+
   public WildcardOnlyTypeWithEcj createWildcardOnlyType() {
     assertInitialized();
-    synchronized (lock()) {
-      return (WildcardOnlyTypeWithEcj) m_elements.computeIfAbsent(WildcardOnlyTypeWithEcj.class, k -> new WildcardOnlyTypeWithEcj(this));
-    }
+    return getOrCreateElement(WildcardOnlyTypeWithEcj.class, () -> new WildcardOnlyTypeWithEcj(this));
   }
 
   public BindingAnnotationWithEcj createBindingAnnotation(AnnotatableSpi owner, AnnotationBinding binding) {
     assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(binding, owner); // binding may be shared amongst different owners if it is a marker annotation. Therefore, include the owner in the key.
-      return (BindingAnnotationWithEcj) m_elements.computeIfAbsent(key, k -> new BindingAnnotationWithEcj(this, owner, binding));
-    }
+    var key = new SameCompositeObject(binding, owner); // binding may be shared amongst different owners if it is a marker annotation. Therefore, include the owner in the key.
+    return getOrCreateElement(key, () -> new BindingAnnotationWithEcj(this, owner, binding));
   }
 
   public BindingAnnotationElementWithEcj createBindingAnnotationValue(AnnotationSpi owner, ElementValuePair bindingPair, boolean syntheticDefaultValue) {
     assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(owner, bindingPair);
-      return (BindingAnnotationElementWithEcj) m_elements.computeIfAbsent(key, k -> new BindingAnnotationElementWithEcj(this, owner, bindingPair, syntheticDefaultValue));
-    }
+    var key = new SameCompositeObject(owner, bindingPair);
+    return getOrCreateElement(key, () -> new BindingAnnotationElementWithEcj(this, owner, bindingPair, syntheticDefaultValue));
   }
 
   public NullAnnotationElementWithEcj createNullAnnotationValue(AnnotationSpi owner, String name, boolean syntheticDefaultValue) {
     assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(NullAnnotationElementWithEcj.class, owner, name);
-      return (NullAnnotationElementWithEcj) m_elements.computeIfAbsent(key, k -> new NullAnnotationElementWithEcj(this, owner, name, syntheticDefaultValue));
-    }
+    var key = new SameCompositeObject(NullAnnotationElementWithEcj.class, owner, name);
+    return getOrCreateElement(key, () -> new NullAnnotationElementWithEcj(this, owner, name, syntheticDefaultValue));
   }
 
   public BindingArrayTypeWithEcj createBindingArrayType(ArrayBinding binding, boolean isWildcard, Supplier<ArrayBinding> newElementLookupStrategy) {
     assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(binding, isWildcard);
-      return (BindingArrayTypeWithEcj) m_elements.computeIfAbsent(key, k -> new BindingArrayTypeWithEcj(this, binding, isWildcard, newElementLookupStrategy));
-    }
+    var key = new SameCompositeObject(binding, isWildcard);
+    return getOrCreateElement(key, () -> new BindingArrayTypeWithEcj(this, binding, isWildcard, newElementLookupStrategy));
   }
 
   public BindingBaseTypeWithEcj createBindingBaseType(BaseTypeBinding binding) {
     assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(binding);
-      return (BindingBaseTypeWithEcj) m_elements.computeIfAbsent(key, k -> new BindingBaseTypeWithEcj(this, binding));
-    }
+    var key = new SameCompositeObject(binding);
+    return getOrCreateElement(key, () -> new BindingBaseTypeWithEcj(this, binding));
   }
 
   public BindingFieldWithEcj createBindingField(AbstractTypeWithEcj declaringType, FieldBinding binding) {
     assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(binding);
-      return (BindingFieldWithEcj) m_elements.computeIfAbsent(key, k -> new BindingFieldWithEcj(this, declaringType, binding));
-    }
+    var key = new SameCompositeObject(binding);
+    return getOrCreateElement(key, () -> new BindingFieldWithEcj(this, declaringType, binding));
   }
 
   public BindingMethodWithEcj createBindingMethod(BindingTypeWithEcj declaringType, MethodBinding binding) {
     assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(binding);
-      return (BindingMethodWithEcj) m_elements.computeIfAbsent(key, k -> new BindingMethodWithEcj(this, declaringType, binding));
-    }
+    var key = new SameCompositeObject(binding);
+    return getOrCreateElement(key, () -> new BindingMethodWithEcj(this, declaringType, binding));
   }
 
   public BindingMethodParameterWithEcj createBindingMethodParameter(BindingMethodWithEcj declaringMethod, TypeBinding binding, char[] name, int flags, int index) {
     assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(BindingMethodParameterWithEcj.class, declaringMethod, binding, index);
-      return (BindingMethodParameterWithEcj) m_elements.computeIfAbsent(key, k -> new BindingMethodParameterWithEcj(this, declaringMethod, binding, name, flags, index));
-    }
+    var key = new SameCompositeObject(BindingMethodParameterWithEcj.class, declaringMethod, binding, index);
+    return getOrCreateElement(key, () -> new BindingMethodParameterWithEcj(this, declaringMethod, binding, name, flags, index));
   }
 
   public BindingTypeWithEcj createBindingType(ReferenceBinding binding, TypeSpi declaringType, boolean isWildcard, Supplier<? extends ReferenceBinding> newElementLookupStrategy) {
     assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(binding, isWildcard);
-      return (BindingTypeWithEcj) m_elements.computeIfAbsent(key, k -> new BindingTypeWithEcj(this, binding, declaringType, isWildcard, newElementLookupStrategy));
-    }
+    var key = new SameCompositeObject(binding, isWildcard);
+    return getOrCreateElement(key, () -> new BindingTypeWithEcj(this, binding, declaringType, isWildcard, newElementLookupStrategy));
   }
 
   public BindingTypeParameterWithEcj createBindingTypeParameter(AbstractMemberWithEcj<?> declaringMember, TypeVariableBinding binding, int index) {
     assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(declaringMember, binding, index);
-      return (BindingTypeParameterWithEcj) m_elements.computeIfAbsent(key, k -> new BindingTypeParameterWithEcj(this, declaringMember, binding, index));
-    }
+    var key = new SameCompositeObject(declaringMember, binding, index);
+    return getOrCreateElement(key, () -> new BindingTypeParameterWithEcj(this, declaringMember, binding, index));
   }
 
   public DeclarationAnnotationWithEcj createDeclarationAnnotation(AnnotatableSpi owner, Annotation astNode) {
     assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(astNode);
-      return (DeclarationAnnotationWithEcj) m_elements.computeIfAbsent(key, k -> new DeclarationAnnotationWithEcj(this, owner, astNode));
-    }
+    var key = new SameCompositeObject(astNode);
+    return getOrCreateElement(key, () -> new DeclarationAnnotationWithEcj(this, owner, astNode));
   }
 
   public DeclarationAnnotationElementWithEcj createDeclarationAnnotationValue(AnnotationSpi declaringAnnotation, MemberValuePair astNode, boolean syntheticDefaultValue) {
     assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(astNode);
-      return (DeclarationAnnotationElementWithEcj) m_elements.computeIfAbsent(key, k -> new DeclarationAnnotationElementWithEcj(this, declaringAnnotation, astNode, syntheticDefaultValue));
-    }
+    var key = new SameCompositeObject(astNode);
+    return getOrCreateElement(key, () -> new DeclarationAnnotationElementWithEcj(this, declaringAnnotation, astNode, syntheticDefaultValue));
   }
 
   public DeclarationCompilationUnitWithEcj createDeclarationCompilationUnit(CompilationUnitDeclaration astNode) {
     assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(astNode);
-      return (DeclarationCompilationUnitWithEcj) m_elements.computeIfAbsent(key, k -> new DeclarationCompilationUnitWithEcj(this, astNode));
-    }
+    var key = new SameCompositeObject(astNode);
+    return getOrCreateElement(key, () -> new DeclarationCompilationUnitWithEcj(this, astNode));
   }
 
   public DeclarationFieldWithEcj createDeclarationField(DeclarationTypeWithEcj declaringType, FieldDeclaration astNode) {
     assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(astNode);
-      return (DeclarationFieldWithEcj) m_elements.computeIfAbsent(key, k -> new DeclarationFieldWithEcj(this, declaringType, astNode));
-    }
+    var key = new SameCompositeObject(astNode);
+    return getOrCreateElement(key, () -> new DeclarationFieldWithEcj(this, declaringType, astNode));
   }
 
   public DeclarationImportWithEcj createDeclarationImport(DeclarationCompilationUnitWithEcj owner, ImportReference astNode) {
     assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(astNode);
-      return (DeclarationImportWithEcj) m_elements.computeIfAbsent(key, k -> new DeclarationImportWithEcj(this, owner, astNode));
-    }
+    var key = new SameCompositeObject(astNode);
+    return getOrCreateElement(key, () -> new DeclarationImportWithEcj(this, owner, astNode));
   }
 
   public DeclarationMethodWithEcj createDeclarationMethod(DeclarationTypeWithEcj declaringType, AbstractMethodDeclaration astNode) {
     assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(astNode);
-      return (DeclarationMethodWithEcj) m_elements.computeIfAbsent(key, k -> new DeclarationMethodWithEcj(this, declaringType, astNode));
-    }
+    var key = new SameCompositeObject(astNode);
+    return getOrCreateElement(key, () -> new DeclarationMethodWithEcj(this, declaringType, astNode));
   }
 
   public DeclarationMethodParameterWithEcj createDeclarationMethodParameter(DeclarationMethodWithEcj declaringMethod, Argument astNode, int index) {
     assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(astNode);
-      return (DeclarationMethodParameterWithEcj) m_elements.computeIfAbsent(key, k -> new DeclarationMethodParameterWithEcj(this, declaringMethod, astNode, index));
-    }
+    var key = new SameCompositeObject(astNode);
+    return getOrCreateElement(key, () -> new DeclarationMethodParameterWithEcj(this, declaringMethod, astNode, index));
   }
 
   public DeclarationTypeWithEcj createDeclarationType(CompilationUnitSpi cu, DeclarationTypeWithEcj declaringType, TypeDeclaration astNode) {
     assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(astNode);
-      return (DeclarationTypeWithEcj) m_elements.computeIfAbsent(key, k -> new DeclarationTypeWithEcj(this, cu, declaringType, astNode));
-    }
+    var key = new SameCompositeObject(astNode);
+    return getOrCreateElement(key, () -> new DeclarationTypeWithEcj(this, cu, declaringType, astNode));
   }
 
   public DeclarationTypeParameterWithEcj createDeclarationTypeParameter(AbstractMemberWithEcj<?> declaringMember, TypeParameter astNode, int index) {
     assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(astNode);
-      return (DeclarationTypeParameterWithEcj) m_elements.computeIfAbsent(key, k -> new DeclarationTypeParameterWithEcj(this, declaringMember, astNode, index));
-    }
+    var key = new SameCompositeObject(astNode);
+    return getOrCreateElement(key, () -> new DeclarationTypeParameterWithEcj(this, declaringMember, astNode, index));
   }
 
   public PackageWithEcj createPackage(String name) {
     assertInitialized();
-    synchronized (lock()) {
-      var key = new CompositeObject(PackageWithEcj.class, name);
-      return (PackageWithEcj) m_elements.computeIfAbsent(key, k -> new PackageWithEcj(this, name));
-    }
+    var key = new CompositeObject(PackageWithEcj.class, name);
+    return getOrCreateElement(key, () -> new PackageWithEcj(this, name));
   }
 
   public PackageWithEcj createDefaultPackage() {
@@ -653,10 +906,8 @@ public class JavaEnvironmentWithEcj extends AbstractJavaEnvironment implements A
 
   public SyntheticCompilationUnitWithEcj createSyntheticCompilationUnit(BindingTypeWithEcj mainType) {
     assertInitialized();
-    synchronized (lock()) {
-      var key = new SameCompositeObject(SyntheticCompilationUnitWithEcj.class, mainType);
-      return (SyntheticCompilationUnitWithEcj) m_elements.computeIfAbsent(key, k -> new SyntheticCompilationUnitWithEcj(this, mainType));
-    }
+    var key = new SameCompositeObject(SyntheticCompilationUnitWithEcj.class, mainType);
+    return getOrCreateElement(key, () -> new SyntheticCompilationUnitWithEcj(this, mainType));
   }
 
   /**
@@ -665,6 +916,10 @@ public class JavaEnvironmentWithEcj extends AbstractJavaEnvironment implements A
    */
   public Map<String, ElementValuePair> getBindingAnnotationSyntheticDefaultValues(ReferenceBinding annotationType) {
     assertInitialized();
+    var existing = m_evpCache.get(annotationType); // fast check without locking
+    if (existing != null) {
+      return existing;
+    }
     synchronized (lock()) {
       return m_evpCache.computeIfAbsent(annotationType, JavaEnvironmentWithEcj::computeBindingAnnotationSyntheticDefaultValues);
     }
@@ -695,6 +950,10 @@ public class JavaEnvironmentWithEcj extends AbstractJavaEnvironment implements A
 
   public Map<String, MemberValuePair> getDeclarationAnnotationSyntheticDefaultValues(TypeBinding typeBinding) {
     assertInitialized();
+    var existing = m_mvpCache.get(typeBinding); // fast check without locking
+    if (existing != null) {
+      return existing;
+    }
     synchronized (lock()) {
       return m_mvpCache.computeIfAbsent(typeBinding, JavaEnvironmentWithEcj::computeDeclarationAnnotationSyntheticDefaultValues);
     }
@@ -55,6 +55,7 @@ public class JavaEnvironmentWithEcjBuilder<T extends JavaEnvironmentWithEcjBuild
   private boolean m_parseMethodBodies;
   private boolean m_includeRunningClasspath = true;
   private boolean m_includeSources = true;
+  private JavaEnvironmentPool m_pool;
 
   /**
    * @return A new JavaEnvironmentWithEcjBuilder instance.
@@ -298,6 +299,27 @@ public class JavaEnvironmentWithEcjBuilder<T extends JavaEnvironmentWithEcjBuild
     return thisInstance();
   }
 
+  /**
+   * Specifies the {@link JavaEnvironmentPool} to lease the environments from. If a pool is used, environments with the
+   * same classpath and options are reused by subsequent calls to {@link #call(Function)} or {@link #accept(Consumer)}.
+   * Default is {@code null} which creates a new environment for each call.
+   *
+   * @param pool
+   *          The {@link JavaEnvironmentPool} to use or {@code null} if no pool should be used.
+   * @return this
+   */
+  public T withPool(JavaEnvironmentPool pool) {
+    m_pool = pool;
+    return thisInstance();
+  }
+
+  /**
+   * @return The {@link JavaEnvironmentPool} to use or {@code null} if no pool is used.
+   */
+  public JavaEnvironmentPool pool() {
+    return m_pool;
+  }
+
   /**
    * @return The current working directory.
    */
@@ -424,16 +446,29 @@ public class JavaEnvironmentWithEcjBuilder<T extends JavaEnvironmentWithEcjBuild
   }
 
   protected JavaEnvironmentWithEcj build() {
+    return build(javaHome(), classpath(), compilerOptions());
+  }
+
+  /**
+   * @return The sorted classpath entries of the environment to build.
+   */
+  protected Collection<ClasspathEntry> classpath() {
     Collection<ClasspathEntry> allEntries = new ArrayList<>(m_paths);
     if (isIncludeRunningClasspath()) {
       Collection<Path> sourceAttachmentFor = new LinkedHashSet<>();
       collectRunningClassPath(allEntries, sourceAttachmentFor); // current classpath
       appendSourceAttachments(sourceAttachmentFor, allEntries); // find source attachments for the running classpath entries
     }
+    return sort(allEntries);
+  }
 
+  /**
+   * @return The {@link CompilerOptions} of the environment to build.
+   */
+  protected CompilerOptions compilerOptions() {
     var opts = EcjAstCompiler.createDefaultOptions();
     opts.ignoreMethodBodies = !isParseMethodBodies();
-    return build(javaHome(), sort(allEntries), opts);
+    return opts;
   }
 
   @SuppressWarnings("MethodMayBeStatic")
@@ -450,8 +485,19 @@ public class JavaEnvironmentWithEcjBuilder<T extends JavaEnvironmentWithEcjBuild
    * @return The return value of the specified {@link Function}.
    */
   public <R> R call(Function<IJavaEnvironment, R> task) {
-    try (var env = build()) {
-      return Ensure.notNull(task).apply(env.wrap());
+    Ensure.notNull(task);
+    var pool = pool();
+    if (pool == null) {
+      try (var env = build()) {
+        return task.apply(env.wrap());
+      }
+    }
+
+    var javaHome = javaHome();
+    var classpath = classpath();
+    var options = compilerOptions();
+    try (var lease = pool.lease(javaHome, classpath, options, () -> build(javaHome, classpath, options))) {
+      return task.apply(lease.environment().wrap());
     }
   }
 
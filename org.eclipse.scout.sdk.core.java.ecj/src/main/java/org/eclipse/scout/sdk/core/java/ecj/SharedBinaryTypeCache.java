@@ -0,0 +1,237 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.ecj;
+
+import java.io.IOException;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.SoftReference;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.zip.ZipFile;
+
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFileReader;
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
+import org.eclipse.scout.sdk.core.util.CacheStatistics;
+import org.eclipse.scout.sdk.core.util.Ensure;
+
+/**
+ * <h3>{@link SharedBinaryTypeCache}</h3>
+ * <p>
+ * Process wide cache of decoded class files of classpath archives. It is shared by all {@link FileSystemWithOverride}
+ * instances (see {@link ClasspathJarWithSharedCache}) so that a class file of an archive which is on the classpath of
+ * several {@link JavaEnvironmentWithEcj environments} is only read and decoded once.
+ * <p>
+ * The cached {@link ClassFileReader readers} are fully initialized when they are created and not modified afterwards.
+ * Therefore, they can be used by several environments concurrently. The entries are softly referenced and the number
+ * of entries is limited. If the limit is reached, the least recently used entry is removed.
+ * <p>
+ * This class is thread safe.
+ *
+ * @since 13.0
+ */
+public class SharedBinaryTypeCache {
+
+  /**
+   * The default maximum number of class files in the cache.
+   */
+  public static final int DEFAULT_MAX_SIZE = 50_000;
+
+  private static final SharedBinaryTypeCache INSTANCE = new SharedBinaryTypeCache(DEFAULT_MAX_SIZE);
+
+  private final int m_maxSize;
+  private final Map<Key, Entry> m_entries; // access ordered
+  private final ReferenceQueue<ClassFileReader> m_collected;
+  private final CacheStatistics m_statistics;
+  private long m_retainedBytes;
+  private long m_evictionCount;
+
+  /**
+   * @param maxSize
+   *          The maximum number of class files in the cache. Must be greater than zero.
+   */
+  public SharedBinaryTypeCache(int maxSize) {
+    Ensure.isTrue(maxSize > 0, "Invalid max size: {}.", maxSize);
+    m_maxSize = maxSize;
+    m_entries = new LinkedHashMap<>(1024, 0.75f, true);
+    m_collected = new ReferenceQueue<>();
+    m_statistics = new CacheStatistics(SharedBinaryTypeCache.class.getSimpleName());
+  }
+
+  /**
+   * @return The process wide {@link SharedBinaryTypeCache} instance.
+   */
+  public static SharedBinaryTypeCache shared() {
+    return INSTANCE;
+  }
+
+  /**
+   * Gets the decoded class file of the archive given. If it is not cached yet, it is read from the {@link ZipFile}
+   * given.
+   *
+   * @param archive
+   *          The identity of the archive. Must not be {@code null}.
+   * @param zip
+   *          The opened archive to read the class file from if it is not cached. Must not be {@code null}.
+   * @param entryName
+   *          The name of the class file entry in the archive (e.g. {@code java/lang/String.class}). Must not be
+   *          {@code null}.
+   * @return The fully initialized {@link ClassFileReader} or {@code null} if the archive has no such entry.
+   * @throws IOException
+   *           if the entry cannot be read.
+   * @throws ClassFormatException
+   *           if the entry is no valid class file.
+   */
+  public ClassFileReader read(ArchiveId archive, ZipFile zip, String entryName) throws IOException, ClassFormatException {
+    var key = new Key(Ensure.notNull(archive), Ensure.notNull(entryName));
+    synchronized (this) {
+      var entry = m_entries.get(key);
+      var reader = entry == null ? null : entry.get();
+      if (reader != null) {
+        m_statistics.hit();
+        return reader;
+      }
+    }
+
+    // read outside the lock. if two threads read the same class file concurrently, the first one wins.
+    m_statistics.miss();
+    var start = System.nanoTime();
+    var zipEntry = zip.getEntry(entryName);
+    if (zipEntry == null) {
+      return null;
+    }
+    byte[] bytes;
+    try (var in = zip.getInputStream(zipEntry)) {
+      bytes = in.readAllBytes();
+    }
+    var reader = new ClassFileReader(bytes, entryName.toCharArray(), true);
+    if (reader.moduleName == null && archive.moduleName() != null) {
+      reader.moduleName = archive.moduleName().toCharArray();
+    }
+    m_statistics.loaded(System.nanoTime() - start);
+    return put(key, reader, bytes.length);
+  }
+
+  protected synchronized ClassFileReader put(Key key, ClassFileReader reader, int numBytes) {
+    removeCollected();
+    var existing = m_entries.get(key);
+    var existingReader = existing == null ? null : existing.get();
+    if (existingReader != null) {
+      return existingReader;
+    }
+    if (existing != null) {
+      m_retainedBytes -= existing.m_numBytes;
+    }
+
+    m_entries.put(key, new Entry(key, reader, numBytes, m_collected));
+    m_retainedBytes += numBytes;
+    var iterator = m_entries.values().iterator();
+    while (m_entries.size() > m_maxSize && iterator.hasNext()) {
+      var eldest = iterator.next();
+      iterator.remove();
+      m_retainedBytes -= eldest.m_numBytes;
+      m_evictionCount++;
+    }
+    return reader;
+  }
+
+  private void removeCollected() {
+    Entry collected;
+    while ((collected = (Entry) m_collected.poll()) != null) {
+      if (m_entries.remove(collected.m_key, collected)) {
+        m_retainedBytes -= collected.m_numBytes;
+        m_evictionCount++;
+      }
+    }
+  }
+
+  /**
+   * Removes all entries from the cache. The {@link #statistics()} are not reset.
+   */
+  public synchronized void clear() {
+    m_entries.clear();
+    m_retainedBytes = 0;
+  }
+
+  /**
+   * @return The number of cached class files.
+   */
+  public synchronized int size() {
+    removeCollected();
+    return m_entries.size();
+  }
+
+  /**
+   * @return The maximum number of cached class files.
+   */
+  public int maxSize() {
+    return m_maxSize;
+  }
+
+  /**
+   * @return The sum of the sizes (in bytes) of all cached class files. As the decoded class files are not duplicated
+   *         for each environment, this is an estimation of the heap saved for each additional environment using the
+   *         same archives.
+   */
+  public synchronized long retainedClassFileBytes() {
+    removeCollected();
+    return m_retainedBytes;
+  }
+
+  /**
+   * @return The number of entries removed because the size limit has been reached or because they have been garbage
+   *         collected.
+   */
+  public synchronized long evictionCount() {
+    removeCollected();
+    return m_evictionCount;
+  }
+
+  /**
+   * @return The hit and miss {@link CacheStatistics} of this cache.
+   */
+  public CacheStatistics statistics() {
+    return m_statistics;
+  }
+
+  @Override
+  public String toString() {
+    return SharedBinaryTypeCache.class.getSimpleName() + " [size=" + size() + ", retainedClassFileBytes=" + retainedClassFileBytes() + ", evictions=" + evictionCount() + ", " + m_statistics + ']';
+  }
+
+  /**
+   * Identifies an archive.
+   *
+   * @param path
+   *          The normalized absolute path of the archive.
+   * @param size
+   *          The size of the archive in bytes.
+   * @param lastModified
+   *          The last modification time of the archive in milliseconds.
+   * @param moduleName
+   *          The name of the module the archive belongs to or {@code null}.
+   */
+  public record ArchiveId(Path path, long size, long lastModified, String moduleName) {
+  }
+
+  protected record Key(ArchiveId archive, String entryName) {
+  }
+
+  private static final class Entry extends SoftReference<ClassFileReader> {
+    private final Key m_key;
+    private final int m_numBytes;
+
+    private Entry(Key key, ClassFileReader reader, int numBytes, ReferenceQueue<ClassFileReader> queue) {
+      super(reader, queue);
+      m_key = key;
+      m_numBytes = numBytes;
+    }
+  }
+}
@@ -82,7 +82,7 @@ public final class CoreJavaTestingUtils {
     var cuInfo = new CompilationUnitInfo(sourceFolder, qualifier, simpleName + JavaTypes.JAVA_FILE_SUFFIX);
     var reloadRequired = env.registerCompilationUnitOverride(source, cuInfo);
     if (reloadRequired) {
-      env.reload();
+      env.reloadOverrides();
     }
 
     var fqn = cuInfo.mainTypeFullyQualifiedName();
@@ -0,0 +1,151 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.ecj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.jdt.internal.compiler.batch.FileSystem;
+import org.eclipse.jdt.internal.compiler.batch.FileSystem.Classpath;
+import org.eclipse.scout.sdk.core.java.JavaTypes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * <h3>{@link ClasspathIndexTest}</h3>
+ *
+ * @since 13.0
+ */
+public class ClasspathIndexTest {
+
+  @Test
+  public void testArchiveIndex(@TempDir Path dir) throws IOException {
+    var jar = createJar(dir.resolve("test.jar"), "a/b/C.class", "a/b/C$Inner.class", "a/d/E.java", "META-INF/versions/11/a/f/G.class", "META-INF/MANIFEST.MF");
+    var index = new ClasspathIndex(new Classpath[]{classpathOf(jar)});
+
+    assertTrue(index.mayContainPackage("a"));
+    assertTrue(index.mayContainPackage("a/b"));
+    assertTrue(index.mayContainPackage("a/d"));
+    assertTrue(index.mayContainPackage("a/f"));
+    assertFalse(index.mayContainPackage("a/c"));
+    assertFalse(index.mayContainPackage("b"));
+    assertFalse(index.mayContainPackage("META-INF"));
+
+    assertTrue(index.mayContainType("a/b", "C"));
+    assertTrue(index.mayContainType("a/b", "C$Inner"));
+    assertTrue(index.mayContainType("a/d", "E"));
+    assertTrue(index.mayContainType("a/f", "G"));
+    assertFalse(index.mayContainType("a/b", "D"));
+    assertFalse(index.mayContainType("a", "C"));
+  }
+
+  @Test
+  public void testNotIndexedEntriesAreAsked(@TempDir Path dir) throws IOException {
+    Files.createDirectories(dir.resolve("x/y"));
+    var index = new ClasspathIndex(new Classpath[]{classpathOf(dir)});
+    assertTrue(index.mayContainPackage("x/y"));
+    assertTrue(index.mayContainType("x/y", "Z"));
+    assertFalse(index.mayContainPackage("x/z"));
+    assertFalse(index.mayContainType("x/z", "Z"));
+  }
+
+  @Test
+  public void testCacheIsInvalidatedOnModification(@TempDir Path dir) throws IOException {
+    var jar = createJar(dir.resolve("test.jar"), "a/b/C.class");
+    var first = ClasspathIndex.archiveIndexFor(jar);
+    assertSame(first, ClasspathIndex.archiveIndexFor(jar));
+
+    createJar(jar, "a/b/C.class", "a/b/D.class");
+    Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 10_000));
+    var second = ClasspathIndex.archiveIndexFor(jar);
+    assertNotSame(first, second);
+    assertTrue(new ClasspathIndex(new Classpath[]{classpathOf(jar)}).mayContainType("a/b", "D"));
+  }
+
+  @Test
+  public void testIndexIsStored(@TempDir Path dir) throws IOException {
+    var jar = createJar(dir.resolve("test.jar"), "a/b/C.class");
+    var storage = dir.resolve("index");
+    var previous = ClasspathIndex.storageDirectory();
+    ClasspathIndex.setStorageDirectory(storage);
+    try {
+      var created = ClasspathIndex.archiveIndexFor(jar);
+      assertNotNull(created);
+      try (var files = Files.list(storage)) {
+        assertEquals(1, files.count());
+      }
+
+      ClasspathIndex.clearCache();
+      var loaded = ClasspathIndex.archiveIndexFor(jar);
+      assertNotSame(created, loaded);
+      assertEquals(created.size(), loaded.size());
+      assertEquals(created.lastModified(), loaded.lastModified());
+      assertTrue(new ClasspathIndex(new Classpath[]{classpathOf(jar)}).mayContainType("a/b", "C"));
+      assertFalse(new ClasspathIndex(new Classpath[]{classpathOf(jar)}).mayContainType("a/b", "D"));
+
+      // a modified archive replaces the stored index
+      createJar(jar, "a/b/C.class", "a/b/D.class");
+      Files.setLastModifiedTime(jar, FileTime.fromMillis(Files.getLastModifiedTime(jar).toMillis() + 10_000));
+      assertTrue(new ClasspathIndex(new Classpath[]{classpathOf(jar)}).mayContainType("a/b", "D"));
+      try (var files = Files.list(storage)) {
+        assertEquals(1, files.count());
+      }
+    }
+    finally {
+      ClasspathIndex.setStorageDirectory(previous);
+      ClasspathIndex.clearCache();
+    }
+  }
+
+  @Test
+  public void testJrtIndex(@TempDir Path dir) {
+    var previous = ClasspathIndex.storageDirectory();
+    ClasspathIndex.setStorageDirectory(dir);
+    try {
+      var jre = JreInfo.runningJreInfo();
+      var jrt = FileSystem.getJrtClasspath(jre.jreHome().toString(), null, null, null);
+      var index = new ClasspathIndex(new Classpath[]{jrt}, jre);
+      assertNotNull(ClasspathIndex.jrtIndexFor(jre));
+      assertTrue(index.mayContainPackage("java/util"));
+      assertTrue(index.mayContainType("java/util", "List"));
+      assertFalse(index.mayContainType("java/util", "NotExisting"));
+      assertFalse(index.mayContainPackage(JavaTypes.class.getPackageName().replace('.', '/')));
+    }
+    finally {
+      ClasspathIndex.setStorageDirectory(previous);
+    }
+  }
+
+  private static Classpath classpathOf(Path path) {
+    return FileSystem.getClasspath(path.toString(), null, false, null, null, null, null);
+  }
+
+  private static Path createJar(Path jar, String... entries) throws IOException {
+    try (var out = new ZipOutputStream(Files.newOutputStream(jar))) {
+      for (var entry : entries) {
+        out.putNextEntry(new ZipEntry(entry));
+        out.write(new byte[]{0});
+        out.closeEntry();
+      }
+    }
+    return jar;
+  }
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.ecj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * <h3>{@link JavaEnvironmentPoolTest}</h3>
+ *
+ * @since 13.0
+ */
+public class JavaEnvironmentPoolTest {
+
+  @Test
+  public void testEnvironmentIsReused() {
+    try (var pool = new JavaEnvironmentPool(2, Duration.ofMinutes(1))) {
+      var first = builder(pool).call(env -> (JavaEnvironmentWithEcj) env.unwrap());
+      var second = builder(pool).call(env -> (JavaEnvironmentWithEcj) env.unwrap());
+      assertSame(first, second);
+      assertTrue(first.isInitialized());
+      assertEquals(1, pool.idleCount());
+      assertEquals(0, pool.leasedCount());
+      assertEquals(1, pool.statistics().hitCount());
+      assertEquals(1, pool.statistics().missCount());
+
+      var other = builder(pool).withParseMethodBodies(true).call(env -> (JavaEnvironmentWithEcj) env.unwrap());
+      assertNotSame(first, other);
+      assertEquals(2, pool.idleCount());
+    }
+  }
+
+  @Test
+  public void testOverridesAreRemovedOnRelease() {
+    try (var pool = new JavaEnvironmentPool(2, Duration.ofMinutes(1))) {
+      var first = builder(pool).call(env -> {
+        env.registerCompilationUnitOverride("package a; public class B {}", "a", "B.java");
+        assertTrue(env.findType("a.B").isPresent());
+        assertTrue(env.findType("java.lang.String").isPresent());
+        return env.unwrap();
+      });
+      var second = builder(pool).call(env -> {
+        assertFalse(env.findType("a.B").isPresent());
+        assertTrue(env.findType("java.lang.String").isPresent());
+        return env.unwrap();
+      });
+      assertSame(first, second);
+    }
+  }
+
+  @Test
+  public void testConcurrentLeasesAreExclusive() {
+    try (var pool = new JavaEnvironmentPool(1, Duration.ofMinutes(1))) {
+      var envs = builder(pool).call(outer -> {
+        var inner = builder(pool).call(env -> (JavaEnvironmentWithEcj) env.unwrap());
+        assertEquals(1, pool.leasedCount());
+        return new JavaEnvironmentWithEcj[]{(JavaEnvironmentWithEcj) outer.unwrap(), inner};
+      });
+      assertNotSame(envs[0], envs[1]);
+      assertEquals(1, pool.idleCount()); // the least recently used one has been evicted
+      assertFalse(envs[1].isInitialized());
+      assertTrue(envs[0].isInitialized());
+
+      pool.clear();
+      assertEquals(0, pool.idleCount());
+      assertFalse(envs[0].isInitialized());
+    }
+  }
+
+  @Test
+  public void testEnvironmentLeasedDuringClearIsClosedOnRelease() {
+    try (var pool = new JavaEnvironmentPool(2, Duration.ofMinutes(1))) {
+      var env = builder(pool).call(e -> {
+        pool.clear();
+        return (JavaEnvironmentWithEcj) e.unwrap();
+      });
+      assertFalse(env.isInitialized());
+      assertEquals(0, pool.idleCount());
+    }
+  }
+
+  private static JavaEnvironmentWithEcjBuilder<?> builder(JavaEnvironmentPool pool) {
+    return new JavaEnvironmentWithEcjBuilder<>()
+        .withRunningClasspath(false)
+        .withPool(pool);
+  }
+}
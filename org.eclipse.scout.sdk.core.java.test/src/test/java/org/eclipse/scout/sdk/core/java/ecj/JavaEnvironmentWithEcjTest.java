@@ -12,6 +12,8 @@ package org.eclipse.scout.sdk.core.java.ecj;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -64,6 +66,68 @@ public class JavaEnvironmentWithEcjTest {
     assertTrue(closedEnv.isInitialized());
   }
 
+  @Test
+  public void testReloadOverridesKeepsNameEnvironment() {
+    new CoreJavaEnvironmentBinaryOnlyFactory().accept(env -> {
+      var pck = "xx.yy";
+      var className = "Test";
+      var fqn = pck + '.' + className;
+      var fileName = className + JavaTypes.JAVA_FILE_SUFFIX;
+      var spi = (JavaEnvironmentWithEcj) env.unwrap();
+
+      assertFalse(env.registerCompilationUnitOverride("package " + pck + "; public class " + className + " {}", pck, fileName));
+      var type = env.requireType(fqn);
+      assertFalse(type.fields().existsAny());
+      var nameEnvironment = spi.getNameEnvironment();
+
+      assertTrue(env.registerCompilationUnitOverride("package " + pck + "; public class " + className + " {int a;}", pck, fileName));
+      env.reloadOverrides();
+      assertSame(nameEnvironment, spi.getNameEnvironment());
+      assertTrue(type.fields().withName("a").existsAny());
+
+      env.reload();
+      assertNotSame(nameEnvironment, spi.getNameEnvironment());
+      assertTrue(type.fields().withName("a").existsAny());
+    });
+  }
+
+  @Test
+  public void testReloadOverridesKeepsUnchangedElements() {
+    new CoreJavaEnvironmentBinaryOnlyFactory().accept(env -> {
+      env.registerCompilationUnitOverride("package xx.yy; public class A {}", "xx.yy", "A.java");
+      env.registerCompilationUnitOverride("package xx.yy; public class B extends A {}", "xx.yy", "B.java");
+      env.registerCompilationUnitOverride("package xx.yy; public class C { int c; }", "xx.yy", "C.java");
+      env.reload();
+      var typeA = env.requireType("xx.yy.A");
+      var typeB = env.requireType("xx.yy.B");
+      var typeC = env.requireType("xx.yy.C");
+      var fieldC = typeC.fields().first().orElseThrow();
+      var spiA = typeA.unwrap();
+      var spiB = typeB.unwrap();
+      var spiC = typeC.unwrap();
+      var spiFieldC = fieldC.unwrap();
+      assertTrue(env.findType("xx.yy.D").isEmpty());
+
+      assertTrue(env.registerCompilationUnitOverride("package xx.yy; public class A { int a; }", "xx.yy", "A.java"));
+      env.registerCompilationUnitOverride("package xx.yy; public class D extends C {}", "xx.yy", "D.java");
+      env.reloadOverrides();
+
+      // the changed types and the types whose hierarchy references them are resolved again
+      assertNotSame(spiA, typeA.unwrap());
+      assertNotSame(spiB, typeB.unwrap());
+      assertSame(typeA, env.requireType("xx.yy.A"));
+      assertTrue(typeA.fields().withName("a").existsAny());
+      assertTrue(typeB.requireSuperClass().fields().withName("a").existsAny());
+      assertEquals("xx.yy.C", env.requireType("xx.yy.D").requireSuperClass().name());
+
+      // all other elements are kept
+      assertSame(spiC, typeC.unwrap());
+      assertSame(spiFieldC, fieldC.unwrap());
+      assertSame(typeC, env.requireType("xx.yy.C"));
+      assertEquals("c", fieldC.elementName());
+    });
+  }
+
   private static JavaEnvironmentWithEcj createClosedJavaEnvironment() {
     var holder = new AtomicReference<IJavaEnvironment>();
     new CoreJavaEnvironmentBinaryOnlyFactory().accept(holder::set);
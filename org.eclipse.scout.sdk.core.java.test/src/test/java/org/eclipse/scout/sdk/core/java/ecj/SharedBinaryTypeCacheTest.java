@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.java.ecj;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+
+import org.eclipse.jdt.internal.compiler.classfmt.ClassFormatException;
+import org.eclipse.scout.sdk.core.java.ecj.SharedBinaryTypeCache.ArchiveId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * <h3>{@link SharedBinaryTypeCacheTest}</h3>
+ *
+ * @since 13.0
+ */
+public class SharedBinaryTypeCacheTest {
+
+  private static final String ENTRY_A = "a/A.class";
+  private static final String ENTRY_B = "a/B.class";
+
+  @Test
+  public void testRead(@TempDir Path dir) throws IOException, ClassFormatException {
+    var archive = createArchive(dir);
+    var cache = new SharedBinaryTypeCache(10);
+    var id = new ArchiveId(archive, 1, 1, null);
+    try (var zip = new ZipFile(archive.toFile())) {
+      var first = cache.read(id, zip, ENTRY_A);
+      assertNotNull(first);
+      assertSame(first, cache.read(id, zip, ENTRY_A));
+      assertSame(first, cache.read(new ArchiveId(archive, 1, 1, null), zip, ENTRY_A));
+      assertNotSame(first, cache.read(new ArchiveId(archive, 2, 1, null), zip, ENTRY_A)); // archive has been modified
+
+      var inModule = cache.read(new ArchiveId(archive, 1, 1, "mod"), zip, ENTRY_A);
+      assertNotSame(first, inModule);
+      assertEquals("mod", new String(inModule.moduleName));
+
+      assertNull(cache.read(id, zip, "a/Missing.class"));
+    }
+    assertEquals(3, cache.size());
+    assertTrue(cache.retainedClassFileBytes() > 0);
+    assertEquals(2, cache.statistics().hitCount());
+    assertEquals(4, cache.statistics().missCount());
+  }
+
+  @Test
+  public void testMaxSize(@TempDir Path dir) throws IOException, ClassFormatException {
+    var archive = createArchive(dir);
+    var cache = new SharedBinaryTypeCache(1);
+    var id = new ArchiveId(archive, 1, 1, null);
+    try (var zip = new ZipFile(archive.toFile())) {
+      var a = cache.read(id, zip, ENTRY_A);
+      cache.read(id, zip, ENTRY_B);
+      assertEquals(1, cache.size());
+      assertEquals(1, cache.evictionCount());
+      assertNotSame(a, cache.read(id, zip, ENTRY_A));
+    }
+    cache.clear();
+    assertEquals(0, cache.size());
+    assertEquals(0, cache.retainedClassFileBytes());
+  }
+
+  @Test
+  public void testSharedByEnvironments(@TempDir Path dir) throws IOException {
+    var archive = createArchive(dir);
+    var cache = SharedBinaryTypeCache.shared();
+    var hitsBefore = cache.statistics().hitCount();
+    var typeName = SharedBinaryTypeCacheTest.class.getName();
+    assertTrue(findTypeInArchive(archive, typeName));
+    assertTrue(findTypeInArchive(archive, typeName));
+    assertTrue(cache.statistics().hitCount() > hitsBefore);
+  }
+
+  private static boolean findTypeInArchive(Path archive, String typeName) {
+    return new JavaEnvironmentWithEcjBuilder<>()
+        .withRunningClasspath(false)
+        .withAbsoluteBinaryPath(archive.toString())
+        .call(env -> env.findType(typeName).isPresent());
+  }
+
+  private static Path createArchive(Path dir) throws IOException {
+    byte[] classFile;
+    try (var in = SharedBinaryTypeCacheTest.class.getResourceAsStream(SharedBinaryTypeCacheTest.class.getSimpleName() + ".class")) {
+      classFile = in.readAllBytes();
+    }
+    var archive = dir.resolve("test.jar");
+    try (var out = new ZipOutputStream(Files.newOutputStream(archive))) {
+      out.putNextEntry(new ZipEntry(ENTRY_A));
+      out.write(classFile);
+      out.closeEntry();
+      out.putNextEntry(new ZipEntry(ENTRY_B));
+      out.write(classFile);
+      out.closeEntry();
+      out.putNextEntry(new ZipEntry(SharedBinaryTypeCacheTest.class.getName().replace('.', '/') + ".class"));
+      out.write(classFile);
+      out.closeEntry();
+    }
+    return archive;
+  }
+}
@@ -11,14 +11,23 @@ package org.eclipse.scout.sdk.core.java.generator.compilationunit;
 
 import static org.eclipse.scout.sdk.core.java.testing.SdkJavaAssertions.assertEqualsRefFile;
 import static org.eclipse.scout.sdk.core.java.testing.SdkJavaAssertions.assertNoCompileErrors;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.Serializable;
+import java.io.StringWriter;
+import java.math.BigDecimal;
 import java.util.Arrays;
+import java.util.List;
 import java.util.stream.StreamSupport;
 
+import org.eclipse.scout.sdk.core.builder.MemorySourceBuilder;
+import org.eclipse.scout.sdk.core.builder.StreamSourceBuilder;
+import org.eclipse.scout.sdk.core.java.builder.JavaBuilderContext;
 import org.eclipse.scout.sdk.core.java.builder.comment.IJavaElementCommentBuilder;
+import org.eclipse.scout.sdk.core.java.generator.field.FieldGenerator;
+import org.eclipse.scout.sdk.core.java.generator.method.MethodGenerator;
 import org.eclipse.scout.sdk.core.java.generator.type.TypeGenerator;
 import org.eclipse.scout.sdk.core.java.model.api.IJavaEnvironment;
 import org.eclipse.scout.sdk.core.java.testing.FixtureHelper.CoreJavaEnvironmentWithSourceFactory;
@@ -68,6 +77,54 @@ public class CompilationUnitGeneratorTest {
     assertNoCompileErrors(env, generator);
   }
 
+  @Test
+  public void testStreamedSourceEqualsMemorySource(IJavaEnvironment env) {
+    var generator = createLargeCompilationUnit(1000);
+    var expected = generator.toJavaSource(env).toString();
+    assertTrue(expected.contains("import java.util.List;"));
+    assertTrue(expected.contains("private java.awt.List m_awtList999;"));
+
+    var out = new StringWriter();
+    try (var builder = new StreamSourceBuilder(out, new JavaBuilderContext(env))) {
+      generator.generate(builder);
+    }
+    assertEquals(expected, out.toString());
+
+    // the header is inserted at the correct position if the memory target already has content
+    var memoryBuilder = MemorySourceBuilder.create(new JavaBuilderContext(env));
+    memoryBuilder.append("// existing").nl();
+    generator.generate(memoryBuilder);
+    assertEquals("// existing\n" + expected, memoryBuilder.toString());
+  }
+
+  private static ICompilationUnitGenerator<?> createLargeCompilationUnit(int numFields) {
+    var type = TypeGenerator.create()
+        .asPublic()
+        .withElementName("LargeFormData")
+        .withType(TypeGenerator.create()
+            .asPublic()
+            .asStatic()
+            .withElementName("Inner"));
+    for (var i = 0; i < numFields; i++) {
+      var dataType = i % 2 == 0 ? List.class.getName() + "<" + BigDecimal.class.getName() + ">" : "pck.test.LargeFormData.Inner";
+      type
+          .withField(FieldGenerator.create()
+              .asPrivate()
+              .withElementName("m_field" + i)
+              .withDataType(dataType))
+          .withField(FieldGenerator.create()
+              .asPrivate()
+              .withElementName("m_awtList" + i)
+              .withDataType(java.awt.List.class.getName()))
+          .withMethod(MethodGenerator.createGetter("m_field" + i, dataType));
+    }
+    return CompilationUnitGenerator.create()
+        .withPackageName("pck.test")
+        .withElementName("LargeFormData")
+        .withFooter(b -> b.append("// footer").nl())
+        .withType(type);
+  }
+
   @Test
   public void testMainType() {
     var generator = CompilationUnitGenerator.create()
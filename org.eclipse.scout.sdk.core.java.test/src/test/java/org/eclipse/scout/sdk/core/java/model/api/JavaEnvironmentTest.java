@@ -12,9 +12,15 @@ package org.eclipse.scout.sdk.core.java.model.api;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.eclipse.scout.sdk.core.java.JavaTypes;
 import org.eclipse.scout.sdk.core.java.fixture.ChildClass;
@@ -85,6 +91,31 @@ public class JavaEnvironmentTest {
     assertEquals(Set.class.getName(), javaUtilSetWithArgs.name());
   }
 
+  @Test
+  public void testConcurrentTypeLookup(IJavaEnvironment env) throws InterruptedException, ExecutionException {
+    var numThreads = 8;
+    var executor = Executors.newFixedThreadPool(numThreads);
+    try {
+      Callable<IType> task = () -> {
+        var childClass = env.requireType(ChildClass.class.getName());
+        childClass.superTypes().stream().forEach(IType::name);
+        return childClass;
+      };
+      var tasks = new ArrayList<Callable<IType>>(numThreads);
+      for (var i = 0; i < numThreads; i++) {
+        tasks.add(task);
+      }
+
+      var expected = env.requireType(ChildClass.class.getName());
+      for (Future<IType> result : executor.invokeAll(tasks)) {
+        assertSame(expected, result.get());
+      }
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
   @Test
   public void testReloadOfSourceType(IJavaEnvironment env) {
     testReloadOfType(env);
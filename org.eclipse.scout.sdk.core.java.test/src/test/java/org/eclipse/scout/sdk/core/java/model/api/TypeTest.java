@@ -40,6 +40,7 @@ import org.eclipse.scout.sdk.core.java.fixture.TypeWithParameterizedSuperType;
 import org.eclipse.scout.sdk.core.java.fixture.WildcardChildClass;
 import org.eclipse.scout.sdk.core.java.fixture.sub.ClassWithWildcardImport;
 import org.eclipse.scout.sdk.core.java.fixture.sub.ImportTestClass2;
+import org.eclipse.scout.sdk.core.java.model.api.internal.TypeImplementor;
 import org.eclipse.scout.sdk.core.java.testing.FixtureHelper.CoreJavaEnvironmentBinaryOnlyFactory;
 import org.eclipse.scout.sdk.core.java.testing.FixtureHelper.CoreJavaEnvironmentWithSourceFactory;
 import org.eclipse.scout.sdk.core.java.testing.context.ExtendWithJavaEnvironmentFactory;
@@ -376,4 +377,33 @@ public class TypeTest {
     assertFalse(env.requireType(ChildClass.class.getName()).isInstanceOf(org.eclipse.scout.sdk.core.java.fixture.Long.class.getName()));
     assertFalse(env.requireType(ChildClass.class.getName()).isInstanceOf(JavaTypes.Long));
   }
+
+  @Test
+  public void testIsInstanceOfUsesCachedSuperTypes(IJavaEnvironment env) {
+    var childClass = env.requireType(ChildClass.class.getName());
+    var statistics = TypeImplementor.superTypeNamesStatistics();
+    assertTrue(childClass.isInstanceOf(ChildClass.class.getName()));
+    var hitsBefore = statistics.hitCount();
+    assertTrue(childClass.isInstanceOf(InterfaceLevel0.class.getName()));
+    assertTrue(env.requireType(BaseClass.class.getName()).isAssignableFrom(childClass));
+    assertFalse(childClass.isAssignableFrom(env.requireType(BaseClass.class.getName())));
+    assertTrue(statistics.hitCount() >= hitsBefore + 2);
+  }
+
+  @Test
+  public void testIsInstanceOfAfterReload() {
+    new CoreJavaEnvironmentWithSourceFactory().accept(TypeTest::testIsInstanceOfAfterReload);
+  }
+
+  private static void testIsInstanceOfAfterReload(IJavaEnvironment env) {
+    var pck = "org.eclipse.scout.sdk.test";
+    var name = "ReloadedType";
+    env.registerCompilationUnitOverride("package " + pck + "; public class " + name + " {}", pck, name + JavaTypes.JAVA_FILE_SUFFIX);
+    var type = env.requireType(pck + '.' + name);
+    assertFalse(type.isInstanceOf(Serializable.class.getName()));
+
+    env.registerCompilationUnitOverride("package " + pck + "; public class " + name + " implements java.io.Serializable {}", pck, name + JavaTypes.JAVA_FILE_SUFFIX);
+    env.reload();
+    assertTrue(type.isInstanceOf(Serializable.class.getName()));
+  }
 }
@@ -9,7 +9,6 @@
  */
 package org.eclipse.scout.sdk.core.java.generator.compilationunit;
 
-import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toList;
 import static org.eclipse.scout.sdk.core.java.model.api.Flags.isPublic;
 import static org.eclipse.scout.sdk.core.java.transformer.IWorkingCopyTransformer.transformImport;
@@ -23,11 +22,13 @@ import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
-import org.eclipse.scout.sdk.core.builder.IBuilderContext;
 import org.eclipse.scout.sdk.core.builder.ISourceBuilder;
+import org.eclipse.scout.sdk.core.builder.MemorySourceBuilder;
+import org.eclipse.scout.sdk.core.builder.SourceBuilderWrapper;
 import org.eclipse.scout.sdk.core.generator.ISourceGenerator;
 import org.eclipse.scout.sdk.core.java.JavaTypes;
 import org.eclipse.scout.sdk.core.java.builder.IJavaSourceBuilder;
+import org.eclipse.scout.sdk.core.java.builder.JavaSourceBuilder;
 import org.eclipse.scout.sdk.core.java.builder.comment.CommentBuilder;
 import org.eclipse.scout.sdk.core.java.builder.comment.ICommentBuilder;
 import org.eclipse.scout.sdk.core.java.builder.comment.IJavaElementCommentBuilder;
@@ -139,25 +140,58 @@ public class CompilationUnitGenerator<TYPE extends ICompilationUnitGenerator<TYP
   protected void buildCompilationUnit(IJavaSourceBuilder<?> builder) {
     super.build(builder);
 
-    var typeSource = buildTypeSource(builder.context()); // pre-build type source so that all imports are defined
+    // the header (package and imports) can only be created after all types have been built because the types define the imports
+    var memorySource = memorySourceOf(builder);
+    if (memorySource != null) {
+      // build the types directly into the target and insert the header afterwards
+      var headerPosition = memorySource.length();
+      buildTypes(builder);
+      var header = MemorySourceBuilder.create(builder.context());
+      buildHeader(JavaSourceBuilder.create(header));
+      memorySource.insert(headerPosition, header.source());
+    }
+    else {
+      // the target cannot be modified afterwards (e.g. a stream): buffer the types
+      var types = MemorySourceBuilder.create(builder.context());
+      buildTypes(types);
+      buildHeader(builder);
+      builder.append(types.source());
+    }
+
     var nl = builder.context().lineDelimiter();
+    builder
+        .nl()
+        .append(footers()
+            .map(b -> b.generalize(CommentBuilder::create)), nl, nl, null);
+  }
 
+  protected void buildHeader(IJavaSourceBuilder<?> builder) {
+    var nl = builder.context().lineDelimiter();
     builder
         .append(getPackage()
             .filter(pck -> pck.elementName(builder.context()).isPresent())
             .map(pck -> b -> b.append(pck).nl().nl())) // only add newlines if a package is available
-        .append(builder.context().validator().importCollector().createImportDeclarations().map(ISourceGenerator::raw), null, nl, nl)
-        .append(typeSource)
-        .nl()
-        .append(footers()
-            .map(b -> b.generalize(CommentBuilder::create)), nl, nl, null);
+        .append(builder.context().validator().importCollector().createImportDeclarations().map(ISourceGenerator::raw), null, nl, nl);
+  }
+
+  protected void buildTypes(ISourceBuilder<?> builder) {
+    var nl = builder.context().lineDelimiter();
+    builder.append(m_types.stream().sorted().map(SortedMemberEntry::generator), nl, nl + nl, null);
   }
 
-  protected StringBuilder buildTypeSource(IBuilderContext context) {
-    var typeGenerator = (ISourceGenerator<ISourceBuilder<?>>) builder -> builder.append(
-        m_types.stream().sorted().map(SortedMemberEntry::generator),
-        context.lineDelimiter(), context.lineDelimiter() + context.lineDelimiter(), null);
-    return typeGenerator.toSource(identity(), context);
+  /**
+   * @return The {@link StringBuilder} of the {@link MemorySourceBuilder} wrapped by the given {@link ISourceBuilder} or
+   *         {@code null} if the builder does not write to memory.
+   */
+  protected static StringBuilder memorySourceOf(ISourceBuilder<?> builder) {
+    var inner = builder;
+    while (inner instanceof SourceBuilderWrapper<?> wrapper) {
+      inner = wrapper.inner();
+    }
+    if (inner instanceof MemorySourceBuilder memorySourceBuilder) {
+      return memorySourceBuilder.source();
+    }
+    return null;
   }
 
   @Override
@@ -9,6 +9,8 @@
  */
 package org.eclipse.scout.sdk.core.java.imports;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
 
@@ -24,11 +26,17 @@ import org.eclipse.scout.sdk.core.util.Strings;
  */
 public class ImportValidator implements IImportValidator {
 
+  private static final int MAX_CACHED_DESCRIPTORS = 4096; // if exceeded, the cache is cleared
+
   private IImportCollector m_importCollector;
   private final ReferenceParser m_parser;
+  private final Map<String, TypeReferenceDescriptor> m_descriptors;
+  private final Map<String, TypeReferenceDescriptor> m_typeArgDescriptors;
 
   public ImportValidator(IImportCollector collector) {
     m_parser = new ReferenceParser(this::handleTypeReference);
+    m_descriptors = new HashMap<>();
+    m_typeArgDescriptors = new HashMap<>();
     setImportCollector(collector);
   }
 
@@ -51,7 +59,7 @@ public class ImportValidator implements IImportValidator {
   }
 
   protected CharSequence handleTypeReference(CharSequence fqn, int typeArgDepth) {
-    var descriptor = new TypeReferenceDescriptor(fqn, typeArgDepth > 0);
+    var descriptor = descriptorFor(fqn, typeArgDepth > 0);
     var collector = importCollector();
     var use = collector.checkExistingImports(descriptor);
     if (use == null) {
@@ -71,6 +79,23 @@ public class ImportValidator implements IImportValidator {
     return use;
   }
 
+  /**
+   * The same references are used many times when generating source: cache the immutable descriptors.
+   */
+  private TypeReferenceDescriptor descriptorFor(CharSequence fqn, boolean isTypeArg) {
+    var descriptors = isTypeArg ? m_typeArgDescriptors : m_descriptors;
+    var key = fqn.toString();
+    var descriptor = descriptors.get(key);
+    if (descriptor == null) {
+      if (descriptors.size() >= MAX_CACHED_DESCRIPTORS) {
+        descriptors.clear();
+      }
+      descriptor = new TypeReferenceDescriptor(key, isTypeArg);
+      descriptors.put(key, descriptor);
+    }
+    return descriptor;
+  }
+
   @Override
   public IImportCollector importCollector() {
     return m_importCollector;
@@ -186,6 +186,20 @@ public interface IJavaEnvironment {
    */
   void reload();
 
+  /**
+   * Reloads the SPI core of the {@link IJavaEnvironment} so that all compilation unit overrides registered using
+   * {@link #registerCompilationUnitOverride(CharSequence, String, String)} become active.
+   * <p>
+   * In contrast to {@link #reload()} the classpath is not read again from the file system: the opened archives and the
+   * cached contents of the classpath are reused. This makes this method much cheaper than {@link #reload()} but it
+   * should only be used if nothing but the compilation unit overrides changed since the last reload.
+   * <p>
+   * Only the types whose override changed and the types whose super hierarchy references such a type are loaded again.
+   * All other elements are kept as they are. The elements which are loaded again remain valid (if they still exist) and
+   * are updated like in {@link #reload()}.
+   */
+  void reloadOverrides();
+
   /**
    * Register an override for a (possibly) existing compilation unit.
    * <p>
@@ -128,6 +128,11 @@ public class JavaEnvironmentImplementor implements IJavaEnvironment {
     m_spi.reload();
   }
 
+  @Override
+  public void reloadOverrides() {
+    m_spi.reloadOverrides();
+  }
+
   @Override
   public boolean registerCompilationUnitOverride(CharSequence source, String packageName, String fileName) {
     return registerCompilationUnitOverride(source, null, packageName, fileName);
@@ -9,12 +9,14 @@
  */
 package org.eclipse.scout.sdk.core.java.model.api.internal;
 
+import static java.util.stream.Collectors.toUnmodifiableSet;
 import static org.eclipse.scout.sdk.core.java.JavaTypes.arrayMarker;
 import static org.eclipse.scout.sdk.core.util.Ensure.newFail;
 
 import java.util.Comparator;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -38,6 +40,7 @@ import org.eclipse.scout.sdk.core.java.model.api.spliterator.WrappingSpliterator
 import org.eclipse.scout.sdk.core.java.model.spi.CompilationUnitSpi;
 import org.eclipse.scout.sdk.core.java.model.spi.TypeSpi;
 import org.eclipse.scout.sdk.core.java.transformer.IWorkingCopyTransformer;
+import org.eclipse.scout.sdk.core.util.CacheStatistics;
 import org.eclipse.scout.sdk.core.util.SourceRange;
 import org.eclipse.scout.sdk.core.util.Strings;
 
@@ -48,8 +51,10 @@ public class TypeImplementor extends AbstractMemberImplementor<TypeSpi> implemen
           "char=(?:char|Character)|byte=(?:byte|Byte)|short=(?:short|Short)|int=(?:int|Integer)|long=(?:long|Long)|" +
               "float=(?:float|Float)|double=(?:double|Double)|Character=(?:char|Character)|Byte=(?:byte|Byte)|" +
               "Short=(?:short|Short)|Integer=(?:int|Integer)|Long=(?:long|Long)|Float=(?:float|Float)|Double=(?:double|Double)");
+  private static final CacheStatistics SUPER_TYPE_NAMES_STATISTICS = new CacheStatistics("Super type names");
   private String m_reference;
   private String m_referenceErasureOnly;
+  private Set<String> m_superTypeNames;
 
   public TypeImplementor(TypeSpi spi) {
     super(spi);
@@ -163,6 +168,7 @@ public class TypeImplementor extends AbstractMemberImplementor<TypeSpi> implemen
     super.internalSetSpi(spi);
     m_reference = null;
     m_referenceErasureOnly = null;
+    m_superTypeNames = null;
   }
 
   @Override
@@ -350,7 +356,40 @@ public class TypeImplementor extends AbstractMemberImplementor<TypeSpi> implemen
 
   @Override
   public boolean isInstanceOf(String queryType) {
-    return superTypes().withName(queryType).existsAny();
+    if (queryType == null) {
+      return superTypes().withName(queryType).existsAny();
+    }
+    return superTypeNames().contains(queryType);
+  }
+
+  /**
+   * @return The fully qualified names of all types in the super hierarchy of this {@link IType} (including itself).
+   *         The names are computed on first use and kept until the underlying {@link TypeSpi} changes (e.g. on reload
+   *         of the Java environment).
+   */
+  protected Set<String> superTypeNames() {
+    var superTypeNames = m_superTypeNames;
+    if (superTypeNames != null) {
+      SUPER_TYPE_NAMES_STATISTICS.hit();
+      return superTypeNames;
+    }
+
+    SUPER_TYPE_NAMES_STATISTICS.miss();
+    var start = System.nanoTime();
+    superTypeNames = superTypes().stream()
+        .map(IType::name)
+        .collect(toUnmodifiableSet());
+    SUPER_TYPE_NAMES_STATISTICS.loaded(System.nanoTime() - start);
+    m_superTypeNames = superTypeNames;
+    return superTypeNames;
+  }
+
+  /**
+   * @return The {@link CacheStatistics} of the super type names used by {@link #isInstanceOf(String)} and
+   *         {@link #isAssignableFrom(IType)} of all {@link IType types}.
+   */
+  public static CacheStatistics superTypeNamesStatistics() {
+    return SUPER_TYPE_NAMES_STATISTICS;
   }
 
   @Override
@@ -361,7 +400,7 @@ public class TypeImplementor extends AbstractMemberImplementor<TypeSpi> implemen
     if (isArray() || specificClass.isArray()) {
       return name().equals(specificClass.name());
     }
-    return specificClass.superTypes().withName(name()).existsAny();
+    return specificClass.isInstanceOf(name());
   }
 
   @Override
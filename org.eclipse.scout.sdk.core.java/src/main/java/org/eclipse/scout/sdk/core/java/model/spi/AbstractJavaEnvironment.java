@@ -13,10 +13,11 @@ import static java.util.stream.Collectors.groupingBy;
 
 import java.util.ArrayList;
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
 
 import org.eclipse.scout.sdk.core.java.model.api.IJavaElement;
 import org.eclipse.scout.sdk.core.java.model.api.IJavaEnvironment;
@@ -41,7 +42,7 @@ public abstract class AbstractJavaEnvironment implements JavaEnvironmentSpi {
 
   protected AbstractJavaEnvironment() {
     m_instanceLock = new Object();
-    m_typeCache = new HashMap<>();
+    m_typeCache = new ConcurrentHashMap<>(); // concurrent map so that already resolved types can be read without locking
     m_detachedApis = new WeakHashMap<>();
     //noinspection ThisEscapedInObjectConstruction
     m_api = new JavaEnvironmentImplementor(this);
@@ -61,8 +62,13 @@ public abstract class AbstractJavaEnvironment implements JavaEnvironmentSpi {
   public TypeSpi findType(String fqn) {
     var elem = m_typeCache.get(fqn); // fast check without synchronizing
     if (elem == null) {
+      // only the lookup of not yet resolved types requires the exclusive lock (might modify the underlying compiler)
       synchronized (lock()) {
-        elem = m_typeCache.computeIfAbsent(fqn, this::doFindTypeInternal);
+        elem = m_typeCache.get(fqn);
+        if (elem == null) {
+          elem = doFindTypeInternal(fqn);
+          m_typeCache.put(fqn, elem);
+        }
       }
     }
     if (elem == NULL_OBJECT) {
@@ -94,7 +100,7 @@ public abstract class AbstractJavaEnvironment implements JavaEnvironmentSpi {
   protected abstract Collection<JavaElementSpi> allElements();
 
   protected void cleanup() {
-    synchronized (lock()) { // ensure instance lock is acquired because the clear of the map uses its own lock as well which might lead to deadlocks
+    synchronized (lock()) { // ensure instance lock is acquired so that no lookup running in parallel can re-add stale types
       m_typeCache.clear();
       m_api.spiChanged();
     }
@@ -111,6 +117,17 @@ public abstract class AbstractJavaEnvironment implements JavaEnvironmentSpi {
     return m_typeCache.remove(fqn);
   }
 
+  /**
+   * Removes all types whose fully qualified name matches the filter given from the cache.
+   *
+   * @param filter
+   *          The filter for the fully qualified names to remove. Must not be {@code null}.
+   * @since 13.0
+   */
+  protected void removeTypesFromCache(Predicate<String> filter) {
+    m_typeCache.keySet().removeIf(filter);
+  }
+
   /**
    * @return The instance to used for java environment wide locking. Must never be {@code null}.
    */
@@ -119,51 +136,66 @@ public abstract class AbstractJavaEnvironment implements JavaEnvironmentSpi {
   }
 
   @Override
-  @SuppressWarnings("unchecked")
   public void reload() {
     synchronized (lock()) {
       // this includes all TypeSPIs as well. So no need to include m_typeCache from here.
       Iterable<JavaElementSpi> detachedSpiElements = new ArrayList<>(allElements()); // create a new list here because the elements are cleared afterwards in reinitialize
+      try {
+        onReloadStart();
+        reattachApis(detachedSpiElements);
+      }
+      finally {
+        onReloadEnd();
+      }
+    }
+  }
 
+  /**
+   * Connects the API elements of the outdated SPI elements given with their new SPI elements.
+   * <p>
+   * In contrast to {@link #reload()} all other elements are kept. The outdated elements must already have been removed
+   * from all caches so that {@link AbstractSpiElement#internalFindNewElement()} returns the new elements.
+   *
+   * @param outdatedSpiElements
+   *          The SPI elements which are no longer valid. Must not be {@code null}.
+   * @since 13.0
+   */
+  @SuppressWarnings("unchecked")
+  protected void reattachApis(Iterable<JavaElementSpi> outdatedSpiElements) {
+    synchronized (lock()) {
       // includes all previously detached APIs including a reference to an SPI element that belongs to the currently closing compiler instance.
       var detachedApisBySpi = m_detachedApis
           .keySet().stream()
           .collect(groupingBy(IJavaElement::unwrap));
 
-      try {
-        onReloadStart();
-        // reconnect all new SPI/API mappings
-        for (var old : detachedSpiElements) {
-          var oldSpiElement = (AbstractSpiElement<?>) old;
-          var apiElement = (AbstractJavaElementImplementor<JavaElementSpi>) oldSpiElement.getExistingApi(); // do not call wrap() to never create a new one
-          if (apiElement == null) {
-            continue; // there is no api element. no need to resolve it anymore
-          }
-
-          var newSpiElement = oldSpiElement.internalFindNewElement();
-          apiElement.internalSetSpi(newSpiElement);
-          if (newSpiElement != null) {
-            var newAbsSpiElement = (AbstractSpiElement<IJavaElement>) newSpiElement;
-            var previousApi = (AbstractJavaElementImplementor<JavaElementSpi>) newAbsSpiElement.internalSetApi(apiElement);
-            if (previousApi != null && previousApi != apiElement) {
-              // An existing API has been overwritten. This would mean it is getting lost (the next reload cannot find it anymore and would not refresh its SPI).
-              // To prevent this: remember for future reloads
-              // This may happen if the internalFindNewElement returns the same new element for different old SPI elements.
-              // Usually such collisions should not happen.
-              m_detachedApis.put(previousApi, null);
-            }
-          }
+      // reconnect all new SPI/API mappings
+      for (var old : outdatedSpiElements) {
+        var oldSpiElement = (AbstractSpiElement<?>) old;
+        var apiElement = (AbstractJavaElementImplementor<JavaElementSpi>) oldSpiElement.getExistingApi(); // do not call wrap() to never create a new one
+        if (apiElement == null) {
+          continue; // there is no api element. no need to resolve it anymore
+        }
 
-          var detachedApisToUpdate = detachedApisBySpi.get(oldSpiElement);
-          if (detachedApisToUpdate != null && !detachedApisToUpdate.isEmpty()) {
-            detachedApisToUpdate.forEach(api -> api.internalSetSpi(newSpiElement));
+        var newSpiElement = oldSpiElement.internalFindNewElement();
+        apiElement.internalSetSpi(newSpiElement);
+        if (newSpiElement != null) {
+          var newAbsSpiElement = (AbstractSpiElement<IJavaElement>) newSpiElement;
+          var previousApi = (AbstractJavaElementImplementor<JavaElementSpi>) newAbsSpiElement.internalSetApi(apiElement);
+          if (previousApi != null && previousApi != apiElement) {
+            // An existing API has been overwritten. This would mean it is getting lost (the next reload cannot find it anymore and would not refresh its SPI).
+            // To prevent this: remember for future reloads
+            // This may happen if the internalFindNewElement returns the same new element for different old SPI elements.
+            // Usually such collisions should not happen.
+            m_detachedApis.put(previousApi, null);
           }
+        }
 
-          oldSpiElement.internalSetApi(null); // detach old SPI from API
+        var detachedApisToUpdate = detachedApisBySpi.get(oldSpiElement);
+        if (detachedApisToUpdate != null && !detachedApisToUpdate.isEmpty()) {
+          detachedApisToUpdate.forEach(api -> api.internalSetSpi(newSpiElement));
         }
-      }
-      finally {
-        onReloadEnd();
+
+        oldSpiElement.internalSetApi(null); // detach old SPI from API
       }
     }
   }
@@ -44,6 +44,16 @@ public interface JavaEnvironmentSpi {
 
   void reload();
 
+  /**
+   * Reloads the environment so that all registered compilation unit overrides become active.
+   * <p>
+   * In contrast to {@link #reload()} the state of the classpath is not read again from the file system. Therefore, this
+   * method should only be used if nothing but the compilation unit overrides changed since the last reload.
+   */
+  default void reloadOverrides() {
+    reload();
+  }
+
   /**
    * Register an override for a (possibly) existing compilation unit.
    */
@@ -21,7 +21,7 @@ import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.TransformerException;
 
 import org.eclipse.scout.sdk.core.java.apidef.ApiVersion;
-import org.eclipse.scout.sdk.core.java.ecj.JavaEnvironmentWithEcjBuilder;
+import org.eclipse.scout.sdk.core.java.ecj.JavaEnvironmentFactories.PooledRunningJavaEnvironmentFactory;
 import org.eclipse.scout.sdk.core.java.model.api.IJavaEnvironment;
 import org.eclipse.scout.sdk.core.java.model.api.IType;
 import org.eclipse.scout.sdk.core.s.dto.DtoGeneratorFactory;
@@ -114,8 +114,7 @@ public final class CoreScoutTestingUtils {
   }
 
   static String javaVersionForArchetypes() {
-    var supportedJavaVersions = new JavaEnvironmentWithEcjBuilder<>()
-        .withoutScoutSdk()
+    var supportedJavaVersions = new PooledRunningJavaEnvironmentFactory()
         .call(e -> e.requireApi(IScoutApi.class).supportedJavaVersions());
     return Integer.toString(supportedJavaVersions[supportedJavaVersions.length - 1]);
   }
@@ -130,8 +129,7 @@ public final class CoreScoutTestingUtils {
     if (Strings.hasText(prop)) {
       return Strings.trim(prop).toString();
     }
-    return new JavaEnvironmentWithEcjBuilder<>()
-        .withoutScoutSdk()
+    return new PooledRunningJavaEnvironmentFactory()
         .call(ScoutApi::version)
         .map(ApiVersion::asString)
         .orElseThrow(() -> newFail("Unable to determine Scout RT version."));
@@ -23,6 +23,7 @@ import java.util.stream.Stream;
 
 import org.eclipse.scout.sdk.core.java.apidef.ApiVersion;
 import org.eclipse.scout.sdk.core.java.ecj.JavaEnvironmentFactories.IJavaEnvironmentFactory;
+import org.eclipse.scout.sdk.core.java.ecj.JavaEnvironmentPool;
 import org.eclipse.scout.sdk.core.java.ecj.JavaEnvironmentWithEcjBuilder;
 import org.eclipse.scout.sdk.core.java.model.api.IJavaEnvironment;
 import org.eclipse.scout.sdk.core.java.model.api.IType;
@@ -173,7 +174,8 @@ public final class ScoutFixtureHelper {
       var builder = new ScoutJavaEnvironmentWithEcjBuilder<>()
           .withScoutServer(m_withServer)
           .withScoutClient(withClient)
-          .withScoutHtmlUi(m_withUi);
+          .withScoutHtmlUi(m_withUi)
+          .withPool(JavaEnvironmentPool.shared()); // the fixture folders are not modified by the tests: reuse the environments
 
       // client must be added first so that it becomes the primary source folder in testing.
       if (withClient) {
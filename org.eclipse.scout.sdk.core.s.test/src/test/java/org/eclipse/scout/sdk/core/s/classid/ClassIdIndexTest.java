@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.classid;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.scout.sdk.core.s.classid.ClassIdIndex.ClassIdOwner;
+import org.junit.jupiter.api.Test;
+
+public class ClassIdIndexTest {
+
+  @Test
+  public void testIncrementalUpdates() {
+    var index = new ClassIdIndex();
+    index.update("A.java", Map.of("a", "1", "b", "2", "c", "3"));
+    index.update("B.java", Map.of("d", "4", "e", "2", "f", "5"));
+
+    assertEquals(5, index.size());
+    assertEquals(List.of("a"), index.typesWithClassId("1"));
+    assertEquals(Set.of("b", "e"), Set.copyOf(index.typesWithClassId("2")));
+    assertEquals(Set.of("2"), index.duplicates().keySet());
+    assertEquals(Set.of("2"), index.duplicates("A.java").keySet());
+    assertTrue(index.duplicates("C.java").isEmpty());
+    assertEquals(List.of(new ClassIdOwner("B.java", "d")), index.ownersOf("4"));
+
+    // fix the duplicate
+    index.update("B.java", Map.of("d", "4", "e", "6", "f", "5"));
+    assertTrue(index.duplicates().isEmpty());
+    assertEquals(List.of("b"), index.typesWithClassId("2"));
+    assertEquals(List.of("e"), index.typesWithClassId("6"));
+
+    // same type in two files is a duplicate as well
+    index.update("C.java", Map.of("a", "1"));
+    assertEquals(Map.of("1", List.of("a", "a")), index.duplicates("C.java"));
+
+    assertTrue(index.remove("C.java"));
+    assertFalse(index.remove("C.java"));
+    assertTrue(index.duplicates().isEmpty());
+
+    index.update("A.java", Map.of());
+    assertEquals(Set.of("B.java"), index.files());
+    assertTrue(index.typesWithClassId("1").isEmpty());
+    assertEquals(Map.of("4", List.of("d"), "5", List.of("f"), "6", List.of("e")), index.usageByClassId());
+
+    index.clear();
+    assertEquals(0, index.size());
+    assertTrue(index.classIdsIn("B.java").isEmpty());
+  }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.classid;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class ClassIdScannerTest {
+
+  private static final String SOURCE = """
+      package a.b;
+
+      import org.eclipse.scout.rt.platform.classid.ClassId;
+
+      /**
+       * @ClassId("javadoc")
+       */
+      @ClassId("outer")
+      public class Outer {
+        // @ClassId("comment")
+        private static final String ID = "@ClassId(\\"string\\")";
+        private static final char C = '{';
+        private static final Class<?> CL = Outer.class;
+
+        @ClassId(value = "inner")
+        public class Inner {
+          @ClassId(Constants.ID)
+          public class WithConstant {
+          }
+        }
+
+        @org.eclipse.scout.rt.platform.classid.ClassId("enum")
+        public enum Kind {
+          A, B;
+        }
+
+        @ClassId("rec")
+        public record Rec(String a) {
+        }
+
+        @ClassId("other-formdata")
+        public class FormData {
+        }
+
+        public void method() {
+          String block = \"""
+              @ClassId("textblock")
+              class Fake {}
+              \""";
+        }
+      }
+      """;
+
+  @Test
+  public void testTokenize() {
+    var classIds = ClassIdTokenizer.tokenize(ByteBuffer.wrap(SOURCE.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, ClassIdScanner.defaultAnnotationNames());
+    assertEquals(Map.of(
+        "a.b.Outer", "outer",
+        "a.b.Outer.Inner", "inner",
+        "a.b.Outer.Kind", "enum",
+        "a.b.Outer.Rec", "rec",
+        "a.b.Outer.FormData", "other-formdata"), classIds);
+
+    assertTrue(ClassIdTokenizer.tokenize(ByteBuffer.wrap("package a; class B {}".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, Set.of("ClassId")).isEmpty());
+  }
+
+  @Test
+  public void testScan(@TempDir Path root) throws IOException {
+    var a = write(root.resolve("a/A.java"), "package a;\n@ClassId(\"1\")\npublic class A {\n  @ClassId(\"2\")\n  public class B {}\n}\n");
+    write(root.resolve("b/C.java"), "package b;\n@ClassId(\"2\")\npublic class C {}\n");
+    write(root.resolve("b/D.java"), "package b;\n@ClassId(\"x-formdata\")\npublic class D {}\n");
+    write(root.resolve("b/E.java"), "package b;\n@ClassId(\"x-formdata\")\npublic class E {}\n");
+    write(root.resolve("b/readme.txt"), "@ClassId(\"1\")");
+
+    var scanner = new ClassIdScanner().withParallelism(2);
+    var result = scanner.scan(root);
+    assertEquals(4, result.numFiles());
+    assertEquals(4, result.numFilesScanned());
+    assertEquals(0, result.numFilesRemoved());
+    assertEquals(Set.of("2"), result.duplicates().keySet());
+    assertEquals(Set.of("a.A.B", "b.C"), Set.copyOf(result.duplicates().get("2")));
+    assertTrue(result.hasDuplicates());
+    assertTrue(result.report().contains("'2'"));
+
+    // nothing changed
+    result = scanner.scan(root);
+    assertEquals(4, result.numFiles());
+    assertEquals(0, result.numFilesScanned());
+    assertTrue(result.hasDuplicates());
+
+    // fix the duplicate
+    write(a, "package a;\n@ClassId(\"1\")\npublic class A {\n  @ClassId(\"3\")\n  public class B {}\n}\n");
+    result = scanner.scan(root);
+    assertEquals(1, result.numFilesScanned());
+    assertFalse(result.hasDuplicates());
+    assertEquals("", result.report());
+    assertEquals(List.of("a.A.B"), scanner.index().typesWithClassId("3"));
+
+    // removed file
+    Files.delete(a);
+    result = scanner.scan(root);
+    assertEquals(3, result.numFiles());
+    assertEquals(0, result.numFilesScanned());
+    assertEquals(1, result.numFilesRemoved());
+    assertTrue(scanner.index().typesWithClassId("1").isEmpty());
+  }
+
+  @Test
+  public void testUnreadableFileIsSkipped(@TempDir Path root) throws IOException {
+    write(root.resolve("a/A.java"), "package a;\n@ClassId(\"1\")\npublic class A {}\n");
+    var broken = write(root.resolve("a/B.java"), "package a;\n@ClassId(\"2\")\npublic class B {}\n");
+    var scanner = new ClassIdScanner() {
+      @Override
+      protected Map<String, String> scanFile(Path file, long size, Charset charset) throws IOException {
+        if (file.endsWith(broken.getFileName())) {
+          throw new IOException("test");
+        }
+        return super.scanFile(file, size, charset);
+      }
+    };
+
+    var result = scanner.scan(root);
+    assertEquals(2, result.numFiles());
+    assertEquals(1, result.numFilesScanned());
+    assertEquals(List.of("a.A"), scanner.index().typesWithClassId("1"));
+    assertTrue(scanner.index().typesWithClassId("2").isEmpty());
+  }
+
+  @Test
+  public void testStoreAndLoad(@TempDir Path root) throws IOException {
+    var sources = root.resolve("src");
+    var storage = root.resolve("state/classids.bin");
+    write(sources.resolve("A.java"), "package p;\n@ClassId(\"1\")\npublic class A {}\n");
+    write(sources.resolve("B.java"), "package p;\n@ClassId(\"1\")\npublic class B {}\n");
+
+    var scanner = new ClassIdScanner();
+    assertTrue(scanner.scan(sources).hasDuplicates());
+    scanner.store(storage);
+
+    var loaded = ClassIdScanner.load(storage);
+    assertEquals(Set.of("p.A", "p.B"), Set.copyOf(loaded.index().typesWithClassId("1")));
+    var result = loaded.scan(sources);
+    assertEquals(0, result.numFilesScanned());
+    assertTrue(result.hasDuplicates());
+
+    var empty = ClassIdScanner.load(root.resolve("missing.bin"));
+    assertEquals(0, empty.index().size());
+  }
+
+  private static Path write(Path file, String content) throws IOException {
+    Files.createDirectories(file.getParent());
+    var existed = Files.exists(file);
+    var lastModified = existed ? Files.getLastModifiedTime(file).toMillis() : 0L;
+    Files.writeString(file, content);
+    if (existed) {
+      // ensure the modification is detected even on file systems with a coarse timestamp resolution
+      Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified + 2000));
+    }
+    return file;
+  }
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.derived;
+
+import static java.util.Collections.emptyList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.sdk.core.s.environment.IEnvironment;
+import org.eclipse.scout.sdk.core.s.environment.IFuture;
+import org.eclipse.scout.sdk.core.s.environment.IProgress;
+import org.eclipse.scout.sdk.core.s.environment.NullProgress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class DerivedResourceHandlerSchedulerTest {
+
+  private ExecutorService m_executor;
+  private AtomicInteger m_clock;
+  private AtomicInteger m_numRunning;
+  private Map<String, int[]> m_startAndEnd;
+
+  @BeforeEach
+  public void setup() {
+    m_executor = Executors.newFixedThreadPool(4);
+    m_clock = new AtomicInteger();
+    m_numRunning = new AtomicInteger();
+    m_startAndEnd = new ConcurrentHashMap<>();
+  }
+
+  @AfterEach
+  public void tearDown() {
+    m_executor.shutdownNow();
+  }
+
+  @Test
+  public void testDependenciesAreExecutedFirst() {
+    var handlers = List.of(
+        handler("C", "B"),
+        handler("B", "A"),
+        handler("A"),
+        handler("D"),
+        handler("E", "A", "D", "Unknown"));
+    var statistics = new DerivedResourceHandlerScheduler(mock(IEnvironment.class), m_executor, 4).run(handlers, new NullProgress());
+
+    assertEquals(5, statistics.count());
+    assertEquals(5, m_startAndEnd.size());
+    assertExecutedBefore("A", "B");
+    assertExecutedBefore("B", "C");
+    assertExecutedBefore("A", "E");
+    assertExecutedBefore("D", "E");
+  }
+
+  @Test
+  public void testCyclicDependencies() {
+    var handlers = List.of(handler("A", "B"), handler("B", "A"), handler("C", "C"));
+    var statistics = new DerivedResourceHandlerScheduler(mock(IEnvironment.class), m_executor, 2).run(handlers, new NullProgress());
+    assertEquals(3, statistics.count());
+    assertExecutedBefore("A", "B");
+  }
+
+  @Test
+  public void testCheckpoint() {
+    List<Integer> runningAtCheckpoint = new ArrayList<>();
+    List<IDerivedResourceHandler> handlers = new ArrayList<>();
+    for (var i = 0; i < 10; i++) {
+      handlers.add(handler("H" + i));
+    }
+    var scheduler = new DerivedResourceHandlerScheduler(mock(IEnvironment.class), m_executor, 3) {
+      @Override
+      protected boolean isCheckpointRequired(int numExecuted) {
+        return numExecuted % 4 == 0;
+      }
+
+      @Override
+      protected void checkpoint() {
+        runningAtCheckpoint.add(m_numRunning.get());
+      }
+    };
+    scheduler.run(handlers, new NullProgress());
+
+    assertEquals(List.of(0, 0), runningAtCheckpoint);
+    assertEquals(10, m_startAndEnd.size());
+  }
+
+  @Test
+  public void testProgressOnlyUsedByCallingThread() {
+    var caller = Thread.currentThread();
+    var numWorked = new AtomicInteger();
+    var progress = new NullProgress() {
+      @Override
+      public IProgress newChild(int work) {
+        throw new IllegalStateException("children must not be created for concurrently running handlers");
+      }
+
+      @Override
+      public IProgress worked(int work) {
+        assertSame(caller, Thread.currentThread());
+        numWorked.addAndGet(work);
+        return this;
+      }
+    };
+    List<IDerivedResourceHandler> handlers = new ArrayList<>();
+    for (var i = 0; i < 10; i++) {
+      handlers.add(handler("H" + i));
+    }
+
+    var statistics = new DerivedResourceHandlerScheduler(mock(IEnvironment.class), m_executor, 4).run(handlers, progress);
+    assertEquals(10, statistics.count());
+    assertEquals(10, numWorked.get());
+  }
+
+  @Test
+  public void testFailingHandler() {
+    var failing = new TestHandler("F") {
+      @Override
+      public Collection<? extends IFuture<?>> apply(IEnvironment env, IProgress progress) {
+        throw new IllegalArgumentException("expected test exception");
+      }
+    };
+    var statistics = new DerivedResourceHandlerScheduler(mock(IEnvironment.class), m_executor, 2).run(List.of(failing, handler("A", "F"), handler("B")), new NullProgress());
+    assertEquals(3, statistics.count());
+    assertEquals(Set.of("A", "B"), m_startAndEnd.keySet());
+
+    var aborting = new DerivedResourceHandlerScheduler(mock(IEnvironment.class), m_executor, 1) {
+      @Override
+      protected void handleFailure(IDerivedResourceHandler handler, Throwable t) {
+        throw (RuntimeException) t;
+      }
+    };
+    m_startAndEnd.clear();
+    assertThrows(IllegalArgumentException.class, () -> aborting.run(List.of(failing, handler("A")), new NullProgress()));
+    assertTrue(m_startAndEnd.isEmpty());
+  }
+
+  @Test
+  public void testPercentile() {
+    var sortedNanos = new long[]{1_000_000, 2_000_000, 3_000_000, 4_000_000, 5_000_000, 6_000_000, 7_000_000, 8_000_000, 9_000_000, 10_000_000};
+    assertEquals(5, DerivedResourceHandlerScheduler.Statistics.percentile(sortedNanos, 50));
+    assertEquals(9, DerivedResourceHandlerScheduler.Statistics.percentile(sortedNanos, 90));
+    assertEquals(10, DerivedResourceHandlerScheduler.Statistics.percentile(sortedNanos, 99));
+    assertEquals(10, DerivedResourceHandlerScheduler.Statistics.percentile(sortedNanos, 100));
+    assertEquals(0, DerivedResourceHandlerScheduler.Statistics.percentile(new long[0], 50));
+  }
+
+  private void assertExecutedBefore(String first, String second) {
+    assertTrue(m_startAndEnd.get(first)[1] < m_startAndEnd.get(second)[0], first + " must be completed before " + second + " is started.");
+  }
+
+  private TestHandler handler(String key, String... requiredKeys) {
+    return new TestHandler(key, requiredKeys);
+  }
+
+  private class TestHandler implements IDerivedResourceHandler {
+
+    private final String m_key;
+    private final Set<String> m_requiredKeys;
+
+    private TestHandler(String key, String... requiredKeys) {
+      m_key = key;
+      m_requiredKeys = Set.of(requiredKeys);
+    }
+
+    @Override
+    public Collection<? extends IFuture<?>> apply(IEnvironment env, IProgress progress) {
+      m_numRunning.incrementAndGet();
+      var start = m_clock.incrementAndGet();
+      try {
+        Thread.sleep(5);
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      m_startAndEnd.put(m_key, new int[]{start, m_clock.incrementAndGet()});
+      m_numRunning.decrementAndGet();
+      return emptyList();
+    }
+
+    @Override
+    public Optional<DerivedResourceDependencies> dependencies(IEnvironment env) {
+      return Optional.of(new DerivedResourceDependencies(m_key, m_requiredKeys));
+    }
+
+    @Override
+    public String toString() {
+      return m_key;
+    }
+  }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.derived;
+
+import static org.eclipse.scout.sdk.core.s.derived.DtoFingerprintIndex.modelFingerprint;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.eclipse.scout.sdk.core.java.ecj.JavaEnvironmentWithEcjBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DtoFingerprintIndexTest {
+
+  private static final String BASE_SOURCE = "package a; public abstract class Base { public abstract static class Inner {} }";
+  private static final String TEMPLATE_SOURCE = "package a; public abstract class Template extends Base.Inner {}";
+  private static final String MODEL_SOURCE = "package a; public class Model extends Base { public class Field extends Template {} }";
+
+  @Test
+  public void testModelFingerprint() {
+    new JavaEnvironmentWithEcjBuilder<>().withoutScoutSdk().accept(env -> {
+      env.registerCompilationUnitOverride(BASE_SOURCE, "a", "Base.java");
+      env.registerCompilationUnitOverride(TEMPLATE_SOURCE, "a", "Template.java");
+      env.registerCompilationUnitOverride(MODEL_SOURCE, "a", "Model.java");
+      env.reloadOverrides();
+
+      var initial = modelFingerprint(env.requireType("a.Model"));
+      assertEquals(initial, modelFingerprint(env.requireType("a.Model")));
+      assertNotEquals(initial, modelFingerprint(env.requireType("a.Template")));
+
+      // change of a template used by an inner type
+      env.registerCompilationUnitOverride(TEMPLATE_SOURCE.replace("{}", "{ int i; }"), "a", "Template.java");
+      env.reloadOverrides();
+      var templateChanged = modelFingerprint(env.requireType("a.Model"));
+      assertNotEquals(initial, templateChanged);
+
+      // change of the model itself
+      env.registerCompilationUnitOverride(MODEL_SOURCE.replace("{}", "{ int i; }"), "a", "Model.java");
+      env.reloadOverrides();
+      assertNotEquals(templateChanged, modelFingerprint(env.requireType("a.Model")));
+    });
+  }
+
+  @Test
+  public void testIsUpToDate(@TempDir Path dir) throws IOException {
+    var storage = dir.resolve("fingerprints.bin");
+    var index = new DtoFingerprintIndex(storage);
+    assertFalse(index.isUpToDate("a.Dto", "fp", "class Dto {}"));
+
+    index.update("a.Dto", "fp", "class Dto {}");
+    assertTrue(index.isUpToDate("a.Dto", "fp", "class Dto {}"));
+    assertFalse(index.isUpToDate("a.Dto", "fp2", "class Dto {}")); // model changed
+    assertFalse(index.isUpToDate("a.Dto", "fp", "class Dto { int i; }")); // DTO modified
+    assertFalse(index.isUpToDate("a.Dto", "fp", null)); // DTO deleted
+    assertEquals(1, index.statistics().hitCount());
+    assertEquals(4, index.statistics().missCount());
+
+    index.store();
+    var loaded = DtoFingerprintIndex.load(storage);
+    assertEquals(1, loaded.size());
+    assertTrue(loaded.isUpToDate("a.Dto", "fp", "class Dto {}"));
+
+    loaded.remove("a.Dto");
+    assertFalse(loaded.isUpToDate("a.Dto", "fp", "class Dto {}"));
+    assertEquals(0, DtoFingerprintIndex.load(dir.resolve("missing.bin")).size());
+  }
+
+  @Test
+  public void testStoreIfModified(@TempDir Path dir) throws IOException {
+    var storage = dir.resolve("fingerprints.bin");
+    var index = new DtoFingerprintIndex(storage);
+    assertFalse(index.storeIfModified());
+    assertFalse(Files.exists(storage));
+
+    index.update("a.Dto", "fp", "class Dto {}");
+    assertTrue(index.isModified());
+    assertTrue(index.storeIfModified());
+    assertFalse(index.isModified());
+    assertFalse(index.storeIfModified());
+
+    var loaded = DtoFingerprintIndex.load(storage);
+    assertFalse(loaded.isModified());
+    loaded.remove("a.Other");
+    assertFalse(loaded.isModified());
+    loaded.remove("a.Dto");
+    assertTrue(loaded.storeIfModified());
+    assertEquals(0, DtoFingerprintIndex.load(storage).size());
+  }
+
+  @Test
+  public void testClasspathStamp(@TempDir Path dir) throws IOException {
+    var jar = Files.writeString(dir.resolve("lib.jar"), "content");
+    var classpath = List.of(dir, jar);
+    var initial = DtoFingerprintIndex.classpathStamp(classpath);
+    assertEquals(initial, DtoFingerprintIndex.classpathStamp(classpath));
+
+    Files.writeString(jar, "modified content");
+    assertNotEquals(initial, DtoFingerprintIndex.classpathStamp(classpath));
+    assertNotEquals(initial, DtoFingerprintIndex.classpathStamp(List.of(dir)));
+  }
+}
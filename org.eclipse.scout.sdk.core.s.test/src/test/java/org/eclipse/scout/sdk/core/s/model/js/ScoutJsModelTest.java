@@ -11,16 +11,28 @@ package org.eclipse.scout.sdk.core.s.model.js;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import org.eclipse.scout.sdk.core.s.model.js.enums.IScoutJsEnum;
 import org.eclipse.scout.sdk.core.typescript.model.api.INodeElement;
 import org.eclipse.scout.sdk.core.typescript.model.api.INodeModule;
+import org.eclipse.scout.sdk.core.typescript.model.api.NodeModulesProvider;
+import org.eclipse.scout.sdk.core.typescript.model.spi.NodeModuleSpi;
 import org.eclipse.scout.sdk.core.typescript.testing.ExtendWithNodeModules;
+import org.eclipse.scout.sdk.core.typescript.testing.spi.TestingNodeModulesProviderSpi;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class ScoutJsModelTest {
 
@@ -89,4 +101,98 @@ public class ScoutJsModelTest {
     assertNotNull(horizontal);
     assertEquals(List.of("LEFT", "RIGHT"), horizontal.constants());
   }
+
+  @Test
+  @ExtendWithNodeModules("ScoutJsModelTestWithEnums")
+  public void testResolveByName(INodeModule scoutCore) {
+    var model = ScoutJsModels.create(scoutCore).orElseThrow();
+
+    // resolve by name before the whole model has been parsed
+    var widget = model.scoutObjects(ScoutJsCoreConstants.CLASS_NAME_WIDGET);
+    assertEquals(1, widget.size());
+    assertTrue(model.scoutObjects("NotExisting").isEmpty());
+    assertSame(widget.get(0), model.findScoutObjects().withName(ScoutJsCoreConstants.CLASS_NAME_WIDGET).first().orElseThrow());
+    var horizontal = model.scoutEnums("Horizontal");
+    assertEquals(1, horizontal.size());
+    assertTrue(model.scoutEnums("Vertical").isEmpty());
+    assertEquals(List.of("TOP", "BOTTOM"), model.scoutEnums("VerticalEnum").get(0).constants());
+
+    // the whole model reuses the elements already resolved
+    assertTrue(model.scoutObjects().contains(widget.get(0)));
+    assertTrue(model.scoutEnums().contains(horizontal.get(0)));
+    assertSame(horizontal.get(0), model.scoutEnums("Horizontal").get(0));
+    assertEquals(List.of("RealEnumTS", "VerticalEnum", "Horizontal"), model.scoutEnums().stream().map(IScoutJsEnum::name).toList());
+  }
+
+  @Test
+  @ExtendWithNodeModules("ScoutJsModelTestSingle")
+  public void testCacheInvalidation(INodeModule module) {
+    var model = ScoutJsModels.create(module).orElseThrow();
+    assertSame(model, ScoutJsModels.create(module).orElseThrow());
+    assertTrue(ScoutJsModels.size() > 0);
+
+    ScoutJsModels.invalidate(module);
+    var recreated = ScoutJsModels.create(module).orElseThrow();
+    assertNotSame(model, recreated);
+
+    ScoutJsModels.onNodeModulesRemoved(List.of(module.spi()));
+    assertNotSame(recreated, ScoutJsModels.create(module).orElseThrow());
+
+    ScoutJsModels.clear();
+    assertEquals(0, ScoutJsModels.size());
+  }
+
+  @Test
+  @ExtendWithNodeModules("ScoutJsModelTestTreeWithDuplicates")
+  public void testWarmUp(INodeModule root) {
+    var model = ScoutJsModels.create(root).orElseThrow();
+    model.warmUp(ForkJoinPool.commonPool()).join();
+    var objectsInDependencies = model.findScoutObjects().withIncludeDependencies(true).stream().count();
+    assertTrue(objectsInDependencies > 0);
+    model.warmUp(Runnable::run).join(); // already parsed
+    assertEquals(objectsInDependencies, model.findScoutObjects().withIncludeDependencies(true).stream().count());
+  }
+
+  @Test
+  public void testResolveByNameParsesOnlyCandidates(@TempDir Path dir) throws IOException {
+    var numClasses = 50;
+    var xml = new StringBuilder("<module name=\"@eclipse-scout/core\"><export name=\"Widget\"><class name=\"Widget\"></class></export>");
+    for (var i = 0; i < numClasses; i++) {
+      xml.append("<export name=\"Class").append(i).append("\"><class name=\"Class").append(i).append("\" file=\"Class").append(i).append(".js\">")
+          .append("<field name=\"Enum").append(i).append("\"><modifier name=\"STATIC\"></modifier><constantValue><type>ObjectLiteral</type><value><objectLiteral>")
+          .append("<property name=\"A\"><constantValue><type>String</type><value>a</value></constantValue></property>")
+          .append("</objectLiteral></value></constantValue></field></class></export>");
+    }
+    xml.append("</module>");
+    var xmlFile = Files.writeString(dir.resolve("generated.xml"), xml);
+
+    var context = new Object();
+    NodeModulesProvider.registerProvider(context, new TestingNodeModulesProviderSpi());
+    try {
+      var module = NodeModulesProvider.createNodeModule(xmlFile, context).map(NodeModuleSpi::api).orElseThrow();
+      var widgetClass = ScoutJsModels.create(module).orElseThrow().widgetClass();
+      var numParsed = new AtomicInteger();
+      var model = new ScoutJsModel(module, widgetClass) {
+        @Override
+        protected List<IScoutJsEnum> createScoutEnums(INodeElement element) {
+          numParsed.incrementAndGet();
+          return super.createScoutEnums(element);
+        }
+      };
+
+      var byName = model.scoutEnums("Enum42");
+      assertEquals(1, byName.size());
+      assertEquals(List.of("A"), byName.get(0).constants());
+      assertEquals(1, numParsed.get()); // only the candidate having the name has been parsed
+
+      var all = model.scoutEnums();
+      assertEquals(numClasses, all.size());
+      assertEquals(numClasses, numParsed.get()); // the enum already resolved by name is reused
+      assertTrue(all.contains(byName.get(0)));
+    }
+    finally {
+      NodeModulesProvider.clearNodeModules();
+      NodeModulesProvider.removeProvider(context);
+    }
+  }
 }
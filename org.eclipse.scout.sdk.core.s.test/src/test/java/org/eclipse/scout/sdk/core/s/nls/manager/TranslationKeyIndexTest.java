@@ -0,0 +1,64 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.nls.manager;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class TranslationKeyIndexTest {
+
+  @Test
+  public void testContainsIgnoreCase() {
+    var index = new TranslationKeyIndex(List.of("Key", "other.Key", "äÖ"));
+    assertTrue(index.containsIgnoreCase("key"));
+    assertTrue(index.containsIgnoreCase("KEY"));
+    assertTrue(index.containsIgnoreCase("Other.key"));
+    assertTrue(index.containsIgnoreCase("ÄÖ"));
+    assertFalse(index.containsIgnoreCase("key1"));
+    assertFalse(index.containsIgnoreCase(null));
+    assertEquals(3, index.size());
+  }
+
+  @Test
+  public void testAddAndRemove() {
+    var index = new TranslationKeyIndex();
+    index.add("key");
+    index.add("KEY");
+    assertEquals(2, index.size());
+
+    index.remove("Key"); // keys are removed case-sensitive
+    assertEquals(2, index.size());
+
+    index.remove("key");
+    assertTrue(index.containsIgnoreCase("key"));
+    index.remove("KEY");
+    assertFalse(index.containsIgnoreCase("key"));
+    assertEquals(0, index.size());
+
+    index.remove(null);
+    index.add("a");
+    index.clear();
+    assertEquals(0, index.size());
+  }
+
+  @Test
+  public void testKeysWithPrefix() {
+    var index = new TranslationKeyIndex(List.of("b", "Key2", "key1", "KEY", "ke", "keyA.b", "l"));
+    assertEquals(List.of("KEY", "key1", "Key2", "keyA.b"), index.keysWithPrefix("kEy").toList());
+    assertEquals(List.of("keyA.b"), index.keysWithPrefix("keya.").toList());
+    assertEquals(List.of(), index.keysWithPrefix("x").toList());
+    assertEquals(7, index.keysWithPrefix("").count());
+  }
+}
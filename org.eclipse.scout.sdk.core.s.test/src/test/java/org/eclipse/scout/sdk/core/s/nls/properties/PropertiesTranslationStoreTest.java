@@ -18,8 +18,13 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
 import org.eclipse.scout.rt.security.ScoutSecurityTextProviderService;
 import org.eclipse.scout.sdk.core.java.testing.context.ExtendWithJavaEnvironmentFactory;
+import org.eclipse.scout.sdk.core.s.environment.IProgress;
 import org.eclipse.scout.sdk.core.s.environment.NullProgress;
 import org.eclipse.scout.sdk.core.s.nls.ITranslation;
 import org.eclipse.scout.sdk.core.s.nls.Language;
@@ -29,6 +34,7 @@ import org.eclipse.scout.sdk.core.s.testing.ScoutFixtureHelper.ScoutJavaEnvironm
 import org.eclipse.scout.sdk.core.s.testing.ScoutFixtureHelper.ScoutSharedJavaEnvironmentFactory;
 import org.eclipse.scout.sdk.core.s.testing.context.ExtendWithTestingEnvironment;
 import org.eclipse.scout.sdk.core.s.testing.context.TestingEnvironment;
+import org.eclipse.scout.sdk.core.util.SdkException;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
@@ -117,6 +123,36 @@ public class PropertiesTranslationStoreTest {
     assertFalse(empty.isDirty());
   }
 
+  @Test
+  public void testLoadFailureIsPropagated(TestingEnvironment env) {
+    var store = createEmptyStore(env.primaryEnvironment());
+    var valid = new ReadOnlyTranslationFile(() -> new ByteArrayInputStream("key=value".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, Language.LANGUAGE_DEFAULT);
+    var failing = new ReadOnlyTranslationFile(() -> {
+      throw new SdkException("read error");
+    }, StandardCharsets.UTF_8, TranslationStoreSupplierExtension.EN);
+    var exception = assertThrows(SdkException.class, () -> store.load(List.of(valid, failing), new NullProgress()));
+    assertEquals("read error", exception.getMessage());
+
+    store.load(List.of(valid), new NullProgress());
+    assertEquals("value", store.get("key", Language.LANGUAGE_DEFAULT).orElseThrow());
+  }
+
+  @Test
+  public void testLoadCancel(TestingEnvironment env) {
+    var store = createEmptyStore(env.primaryEnvironment());
+    var de = new ReadOnlyTranslationFile(() -> new ByteArrayInputStream("key=wert".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, Language.LANGUAGE_DEFAULT);
+    var en = new ReadOnlyTranslationFile(() -> new ByteArrayInputStream("key=value".getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8, TranslationStoreSupplierExtension.EN);
+    var canceledProgress = new NullProgress() {
+      @Override
+      public IProgress newChild(int work) {
+        throw new SdkException("canceled");
+      }
+    };
+    var exception = assertThrows(SdkException.class, () -> store.load(List.of(de, en), canceledProgress));
+    assertEquals("canceled", exception.getMessage());
+    assertFalse(store.keys().findAny().isPresent());
+  }
+
   @Test
   @SuppressWarnings({"unlikely-arg-type", "ConstantConditions", "EqualsBetweenInconvertibleTypes", "SimplifiableJUnitAssertion", "EqualsWithItself"})
   public void testStoreEqualsHashCode(TestingEnvironment env) {
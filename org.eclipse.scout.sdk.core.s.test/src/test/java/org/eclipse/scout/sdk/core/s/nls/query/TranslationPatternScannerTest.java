@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.nls.query;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.CharBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.eclipse.scout.sdk.core.s.nls.query.TranslationPatterns.HtmlScoutMessagePattern;
+import org.eclipse.scout.sdk.core.s.nls.query.TranslationPatterns.JavaTextsGetPattern;
+import org.eclipse.scout.sdk.core.s.nls.query.TranslationPatterns.JsModelTextKeyPattern;
+import org.eclipse.scout.sdk.core.s.nls.query.TranslationPatterns.JsSessionTextPattern;
+import org.junit.jupiter.api.Test;
+
+public class TranslationPatternScannerTest {
+
+  @Test
+  public void testScan() {
+    var scanner = new TranslationPatternScanner(List.of(JsSessionTextPattern.INSTANCE, JsModelTextKeyPattern.INSTANCE));
+    assertEquals(List.of(), scan(scanner, "let a = 'b';"));
+    assertEquals(List.of("first"), scan(scanner, "session.text('first');"));
+    assertEquals(List.of("first", "third", "second"), scan(scanner, "session.text('first'); x = '${textKey:second}'; session.text(\"third\")"));
+    assertEquals(List.of(), scan(scanner, "session.tex"));
+  }
+
+  @Test
+  public void testPresentAnchors() {
+    var scanner = new TranslationPatternScanner(List.of(JavaTextsGetPattern.INSTANCE, HtmlScoutMessagePattern.INSTANCE));
+    assertEquals(0, scanner.presentAnchors("").cardinality());
+    assertEquals(0, scanner.presentAnchors("TEXTS.ge").cardinality());
+    assertEquals(1, scanner.presentAnchors("TEXTS.get(").cardinality());
+    assertEquals(1, scanner.presentAnchors("a key=").cardinality());
+    assertEquals(2, scanner.presentAnchors("key= TEXTS.get(").cardinality());
+    assertEquals(2, scanner.presentAnchors(new StringBuilder("key= TEXTS.get(")).cardinality());
+    assertEquals(0, scanner.presentAnchors(CharBuffer.wrap("TEXTS.ge")).cardinality());
+    assertEquals(1, scanner.presentAnchors(CharBuffer.wrap("a key=")).cardinality());
+    assertEquals(2, scanner.presentAnchors(CharBuffer.wrap("key= TEXTS.get(")).cardinality());
+  }
+
+  @Test
+  public void testPatternWithoutAnchorIsAlwaysEvaluated() {
+    var pattern = new JsSessionTextPattern() {
+      @Override
+      public List<String> anchors() {
+        return List.of();
+      }
+    };
+    var scanner = new TranslationPatternScanner(Stream.of(pattern).toList());
+    assertEquals(List.of("key"), scan(scanner, "session.text('key')"));
+  }
+
+  private static List<String> scan(TranslationPatternScanner scanner, CharSequence content) {
+    List<String> keys = new ArrayList<>();
+    scanner.scan(content, (pattern, match) -> keys.add(match.group(pattern instanceof JsModelTextKeyPattern ? 1 : 2)));
+    return keys;
+  }
+}
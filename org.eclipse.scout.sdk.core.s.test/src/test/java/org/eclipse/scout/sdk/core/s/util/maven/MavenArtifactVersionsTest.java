@@ -9,16 +9,31 @@
  */
 package org.eclipse.scout.sdk.core.s.util.maven;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.jar.Attributes.Name;
+import java.util.jar.JarFile;
+import java.util.jar.Manifest;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import org.eclipse.scout.sdk.core.java.ISourceFolders;
+import org.eclipse.scout.sdk.core.java.apidef.ApiVersion;
 import org.eclipse.scout.sdk.core.java.ecj.FileSystemWithOverride;
 import org.eclipse.scout.sdk.core.java.ecj.JavaEnvironmentFactories.RunningJavaEnvironmentFactory;
 import org.eclipse.scout.sdk.core.java.ecj.JavaEnvironmentWithEcj;
@@ -30,6 +45,7 @@ import org.eclipse.scout.sdk.core.s.project.ScoutProjectNewHelper;
 import org.eclipse.scout.sdk.core.s.testing.ScoutFixtureHelper.ScoutSharedJavaEnvironmentFactory;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mockito;
 
 @ExtendWithJavaEnvironmentFactory(ScoutSharedJavaEnvironmentFactory.class)
@@ -71,6 +87,85 @@ public class MavenArtifactVersionsTest {
     verify(spy, never()).getNameEnvironment();
   }
 
+  @Test
+  public void testClasspathIndexRebuiltAfterReload(IJavaEnvironment env) {
+    var spi = env.unwrap();
+    var index = MavenArtifactVersions.classpathIndexOf(spi);
+    assertSame(index, MavenArtifactVersions.classpathIndexOf(spi));
+    assertTrue(index.isIndexOf(spi.getClasspath()));
+
+    env.reload();
+    var reloaded = MavenArtifactVersions.classpathIndexOf(spi);
+    assertNotSame(index, reloaded);
+    assertEquals(index.jars(), reloaded.jars());
+  }
+
+  @Test
+  public void testArtifactIdOfJar() {
+    assertEquals(Optional.of("org.eclipse.scout.rt.platform"), MavenArtifactVersions.artifactIdOfJar(Paths.get("org/eclipse/scout/rt/org.eclipse.scout.rt.platform/10.0.5/org.eclipse.scout.rt.platform-10.0.5.jar")));
+    assertEquals(Optional.of("jackson-databind"), MavenArtifactVersions.artifactIdOfJar(Paths.get("com/fasterxml/jackson/core/jackson-databind/2.15.0-SNAPSHOT/jackson-databind-2.15.0-SNAPSHOT.jar")));
+    assertEquals(Optional.of("my-lib-2x"), MavenArtifactVersions.artifactIdOfJar(Paths.get("org/example/my-lib-2x/1.0/my-lib-2x-1.0.jar")));
+    assertEquals(Optional.of("my-lib"), MavenArtifactVersions.artifactIdOfJar(Paths.get("org/example/my-lib/1.0/my-lib-1.0-tests.jar")));
+    assertFalse(MavenArtifactVersions.artifactIdOfJar(Paths.get("org/example/my-lib/1.0/my-lib-2x-1.0.jar")).isPresent());
+    assertFalse(MavenArtifactVersions.artifactIdOfJar(Paths.get("lib/org.eclipse.scout.rt.platform-10.0.5.jar")).isPresent());
+    assertFalse(MavenArtifactVersions.artifactIdOfJar(Paths.get("lib/org.eclipse.scout.rt.platform-10.0.5-sources.jar")).isPresent());
+    assertFalse(MavenArtifactVersions.artifactIdOfJar(Paths.get("lib/org.eclipse.scout.rt.platform-10.0.5-javadoc.jar")).isPresent());
+    assertFalse(MavenArtifactVersions.artifactIdOfJar(Paths.get("lib/platform.jar")).isPresent());
+    assertFalse(MavenArtifactVersions.artifactIdOfJar(Paths.get("lib/platform-1.0.zip")).isPresent());
+  }
+
+  @Test
+  public void testArtifactIdOfJarFromPomProperties(@TempDir Path dir) throws IOException {
+    var withPomProperties = createJar(dir.resolve("my-lib-2x-1.0.jar"), null, "my-lib-2x");
+    assertEquals(Optional.of("my-lib-2x"), MavenArtifactVersions.artifactIdOfJar(withPomProperties));
+
+    var withoutPomProperties = createJar(dir.resolve("my-lib-2x-1.1.jar"), "1.1", null);
+    assertFalse(MavenArtifactVersions.artifactIdOfJar(withoutPomProperties).isPresent());
+  }
+
+  @Test
+  public void testVersionOfJar(@TempDir Path dir) throws IOException {
+    var withManifest = createJar(dir.resolve("a-1.0.jar"), "24.1.3", null);
+    assertEquals(ApiVersion.parse("24.1.3"), MavenArtifactVersions.versionOfJar(withManifest));
+
+    var withPomProperties = createJar(dir.resolve("b-1.0.jar"), null, "b");
+    assertEquals(ApiVersion.parse("22.0.7"), MavenArtifactVersions.versionOfJar(withPomProperties));
+
+    var withoutVersion = createJar(dir.resolve("c-1.0.jar"), null, null);
+    assertFalse(MavenArtifactVersions.versionOfJar(withoutVersion).isPresent());
+  }
+
+  @Test
+  public void testVersionCacheInvalidatedOnChange(@TempDir Path dir) throws IOException {
+    var index = MavenArtifactVersions.ClasspathIndex.of(List.of());
+    var jar = createJar(dir.resolve("d-1.0.jar"), "23.1.0", null);
+    assertEquals(ApiVersion.parse("23.1.0"), index.version(jar));
+
+    var lastModified = Files.getLastModifiedTime(jar).toMillis();
+    createJar(jar, "23.2.14", null);
+    Files.setLastModifiedTime(jar, FileTime.fromMillis(lastModified + 2000));
+    assertEquals(ApiVersion.parse("23.2.14"), index.version(jar));
+  }
+
+  private static Path createJar(Path jar, String implementationVersion, String artifactIdInPomProperties) throws IOException {
+    try (var out = new ZipOutputStream(Files.newOutputStream(jar))) {
+      var manifest = new Manifest();
+      manifest.getMainAttributes().put(Name.MANIFEST_VERSION, "1.0");
+      if (implementationVersion != null) {
+        manifest.getMainAttributes().put(Name.IMPLEMENTATION_VERSION, implementationVersion);
+      }
+      out.putNextEntry(new ZipEntry(JarFile.MANIFEST_NAME));
+      manifest.write(out);
+      out.closeEntry();
+      if (artifactIdInPomProperties != null) {
+        out.putNextEntry(new ZipEntry("META-INF/maven/org.example/" + artifactIdInPomProperties + "/pom.properties"));
+        out.write(("groupId=org.example\nartifactId=" + artifactIdInPomProperties + "\nversion=22.0.7\n").getBytes(StandardCharsets.UTF_8));
+        out.closeEntry();
+      }
+    }
+    return jar;
+  }
+
   protected static class JavaEnvForSpy extends JavaEnvironmentWithEcj {
 
     protected JavaEnvForSpy() {
@@ -13,9 +13,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
 
 import org.eclipse.scout.sdk.core.util.Xml;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 /**
  * <h3>{@link PomTest}</h3>
@@ -60,4 +63,22 @@ public class PomTest {
     assertEquals("testle", Pom.parentArtifactId(Xml.get("<?xml version=\"1.0\" encoding=\"UTF-8\"?><project><parent><artifactId>testle</artifactId></parent></project>")).orElse(null));
     assertNull(Pom.parentArtifactId(Xml.get("<?xml version=\"1.0\" encoding=\"UTF-8\"?><project><parent><artifactIdA>testle</artifactIdA></parent><artifactId>testle</artifactId></project>")).orElse(null));
   }
+
+  @Test
+  public void testReadFromFile(@TempDir Path dir) throws IOException {
+    var pom = dir.resolve(IMavenConstants.POM);
+    Files.writeString(pom, "<?xml version=\"1.0\" encoding=\"UTF-8\"?><project xmlns=\"http://maven.apache.org/POM/4.0.0\">"
+        + "<parent><groupId>parent.group</groupId><artifactId>parent.artifact</artifactId><version>1.0</version></parent>"
+        + "<artifactId>testle</artifactId><version> </version></project>");
+    assertEquals("testle", Pom.readArtifactId(pom).orElse(null));
+    assertEquals("parent.group", Pom.readGroupId(pom).orElse(null));
+    assertEquals("1.0", Pom.readVersion(pom).orElse(null));
+    assertEquals("parent.artifact", Pom.readParentArtifactId(pom).orElse(null));
+
+    Files.writeString(pom, "<?xml version=\"1.0\" encoding=\"UTF-8\"?><project><groupId>testle</groupId><version>2.0</version><parent><groupId>whatever</groupId></parent></project>");
+    assertEquals("testle", Pom.readGroupId(pom).orElse(null));
+    assertEquals("2.0", Pom.readVersion(pom).orElse(null));
+    assertNull(Pom.readArtifactId(pom).orElse(null));
+    assertNull(Pom.readParentArtifactId(pom).orElse(null));
+  }
 }
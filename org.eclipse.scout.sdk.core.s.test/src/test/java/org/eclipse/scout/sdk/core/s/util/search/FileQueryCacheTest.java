@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.util.search;
+
+import static java.util.stream.Collectors.toSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+import org.eclipse.scout.sdk.core.s.nls.query.TranslationKeysQuery;
+import org.eclipse.scout.sdk.core.s.util.search.WorkspaceWalker.WorkspaceModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FileQueryCacheTest {
+
+  @Test
+  public void testUnchangedFilesAreNotSearchedAgain(@TempDir Path dir) throws IOException {
+    var storage = dir.resolve("cache/query.cache");
+    var src = dir.resolve("src");
+    var a = write(src.resolve("A.java"), "keyA");
+    var b = write(src.resolve("B.java"), "keyB");
+    write(src.resolve("C.txt"), "keyC");
+    var module = new WorkspaceModule(src, StandardCharsets.UTF_8);
+
+    var first = new CountingQuery("");
+    var cache = FileQueryCache.load(storage);
+    WorkspaceWalker.executeQuery(cache.cached(first), List.of(module), null);
+    assertEquals(3, first.numSearched().get());
+    assertEquals(Set.of("keyA", "keyB"), first.keysFound().collect(toSet()));
+    assertEquals(2, cache.size()); // C.txt has been rejected without reading it
+    cache.store();
+
+    // change content of B. touch A (content unchanged)
+    write(b, "keyB2");
+    Files.setLastModifiedTime(a, FileTime.fromMillis(Files.getLastModifiedTime(a).toMillis() + 10_000));
+
+    var second = new CountingQuery("");
+    var reloaded = FileQueryCache.load(storage);
+    WorkspaceWalker.executeQuery(reloaded.cached(second), List.of(module), null);
+    assertEquals(2, second.numSearched().get()); // B and C
+    assertEquals(Set.of("keyA", "keyB2"), second.keysFound().collect(toSet()));
+    assertEquals(1, second.result(a).size());
+    assertEquals(2, reloaded.statistics().missCount());
+    assertEquals(1, reloaded.statistics().hitCount());
+
+    // other state fingerprint: all files are searched again
+    var third = new CountingQuery("other");
+    WorkspaceWalker.executeQuery(reloaded.cached(third), List.of(module), null);
+    assertEquals(3, third.numSearched().get());
+    assertEquals(Set.of("keyA", "keyB2"), third.keysFound().collect(toSet()));
+  }
+
+  @Test
+  public void testDeletedFilesAreRemoved(@TempDir Path dir) throws IOException {
+    var storage = dir.resolve("query.cache");
+    var src = dir.resolve("src");
+    var a = write(src.resolve("A.java"), "keyA");
+    var b = write(src.resolve("B.java"), "keyB");
+    var module = new WorkspaceModule(src, StandardCharsets.UTF_8);
+
+    var cache = FileQueryCache.load(storage);
+    WorkspaceWalker.executeQuery(cache.cached(new CountingQuery("")), List.of(module), null);
+    assertEquals(Set.of(a, b), cache.visitedFiles());
+    cache.retainVisited();
+    cache.store();
+
+    Files.delete(b);
+    var reloaded = FileQueryCache.load(storage);
+    assertEquals(2, reloaded.size());
+    var query = new CountingQuery("");
+    WorkspaceWalker.executeQuery(reloaded.cached(query), List.of(module), null);
+    assertEquals(0, query.numSearched().get());
+    assertEquals(Set.of("keyA"), query.keysFound().collect(toSet()));
+    reloaded.retainVisited();
+    assertEquals(1, reloaded.size());
+  }
+
+  @Test
+  public void testLongStrings() throws IOException {
+    var text = "\u00e4".repeat(70_000); // longer than supported by DataOutput.writeUTF
+    var bytes = new ByteArrayOutputStream();
+    try (var out = new DataOutputStream(bytes)) {
+      FileQueryCache.writeString(out, text);
+    }
+    try (var in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+      assertEquals(text, FileQueryCache.readString(in));
+    }
+  }
+
+  @Test
+  public void testCorruptStorageIsDiscarded(@TempDir Path dir) throws IOException {
+    var storage = write(dir.resolve("query.cache"), "corrupt");
+    var cache = FileQueryCache.load(storage);
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testFingerprint() {
+    assertEquals(FileQueryCache.fingerprint(Stream.of("a", "b")), FileQueryCache.fingerprint(Stream.of("b", "a")));
+    assertNotEquals(FileQueryCache.fingerprint(Stream.of("a", "b")), FileQueryCache.fingerprint(Stream.of("ab")));
+    assertNotEquals(FileQueryCache.fingerprint(Stream.of("a")), FileQueryCache.fingerprint(Stream.empty()));
+  }
+
+  private static Path write(Path file, String key) throws IOException {
+    Files.createDirectories(file.getParent());
+    return Files.writeString(file, "String s = \"" + key + "\";");
+  }
+
+  private static final class CountingQuery extends TranslationKeysQuery {
+
+    private final AtomicInteger m_numSearched = new AtomicInteger();
+    private final String m_fingerprint;
+
+    private CountingQuery(String fingerprint) {
+      m_fingerprint = fingerprint;
+    }
+
+    @Override
+    public void searchIn(FileQueryInput input) {
+      m_numSearched.incrementAndGet();
+      super.searchIn(input);
+    }
+
+    @Override
+    public String stateFingerprint(FileQueryInput input) {
+      return m_fingerprint;
+    }
+
+    AtomicInteger numSearched() {
+      return m_numSearched;
+    }
+  }
+}
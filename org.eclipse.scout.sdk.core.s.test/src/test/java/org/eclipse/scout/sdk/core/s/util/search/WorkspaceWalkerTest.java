@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.util.search;
+
+import static java.util.stream.Collectors.toSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.scout.sdk.core.s.nls.query.TranslationKeysQuery;
+import org.eclipse.scout.sdk.core.s.util.search.WorkspaceWalker.WorkspaceModule;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class WorkspaceWalkerTest {
+
+  @Test
+  public void testWalk(@TempDir Path dir) throws IOException {
+    var module = createModule(dir);
+    var expected = Set.of(dir.resolve("a/A.java"), dir.resolve("a/b/B.java"), dir.resolve("a/b/c/C.java"), dir.resolve("a/b/c/D.java"), dir.resolve("E.java"));
+
+    assertEquals(expected, walk(new WorkspaceWalker(), module));
+    assertEquals(expected, walk(new WorkspaceWalker().withParallelism(4), module));
+    assertEquals(Set.of(dir.resolve("E.java"), dir.resolve("a/A.java")),
+        walk(new WorkspaceWalker().withParallelism(4).withFilter((p, attrs) -> !p.endsWith("b")), module));
+  }
+
+  @Test
+  public void testUnreadableDirectoryIsSkipped(@TempDir Path dir) throws IOException {
+    var module = createModule(dir.resolve("existing"));
+    var missing = new WorkspaceModule(dir.resolve("missing"), StandardCharsets.UTF_8);
+    Set<Path> visited = ConcurrentHashMap.newKeySet();
+    new WorkspaceWalker()
+        .withParallelism(2)
+        .withExtensionsAccepted("java")
+        .walk(List.of(missing, module), (file, m) -> visited.add(file), null);
+    assertEquals(5, visited.size());
+  }
+
+  @Test
+  public void testCancel(@TempDir Path dir) throws IOException {
+    var module = createModule(dir);
+    var numVisited = new AtomicInteger();
+    new WorkspaceWalker()
+        .withParallelism(2)
+        .walk(List.of(module), (file, m) -> numVisited.incrementAndGet(), () -> numVisited.get() > 0);
+    assertTrue(numVisited.get() < 5);
+  }
+
+  @Test
+  public void testCancelInCallingThread(@TempDir Path dir) throws IOException {
+    var module = createModule(dir);
+    var caller = Thread.currentThread();
+    Set<Thread> askingThreads = ConcurrentHashMap.newKeySet();
+    Set<Path> visited = ConcurrentHashMap.newKeySet();
+    new WorkspaceWalker()
+        .withParallelism(2)
+        .withExtensionsAccepted("java")
+        .walkCancelingInCallingThread(List.of(module), (file, m) -> visited.add(file), () -> {
+          askingThreads.add(Thread.currentThread());
+          return false;
+        });
+    assertEquals(5, visited.size());
+    assertTrue(Set.of(caller).containsAll(askingThreads));
+  }
+
+  @Test
+  public void testExecuteQuery(@TempDir Path dir) throws IOException {
+    var module = createModule(dir);
+    var query = new TranslationKeysQuery();
+    WorkspaceWalker.executeQuery(query, List.of(module), null);
+    assertEquals(Set.of("keyA", "keyB", "keyC", "keyD", "keyE"), query.keysFound().collect(toSet()));
+    assertEquals(1, query.result(dir.resolve("a/b/c/C.java")).size());
+  }
+
+  @Test
+  public void testExecuteNotThreadSafeQuery(@TempDir Path dir) throws IOException {
+    var module = createModule(dir);
+    Set<Thread> threads = ConcurrentHashMap.newKeySet();
+    var query = new TranslationKeysQuery() {
+      @Override
+      public void searchIn(FileQueryInput input) {
+        threads.add(Thread.currentThread());
+        super.searchIn(input);
+      }
+
+      @Override
+      public boolean isThreadSafe() {
+        return false;
+      }
+    };
+    assertEquals(1, WorkspaceWalker.parallelismFor(query));
+    assertEquals(WorkspaceWalker.defaultParallelism(), WorkspaceWalker.parallelismFor(new TranslationKeysQuery()));
+
+    WorkspaceWalker.executeQuery(query, List.of(module), null);
+    assertEquals(Set.of(Thread.currentThread()), threads);
+    assertEquals(Set.of("keyA", "keyB", "keyC", "keyD", "keyE"), query.keysFound().collect(toSet()));
+  }
+
+  private static Set<Path> walk(WorkspaceWalker walker, WorkspaceModule module) {
+    Set<Path> visited = ConcurrentHashMap.newKeySet();
+    walker
+        .withExtensionsAccepted("java")
+        .walk(List.of(module), (file, m) -> visited.add(file), null);
+    return visited;
+  }
+
+  private static WorkspaceModule createModule(Path dir) throws IOException {
+    write(dir.resolve("a/A.java"), "keyA");
+    write(dir.resolve("a/b/B.java"), "keyB");
+    write(dir.resolve("a/b/c/C.java"), "keyC");
+    write(dir.resolve("a/b/c/D.java"), "keyD");
+    write(dir.resolve("E.java"), "keyE");
+    write(dir.resolve("a/F.txt"), "keyF");
+    write(dir.resolve(".hidden/G.java"), "keyG");
+    write(dir.resolve("node_modules/H.java"), "keyH");
+    write(dir.resolve("target/classes/I.java"), "keyI");
+    return new WorkspaceModule(dir, StandardCharsets.UTF_8, Set.of(dir.resolve("target")));
+  }
+
+  private static void write(Path file, String key) throws IOException {
+    Files.createDirectories(file.getParent());
+    Files.writeString(file, "String s = \"" + key + "\";");
+  }
+}
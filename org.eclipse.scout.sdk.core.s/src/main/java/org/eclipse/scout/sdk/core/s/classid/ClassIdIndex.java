@@ -0,0 +1,259 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.classid;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.eclipse.scout.sdk.core.util.Ensure;
+
+/**
+ * <h3>{@link ClassIdIndex}</h3>
+ * <p>
+ * Index of {@code @ClassId} values grouped by the file in which they are declared. Besides the mappings of each file,
+ * the index maintains a reverse index from {@code @ClassId} value to the owner types and the set of values declared
+ * more than once. Both are updated incrementally whenever the mappings of a file are {@link #update(String, Map)
+ * updated} or {@link #remove(String) removed}. Therefore, lookups by value and duplicate checks do not depend on the
+ * size of the index.
+ * <p>
+ * This class is thread safe. Modifications are serialized, lookups do not block.
+ *
+ * @since 13.0
+ */
+public class ClassIdIndex {
+
+  private final Map<String /* file */, Map<String /* owner fqn */, String /* classId */>> m_classIdsByFile;
+  private final Map<String /* classId */, List<ClassIdOwner>> m_ownersByClassId;
+  private final Set<String /* classId */> m_duplicates;
+
+  public ClassIdIndex() {
+    m_classIdsByFile = new ConcurrentHashMap<>();
+    m_ownersByClassId = new ConcurrentHashMap<>();
+    m_duplicates = ConcurrentHashMap.newKeySet();
+  }
+
+  /**
+   * Replaces all mappings of the file given.
+   *
+   * @param file
+   *          The file whose mappings should be replaced. Must not be {@code null}.
+   * @param classIdsByOwner
+   *          The new mappings of the file. The key is the fully qualified name of the type declaring the
+   *          {@code @ClassId}, the value is the {@code @ClassId} value. If {@code null} or empty, all mappings of the file
+   *          are removed.
+   */
+  public synchronized void update(String file, Map<String, String> classIdsByOwner) {
+    Ensure.notNull(file);
+    var newMappings = classIdsByOwner == null ? Map.<String, String> of() : Map.copyOf(classIdsByOwner);
+    var oldMappings = newMappings.isEmpty() ? m_classIdsByFile.remove(file) : m_classIdsByFile.put(file, newMappings);
+    if (newMappings.equals(oldMappings)) {
+      return;
+    }
+    if (oldMappings != null) {
+      oldMappings.forEach((owner, classId) -> removeOwner(classId, new ClassIdOwner(file, owner)));
+    }
+    newMappings.forEach((owner, classId) -> addOwner(classId, new ClassIdOwner(file, owner)));
+  }
+
+  /**
+   * Removes all mappings of the file given.
+   *
+   * @param file
+   *          The file whose mappings should be removed.
+   * @return {@code true} if the index contained mappings for the file.
+   */
+  public synchronized boolean remove(String file) {
+    if (file == null) {
+      return false;
+    }
+    var oldMappings = m_classIdsByFile.remove(file);
+    if (oldMappings == null) {
+      return false;
+    }
+    oldMappings.forEach((owner, classId) -> removeOwner(classId, new ClassIdOwner(file, owner)));
+    return true;
+  }
+
+  /**
+   * Removes all mappings.
+   */
+  public synchronized void clear() {
+    m_classIdsByFile.clear();
+    m_ownersByClassId.clear();
+    m_duplicates.clear();
+  }
+
+  private void addOwner(String classId, ClassIdOwner owner) {
+    var owners = m_ownersByClassId.get(classId);
+    if (owners == null) {
+      m_ownersByClassId.put(classId, List.of(owner));
+      return;
+    }
+    var newOwners = new ArrayList<ClassIdOwner>(owners.size() + 1);
+    newOwners.addAll(owners);
+    newOwners.add(owner);
+    m_ownersByClassId.put(classId, List.copyOf(newOwners));
+    m_duplicates.add(classId);
+  }
+
+  private void removeOwner(String classId, ClassIdOwner owner) {
+    var owners = m_ownersByClassId.get(classId);
+    if (owners == null) {
+      return;
+    }
+    var newOwners = new ArrayList<>(owners);
+    newOwners.remove(owner);
+    if (newOwners.isEmpty()) {
+      m_ownersByClassId.remove(classId);
+    }
+    else {
+      m_ownersByClassId.put(classId, List.copyOf(newOwners));
+    }
+    if (newOwners.size() < 2) {
+      m_duplicates.remove(classId);
+    }
+  }
+
+  /**
+   * @param file
+   *          The file.
+   * @return An unmodifiable {@link Map} holding the mappings of the file given. The key is the fully qualified name of
+   *         the type declaring the {@code @ClassId}, the value is the {@code @ClassId} value.
+   */
+  public Map<String, String> classIdsIn(String file) {
+    if (file == null) {
+      return emptyMap();
+    }
+    var mappings = m_classIdsByFile.get(file);
+    if (mappings == null) {
+      return emptyMap();
+    }
+    return mappings;
+  }
+
+  /**
+   * @param classId
+   *          The {@code @ClassId} value.
+   * @return An unmodifiable {@link List} holding all {@link ClassIdOwner}s declaring the value given.
+   */
+  public List<ClassIdOwner> ownersOf(String classId) {
+    if (classId == null) {
+      return emptyList();
+    }
+    var owners = m_ownersByClassId.get(classId);
+    if (owners == null) {
+      return emptyList();
+    }
+    return owners;
+  }
+
+  /**
+   * @param classId
+   *          The {@code @ClassId} value.
+   * @return A {@link List} holding the fully qualified names of all types declaring the value given.
+   */
+  public List<String> typesWithClassId(String classId) {
+    return ownersOf(classId).stream()
+        .map(ClassIdOwner::ownerFqn)
+        .toList();
+  }
+
+  /**
+   * @return A {@link Map} holding all {@code @ClassId} values that are declared more than once. The key of the map is
+   *         the {@code @ClassId} value, the value of the map is a {@link List} of the fully qualified names of the types
+   *         declaring that value.
+   */
+  public Map<String, List<String>> duplicates() {
+    Map<String, List<String>> result = new HashMap<>(m_duplicates.size());
+    for (var classId : m_duplicates) {
+      putIfDuplicate(classId, result);
+    }
+    return result;
+  }
+
+  /**
+   * @param file
+   *          The file for which the duplicates should be returned.
+   * @return A {@link Map} holding all duplicate {@code @ClassId} values declared in the file given. The key of the map
+   *         is the {@code @ClassId} value, the value of the map is a {@link List} of the fully qualified names of all
+   *         types declaring that value (including the ones in other files).
+   */
+  public Map<String, List<String>> duplicates(String file) {
+    var classIdsInFile = classIdsIn(file);
+    if (classIdsInFile.isEmpty() || m_duplicates.isEmpty()) {
+      return emptyMap();
+    }
+    Map<String, List<String>> result = new HashMap<>();
+    for (var classId : classIdsInFile.values()) {
+      putIfDuplicate(classId, result);
+    }
+    return result;
+  }
+
+  private void putIfDuplicate(String classId, Map<String, List<String>> collector) {
+    var owners = typesWithClassId(classId);
+    if (owners.size() > 1) {
+      collector.put(classId, owners);
+    }
+  }
+
+  /**
+   * @return A {@link Map} holding the fully qualified names of the types grouped by the {@code @ClassId} value they
+   *         declare.
+   */
+  public Map<String, List<String>> usageByClassId() {
+    Map<String, List<String>> result = new HashMap<>(m_ownersByClassId.size());
+    for (var classId : m_ownersByClassId.keySet()) {
+      var owners = typesWithClassId(classId);
+      if (!owners.isEmpty()) {
+        result.put(classId, owners);
+      }
+    }
+    return result;
+  }
+
+  /**
+   * @return An unmodifiable view on all files having at least one {@code @ClassId} mapping.
+   */
+  public Set<String> files() {
+    return unmodifiableMap(m_classIdsByFile).keySet();
+  }
+
+  /**
+   * @return The number of distinct {@code @ClassId} values in the index.
+   */
+  public int size() {
+    return m_ownersByClassId.size();
+  }
+
+  @Override
+  public String toString() {
+    return ClassIdIndex.class.getSimpleName() + " [files=" + m_classIdsByFile.size() + ", classIds=" + size() + ", duplicates=" + m_duplicates.size() + ']';
+  }
+
+  /**
+   * A type declaring a {@code @ClassId}.
+   *
+   * @param file
+   *          The file in which the type is declared.
+   * @param ownerFqn
+   *          The fully qualified name of the type.
+   */
+  public record ClassIdOwner(String file, String ownerFqn) {
+  }
+}
@@ -0,0 +1,355 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.classid;
+
+import static java.util.stream.Collectors.toCollection;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Stream;
+
+import org.eclipse.scout.sdk.core.java.JavaTypes;
+import org.eclipse.scout.sdk.core.log.SdkLog;
+import org.eclipse.scout.sdk.core.s.dto.AbstractDtoGenerator;
+import org.eclipse.scout.sdk.core.s.java.apidef.IScoutApi;
+import org.eclipse.scout.sdk.core.s.java.apidef.ScoutApi;
+import org.eclipse.scout.sdk.core.s.util.search.WorkspaceWalker;
+import org.eclipse.scout.sdk.core.s.util.search.WorkspaceWalker.WorkspaceModule;
+import org.eclipse.scout.sdk.core.util.Ensure;
+
+/**
+ * <h3>{@link ClassIdScanner}</h3>
+ * <p>
+ * IDE independent scanner collecting the {@code @ClassId} values of all Java source files within source trees. It can
+ * e.g. be used in a build to detect duplicate {@code @ClassId} values.
+ * <p>
+ * The directories are visited in parallel by a {@link WorkspaceWalker}. Large files are memory mapped and all files
+ * are processed by the {@link ClassIdTokenizer} instead of a full Java parser. The values found are stored in a
+ * {@link ClassIdIndex}.
+ * <p>
+ * Subsequent {@link #scan(Collection, BooleanSupplier) scans} are incremental: only files whose size or last
+ * modification time changed are read again. Use {@link #store(Path)} and {@link #load(Path)} to keep this state
+ * between runs.
+ * <p>
+ * This class is thread safe.
+ *
+ * @since 13.0
+ */
+public class ClassIdScanner {
+
+  private static final int FORMAT_VERSION = 2;
+  private static final long MAPPING_THRESHOLD = 64 * 1024; // smaller files are read into the heap
+
+  private final ClassIdIndex m_index;
+  private final Map<String /* file */, FileState> m_fileStates;
+  private final Set<String> m_annotationNames;
+  private int m_parallelism;
+
+  public ClassIdScanner() {
+    m_index = new ClassIdIndex();
+    m_fileStates = new ConcurrentHashMap<>();
+    m_annotationNames = defaultAnnotationNames();
+    m_parallelism = WorkspaceWalker.defaultParallelism();
+  }
+
+  /**
+   * @return The simple and fully qualified names of the {@code @ClassId} annotations of all known Scout versions.
+   */
+  public static Set<String> defaultAnnotationNames() {
+    return ScoutApi.allKnown()
+        .map(IScoutApi::ClassId)
+        .flatMap(classId -> Stream.of(classId.fqn(), JavaTypes.simpleName(classId.fqn())))
+        .collect(toCollection(HashSet::new));
+  }
+
+  /**
+   * Creates a new scanner with the state of a previous run {@link #store(Path) stored} in the file given. If the file
+   * does not exist or cannot be read, the scanner is empty and the next scan reads all files.
+   *
+   * @param storage
+   *          The file holding the state. Must not be {@code null}.
+   * @return The new {@link ClassIdScanner}.
+   */
+  public static ClassIdScanner load(Path storage) {
+    var scanner = new ClassIdScanner();
+    try {
+      scanner.read(storage);
+    }
+    catch (NoSuchFileException e) {
+      SdkLog.debug("No @ClassId scanner state found at '{}'.", storage, e);
+    }
+    catch (IOException | RuntimeException e) {
+      SdkLog.warning("Unable to read @ClassId scanner state '{}'. State is discarded.", storage, e);
+      scanner.clear();
+    }
+    return scanner;
+  }
+
+  /**
+   * Scans the Java files within the directories given using UTF-8.
+   *
+   * @param directories
+   *          The root directories to scan. Must not be {@code null}.
+   * @return The {@link ScanResult}.
+   */
+  public ScanResult scan(Path... directories) {
+    return scan(Stream.of(directories)
+        .map(dir -> new WorkspaceModule(dir, StandardCharsets.UTF_8))
+        .toList(), null);
+  }
+
+  /**
+   * Scans the Java files within the modules given. Files which have not been changed since the last scan are not read
+   * again. Files which have been scanned before but are no longer found are removed from the {@link #index()}. Files
+   * which cannot be read are logged and skipped.
+   *
+   * @param modules
+   *          The {@link WorkspaceModule modules} to scan. Must not be {@code null}.
+   * @param isCanceled
+   *          Is asked regularly if the scan should be canceled. May be {@code null}.
+   * @return The {@link ScanResult}.
+   */
+  public synchronized ScanResult scan(Collection<WorkspaceModule> modules, BooleanSupplier isCanceled) {
+    Ensure.notNull(modules);
+    var start = System.nanoTime();
+    Set<String> visitedFiles = ConcurrentHashMap.newKeySet();
+    var numScanned = new AtomicInteger();
+    new WorkspaceWalker()
+        .withExtensionsAccepted(JavaTypes.JAVA_FILE_SUFFIX)
+        .withParallelism(parallelism())
+        .walk(modules, (file, module) -> {
+          var key = keyOf(file);
+          visitedFiles.add(key);
+          if (scanIfModified(file, key, module.charset())) {
+            numScanned.incrementAndGet();
+          }
+        }, isCanceled);
+
+    var numRemoved = 0;
+    var canceled = isCanceled != null && isCanceled.getAsBoolean();
+    if (!canceled) {
+      for (var file : List.copyOf(m_fileStates.keySet())) {
+        if (!visitedFiles.contains(file)) {
+          m_fileStates.remove(file);
+          m_index.remove(file);
+          numRemoved++;
+        }
+      }
+    }
+
+    var result = new ScanResult(visitedFiles.size(), numScanned.get(), numRemoved, m_index.duplicates(), (System.nanoTime() - start) / 1_000_000);
+    SdkLog.debug("@ClassId scan finished: {}", result);
+    return result;
+  }
+
+  protected boolean scanIfModified(Path file, String key, Charset charset) {
+    try {
+      var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+      var state = new FileState(attributes.size(), attributes.lastModifiedTime().toMillis());
+      if (state.equals(m_fileStates.get(key))) {
+        return false; // unchanged since the last scan
+      }
+      var classIds = scanFile(file, attributes.size(), charset);
+      m_index.update(key, classIds);
+      m_fileStates.put(key, state);
+      return true;
+    }
+    catch (IOException e) {
+      // keep the previous values of the file (if any). it is read again on the next scan.
+      SdkLog.warning("Unable to scan file '{}' for @ClassId values. File is skipped.", file, e);
+      return false;
+    }
+  }
+
+  protected Map<String, String> scanFile(Path file, long size, Charset charset) throws IOException {
+    Map<String, String> classIds;
+    if (size < MAPPING_THRESHOLD) {
+      classIds = ClassIdTokenizer.tokenize(ByteBuffer.wrap(Files.readAllBytes(file)), charset, m_annotationNames);
+    }
+    else {
+      try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+        classIds = ClassIdTokenizer.tokenize(channel.map(MapMode.READ_ONLY, 0, channel.size()), charset, m_annotationNames);
+      }
+    }
+    if (classIds.isEmpty()) {
+      return classIds;
+    }
+    Map<String, String> result = new HashMap<>(classIds);
+    result.values().removeIf(ClassIdScanner::ignoreClassId);
+    return result;
+  }
+
+  /**
+   * @param classId
+   *          The {@code @ClassId} value.
+   * @return {@code true} if the value should not be part of the index. These are the values of generated form data
+   *         classes.
+   */
+  protected static boolean ignoreClassId(String classId) {
+    return classId.endsWith(AbstractDtoGenerator.FORMDATA_CLASSID_SUFFIX);
+  }
+
+  protected static String keyOf(Path file) {
+    return file.toAbsolutePath().normalize().toString();
+  }
+
+  /**
+   * Writes the state of this scanner to the file given so that a later run can be incremental.
+   *
+   * @param storage
+   *          The file to write. Must not be {@code null}.
+   * @throws IOException
+   *           if the file cannot be written.
+   */
+  public synchronized void store(Path storage) throws IOException {
+    var parent = storage.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    var tmp = storage.resolveSibling(storage.getFileName() + ".tmp");
+    var files = new TreeMap<>(m_fileStates);
+    try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+      out.writeInt(FORMAT_VERSION);
+      out.writeInt(files.size());
+      for (var entry : files.entrySet()) {
+        out.writeUTF(entry.getKey());
+        out.writeLong(entry.getValue().size());
+        out.writeLong(entry.getValue().lastModified());
+        var classIds = m_index.classIdsIn(entry.getKey());
+        out.writeInt(classIds.size());
+        for (var mapping : classIds.entrySet()) {
+          out.writeUTF(mapping.getKey());
+          out.writeUTF(mapping.getValue());
+        }
+      }
+    }
+    Files.move(tmp, storage, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  protected synchronized void read(Path storage) throws IOException {
+    try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(storage)))) {
+      var version = in.readInt();
+      if (version != FORMAT_VERSION) {
+        SdkLog.debug("@ClassId scanner state '{}' has format version {} but {} is required. State is discarded.", storage, version, FORMAT_VERSION);
+        return;
+      }
+      var numFiles = in.readInt();
+      for (var i = 0; i < numFiles; i++) {
+        var file = in.readUTF();
+        var state = new FileState(in.readLong(), in.readLong());
+        var numClassIds = in.readInt();
+        Map<String, String> classIds = new HashMap<>(numClassIds);
+        for (var j = 0; j < numClassIds; j++) {
+          classIds.put(in.readUTF(), in.readUTF());
+        }
+        m_fileStates.put(file, state);
+        m_index.update(file, classIds);
+      }
+    }
+  }
+
+  /**
+   * Removes all state so that the next scan reads all files.
+   */
+  public synchronized void clear() {
+    m_fileStates.clear();
+    m_index.clear();
+  }
+
+  /**
+   * @return The {@link ClassIdIndex} holding the values of all files scanned. The key of the files is the absolute
+   *         path.
+   */
+  public ClassIdIndex index() {
+    return m_index;
+  }
+
+  /**
+   * @return The number of threads used to scan.
+   */
+  public int parallelism() {
+    return m_parallelism;
+  }
+
+  /**
+   * @param parallelism
+   *          The number of threads used to scan. Must be greater than zero. By default, the
+   *          {@link WorkspaceWalker#defaultParallelism()} is used.
+   * @return this instance
+   */
+  public ClassIdScanner withParallelism(int parallelism) {
+    Ensure.isTrue(parallelism > 0, "Parallelism must be greater than zero.");
+    m_parallelism = parallelism;
+    return this;
+  }
+
+  /**
+   * The result of a {@link ClassIdScanner#scan(Collection, BooleanSupplier) scan}.
+   *
+   * @param numFiles
+   *          The number of Java files found.
+   * @param numFilesScanned
+   *          The number of Java files read because they are new or have been modified since the last scan.
+   * @param numFilesRemoved
+   *          The number of Java files of the previous scan which no longer exist.
+   * @param duplicates
+   *          The duplicate {@code @ClassId} values found. The key of the map is the value, the value of the map are the
+   *          fully qualified names of all types declaring the value.
+   * @param durationMillis
+   *          The duration of the scan in milliseconds.
+   */
+  public record ScanResult(int numFiles, int numFilesScanned, int numFilesRemoved, Map<String, List<String>> duplicates, long durationMillis) {
+
+    /**
+     * @return {@code true} if duplicate {@code @ClassId} values have been found.
+     */
+    public boolean hasDuplicates() {
+      return !duplicates().isEmpty();
+    }
+
+    /**
+     * @return A human-readable report of the duplicates found (one line per duplicate value, sorted by value).
+     */
+    public String report() {
+      var report = new StringBuilder();
+      new TreeMap<>(duplicates()).forEach((classId, owners) -> report
+          .append("Duplicate @ClassId value '").append(classId).append("' found in types ")
+          .append(owners.stream().sorted().toList()).append('.').append(System.lineSeparator()));
+      return report.toString();
+    }
+  }
+
+  protected record FileState(long size, long lastModified) {
+  }
+}
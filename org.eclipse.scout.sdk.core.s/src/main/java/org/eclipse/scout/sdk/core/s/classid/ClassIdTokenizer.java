@@ -0,0 +1,434 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.classid;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.eclipse.scout.sdk.core.util.Ensure;
+
+/**
+ * <h3>{@link ClassIdTokenizer}</h3>
+ * <p>
+ * Lightweight tokenizer extracting the {@code @ClassId} values of the types declared in a Java source file without
+ * parsing it. It works directly on the bytes of the file and therefore supports all charsets which are ASCII
+ * compatible (e.g. UTF-8 or ISO-8859-1).
+ * <p>
+ * Comments, string, text block and char literals are skipped. Type declarations are tracked by brace depth so that
+ * the fully qualified names of member types can be computed. Only literal values are supported: {@code @ClassId}
+ * annotations whose value is a constant reference or an expression are ignored.
+ *
+ * @since 13.0
+ */
+public final class ClassIdTokenizer {
+
+  private static final byte[] CLASS_ID_MARKER = {'C', 'l', 'a', 's', 's', 'I', 'd'};
+
+  private final ByteBuffer m_content;
+  private final int m_limit;
+  private final Charset m_charset;
+  private final Set<String> m_annotationNames;
+  private final Map<String, String> m_result;
+  private final Deque<TypeFrame> m_types;
+
+  private int m_pos;
+  private int m_depth;
+  private String m_packageName;
+  private String m_pendingClassId;
+  private String m_pendingTypeName;
+  private String m_pendingTypeClassId;
+  private byte m_last;
+
+  private ClassIdTokenizer(ByteBuffer content, Charset charset, Set<String> annotationNames) {
+    m_content = content;
+    m_limit = content.limit();
+    m_charset = charset;
+    m_annotationNames = annotationNames;
+    m_result = new LinkedHashMap<>();
+    m_types = new ArrayDeque<>();
+    m_packageName = "";
+  }
+
+  /**
+   * Extracts the {@code @ClassId} values of the Java source given.
+   *
+   * @param content
+   *          The content of the Java file. Must not be {@code null}. The position of the buffer is ignored: the content
+   *          from index 0 to the limit is tokenized.
+   * @param charset
+   *          The {@link Charset} of the content. Must not be {@code null}.
+   * @param annotationNames
+   *          The simple and fully qualified names of the annotations to consider (e.g. {@code ClassId}). Must not be
+   *          {@code null}.
+   * @return A {@link Map} with the fully qualified name (using {@code .} for member types) of each type having a
+   *         {@code @ClassId} as key and the {@code @ClassId} value as value.
+   */
+  public static Map<String, String> tokenize(ByteBuffer content, Charset charset, Set<String> annotationNames) {
+    Ensure.notNull(content);
+    Ensure.notNull(charset);
+    Ensure.notNull(annotationNames);
+    if (!containsMarker(content)) {
+      return Map.of(); // fast path for the majority of files
+    }
+    var tokenizer = new ClassIdTokenizer(content, charset, annotationNames);
+    tokenizer.run();
+    return tokenizer.m_result;
+  }
+
+  private static boolean containsMarker(ByteBuffer content) {
+    var last = content.limit() - CLASS_ID_MARKER.length;
+    outer: for (var i = 0; i <= last; i++) {
+      for (var j = 0; j < CLASS_ID_MARKER.length; j++) {
+        if (content.get(i + j) != CLASS_ID_MARKER[j]) {
+          continue outer;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
+  private void run() {
+    while (m_pos < m_limit) {
+      var c = at(m_pos);
+      if (isWhitespace(c)) {
+        m_pos++;
+      }
+      else if (c == '/' && (at(m_pos + 1) == '/' || at(m_pos + 1) == '*')) {
+        m_pos = skipComment(m_pos);
+      }
+      else if (c == '"') {
+        m_pos = skipStringLiteral(m_pos);
+        m_last = '"';
+      }
+      else if (c == '\'') {
+        m_pos = skipCharLiteral(m_pos);
+        m_last = '\'';
+      }
+      else if (c == '@') {
+        readAnnotation();
+      }
+      else if (isIdentifierPart(c)) {
+        readWord();
+      }
+      else {
+        readSeparator(c);
+        m_pos++;
+      }
+    }
+  }
+
+  private void readSeparator(byte c) {
+    switch (c) {
+      case '{' -> {
+        m_depth++;
+        if (m_pendingTypeName != null) {
+          var fqn = typeName(m_pendingTypeName);
+          m_types.push(new TypeFrame(fqn, m_depth));
+          if (m_pendingTypeClassId != null) {
+            m_result.put(fqn, m_pendingTypeClassId);
+          }
+        }
+        resetPending();
+      }
+      case '}' -> {
+        if (!m_types.isEmpty() && m_types.peek().bodyDepth() == m_depth) {
+          m_types.pop();
+        }
+        m_depth--;
+        resetPending();
+      }
+      case ';' -> resetPending();
+      default -> {
+        // other separators and operators
+      }
+    }
+    m_last = c;
+  }
+
+  private void resetPending() {
+    m_pendingClassId = null;
+    m_pendingTypeName = null;
+    m_pendingTypeClassId = null;
+  }
+
+  private String typeName(String simpleName) {
+    if (!m_types.isEmpty()) {
+      return m_types.peek().fqn() + '.' + simpleName;
+    }
+    if (m_packageName.isEmpty()) {
+      return simpleName;
+    }
+    return m_packageName + '.' + simpleName;
+  }
+
+  private void readWord() {
+    var start = m_pos;
+    m_pos = skipIdentifier(m_pos);
+    var isMemberAccess = m_last == '.';
+    m_last = 'a';
+    if (isMemberAccess) {
+      return; // e.g. Foo.class
+    }
+
+    var length = m_pos - start;
+    if (m_depth == 0 && m_types.isEmpty() && equalsAscii(start, length, "package")) {
+      m_packageName = readQualifiedName();
+    }
+    else if (equalsAscii(start, length, "class") || equalsAscii(start, length, "interface") || equalsAscii(start, length, "enum")) {
+      declareType(false);
+    }
+    else if (equalsAscii(start, length, "record")) {
+      declareType(true);
+    }
+  }
+
+  private void declareType(boolean isRecord) {
+    var nameStart = skipTrivia(m_pos);
+    if (nameStart >= m_limit || !isIdentifierPart(at(nameStart))) {
+      return;
+    }
+    var nameEnd = skipIdentifier(nameStart);
+    if (isRecord) {
+      // 'record' is a contextual keyword: it must be followed by the name and the header
+      var next = at(skipTrivia(nameEnd));
+      if (next != '(' && next != '<') {
+        return;
+      }
+    }
+    m_pendingTypeName = decode(nameStart, nameEnd);
+    m_pendingTypeClassId = m_pendingClassId;
+    m_pendingClassId = null;
+    m_pos = nameEnd;
+  }
+
+  private String readQualifiedName() {
+    var result = new ByteArrayOutputStream();
+    var pos = m_pos;
+    while (true) {
+      pos = skipTrivia(pos);
+      var c = at(pos);
+      if (pos >= m_limit || c == ';') {
+        break;
+      }
+      if (isIdentifierPart(c) || c == '.') {
+        result.write(c);
+      }
+      pos++;
+    }
+    m_pos = pos;
+    return result.toString(m_charset);
+  }
+
+  private void readAnnotation() {
+    var nameStart = skipTrivia(m_pos + 1);
+    var pos = nameStart;
+    while (pos < m_limit && (isIdentifierPart(at(pos)) || at(pos) == '.')) {
+      pos++;
+    }
+    m_pos = pos;
+    m_last = 'a';
+    var name = decode(nameStart, pos);
+    if ("interface".equals(name)) {
+      declareType(false); // annotation type declaration
+      return;
+    }
+    if (!m_annotationNames.contains(name)) {
+      return;
+    }
+
+    // @ClassId("value") or @ClassId(value = "value")
+    pos = skipTrivia(pos);
+    if (at(pos) != '(') {
+      return;
+    }
+    pos = skipTrivia(pos + 1);
+    if (startsWithAscii(pos, "value")) {
+      var afterName = skipTrivia(pos + "value".length());
+      if (at(afterName) == '=') {
+        pos = skipTrivia(afterName + 1);
+      }
+    }
+    if (at(pos) != '"' || (at(pos + 1) == '"' && at(pos + 2) == '"')) {
+      return; // no simple string literal
+    }
+    var literalEnd = skipStringLiteral(pos);
+    var afterLiteral = skipTrivia(literalEnd);
+    if (at(afterLiteral) != ')') {
+      return; // an expression
+    }
+    m_pendingClassId = decodeLiteral(pos + 1, literalEnd - 1);
+    m_pos = afterLiteral + 1;
+  }
+
+  private String decodeLiteral(int start, int end) {
+    var out = new ByteArrayOutputStream(end - start);
+    var i = start;
+    while (i < end) {
+      var c = at(i++);
+      if (c != '\\' || i >= end) {
+        out.write(c);
+        continue;
+      }
+      var escaped = at(i++);
+      switch (escaped) {
+        case 'n' -> out.write('\n');
+        case 't' -> out.write('\t');
+        case 'r' -> out.write('\r');
+        case 'b' -> out.write('\b');
+        case 'f' -> out.write('\f');
+        case 's' -> out.write(' ');
+        case 'u' -> {
+          while (i < end && at(i) == 'u') {
+            i++;
+          }
+          if (i + 4 <= end) {
+            var hex = decode(i, i + 4);
+            var bytes = String.valueOf((char) Integer.parseInt(hex, 16)).getBytes(m_charset);
+            out.write(bytes, 0, bytes.length);
+            i += 4;
+          }
+        }
+        default -> out.write(escaped);
+      }
+    }
+    return out.toString(m_charset);
+  }
+
+  private int skipTrivia(int start) {
+    var pos = start;
+    while (pos < m_limit) {
+      var c = at(pos);
+      if (isWhitespace(c)) {
+        pos++;
+      }
+      else if (c == '/' && (at(pos + 1) == '/' || at(pos + 1) == '*')) {
+        pos = skipComment(pos);
+      }
+      else {
+        break;
+      }
+    }
+    return pos;
+  }
+
+  private int skipComment(int start) {
+    var pos = start + 2;
+    if (at(start + 1) == '/') {
+      while (pos < m_limit && at(pos) != '\n') {
+        pos++;
+      }
+      return pos;
+    }
+    while (pos < m_limit && !(at(pos) == '*' && at(pos + 1) == '/')) {
+      pos++;
+    }
+    return Math.min(pos + 2, m_limit);
+  }
+
+  private int skipStringLiteral(int start) {
+    if (at(start + 1) == '"' && at(start + 2) == '"') {
+      // text block
+      var pos = start + 3;
+      while (pos < m_limit) {
+        var c = at(pos);
+        if (c == '\\') {
+          pos += 2;
+        }
+        else if (c == '"' && at(pos + 1) == '"' && at(pos + 2) == '"') {
+          return pos + 3;
+        }
+        else {
+          pos++;
+        }
+      }
+      return m_limit;
+    }
+    return skipQuoted(start, (byte) '"');
+  }
+
+  private int skipCharLiteral(int start) {
+    return skipQuoted(start, (byte) '\'');
+  }
+
+  private int skipQuoted(int start, byte quote) {
+    var pos = start + 1;
+    while (pos < m_limit) {
+      var c = at(pos);
+      if (c == '\\') {
+        pos += 2;
+      }
+      else if (c == quote) {
+        return pos + 1;
+      }
+      else if (c == '\n') {
+        return pos; // unterminated literal
+      }
+      else {
+        pos++;
+      }
+    }
+    return m_limit;
+  }
+
+  private int skipIdentifier(int start) {
+    var pos = start;
+    while (pos < m_limit && isIdentifierPart(at(pos))) {
+      pos++;
+    }
+    return pos;
+  }
+
+  private boolean equalsAscii(int start, int length, String s) {
+    return length == s.length() && startsWithAscii(start, s);
+  }
+
+  private boolean startsWithAscii(int start, String s) {
+    if (start + s.length() > m_limit) {
+      return false;
+    }
+    for (var i = 0; i < s.length(); i++) {
+      if (at(start + i) != s.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private String decode(int start, int end) {
+    var bytes = new byte[end - start];
+    m_content.get(start, bytes);
+    return new String(bytes, m_charset);
+  }
+
+  private byte at(int pos) {
+    if (pos >= m_limit) {
+      return 0;
+    }
+    return m_content.get(pos);
+  }
+
+  private static boolean isWhitespace(byte c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+  }
+
+  private static boolean isIdentifierPart(byte c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '$' || c < 0 /* non-ASCII */;
+  }
+
+  private record TypeFrame(String fqn, int bodyDepth) {
+  }
+}
@@ -0,0 +1,33 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.derived;
+
+import java.util.Set;
+
+import org.eclipse.scout.sdk.core.util.Ensure;
+
+/**
+ * Describes the position of an {@link IDerivedResourceHandler} in the dependency graph built by the
+ * {@link DerivedResourceHandlerScheduler}.
+ *
+ * @param key
+ *          The key of the base resource the handler creates derived resources for (e.g. the fully qualified name of
+ *          the model type). Must not be blank.
+ * @param requiredKeys
+ *          The keys of the base resources whose derived resources must be up-to-date before the handler may be
+ *          executed. Keys without a handler in the same run are ignored.
+ * @since 13.0
+ */
+public record DerivedResourceDependencies(String key, Set<String> requiredKeys) {
+  public DerivedResourceDependencies {
+    Ensure.notBlank(key);
+    requiredKeys = Set.copyOf(requiredKeys);
+  }
+}
@@ -0,0 +1,471 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.derived;
+
+import static java.util.Collections.emptyList;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.eclipse.scout.sdk.core.log.SdkLog;
+import org.eclipse.scout.sdk.core.s.environment.IEnvironment;
+import org.eclipse.scout.sdk.core.s.environment.IFuture;
+import org.eclipse.scout.sdk.core.s.environment.IProgress;
+import org.eclipse.scout.sdk.core.s.environment.NullProgress;
+import org.eclipse.scout.sdk.core.s.environment.SdkFuture;
+import org.eclipse.scout.sdk.core.util.Ensure;
+
+/**
+ * <h3>{@link DerivedResourceHandlerScheduler}</h3>
+ * <p>
+ * Executes {@link IDerivedResourceHandler}s concurrently using a bounded number of threads. The
+ * {@link IDerivedResourceHandler#dependencies(IEnvironment) dependencies} of the handlers are respected: a handler is
+ * only started after all handlers it depends on have completed including their file writes. Independent handlers are
+ * started in the order given.
+ * <p>
+ * If a {@link #isCheckpointRequired(int) checkpoint is required}, no further handlers are started until all running
+ * handlers and their file writes have completed. Then {@link #checkpoint()} is called and the execution continues.
+ * <p>
+ * At the end of a run the latency percentiles of the handlers are logged and returned as {@link Statistics}.
+ *
+ * @since 13.0
+ */
+public class DerivedResourceHandlerScheduler {
+
+  /**
+   * The default number of handlers executed concurrently.
+   */
+  public static final int DEFAULT_PARALLELISM = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+
+  private final IEnvironment m_env;
+  private final Executor m_executor;
+  private final int m_parallelism;
+
+  /**
+   * @param env
+   *          The {@link IEnvironment} on which the handlers are executed.
+   * @param executor
+   *          The {@link Executor} to execute the handlers. Must not be {@code null}. Must be able to execute at least
+   *          the given number of tasks concurrently.
+   * @param parallelism
+   *          The maximum number of handlers executed concurrently. Must be greater than zero.
+   */
+  public DerivedResourceHandlerScheduler(IEnvironment env, Executor executor, int parallelism) {
+    Ensure.isTrue(parallelism > 0, "Invalid parallelism: {}.", parallelism);
+    m_env = env;
+    m_executor = Ensure.notNull(executor);
+    m_parallelism = parallelism;
+  }
+
+  /**
+   * Executes the handlers given and waits until all of them and all of their file writes have completed.
+   * <p>
+   * The {@link IProgress} given is only used by the calling thread: one tick is reported whenever a handler has
+   * completed. The handlers run concurrently in other threads and therefore get their own progress (see
+   * {@link #createHandlerProgress(IDerivedResourceHandler)}).
+   *
+   * @param handlers
+   *          The handlers to execute. Must not be {@code null}.
+   * @param progress
+   *          The {@link IProgress} of the run. Must not be {@code null}.
+   * @return The {@link Statistics} of the run.
+   */
+  public Statistics run(Collection<? extends IDerivedResourceHandler> handlers, IProgress progress) {
+    var start = System.nanoTime();
+    var nodes = createNodes(handlers);
+    progress.setWorkRemaining(nodes.size());
+    var run = new P_Run(nodes, progress);
+    try {
+      run.execute();
+    }
+    finally {
+      run.awaitRunning();
+    }
+
+    var statistics = Statistics.of(Arrays.copyOf(run.m_durations, run.m_numExecuted), System.nanoTime() - start, m_parallelism);
+    if (statistics.count() > 0) {
+      SdkLog.info("Derived resource update finished: {}", statistics);
+    }
+    return statistics;
+  }
+
+  /**
+   * Executes the handler given. This method is called in a thread of the {@link Executor}.
+   *
+   * @param handler
+   *          The handler to execute.
+   * @param progress
+   *          The {@link IProgress} for the handler.
+   * @return The file writes scheduled by the handler.
+   */
+  protected Collection<? extends IFuture<?>> executeHandler(IDerivedResourceHandler handler, IProgress progress) {
+    return handler.apply(env(), progress);
+  }
+
+  /**
+   * Creates the {@link IProgress} passed to the handler given. The progress is used in a thread of the {@link Executor}
+   * and may be used concurrently to the progress of other handlers. The default implementation returns a
+   * {@link NullProgress}.
+   *
+   * @param handler
+   *          The handler which is about to be started.
+   * @return The {@link IProgress} for the handler. Must be thread safe.
+   */
+  protected IProgress createHandlerProgress(IDerivedResourceHandler handler) {
+    return new NullProgress();
+  }
+
+  /**
+   * Executes a task in a thread of the {@link Executor}. Subclasses may override this method to prepare the context
+   * (e.g. a transaction bound to the thread) required by the handlers.
+   *
+   * @param task
+   *          The task to execute.
+   * @return The result of the task.
+   */
+  protected <V> V callInWorker(Supplier<V> task) {
+    return task.get();
+  }
+
+  /**
+   * @param numExecuted
+   *          The number of handlers completed so far.
+   * @return {@code true} if the derived resources written so far should be flushed before further handlers are
+   *         started. The default implementation returns {@code false}.
+   */
+  protected boolean isCheckpointRequired(int numExecuted) {
+    return false;
+  }
+
+  /**
+   * Flushes the derived resources written so far. Is called in the thread calling {@link #run(Collection, IProgress)}
+   * while no handler is running and all file writes have completed.
+   */
+  protected void checkpoint() {
+    // nop by default
+  }
+
+  /**
+   * @return {@code true} if no further handlers should be started. Handlers already running are completed.
+   */
+  protected boolean isCanceled() {
+    return false;
+  }
+
+  /**
+   * Handles an exception thrown by a handler. The default implementation logs {@link RuntimeException}s and continues
+   * with the next handler. Other {@link Throwable}s are rethrown. A rethrown exception aborts the run after all running
+   * handlers have completed.
+   *
+   * @param handler
+   *          The handler that failed.
+   * @param t
+   *          The exception.
+   */
+  protected void handleFailure(IDerivedResourceHandler handler, Throwable t) {
+    if (t instanceof RuntimeException) {
+      SdkLog.error("Error while: {}", handler, t);
+      return;
+    }
+    if (t instanceof Error e) {
+      throw e;
+    }
+    throw new IllegalStateException(t);
+  }
+
+  public IEnvironment env() {
+    return m_env;
+  }
+
+  public int parallelism() {
+    return m_parallelism;
+  }
+
+  private List<P_Node> createNodes(Collection<? extends IDerivedResourceHandler> handlers) {
+    // compute the dependencies concurrently: it may require resolving the model of each handler
+    var dependencies = handlers.stream()
+        .map(h -> CompletableFuture.supplyAsync(() -> computeDependencies(h), m_executor))
+        .toList();
+
+    List<P_Node> nodes = new ArrayList<>(handlers.size());
+    Map<String, P_Node> nodesByKey = new HashMap<>(handlers.size());
+    var i = 0;
+    for (var handler : handlers) {
+      var node = new P_Node(handler, i, dependencies.get(i).join().orElse(null));
+      nodes.add(node);
+      if (node.m_dependencies != null) {
+        nodesByKey.putIfAbsent(node.m_dependencies.key(), node);
+      }
+      i++;
+    }
+
+    for (var node : nodes) {
+      if (node.m_dependencies == null) {
+        continue;
+      }
+      for (var requiredKey : node.m_dependencies.requiredKeys()) {
+        var required = nodesByKey.get(requiredKey);
+        if (required != null && required != node) {
+          required.m_dependents.add(node);
+          node.m_numPending++;
+        }
+      }
+    }
+    return nodes;
+  }
+
+  protected Optional<DerivedResourceDependencies> computeDependencies(IDerivedResourceHandler handler) {
+    try {
+      return callInWorker(() -> handler.dependencies(env()));
+    }
+    catch (RuntimeException e) {
+      SdkLog.info("Unable to compute the dependencies of '{}'. Handler is executed without considering dependencies.", handler, e);
+      return Optional.empty();
+    }
+  }
+
+  private static final class P_Node {
+    private final IDerivedResourceHandler m_handler;
+    private final int m_index;
+    private final DerivedResourceDependencies m_dependencies;
+    private final List<P_Node> m_dependents;
+    private int m_numPending;
+    private boolean m_started;
+    private IProgress m_progress;
+
+    // written by the worker, read by the scheduling thread after the node has been taken from the completion queue
+    private Collection<IFuture<?>> m_fileWrites;
+    private Throwable m_failure;
+    private long m_durationNanos;
+
+    private P_Node(IDerivedResourceHandler handler, int index, DerivedResourceDependencies dependencies) {
+      m_handler = handler;
+      m_index = index;
+      m_dependencies = dependencies;
+      m_dependents = new ArrayList<>();
+    }
+  }
+
+  private final class P_Run {
+    private final List<P_Node> m_nodes;
+    private final IProgress m_progress;
+    private final PriorityQueue<P_Node> m_ready;
+    private final BlockingQueue<P_Node> m_completed;
+    private final Collection<IFuture<?>> m_fileWrites;
+    private final long[] m_durations;
+    private int m_numRunning;
+    private int m_numExecuted;
+    private int m_numStarted;
+    private boolean m_checkpointPending;
+
+    private P_Run(List<P_Node> nodes, IProgress progress) {
+      m_nodes = nodes;
+      m_progress = progress;
+      m_ready = new PriorityQueue<>(Comparator.comparingInt(n -> n.m_index));
+      m_completed = new LinkedBlockingQueue<>();
+      m_fileWrites = new ArrayList<>();
+      m_durations = new long[nodes.size()];
+      nodes.stream()
+          .filter(n -> n.m_numPending == 0)
+          .forEach(m_ready::add);
+    }
+
+    private void execute() {
+      while (true) {
+        while (m_numRunning < m_parallelism && !m_checkpointPending && !m_ready.isEmpty() && !isCanceled()) {
+          start(m_ready.poll());
+        }
+
+        if (m_numRunning == 0) {
+          if (m_checkpointPending) {
+            flush();
+            continue;
+          }
+          if (m_numStarted == m_nodes.size() || isCanceled()) {
+            break;
+          }
+          if (m_ready.isEmpty()) {
+            breakCycle();
+            continue;
+          }
+        }
+
+        complete(takeCompleted());
+      }
+      awaitFileWrites();
+    }
+
+    private void start(P_Node node) {
+      node.m_started = true;
+      node.m_progress = createHandlerProgress(node.m_handler);
+      m_numStarted++;
+      m_numRunning++;
+      try {
+        m_executor.execute(() -> executeNode(node));
+      }
+      catch (RuntimeException e) {
+        // executor rejected the task
+        node.m_failure = e;
+        node.m_fileWrites = emptyList();
+        m_completed.add(node);
+      }
+    }
+
+    private void executeNode(P_Node node) {
+      var start = System.nanoTime();
+      try {
+        var fileWrites = callInWorker(() -> executeHandler(node.m_handler, node.m_progress));
+        node.m_fileWrites = fileWrites == null ? emptyList() : new ArrayList<>(fileWrites);
+        if (!node.m_dependents.isEmpty()) {
+          // the dependent handlers require the derived resources of this handler
+          SdkFuture.awaitAllLoggingOnError(node.m_fileWrites);
+        }
+      }
+      catch (Throwable t) {
+        node.m_failure = t;
+      }
+      finally {
+        if (node.m_fileWrites == null) {
+          node.m_fileWrites = emptyList();
+        }
+        node.m_durationNanos = System.nanoTime() - start;
+        SdkLog.debug("Derived resource handler took {}ms to execute: {}", TimeUnit.NANOSECONDS.toMillis(node.m_durationNanos), node.m_handler);
+        m_completed.add(node);
+      }
+    }
+
+    private P_Node takeCompleted() {
+      var numInterrupted = 0;
+      while (true) {
+        try {
+          return m_completed.take();
+        }
+        catch (InterruptedException e) {
+          SdkLog.debug(e);
+          numInterrupted++;
+          if (numInterrupted >= 10) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for derived resource handlers.", e);
+          }
+        }
+      }
+    }
+
+    private void complete(P_Node node) {
+      m_numRunning--;
+      m_durations[m_numExecuted] = node.m_durationNanos;
+      m_numExecuted++;
+      m_progress.worked(1);
+      m_fileWrites.addAll(node.m_fileWrites);
+      for (var dependent : node.m_dependents) {
+        dependent.m_numPending--;
+        if (dependent.m_numPending == 0 && !dependent.m_started) {
+          m_ready.add(dependent);
+        }
+      }
+      if (isCheckpointRequired(m_numExecuted)) {
+        m_checkpointPending = true;
+      }
+      if (node.m_failure != null) {
+        handleFailure(node.m_handler, node.m_failure);
+      }
+    }
+
+    private void breakCycle() {
+      // all remaining handlers wait for each other: start the first one
+      m_nodes.stream()
+          .filter(n -> !n.m_started && n.m_numPending > 0)
+          .findFirst()
+          .ifPresent(n -> {
+            SdkLog.debug("Cyclic derived resource dependency detected. Executing '{}' before its dependencies.", n.m_handler);
+            n.m_numPending = 0;
+            m_ready.add(n);
+          });
+    }
+
+    private void flush() {
+      awaitFileWrites();
+      checkpoint();
+      m_checkpointPending = false;
+    }
+
+    private void awaitFileWrites() {
+      SdkFuture.awaitAllLoggingOnError(m_fileWrites);
+      m_fileWrites.clear();
+    }
+
+    private void awaitRunning() {
+      // the handlers use the environment and transaction of the caller: wait until they are finished in any case
+      while (m_numRunning > 0) {
+        var node = takeCompleted();
+        m_numRunning--;
+        m_fileWrites.addAll(node.m_fileWrites);
+      }
+      awaitFileWrites();
+    }
+  }
+
+  /**
+   * Latency statistics of a {@link DerivedResourceHandlerScheduler} run.
+   *
+   * @param count
+   *          The number of handlers executed.
+   * @param totalMillis
+   *          The total duration of the run in milliseconds.
+   * @param parallelism
+   *          The maximum number of handlers executed concurrently.
+   * @param p50Millis
+   *          The median duration of a handler in milliseconds.
+   * @param p90Millis
+   *          The 90th percentile of the handler durations in milliseconds.
+   * @param p99Millis
+   *          The 99th percentile of the handler durations in milliseconds.
+   * @param maxMillis
+   *          The maximum duration of a handler in milliseconds.
+   */
+  public record Statistics(int count, long totalMillis, int parallelism, long p50Millis, long p90Millis, long p99Millis, long maxMillis) {
+
+    static Statistics of(long[] durationsNanos, long totalNanos, int parallelism) {
+      var sorted = durationsNanos.clone();
+      Arrays.sort(sorted);
+      return new Statistics(sorted.length, TimeUnit.NANOSECONDS.toMillis(totalNanos), parallelism,
+          percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99), percentile(sorted, 100));
+    }
+
+    /**
+     * Nearest-rank percentile of the sorted values given.
+     */
+    static long percentile(long[] sortedNanos, int percentile) {
+      if (sortedNanos.length < 1) {
+        return 0;
+      }
+      var rank = (int) Math.ceil(percentile / 100.0 * sortedNanos.length);
+      return TimeUnit.NANOSECONDS.toMillis(sortedNanos[Math.max(rank, 1) - 1]);
+    }
+
+    @Override
+    public String toString() {
+      return count + " handlers in " + totalMillis + "ms (parallelism " + parallelism + "). Handler latency: p50=" + p50Millis + "ms, p90=" + p90Millis + "ms, p99=" + p99Millis + "ms, max=" + maxMillis + "ms.";
+    }
+  }
+}
@@ -0,0 +1,422 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.derived;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import org.eclipse.scout.sdk.core.java.apidef.ApiVersion;
+import org.eclipse.scout.sdk.core.java.model.api.IClasspathEntry;
+import org.eclipse.scout.sdk.core.java.model.api.ICompilationUnit;
+import org.eclipse.scout.sdk.core.java.model.api.IJavaEnvironment;
+import org.eclipse.scout.sdk.core.java.model.api.IType;
+import org.eclipse.scout.sdk.core.log.SdkLog;
+import org.eclipse.scout.sdk.core.s.java.apidef.ScoutApi;
+import org.eclipse.scout.sdk.core.util.CacheStatistics;
+import org.eclipse.scout.sdk.core.util.Ensure;
+import org.eclipse.scout.sdk.core.util.SourceRange;
+
+/**
+ * <h3>{@link DtoFingerprintIndex}</h3>
+ * <p>
+ * Persistent index of the fingerprints of the inputs from which DTOs have been generated. It allows the
+ * {@link DtoUpdateHandler} to skip the generation of a DTO if
+ * <ul>
+ * <li>the {@link #modelFingerprint(IType) fingerprint of the model type} is unchanged since the DTO has been written
+ * and</li>
+ * <li>the DTO has not been modified since it has been written.</li>
+ * </ul>
+ * The model fingerprint covers the source of the model type and of all source super types of the model type and its
+ * inner types (e.g. templates), the names of all binary super types, the size and modification time of the binary
+ * classpath entries, the Scout version and the version of the DTO generator. Use {@link #store()} to persist the
+ * index.
+ * <p>
+ * This class is thread safe.
+ *
+ * @since 13.0
+ */
+public class DtoFingerprintIndex {
+
+  private static final int FORMAT_VERSION = 2;
+  private static final String HASH_ALGORITHM = "SHA-256";
+  private static final long CLASSPATH_STAMP_TTL_MILLIS = TimeUnit.SECONDS.toMillis(5);
+  private static final int MAX_CLASSPATH_STAMPS = 64;
+  private static final Map<List<Path> /* binary classpath */, ClasspathStamp> CLASSPATH_STAMPS = new ConcurrentHashMap<>();
+  private static final String GENERATOR_VERSION = computeGeneratorVersion();
+
+  private final Path m_storage;
+  private final Map<String /* DTO fqn */, Entry> m_entries;
+  private final CacheStatistics m_statistics;
+  private final AtomicBoolean m_modified;
+
+  /**
+   * Creates a new empty index. Use {@link #load(Path)} to create an index containing the previously stored entries.
+   *
+   * @param storage
+   *          The file in which the index is stored. Must not be {@code null}.
+   */
+  public DtoFingerprintIndex(Path storage) {
+    m_storage = Ensure.notNull(storage);
+    m_entries = new ConcurrentHashMap<>();
+    m_statistics = new CacheStatistics(DtoFingerprintIndex.class.getSimpleName());
+    m_modified = new AtomicBoolean();
+  }
+
+  /**
+   * Creates a new index and loads the entries previously {@link #store() stored} in the file given. If the file does
+   * not exist or cannot be read, the index is empty.
+   *
+   * @param storage
+   *          The file in which the index is stored. Must not be {@code null}.
+   * @return The new {@link DtoFingerprintIndex}.
+   */
+  public static DtoFingerprintIndex load(Path storage) {
+    var index = new DtoFingerprintIndex(storage);
+    try {
+      index.read();
+    }
+    catch (NoSuchFileException e) {
+      SdkLog.debug("No DTO fingerprint index found at '{}'.", storage, e);
+    }
+    catch (IOException | RuntimeException e) {
+      SdkLog.warning("Unable to read DTO fingerprint index '{}'. Index is discarded.", storage, e);
+      index.clear();
+    }
+    return index;
+  }
+
+  /**
+   * Computes the fingerprint of all inputs of the DTO of the model type given.
+   *
+   * @param modelType
+   *          The model type. Must not be {@code null}.
+   * @return The fingerprint.
+   */
+  public static String modelFingerprint(IType modelType) {
+    var digest = newDigest();
+    update(digest, Integer.toString(FORMAT_VERSION));
+    update(digest, GENERATOR_VERSION);
+    update(digest, ScoutApi.version(modelType.javaEnvironment()).map(ApiVersion::asString).orElse(""));
+    update(digest, binaryClasspathStamp(modelType.javaEnvironment())); // binary super types only contribute their name below
+
+    Set<String> visitedTypes = new HashSet<>();
+    Set<String> visitedCompilationUnits = new HashSet<>();
+    Stream.concat(Stream.of(modelType), modelType.innerTypes().withRecursiveInnerTypes(true).stream())
+        .flatMap(t -> t.superTypes().stream()) // includes the type itself
+        .filter(t -> visitedTypes.add(t.name()))
+        .forEach(t -> {
+          update(digest, t.name());
+          if (visitedCompilationUnits.add(t.primary().name())) {
+            sourceOf(t).ifPresent(source -> update(digest, source));
+          }
+        });
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /**
+   * @param env
+   *          The {@link IJavaEnvironment}.
+   * @return A stamp of the binary classpath entries of the environment given. It changes if a binary entry is added,
+   *         removed or modified. The stamps are cached for a few seconds because all model types of a derived resource
+   *         update share the same classpath.
+   */
+  protected static String binaryClasspathStamp(IJavaEnvironment env) {
+    var binaryClasspath = env.classpath()
+        .filter(e -> !e.isSourceFolder())
+        .map(IClasspathEntry::path)
+        .toList();
+    var now = System.currentTimeMillis();
+    var cached = CLASSPATH_STAMPS.get(binaryClasspath);
+    if (cached != null && now - cached.timestamp() < CLASSPATH_STAMP_TTL_MILLIS) {
+      return cached.stamp();
+    }
+
+    var stamp = classpathStamp(binaryClasspath);
+    if (CLASSPATH_STAMPS.size() >= MAX_CLASSPATH_STAMPS) {
+      CLASSPATH_STAMPS.clear();
+    }
+    CLASSPATH_STAMPS.put(binaryClasspath, new ClasspathStamp(stamp, now));
+    return stamp;
+  }
+
+  /**
+   * @param classpath
+   *          The classpath entries.
+   * @return A stamp consisting of the path, size and modification time of all classpath files (e.g. jars) given. For
+   *         directories only the path is used.
+   */
+  protected static String classpathStamp(Collection<Path> classpath) {
+    var digest = newDigest();
+    for (var entry : classpath) {
+      update(digest, entry.toString());
+      update(digest, fileStamp(entry));
+    }
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private static String fileStamp(Path file) {
+    try {
+      var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+      if (attributes.isDirectory()) {
+        return "";
+      }
+      return attributes.size() + "-" + attributes.lastModifiedTime().toMillis();
+    }
+    catch (IOException e) {
+      SdkLog.debug("Unable to read attributes of classpath entry '{}'.", file, e);
+      return "";
+    }
+  }
+
+  /**
+   * @return The version of the DTO generator: The implementation version of this library. As snapshot builds may
+   *         change the generated DTOs without changing the version, the stamp of the library file is appended if
+   *         available.
+   */
+  private static String computeGeneratorVersion() {
+    var version = Optional.ofNullable(DtoFingerprintIndex.class.getPackage())
+        .map(Package::getImplementationVersion)
+        .orElse("");
+    try {
+      var codeSource = DtoFingerprintIndex.class.getProtectionDomain().getCodeSource();
+      if (codeSource == null || codeSource.getLocation() == null) {
+        return version;
+      }
+      var location = Path.of(codeSource.getLocation().toURI());
+      if (Files.isRegularFile(location)) {
+        return version + '-' + fileStamp(location);
+      }
+    }
+    catch (URISyntaxException | RuntimeException e) {
+      SdkLog.debug("Unable to compute the location of the DTO generator.", e);
+    }
+    return version;
+  }
+
+  /**
+   * @param type
+   *          The {@link IType}.
+   * @return The source of the compilation unit of the type given or an empty {@link Optional} if it is a binary type.
+   */
+  protected static Optional<CharSequence> sourceOf(IType type) {
+    return type.compilationUnit()
+        .filter(cu -> !cu.isSynthetic())
+        .flatMap(ICompilationUnit::source)
+        .map(SourceRange::asCharSequence);
+  }
+
+  /**
+   * @param dtoName
+   *          The fully qualified name of the DTO.
+   * @param modelFingerprint
+   *          The current {@link #modelFingerprint(IType) fingerprint of the model type}.
+   * @param currentDtoSource
+   *          The current source of the DTO or {@code null} if the DTO does not exist.
+   * @return {@code true} if the DTO has been written for the same model fingerprint and has not been modified since.
+   */
+  public boolean isUpToDate(String dtoName, String modelFingerprint, CharSequence currentDtoSource) {
+    var entry = m_entries.get(dtoName);
+    var upToDate = entry != null
+        && currentDtoSource != null
+        && entry.modelFingerprint().equals(modelFingerprint)
+        && entry.dtoHash().equals(hash(currentDtoSource));
+    if (upToDate) {
+      m_statistics.hit();
+    }
+    else {
+      m_statistics.miss();
+    }
+    return upToDate;
+  }
+
+  /**
+   * Registers a DTO which has been written.
+   *
+   * @param dtoName
+   *          The fully qualified name of the DTO. Must not be {@code null}.
+   * @param modelFingerprint
+   *          The {@link #modelFingerprint(IType) fingerprint of the model type} from which the DTO has been generated.
+   *          Must not be {@code null}.
+   * @param writtenDtoSource
+   *          The source of the DTO as it has been written. Must not be {@code null}.
+   */
+  public void update(String dtoName, String modelFingerprint, CharSequence writtenDtoSource) {
+    m_entries.put(Ensure.notNull(dtoName), new Entry(Ensure.notNull(modelFingerprint), hash(writtenDtoSource)));
+    m_modified.set(true);
+  }
+
+  /**
+   * Removes the entry of a DTO so that it is generated on the next update.
+   *
+   * @param dtoName
+   *          The fully qualified name of the DTO.
+   */
+  public void remove(String dtoName) {
+    if (dtoName != null && m_entries.remove(dtoName) != null) {
+      m_modified.set(true);
+    }
+  }
+
+  protected static String hash(CharSequence content) {
+    var digest = newDigest();
+    update(digest, content);
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  private static void update(MessageDigest digest, CharSequence value) {
+    digest.update(StandardCharsets.UTF_8.encode(CharBuffer.wrap(value)));
+    digest.update((byte) 0);
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance(HASH_ALGORITHM);
+    }
+    catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e); // SHA-256 is available on all Java platforms
+    }
+  }
+
+  /**
+   * Writes all entries of this index to the {@link #storage() storage file}.
+   *
+   * @throws IOException
+   *           if the file cannot be written.
+   */
+  public synchronized void store() throws IOException {
+    var parent = m_storage.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    var tmp = m_storage.resolveSibling(m_storage.getFileName() + ".tmp");
+    m_modified.set(false); // modifications after the snapshot are stored with the next call
+    var entries = new ArrayList<>(m_entries.entrySet());
+    try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+      out.writeInt(FORMAT_VERSION);
+      out.writeInt(entries.size());
+      for (var entry : entries) {
+        out.writeUTF(entry.getKey());
+        out.writeUTF(entry.getValue().modelFingerprint());
+        out.writeUTF(entry.getValue().dtoHash());
+      }
+    }
+    try {
+      Files.move(tmp, m_storage, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+    catch (IOException e) {
+      m_modified.set(true);
+      throw e;
+    }
+  }
+
+  /**
+   * Writes all entries of this index to the {@link #storage() storage file} if the index has been modified since the
+   * last {@link #store()}. Use this method to persist the index after each derived resource update so that the entries
+   * are not lost if the application is terminated abnormally.
+   *
+   * @return {@code true} if the index has been written.
+   * @throws IOException
+   *           if the file cannot be written.
+   */
+  public boolean storeIfModified() throws IOException {
+    if (!isModified()) {
+      return false;
+    }
+    store();
+    return true;
+  }
+
+  /**
+   * @return {@code true} if this index has been modified since it has been loaded or {@link #store() stored}.
+   */
+  public boolean isModified() {
+    return m_modified.get();
+  }
+
+  protected synchronized void read() throws IOException {
+    try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(m_storage)))) {
+      var version = in.readInt();
+      if (version != FORMAT_VERSION) {
+        SdkLog.debug("DTO fingerprint index '{}' has format version {} but {} is required. Index is discarded.", m_storage, version, FORMAT_VERSION);
+        return;
+      }
+      var numEntries = in.readInt();
+      for (var i = 0; i < numEntries; i++) {
+        m_entries.put(in.readUTF(), new Entry(in.readUTF(), in.readUTF()));
+      }
+    }
+  }
+
+  /**
+   * Removes all entries from this index. The {@link #storage() storage file} is not modified until the next
+   * {@link #store()}.
+   */
+  public void clear() {
+    m_entries.clear();
+    m_modified.set(true);
+  }
+
+  /**
+   * @return The number of DTOs in this index.
+   */
+  public int size() {
+    return m_entries.size();
+  }
+
+  /**
+   * @return The file in which this index is {@link #store() stored}.
+   */
+  public Path storage() {
+    return m_storage;
+  }
+
+  /**
+   * @return The {@link CacheStatistics} of this index. A hit is a DTO whose generation could be skipped.
+   */
+  public CacheStatistics statistics() {
+    return m_statistics;
+  }
+
+  @Override
+  public String toString() {
+    return DtoFingerprintIndex.class.getSimpleName() + " [storage=" + m_storage + ", size=" + size() + ", " + m_statistics + ']';
+  }
+
+  protected record Entry(String modelFingerprint, String dtoHash) {
+  }
+
+  private record ClasspathStamp(String stamp, long timestamp) {
+  }
+}
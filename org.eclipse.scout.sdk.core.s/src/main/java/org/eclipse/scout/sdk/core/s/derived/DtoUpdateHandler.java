@@ -11,9 +11,17 @@ package org.eclipse.scout.sdk.core.s.derived;
 
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Stream;
 
+import org.eclipse.scout.sdk.core.java.generator.compilationunit.ICompilationUnitGenerator;
+import org.eclipse.scout.sdk.core.java.model.api.IClasspathEntry;
+import org.eclipse.scout.sdk.core.java.model.api.IJavaEnvironment;
 import org.eclipse.scout.sdk.core.java.model.api.IType;
+import org.eclipse.scout.sdk.core.log.SdkLog;
 import org.eclipse.scout.sdk.core.s.dto.DtoGeneratorFactory;
 import org.eclipse.scout.sdk.core.s.environment.IEnvironment;
 import org.eclipse.scout.sdk.core.s.environment.IFuture;
@@ -30,8 +38,23 @@ import org.eclipse.scout.sdk.core.s.java.apidef.IScoutInterfaceApi;
  */
 public class DtoUpdateHandler extends AbstractDerivedResourceHandler {
 
+  private final DtoFingerprintIndex m_fingerprints;
+
   public DtoUpdateHandler(IDerivedResourceInput input) {
+    this(input, null);
+  }
+
+  /**
+   * @param input
+   *          The {@link IDerivedResourceInput}. Must not be {@code null}.
+   * @param fingerprints
+   *          The {@link DtoFingerprintIndex} to skip the generation of DTOs whose inputs are unchanged or {@code null}
+   *          if the DTO should always be generated.
+   * @since 13.0
+   */
+  public DtoUpdateHandler(IDerivedResourceInput input, DtoFingerprintIndex fingerprints) {
     super(input);
+    m_fingerprints = fingerprints;
   }
 
   @Override
@@ -42,33 +65,132 @@ public class DtoUpdateHandler extends AbstractDerivedResourceHandler {
         .orElseGet(Collections::emptySet);
   }
 
+  @Override
+  public Optional<DerivedResourceDependencies> dependencies(IEnvironment env) {
+    return getInput().getSourceType(env).map(DtoUpdateHandler::dependenciesOf);
+  }
+
+  /**
+   * The DTO of a model type extends or references the DTOs of the super classes of the model type and of its inner types
+   * (e.g. the templates used by form fields). The DTO of an extension references the DTO of the extension owner.
+   *
+   * @param modelType
+   *          The model type for which the DTO is created.
+   * @return The {@link DerivedResourceDependencies} having the fully qualified name of the model type as key and the
+   *         fully qualified names of all (primary) model types whose DTOs are used by the DTO of the model type.
+   */
+  protected static DerivedResourceDependencies dependenciesOf(IType modelType) {
+    var key = modelType.name();
+    Set<String> requiredKeys = new HashSet<>();
+    Set<String> visited = new HashSet<>();
+    Stream.concat(Stream.of(modelType), modelType.innerTypes().withRecursiveInnerTypes(true).stream())
+        .forEach(t -> collectSuperClasses(t, requiredKeys, visited));
+    requiredKeys.remove(key);
+    return new DerivedResourceDependencies(key, requiredKeys);
+  }
+
+  private static void collectSuperClasses(IType type, Set<String> requiredKeys, Set<String> visited) {
+    var superClass = type.superClass();
+    while (superClass.isPresent()) {
+      var s = superClass.orElseThrow();
+      if (!visited.add(s.reference())) {
+        return; // the rest of the hierarchy has already been collected
+      }
+      requiredKeys.add(s.primary().name());
+      s.typeArguments() // e.g. the owner of an extension
+          .filter(a -> !a.isParameterType() && !a.isPrimitive() && !a.isArray() && !a.isWildcardType())
+          .map(a -> a.primary().name())
+          .forEach(requiredKeys::add);
+      superClass = s.superClass();
+    }
+  }
+
   protected Optional<IFuture<IType>> writeDerivedTypeOf(IType modelType, IEnvironment env, IProgress progress) {
     var scoutApi = modelType.javaEnvironment().requireApi(IScoutApi.class);
     var formDataAnnotation = findDataAnnotationForFormData(modelType);
     if (formDataAnnotation.isPresent()) {
+      var formDataType = formDataAnnotation.orElseThrow().getFormDataType();
       return getInput()
-          .getSourceFolderOf(formDataAnnotation.orElseThrow().getFormDataType(), env)
-          .flatMap(derivedSourceFolder -> DtoGeneratorFactory
-              .createFormDataGenerator(modelType, derivedSourceFolder.javaEnvironment(), formDataAnnotation.orElseThrow())
-              .map(g -> env.writeCompilationUnitAsync(g, derivedSourceFolder, progress)));
+          .getSourceFolderOf(formDataType, env)
+          .flatMap(derivedSourceFolder -> writeDto(modelType, formDataType.name(), derivedSourceFolder,
+              sharedEnv -> DtoGeneratorFactory.createFormDataGenerator(modelType, sharedEnv, formDataAnnotation.orElseThrow()), env, progress));
     }
 
     var pageDataAnnotation = findDataAnnotationForPageData(modelType, scoutApi);
     if (pageDataAnnotation.isPresent()) {
+      var pageDataType = pageDataAnnotation.orElseThrow().getDataType();
       return getInput()
-          .getSourceFolderOf(pageDataAnnotation.orElseThrow().getDataType(), env)
-          .flatMap(derivedSourceFolder -> DtoGeneratorFactory
-              .createPageDataGenerator(modelType, derivedSourceFolder.javaEnvironment(), pageDataAnnotation.orElseThrow())
-              .map(g -> env.writeCompilationUnitAsync(g, derivedSourceFolder, progress)));
+          .getSourceFolderOf(pageDataType, env)
+          .flatMap(derivedSourceFolder -> writeDto(modelType, pageDataType.name(), derivedSourceFolder,
+              sharedEnv -> DtoGeneratorFactory.createPageDataGenerator(modelType, sharedEnv, pageDataAnnotation.orElseThrow()), env, progress));
     }
 
     var dataAnnotation = findDataAnnotationForRowData(modelType, scoutApi);
     return dataAnnotation.flatMap(dataAnnotationDescriptor -> getInput()
         .getSourceFolderOf(dataAnnotationDescriptor.getDataType(), env)
-        .flatMap(derivedSourceFolder -> DtoGeneratorFactory
-            .createTableRowDataGenerator(modelType, derivedSourceFolder.javaEnvironment(), dataAnnotationDescriptor)
-            .map(g -> env.writeCompilationUnitAsync(g, derivedSourceFolder, progress))));
+        .flatMap(derivedSourceFolder -> writeDto(modelType, dataAnnotationDescriptor.getDataType().name(), derivedSourceFolder,
+            sharedEnv -> DtoGeneratorFactory.createTableRowDataGenerator(modelType, sharedEnv, dataAnnotationDescriptor), env, progress)));
+  }
+
+  /**
+   * Writes the DTO created by the generator given. If a {@link DtoFingerprintIndex} is available and the DTO is still
+   * up-to-date, nothing is generated and written.
+   *
+   * @param modelType
+   *          The model type for which the DTO is created.
+   * @param dtoName
+   *          The fully qualified name of the DTO.
+   * @param derivedSourceFolder
+   *          The source folder of the DTO.
+   * @param generatorFactory
+   *          Creates the generator of the DTO using the {@link IJavaEnvironment} of the source folder.
+   * @param env
+   *          The {@link IEnvironment}.
+   * @param progress
+   *          The {@link IProgress}.
+   * @return The file write or an empty {@link Optional} if no DTO has been written.
+   */
+  protected Optional<IFuture<IType>> writeDto(IType modelType, String dtoName, IClasspathEntry derivedSourceFolder,
+      Function<IJavaEnvironment, Optional<ICompilationUnitGenerator<?>>> generatorFactory, IEnvironment env, IProgress progress) {
+    var fingerprints = fingerprints().orElse(null);
+    if (fingerprints == null) {
+      return generatorFactory.apply(derivedSourceFolder.javaEnvironment())
+          .map(g -> env.writeCompilationUnitAsync(g, derivedSourceFolder, progress));
+    }
+
+    var modelFingerprint = DtoFingerprintIndex.modelFingerprint(modelType);
+    var currentDtoSource = derivedSourceFolder.javaEnvironment()
+        .findType(dtoName)
+        .flatMap(DtoFingerprintIndex::sourceOf)
+        .orElse(null);
+    if (fingerprints.isUpToDate(dtoName, modelFingerprint, currentDtoSource)) {
+      SdkLog.debug("DTO '{}' is up-to-date. Skipping generation.", dtoName);
+      return Optional.empty();
+    }
+
+    var result = generatorFactory.apply(derivedSourceFolder.javaEnvironment())
+        .map(g -> env.writeCompilationUnitAsync(g, derivedSourceFolder, progress));
+    result.ifPresent(write -> write.thenAccept(written -> registerWrittenDto(fingerprints, dtoName, modelFingerprint, written.get())));
+    return result;
+  }
+
+  protected static void registerWrittenDto(DtoFingerprintIndex fingerprints, String dtoName, String modelFingerprint, IType writtenDto) {
+    try {
+      Optional.ofNullable(writtenDto)
+          .flatMap(DtoFingerprintIndex::sourceOf)
+          .ifPresent(source -> fingerprints.update(dtoName, modelFingerprint, source));
+    }
+    catch (RuntimeException e) {
+      SdkLog.debug("Unable to register fingerprint of DTO '{}'.", dtoName, e);
+      fingerprints.remove(dtoName);
+    }
+  }
 
+  /**
+   * @return The {@link DtoFingerprintIndex} used to skip the generation of unchanged DTOs.
+   */
+  public Optional<DtoFingerprintIndex> fingerprints() {
+    return Optional.ofNullable(m_fingerprints);
   }
 
   protected static Optional<FormDataAnnotationDescriptor> findDataAnnotationForFormData(IType model) {
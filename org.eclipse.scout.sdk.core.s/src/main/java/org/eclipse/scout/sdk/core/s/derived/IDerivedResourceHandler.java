@@ -10,6 +10,7 @@
 package org.eclipse.scout.sdk.core.s.derived;
 
 import java.util.Collection;
+import java.util.Optional;
 
 import org.eclipse.scout.sdk.core.s.environment.IEnvironment;
 import org.eclipse.scout.sdk.core.s.environment.IFuture;
@@ -32,4 +33,20 @@ public interface IDerivedResourceHandler {
    */
   Collection<? extends IFuture<?>> apply(IEnvironment env, IProgress progress);
 
+  /**
+   * Computes the dependencies of this handler to other handlers. The {@link DerivedResourceHandlerScheduler} executes
+   * this handler only after all handlers of the same run whose {@link DerivedResourceDependencies#key() key} is
+   * {@link DerivedResourceDependencies#requiredKeys() required} by this handler have completed.
+   * <p>
+   * This method may be called concurrently for several handlers.
+   *
+   * @param env
+   *          The {@link IEnvironment} on which the handler will be executed. Must not be {@code null}.
+   * @return The {@link DerivedResourceDependencies} of this handler or an empty {@link Optional} if the handler is
+   *         independent of all other handlers. The default implementation returns an empty {@link Optional}.
+   * @since 13.0
+   */
+  default Optional<DerivedResourceDependencies> dependencies(IEnvironment env) {
+    return Optional.empty();
+  }
 }
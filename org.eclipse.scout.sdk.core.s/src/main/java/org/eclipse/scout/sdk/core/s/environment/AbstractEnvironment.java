@@ -144,7 +144,7 @@ public abstract class AbstractEnvironment implements IEnvironment {
         .map(JavaEnvironmentSpi::wrap)
         .filter(je -> je.classpathContains(cuPath))
         .filter(je -> je.registerCompilationUnitOverride(code, cuInfo))
-        .forEach(IJavaEnvironment::reload);
+        .forEach(IJavaEnvironment::reloadOverrides); // only the overrides changed: no need to re-read the classpath
   }
 
   protected <T extends JavaEnvironmentSpi> T initNewJavaEnvironment(T javaEnvironment) {
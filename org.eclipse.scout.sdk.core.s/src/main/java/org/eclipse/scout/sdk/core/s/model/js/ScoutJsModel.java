@@ -14,8 +14,14 @@ import static java.util.function.Predicate.not;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.regex.MatchResult;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -32,11 +38,13 @@ import org.eclipse.scout.sdk.core.s.model.js.objects.ScoutJsObjectQuery;
 import org.eclipse.scout.sdk.core.s.model.js.objects.TypeScriptScoutObject;
 import org.eclipse.scout.sdk.core.typescript.model.api.IDataType;
 import org.eclipse.scout.sdk.core.typescript.model.api.IES6Class;
+import org.eclipse.scout.sdk.core.typescript.model.api.IField;
 import org.eclipse.scout.sdk.core.typescript.model.api.INodeElement;
 import org.eclipse.scout.sdk.core.typescript.model.api.INodeModule;
 import org.eclipse.scout.sdk.core.typescript.model.api.IVariable;
 import org.eclipse.scout.sdk.core.typescript.model.api.Modifier;
 import org.eclipse.scout.sdk.core.typescript.model.spi.NodeModuleSpi;
+import org.eclipse.scout.sdk.core.util.Ensure;
 import org.eclipse.scout.sdk.core.util.FinalValue;
 import org.eclipse.scout.sdk.core.util.Strings;
 
@@ -44,6 +52,11 @@ import org.eclipse.scout.sdk.core.util.Strings;
  * Represents the Scout JS model of a single {@link INodeModule}.<br>
  * It basically consists of {@link IScoutJsObject Scout objects} and {@link IScoutJsEnum Scout enums}.<br>
  * Use {@link ScoutJsModels} to retrieve instances of Scout JS models.
+ * <p>
+ * The {@link IScoutJsObject Scout objects} and {@link IScoutJsEnum Scout enums} are created on demand: if only elements
+ * with a specific name are requested (see {@link #scoutObjects(String)} and {@link #scoutEnums(String)}), only the
+ * candidates having this name are parsed. Use {@link #warmUp(Executor)} to parse the whole model and its dependencies
+ * in advance.
  */
 public class ScoutJsModel {
 
@@ -56,6 +69,8 @@ public class ScoutJsModel {
   private final FinalValue<List<IScoutJsObject>> m_objects;
   private final FinalValue<List<IScoutJsEnum>> m_enums;
   private final FinalValue<Boolean> m_useClassReference;
+  private final Map<IES6Class, Optional<IScoutJsObject>> m_objectsByClass;
+  private final Map<INodeElement, List<IScoutJsEnum>> m_enumsByElement;
 
   protected ScoutJsModel(INodeModule module, IES6Class widgetClass) {
     m_nodeModule = module;
@@ -64,6 +79,8 @@ public class ScoutJsModel {
     m_objects = new FinalValue<>();
     m_enums = new FinalValue<>();
     m_useClassReference = new FinalValue<>();
+    m_objectsByClass = new ConcurrentHashMap<>();
+    m_enumsByElement = new ConcurrentHashMap<>();
   }
 
   /**
@@ -83,24 +100,61 @@ public class ScoutJsModel {
     return m_objects.computeIfAbsentAndGet(this::parseScoutObjects);
   }
 
+  /**
+   * Gets the {@link IScoutJsObject}s directly declared in this {@link ScoutJsModel} having the given name. In contrast
+   * to {@link #scoutObjects()} only the classes having the given name are parsed.
+   *
+   * @param name
+   *          The name of the objects (see {@link IScoutJsObject#name()}). Must not be {@code null}.
+   * @return All {@link IScoutJsObject}s of this model having the given name.
+   * @since 13.0
+   */
+  public List<IScoutJsObject> scoutObjects(String name) {
+    Ensure.notNull(name);
+    if (m_objects.isSet()) {
+      return scoutObjects().stream()
+          .filter(o -> name.equals(o.name()))
+          .toList();
+    }
+    return nodeModule()
+        .classes()
+        .filter(c -> name.equals(c.name()))
+        .flatMap(c -> scoutObjectOf(c).stream())
+        .toList();
+  }
+
   protected List<IScoutJsObject> parseScoutObjects() {
-    var widgetClass = widgetClass();
     return Stream.concat(
-        // TypeScript: parse model
-        nodeModule()
-            .classes()
-            .filter(INodeElement::isTypeScript)
-            .filter(c -> !c.isTypeAlias() && !c.isEnum())
-            .map(element -> TypeScriptScoutObject.create(this, element).orElseThrow()),
-        // JavaScript: parse class
-        nodeModule()
-            .classes()
-            .filter(not(INodeElement::isTypeScript))
-            .filter(c -> !c.name().endsWith("Adapter") && !c.name().endsWith(ScoutJsCoreConstants.CLASS_NAME_SUFFIX_MODEL))
-            .flatMap(element -> JavaScriptScoutObject.create(this, element, widgetClass).stream()))
+        nodeModule().classes().filter(INodeElement::isTypeScript),
+        nodeModule().classes().filter(not(INodeElement::isTypeScript)))
+        .flatMap(c -> scoutObjectOf(c).stream())
         .toList();
   }
 
+  /**
+   * @return The cached {@link IScoutJsObject} for the given class.
+   */
+  protected Optional<IScoutJsObject> scoutObjectOf(IES6Class clazz) {
+    return computeIfAbsent(m_objectsByClass, clazz, this::createScoutObject);
+  }
+
+  protected Optional<IScoutJsObject> createScoutObject(IES6Class clazz) {
+    if (clazz.isTypeScript()) {
+      // TypeScript: parse model
+      if (clazz.isTypeAlias() || clazz.isEnum()) {
+        return Optional.empty();
+      }
+      return TypeScriptScoutObject.create(this, clazz);
+    }
+
+    // JavaScript: parse class
+    var name = clazz.name();
+    if (name.endsWith("Adapter") || name.endsWith(ScoutJsCoreConstants.CLASS_NAME_SUFFIX_MODEL)) {
+      return Optional.empty();
+    }
+    return JavaScriptScoutObject.create(this, clazz, widgetClass());
+  }
+
   /**
    * Gets a {@link ScoutJsEnumQuery} to retrieve {@link IScoutJsEnum}s of this {@link ScoutJsModel}.<br>
    * By default, this query returns all {@link IScoutJsEnum}s directly declared in this {@link ScoutJsModel}.
@@ -118,31 +172,138 @@ public class ScoutJsModel {
     return m_enums.computeIfAbsentAndGet(this::parseScoutEnums);
   }
 
+  /**
+   * Gets the {@link IScoutJsEnum}s directly declared in this {@link ScoutJsModel} having the given name. In contrast to
+   * {@link #scoutEnums()} only the classes, static fields and variables having the given name are parsed.
+   *
+   * @param name
+   *          The name of the enums (see {@link IScoutJsEnum#name()}). Must not be {@code null}.
+   * @return All {@link IScoutJsEnum}s of this model having the given name.
+   * @since 13.0
+   */
+  public List<IScoutJsEnum> scoutEnums(String name) {
+    Ensure.notNull(name);
+    if (m_enums.isSet()) {
+      return scoutEnums().stream()
+          .filter(e -> name.equals(e.name()))
+          .toList();
+    }
+    return Stream.concat(
+        Stream.concat(
+            // TypeScript: enums and enum-like type aliases having the name
+            nodeModule().classes()
+                .filter(INodeElement::isTypeScript)
+                .filter(c -> name.equals(c.name())),
+            // JavaScript: static fields having the name
+            nodeModule().classes()
+                .filter(not(INodeElement::isTypeScript))
+                .flatMap(c -> c.fields()
+                    .withName(name)
+                    .withModifier(Modifier.STATIC)
+                    .stream())),
+        // JavaScript: variables having the name
+        javaScriptVariables()
+            .filter(v -> name.equals(v.name())))
+        .flatMap(element -> scoutEnumsOf(element).stream())
+        .filter(e -> name.equals(e.name()))
+        .toList();
+  }
+
   protected List<IScoutJsEnum> parseScoutEnums() {
     return Stream.concat(
-        // TypeScript: parse enums and enum-like type aliases (EnumObject<T>)
-        nodeModule().classes()
-            .filter(INodeElement::isTypeScript)
-            .flatMap(element -> Stream.concat(
-                ES6ClassEnumScoutEnum.create(this, element).stream(),
-                ES6ClassTypeAliasScoutEnum.create(this, element).stream())),
-        // JavaScript: parse static fields and variables
         Stream.concat(
+            // TypeScript: parse enums and enum-like type aliases (EnumObject<T>)
+            nodeModule().classes()
+                .filter(INodeElement::isTypeScript),
+            // JavaScript: parse static fields
             nodeModule().classes()
                 .filter(not(INodeElement::isTypeScript))
                 .flatMap(element -> element.fields()
                     .withModifier(Modifier.STATIC)
-                    .stream()
-                    .filter(field -> field.dataType().flatMap(IDataType::objectLiteral).isPresent())
-                    .flatMap(field -> VariableScoutEnum.create(this, field).stream())),
-            nodeModule().elements().stream()
-                .filter(not(INodeElement::isTypeScript))
-                .filter(IVariable.class::isInstance)
-                .map(IVariable.class::cast)
-                .flatMap(variable -> VariableScoutEnum.create(this, variable).stream())))
+                    .stream())),
+        // JavaScript: parse variables
+        javaScriptVariables())
+        .flatMap(element -> scoutEnumsOf(element).stream())
         .toList();
   }
 
+  protected Stream<IVariable> javaScriptVariables() {
+    return nodeModule().elements().stream()
+        .filter(not(INodeElement::isTypeScript))
+        .filter(IVariable.class::isInstance)
+        .map(IVariable.class::cast);
+  }
+
+  /**
+   * @return The cached {@link IScoutJsEnum}s for the given TypeScript class, JavaScript static field or JavaScript
+   *         variable.
+   */
+  protected List<IScoutJsEnum> scoutEnumsOf(INodeElement element) {
+    return computeIfAbsent(m_enumsByElement, element, this::createScoutEnums);
+  }
+
+  protected List<IScoutJsEnum> createScoutEnums(INodeElement element) {
+    if (element instanceof IES6Class clazz) {
+      return Stream.concat(
+          ES6ClassEnumScoutEnum.create(this, clazz).stream(),
+          ES6ClassTypeAliasScoutEnum.create(this, clazz).stream())
+          .toList();
+    }
+    if (element instanceof IField field) {
+      if (field.dataType().flatMap(IDataType::objectLiteral).isEmpty()) {
+        return List.of();
+      }
+      return VariableScoutEnum.create(this, field).stream().toList();
+    }
+    if (element instanceof IVariable variable) {
+      return VariableScoutEnum.create(this, variable).stream().toList();
+    }
+    return List.of();
+  }
+
+  /**
+   * Like {@link Map#computeIfAbsent(Object, Function)} but the value is computed without holding a lock of the map so
+   * that the mapping function may access the map as well. If the value is computed concurrently, the first one stored
+   * wins.
+   */
+  private static <K, V> V computeIfAbsent(Map<K, V> cache, K key, Function<K, V> mappingFunction) {
+    var value = cache.get(key);
+    if (value != null) {
+      return value;
+    }
+    var created = mappingFunction.apply(key);
+    var existing = cache.putIfAbsent(key, created);
+    if (existing != null) {
+      return existing;
+    }
+    return created;
+  }
+
+  /**
+   * Parses all {@link #scoutObjects() Scout objects} and {@link #scoutEnums() Scout enums} of this model and of all
+   * {@link #scoutJsDependenciesRecursively() Scout JS dependencies}. The models are independent of each other and are
+   * therefore parsed concurrently using the {@link Executor} given.
+   *
+   * @param executor
+   *          The {@link Executor} to use. Must not be {@code null}. Use e.g. {@code Runnable::run} to parse all models
+   *          in the calling thread.
+   * @return A {@link CompletableFuture} that completes as soon as all models have been parsed.
+   * @since 13.0
+   */
+  public CompletableFuture<Void> warmUp(Executor executor) {
+    Ensure.notNull(executor);
+    var widgetClass = widgetClass();
+    var futures = Stream.concat(Stream.of(this), scoutJsDependenciesRecursively()
+        .map(module -> ScoutJsModels.create(module, widgetClass).orElse(null))
+        .filter(Objects::nonNull))
+        .map(model -> CompletableFuture.runAsync(() -> {
+          model.scoutObjects();
+          model.scoutEnums();
+        }, executor))
+        .toArray(CompletableFuture[]::new);
+    return CompletableFuture.allOf(futures);
+  }
+
   /**
    * @return A {@link Stream} that returns all {@link INodeModule}s which have a dependency to @eclipse-scout/core
    *         (directly or transitive) and are part of the transitive dependencies of this model. This model itself is
@@ -10,22 +10,33 @@
 package org.eclipse.scout.sdk.core.s.model.js;
 
 import java.nio.file.Path;
-import java.util.Map;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 
 import org.eclipse.scout.sdk.core.typescript.model.api.IES6Class;
 import org.eclipse.scout.sdk.core.typescript.model.api.INodeModule;
 import org.eclipse.scout.sdk.core.typescript.model.api.NodeModulesProvider;
 import org.eclipse.scout.sdk.core.typescript.model.spi.NodeModuleSpi;
+import org.eclipse.scout.sdk.core.util.TtlCache;
 
 /**
  * Main access to {@link ScoutJsModel} instances.
+ * <p>
+ * The models are cached until the underlying {@link INodeModule} is removed (see
+ * {@link NodeModulesProvider#removeNodeModule(Path)}) or until they are {@link #invalidate(INodeModule) invalidated}
+ * explicitly. The number of cached models is limited to {@link #MAX_CACHED_MODELS}. If more models are created, the
+ * least recently used ones are discarded.
  */
 public final class ScoutJsModels {
 
-  @SuppressWarnings("StaticCollection")
-  private static final Map<INodeModule, Optional<ScoutJsModel>> scoutJsModels = new ConcurrentHashMap<>();
+  /**
+   * The maximum number of {@link ScoutJsModel} instances cached.
+   *
+   * @since 13.0
+   */
+  public static final int MAX_CACHED_MODELS = 512;
+
+  private static final TtlCache<INodeModule, Optional<ScoutJsModel>> scoutJsModels = new TtlCache<>(0, TimeUnit.MILLISECONDS, null, MAX_CACHED_MODELS);
 
   static {
     // discard cached scout models as soon as underlying node-module is removed
@@ -38,10 +49,42 @@ public final class ScoutJsModels {
   static void onNodeModulesRemoved(Iterable<NodeModuleSpi> removed) {
     if (removed == null) {
       // clear
-      scoutJsModels.clear();
+      clear();
+      return;
+    }
+    removed.forEach(removedModule -> invalidate(removedModule.api()));
+  }
+
+  /**
+   * Removes the cached {@link ScoutJsModel} of the given {@link INodeModule}. The next call to
+   * {@link #create(INodeModule)} creates a new model.
+   *
+   * @param module
+   *          The {@link INodeModule} whose model should be discarded. May be {@code null}.
+   * @since 13.0
+   */
+  public static void invalidate(INodeModule module) {
+    if (module == null) {
       return;
     }
-    removed.forEach(removedModule -> scoutJsModels.keySet().removeIf(m -> m.spi() == removedModule));
+    scoutJsModels.remove(module);
+  }
+
+  /**
+   * Removes all cached {@link ScoutJsModel} instances.
+   *
+   * @since 13.0
+   */
+  public static void clear() {
+    scoutJsModels.clear();
+  }
+
+  /**
+   * @return The number of cached {@link ScoutJsModel} instances.
+   * @since 13.0
+   */
+  public static int size() {
+    return scoutJsModels.size();
   }
 
   /**
@@ -9,6 +9,8 @@
  */
 package org.eclipse.scout.sdk.core.s.model.js.enums;
 
+import java.util.Collection;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.eclipse.scout.sdk.core.s.model.js.AbstractScoutJsElementQuery;
@@ -48,7 +50,9 @@ public class ScoutJsEnumQuery extends AbstractScoutJsElementQuery<IScoutJsEnum,
 
   @Override
   protected ScoutJsElementSpliterator<IScoutJsEnum> createSpliterator() {
-    return new ScoutJsElementSpliterator<>(model(), isIncludeSelf(), isIncludeDependencies(), ScoutJsModel::scoutEnums);
+    var name = name();
+    Function<ScoutJsModel, Collection<IScoutJsEnum>> enumsProvider = name == null ? ScoutJsModel::scoutEnums : m -> m.scoutEnums(name);
+    return new ScoutJsElementSpliterator<>(model(), isIncludeSelf(), isIncludeDependencies(), enumsProvider);
   }
 
   @Override
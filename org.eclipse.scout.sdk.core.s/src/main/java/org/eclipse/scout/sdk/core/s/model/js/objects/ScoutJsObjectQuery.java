@@ -9,6 +9,8 @@
  */
 package org.eclipse.scout.sdk.core.s.model.js.objects;
 
+import java.util.Collection;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.eclipse.scout.sdk.core.s.model.js.AbstractScoutJsElementQuery;
@@ -56,7 +58,25 @@ public class ScoutJsObjectQuery extends AbstractScoutJsElementQuery<IScoutJsObje
 
   @Override
   protected ScoutJsElementSpliterator<IScoutJsObject> createSpliterator() {
-    return new ScoutJsElementSpliterator<>(model(), isIncludeSelf(), isIncludeDependencies(), ScoutJsModel::scoutObjects);
+    var name = nameToResolve();
+    Function<ScoutJsModel, Collection<IScoutJsObject>> objectsProvider = name == null ? ScoutJsModel::scoutObjects : m -> m.scoutObjects(name);
+    return new ScoutJsElementSpliterator<>(model(), isIncludeSelf(), isIncludeDependencies(), objectsProvider);
+  }
+
+  /**
+   * @return The name of the objects to resolve (based on the name or the object type filter) or {@code null} if all
+   *         objects are required.
+   */
+  protected String nameToResolve() {
+    var name = name();
+    if (name != null) {
+      return name;
+    }
+    var objectType = objectType();
+    if (objectType == null) {
+      return null;
+    }
+    return objectType.substring(objectType.lastIndexOf('.') + 1);
   }
 
   @Override
@@ -48,6 +48,7 @@ public class ScoutJsPropertyType {
 
   @SuppressWarnings("StaticCollection")
   private static final Set<String> DATA_TYPE_NAMES_SUPPORTING_CHILD_MODELS = dataTypeNamesSupportingModels();
+  private static final Function<IDataType, Stream<IDataType>> UNWRAPPED_CHILDREN = ScoutJsCoreDataTypesUnwrapVisitor::unwrappedChildren; // same instance for all checks to share the assignability cache
 
   private final IDataType m_dataType; // dataType may be null in case the property is based on a Field and the field has no datatype (cannot be detected. e.g. in JavaScript: this.myField = null)
   private final ScoutJsProperty m_declaringProperty;
@@ -232,7 +233,7 @@ public class ScoutJsPropertyType {
     return dataType()
         .map(dt -> dt.flavor() == DataTypeFlavor.Array ? dt.childTypes().findAny().orElse(null) : dt)
         .flatMap(ScoutJsCoreDataTypesUnwrapVisitor::unwrap)
-        .filter(myType -> new DataTypeAssignableEvaluator(child, ScoutJsCoreDataTypesUnwrapVisitor::unwrappedChildren).fulfills(myType))
+        .filter(myType -> new DataTypeAssignableEvaluator(child, UNWRAPPED_CHILDREN).fulfills(myType))
         .isPresent();
   }
 
@@ -28,6 +28,12 @@ import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Stream;
 
 import org.eclipse.scout.sdk.core.java.JavaTypes;
@@ -71,6 +77,21 @@ public final class Translations {
         .forEach(mapping -> registerUiTextContributor(mapping.getKey(), mapping.getValue().fqn()));
   }
 
+  private static final int MAX_LOAD_THREADS = 4;
+  private static final ExecutorService LOAD_EXECUTOR = createLoadExecutor();
+
+  private static ExecutorService createLoadExecutor() {
+    var numThreads = Math.max(1, Math.min(MAX_LOAD_THREADS, Runtime.getRuntime().availableProcessors()));
+    var threadNumber = new AtomicInteger();
+    var executor = new ThreadPoolExecutor(numThreads, numThreads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+      var thread = new Thread(r, "scout-sdk-translation-loader-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.allowCoreThreadTimeOut(true); // no idle threads if no translations are loaded
+    return executor;
+  }
+
   private static Map<String /* node module name */, ITypeNameSupplier /* text contributor */> getPredefinedTextContributorMappings(IScoutApi api) {
     Map<String, ITypeNameSupplier> mappings = new HashMap<>(2);
     mappings.put(ScoutJsCoreConstants.SCOUT_JS_CORE_MODULE_NAME, api.UiTextContributor());
@@ -137,6 +158,16 @@ public final class Translations {
     return SUPPLIERS.remove(supplier);
   }
 
+  /**
+   * Gets the bounded {@link Executor} to load translation files concurrently (e.g. the language files of a
+   * {@link ITranslationStore}). Tasks executed by this {@link Executor} must not wait for other tasks of it.
+   *
+   * @return The {@link Executor} to use to load translation files.
+   */
+  public static Executor loadExecutor() {
+    return LOAD_EXECUTOR;
+  }
+
   /**
    * @return A copy of all currently registered {@link ITranslationStoreSupplier}s.
    */
@@ -258,7 +289,10 @@ public final class Translations {
    *         {@link DependencyScope scopes}.
    */
   public static Stream<ITranslationStore> storesForModule(Path modulePath, IEnvironment env, IProgress progress, DependencyScope... scopes) {
-    return combineSameStores(computeStoresForModule(modulePath, env, progress, scopes));
+    var start = System.nanoTime();
+    var stores = combineSameStores(computeStoresForModule(modulePath, env, progress, scopes));
+    logStoresLoaded(modulePath, stores, start);
+    return stores.stream();
   }
 
   /**
@@ -278,7 +312,14 @@ public final class Translations {
    *         {@link DependencyScope}.
    */
   public static Stream<ITranslationStore> storesForModule(Path modulePath, IEnvironment env, IProgress progress, DependencyScope scope) {
-    return combineSameStores(computeStoresForModule(modulePath, env, progress, scope));
+    var start = System.nanoTime();
+    var stores = combineSameStores(computeStoresForModule(modulePath, env, progress, scope));
+    logStoresLoaded(modulePath, stores, start);
+    return stores.stream();
+  }
+
+  static void logStoresLoaded(Path modulePath, Collection<ITranslationStore> stores, long startNanos) {
+    SdkLog.debug("Found {} translation stores for module '{}' in {}ms.", stores.size(), modulePath, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
   }
 
   static Stream<ITranslationStore> computeStoresForModule(Path modulePath, IEnvironment env, IProgress progress, DependencyScope... scopes) {
@@ -345,10 +386,9 @@ public final class Translations {
         .filter(Translations::isContentAvailable);
   }
 
-  static Stream<ITranslationStore> combineSameStores(Stream<ITranslationStore> stores) {
+  static Collection<ITranslationStore> combineSameStores(Stream<ITranslationStore> stores) {
     return stores.collect(toMap(s -> s.service().type().name(), identity(), Translations::mergeStores))
-        .values()
-        .stream();
+        .values();
   }
 
   /**
@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.nls.manager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import org.eclipse.scout.sdk.core.util.Ensure;
+
+/**
+ * <h3>{@link TranslationKeyIndex}</h3>
+ * <p>
+ * Sorted index of translation keys supporting case-insensitive lookups and prefix searches in logarithmic time. Keys
+ * are compared with the same case-insensitivity as {@link String#equalsIgnoreCase(String)}.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @since 13.0
+ */
+public class TranslationKeyIndex {
+
+  private final NavigableMap<String /* folded key */, Set<String> /* original keys */> m_keysByFoldedKey;
+
+  public TranslationKeyIndex() {
+    m_keysByFoldedKey = new TreeMap<>();
+  }
+
+  /**
+   * @param keys
+   *          The initial keys of the index. Must not be {@code null}.
+   */
+  public TranslationKeyIndex(Collection<String> keys) {
+    this();
+    keys.forEach(this::add);
+  }
+
+  /**
+   * Adds a key to the index.
+   *
+   * @param key
+   *          The key to add. Must not be {@code null}.
+   */
+  public void add(String key) {
+    m_keysByFoldedKey.computeIfAbsent(fold(Ensure.notNull(key)), k -> new TreeSet<>()).add(key);
+  }
+
+  /**
+   * Removes a key from the index. The key is compared case-sensitive.
+   *
+   * @param key
+   *          The key to remove.
+   */
+  public void remove(String key) {
+    if (key == null) {
+      return;
+    }
+    var folded = fold(key);
+    var keys = m_keysByFoldedKey.get(folded);
+    if (keys != null && keys.remove(key) && keys.isEmpty()) {
+      m_keysByFoldedKey.remove(folded);
+    }
+  }
+
+  /**
+   * Removes all keys from the index.
+   */
+  public void clear() {
+    m_keysByFoldedKey.clear();
+  }
+
+  /**
+   * @param key
+   *          The key to search.
+   * @return {@code true} if the index contains a key which is equal to the key given ignoring the case.
+   */
+  public boolean containsIgnoreCase(String key) {
+    return key != null && m_keysByFoldedKey.containsKey(fold(key));
+  }
+
+  /**
+   * @param prefix
+   *          The prefix. Is evaluated case-insensitive. Must not be {@code null}.
+   * @return All keys starting with the prefix given in ascending case-insensitive order.
+   */
+  public Stream<String> keysWithPrefix(String prefix) {
+    var foldedPrefix = fold(Ensure.notNull(prefix));
+    // iterate instead of streaming the entry set: the size of a sub map is computed by iterating over all its entries
+    List<String> result = new ArrayList<>();
+    for (var entry : m_keysByFoldedKey.tailMap(foldedPrefix, true).entrySet()) {
+      if (!entry.getKey().startsWith(foldedPrefix)) {
+        break;
+      }
+      result.addAll(entry.getValue());
+    }
+    return result.stream();
+  }
+
+  /**
+   * @return The number of keys in the index.
+   */
+  public int size() {
+    return m_keysByFoldedKey.values().stream()
+        .mapToInt(Set::size)
+        .sum();
+  }
+
+  /**
+   * Converts the key given to a representation which is equal for all keys that are
+   * {@link String#equalsIgnoreCase(String) equal ignoring the case}.
+   *
+   * @param key
+   *          The key to fold. Must not be {@code null}.
+   * @return The folded key.
+   */
+  protected static String fold(CharSequence key) {
+    var length = key.length();
+    var i = 0;
+    while (i < length && key.charAt(i) == foldChar(key.charAt(i))) {
+      i++;
+    }
+    if (i == length) {
+      return key.toString(); // already folded
+    }
+
+    var folded = new StringBuilder(length);
+    folded.append(key, 0, i);
+    for (; i < length; i++) {
+      folded.append(foldChar(key.charAt(i)));
+    }
+    return folded.toString();
+  }
+
+  private static char foldChar(char c) {
+    if (c < 128) {
+      return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+    }
+    // same as String#regionMatches(boolean, int, String, int, int)
+    return Character.toLowerCase(Character.toUpperCase(c));
+  }
+}
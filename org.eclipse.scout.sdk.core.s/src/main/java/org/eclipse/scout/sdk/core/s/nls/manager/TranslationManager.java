@@ -12,6 +12,7 @@ package org.eclipse.scout.sdk.core.s.nls.manager;
 import static java.util.Collections.singleton;
 import static java.util.function.Predicate.isEqual;
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.groupingByConcurrent;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
@@ -35,6 +36,7 @@ import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.regex.Pattern;
@@ -66,8 +68,11 @@ import org.eclipse.scout.sdk.core.util.Strings;
 
 public class TranslationManager {
 
+  private static final int MIN_ENTRIES_FOR_PARALLEL_MERGE = 10000;
+
   private final List<ITranslationStore> m_stores;
   private final Map<String, StackedTranslation> m_translations;
+  private final TranslationKeyIndex m_keyIndex; // sorted case-insensitive index of the keys in m_translations
 
   private final Path m_modulePath; // may be null. Used to reload this manager
   private final DependencyScope[] m_dependencyScopes;
@@ -85,6 +90,7 @@ public class TranslationManager {
     m_stores = new ArrayList<>();
     m_stores.addAll(sortStores(stores));
     m_translations = buildStackedTranslations(m_stores.stream());
+    m_keyIndex = new TranslationKeyIndex(m_translations.keySet());
     m_listeners = new EventListenerList();
     m_eventBuffer = new ArrayList<>();
     m_modulePath = modulePath;
@@ -115,9 +121,16 @@ public class TranslationManager {
   }
 
   protected static Map<String, StackedTranslation> buildStackedTranslations(Stream<ITranslationStore> stores) {
-    return stores
-        .flatMap(ITranslationStore::entries)
-        .collect(groupingBy(ITranslation::key, Collector.of(ArrayList::new, List::add, TranslationManager::combine, StackedTranslation::new, Characteristics.UNORDERED)));
+    var start = System.nanoTime();
+    var storeList = stores.toList();
+    var entries = storeList.stream().flatMap(ITranslationStore::entries);
+    if (storeList.stream().mapToLong(ITranslationStore::size).sum() >= MIN_ENTRIES_FOR_PARALLEL_MERGE) {
+      entries = entries.parallel();
+    }
+    Map<String, StackedTranslation> result = entries
+        .collect(groupingByConcurrent(ITranslation::key, Collector.of(ArrayList::new, List::add, TranslationManager::combine, StackedTranslation::new, Characteristics.UNORDERED)));
+    SdkLog.debug("Merged {} translations of {} stores in {}ms.", result.size(), storeList.size(), TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+    return result;
   }
 
   private static List<ITranslationEntry> combine(List<ITranslationEntry> left, Collection<ITranslationEntry> right) {
@@ -141,11 +154,12 @@ public class TranslationManager {
    *
    * @param prefix
    *          The prefix. Is evaluated case-insensitive. Must not be {@code null}.
-   * @return A {@link Stream} with all entries with keys starting with specified prefix.
+   * @return A {@link Stream} with all entries with keys starting with specified prefix ordered by key
+   *         (case-insensitive).
    */
   public Stream<? extends IStackedTranslation> allTranslationsWithPrefix(String prefix) {
-    return allTranslations()
-        .filter(t -> t.key().regionMatches(true, 0, prefix, 0, prefix.length()));
+    return m_keyIndex.keysWithPrefix(prefix)
+        .map(m_translations::get);
   }
 
   /**
@@ -217,8 +231,7 @@ public class TranslationManager {
   }
 
   private boolean containsKeyIgnoreCase(String key) {
-    return m_translations.keySet().stream()
-        .anyMatch(existing -> existing.equalsIgnoreCase(key));
+    return m_keyIndex.containsIgnoreCase(key);
   }
 
   /**
@@ -358,7 +371,7 @@ public class TranslationManager {
         .map(TranslationManager::toEditableStore)
         .map(store -> store.changeKey(oldKey, newKey))
         .collect(toList());
-    m_translations.remove(oldKey);
+    removeFromTranslations(oldKey);
 
     var existingTranslationWithNewKey = m_translations.get(newKey);
     if (existingTranslationWithNewKey != null) {
@@ -370,7 +383,7 @@ public class TranslationManager {
     }
 
     var newEntry = new StackedTranslation(newEntries);
-    m_translations.put(newKey, newEntry);
+    putToTranslations(newEntry);
     return createChangeKeyEvent(this, newEntry, oldKey);
   }
 
@@ -409,7 +422,7 @@ public class TranslationManager {
     toRemove.stores()
         .map(TranslationManager::toEditableStore)
         .forEach(store -> store.removeTranslation(key));
-    m_translations.remove(key);
+    removeFromTranslations(key);
     return createRemoveTranslationEvent(this, toRemove);
   }
 
@@ -521,7 +534,7 @@ public class TranslationManager {
 
       if (existingEntry == null) {
         var created = new StackedTranslation(List.of(createdTranslation));
-        m_translations.put(created.key(), created);
+        putToTranslations(created);
         result.set(created);
         return createAddTranslationEvent(this, created);
       }
@@ -631,6 +644,17 @@ public class TranslationManager {
     });
   }
 
+  protected void putToTranslations(StackedTranslation translation) {
+    var key = translation.key();
+    m_translations.put(key, translation);
+    m_keyIndex.add(key);
+  }
+
+  protected void removeFromTranslations(String key) {
+    m_translations.remove(key);
+    m_keyIndex.remove(key);
+  }
+
   /**
    * Gets all {@link IStackedTranslation} instances in this manager.
    *
@@ -699,6 +723,8 @@ public class TranslationManager {
       // rebuild stacked translation cache
       m_translations.clear();
       m_translations.putAll(buildStackedTranslations(m_stores.stream()));
+      m_keyIndex.clear();
+      m_translations.keySet().forEach(m_keyIndex::add);
 
       return createReloadEvent(this);
     });
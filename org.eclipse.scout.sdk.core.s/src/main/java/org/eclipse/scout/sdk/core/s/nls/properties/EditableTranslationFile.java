@@ -75,7 +75,8 @@ public class EditableTranslationFile extends AbstractTranslationPropertiesFile {
       return;
     }
 
-    env.writeResource(content, path(), progress.newChild(70));
+    // only rewrite the lines of modified entries to keep the changes of the file small
+    env.writeResource(content.withOrderPreserved(true), path(), progress.newChild(70));
     progress.worked(90);
   }
 
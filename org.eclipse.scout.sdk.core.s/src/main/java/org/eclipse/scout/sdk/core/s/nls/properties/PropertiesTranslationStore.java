@@ -18,9 +18,14 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Stream;
 
 import org.eclipse.scout.sdk.core.log.SdkLog;
@@ -34,6 +39,7 @@ import org.eclipse.scout.sdk.core.s.nls.ITranslationEntry;
 import org.eclipse.scout.sdk.core.s.nls.ITranslationStore;
 import org.eclipse.scout.sdk.core.s.nls.Language;
 import org.eclipse.scout.sdk.core.s.nls.TranslationEntry;
+import org.eclipse.scout.sdk.core.s.nls.Translations;
 import org.eclipse.scout.sdk.core.util.Ensure;
 
 /**
@@ -61,6 +67,9 @@ public class PropertiesTranslationStore implements IEditableTranslationStore {
 
   /**
    * Loads the store using the specified files.
+   * <p>
+   * The files are read concurrently using the {@link Translations#loadExecutor()}. Their content is added to this store
+   * in the calling thread. If the progress is canceled or a file cannot be loaded, the files not read yet are skipped.
    *
    * @param translationFiles
    *          The {@link ITranslationPropertiesFile}s that belong to this store. The files must not be loaded already
@@ -72,27 +81,68 @@ public class PropertiesTranslationStore implements IEditableTranslationStore {
     Ensure.notNull(translationFiles);
 
     var ticksByFile = 100;
-    progress.init(translationFiles.size() * ticksByFile, "Load translation files for service '{}'.", service().type().name());
+    var serviceName = service().type().name();
+    progress.init(translationFiles.size() * ticksByFile, "Load translation files for service '{}'.", serviceName);
 
+    var start = System.nanoTime();
+    var fileLoads = loadFilesAsync(translationFiles);
     var isEditable = !translationFiles.isEmpty();
     m_translations.clear();
     translationFiles().clear();
-    for (var f : translationFiles) {
-      // load data from file
-      f.load(progress.newChild(ticksByFile));
+    try {
+      for (var fileLoad : fileLoads) {
+        // fails if the progress has been canceled
+        progress.newChild(ticksByFile);
 
-      // create translation mapping by key
-      loadFileContent(f);
+        // wait until the data has been loaded from the file
+        var f = awaitFileLoad(fileLoad);
 
-      // create translation mapping by language
-      translationFiles().put(f.language(), f);
+        // create translation mapping by key
+        loadFileContent(f);
 
-      if (!f.isEditable()) {
-        isEditable = false;
+        // create translation mapping by language
+        translationFiles().put(f.language(), f);
+
+        if (!f.isEditable()) {
+          isEditable = false;
+        }
       }
     }
+    catch (RuntimeException | Error e) {
+      // the files not started yet are no longer loaded
+      fileLoads.forEach(fileLoad -> fileLoad.cancel(false));
+      throw e;
+    }
     setDirty(false);
     m_isEditable = isEditable;
+    SdkLog.debug("Loaded {} translation files for service '{}' in {}ms.", fileLoads.size(), serviceName, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+  }
+
+  protected static List<CompletableFuture<ITranslationPropertiesFile>> loadFilesAsync(Collection<ITranslationPropertiesFile> translationFiles) {
+    // a single file is loaded in the calling thread
+    var executor = translationFiles.size() > 1 ? Translations.loadExecutor() : (Executor) Runnable::run;
+    return translationFiles.stream()
+        .map(f -> CompletableFuture.supplyAsync(() -> {
+          f.load(new NullProgress());
+          return f;
+        }, executor))
+        .toList();
+  }
+
+  protected static ITranslationPropertiesFile awaitFileLoad(CompletableFuture<ITranslationPropertiesFile> fileLoad) {
+    try {
+      return fileLoad.join();
+    }
+    catch (CompletionException e) {
+      var cause = e.getCause();
+      if (cause instanceof RuntimeException re) {
+        throw re;
+      }
+      if (cause instanceof Error err) {
+        throw err;
+      }
+      throw e;
+    }
   }
 
   protected void loadFileContent(ITranslationPropertiesFile f) {
@@ -9,9 +9,11 @@
  */
 package org.eclipse.scout.sdk.core.s.nls.query;
 
+import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 import static java.util.Collections.unmodifiableSet;
 import static java.util.concurrent.ConcurrentHashMap.newKeySet;
+import static java.util.stream.Collectors.collectingAndThen;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toSet;
@@ -19,6 +21,7 @@ import static org.eclipse.scout.sdk.core.util.Ensure.newFail;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -44,9 +47,11 @@ import org.eclipse.scout.sdk.core.s.nls.query.TranslationPatterns.AbstractTransl
 import org.eclipse.scout.sdk.core.s.util.search.FileQueryInput;
 import org.eclipse.scout.sdk.core.s.util.search.FileQueryMatch;
 import org.eclipse.scout.sdk.core.s.util.search.FileRange;
-import org.eclipse.scout.sdk.core.s.util.search.IFileQuery;
+import org.eclipse.scout.sdk.core.s.util.search.FileQueryCache;
+import org.eclipse.scout.sdk.core.s.util.search.ICacheableFileQuery;
 import org.eclipse.scout.sdk.core.util.CompositeObject;
 import org.eclipse.scout.sdk.core.util.Ensure;
+import org.eclipse.scout.sdk.core.util.FinalValue;
 import org.eclipse.scout.sdk.core.util.Strings;
 
 /**
@@ -54,10 +59,18 @@ import org.eclipse.scout.sdk.core.util.Strings;
  * <p>
  * Finds occurrences in the source which refer to {@link Translation} keys that cannot be found.
  * </p>
+ * <p>
+ * This query is thread safe. The accessible keys of a module are computed once and shared by all threads.
+ * </p>
+ * <p>
+ * The matches of a file depend on the translation keys accessible in its module. Therefore, the
+ * {@link #stateFingerprint(FileQueryInput) state fingerprint} is computed from these keys so that cached matches are
+ * invalidated if a translation is added or removed.
+ * </p>
  *
  * @since 10.0.0
  */
-public class MissingTranslationQuery implements IFileQuery {
+public class MissingTranslationQuery implements ICacheableFileQuery {
 
   public static final String JS_TEXTS_FILE_NAME = "texts.js";
 
@@ -66,8 +79,9 @@ public class MissingTranslationQuery implements IFileQuery {
       .map(ITypeNameSupplier::simpleName)
       .map(name -> name + JavaTypes.JAVA_FILE_SUFFIX)
       .collect(toSet());
-  private final Map<String, List<AbstractTranslationPattern>> m_searchPatterns;
+  private final Map<String, TranslationPatternScanner> m_scannersByFileExtension;
   private final Map<CompositeObject, Optional<Set<String>>> m_keysByModuleCache;
+  private final Map<CompositeObject, String> m_fingerprintByModuleCache;
   private final Map<Path, Set<FileQueryMatch>> m_matches;
   private final BiFunction<Path, DependencyScope, List<ITranslationStore>> m_storeSupplier;
 
@@ -75,11 +89,19 @@ public class MissingTranslationQuery implements IFileQuery {
     this((p, s) -> Translations.storesForModule(p, env, progress, s).collect(toList()));
   }
 
+  /**
+   * @param storeSupplier
+   *          Provides the {@link ITranslationStore stores} accessible in a module. It is called at most once for each
+   *          module and {@link DependencyScope} but may be called concurrently for different modules. Must not be
+   *          {@code null}.
+   */
   public MissingTranslationQuery(BiFunction<Path, DependencyScope, List<ITranslationStore>> storeSupplier) {
     m_storeSupplier = Ensure.notNull(storeSupplier);
     m_keysByModuleCache = new ConcurrentHashMap<>();
+    m_fingerprintByModuleCache = new ConcurrentHashMap<>();
     m_matches = new ConcurrentHashMap<>();
-    m_searchPatterns = TranslationPatterns.all().collect(groupingBy(AbstractTranslationPattern::fileExtension));
+    m_scannersByFileExtension = TranslationPatterns.all()
+        .collect(groupingBy(AbstractTranslationPattern::fileExtension, collectingAndThen(toList(), TranslationPatternScanner::new)));
   }
 
   @Override
@@ -88,7 +110,7 @@ public class MissingTranslationQuery implements IFileQuery {
   }
 
   protected boolean acceptCandidate(FileQueryInput candidate) {
-    if (!m_searchPatterns.containsKey(candidate.fileExtension())) {
+    if (!m_scannersByFileExtension.containsKey(candidate.fileExtension())) {
       return false;
     }
 
@@ -126,17 +148,42 @@ public class MissingTranslationQuery implements IFileQuery {
     var fileExtension = input.fileExtension();
     var dependencyScope = DependencyScope.forFileExtension(fileExtension)
         .orElseThrow(() -> newFail("Unsupported file extension: {}.", fileExtension));
-    var patterns = m_searchPatterns.get(fileExtension);
-    var content = input.fileContent();
-    for (var search : patterns) {
-      var matcher = search.pattern().matcher(content);
-      while (matcher.find()) {
-        checkMatch(matcher, search, input, dependencyScope);
-      }
+    var constants = new ConstantAssignments(input);
+    m_scannersByFileExtension.get(fileExtension)
+        .scan(input.fileContent(), (search, match) -> checkMatch(match, search, input, dependencyScope, constants));
+  }
+
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
+
+  @Override
+  public String cacheId() {
+    return MissingTranslationQuery.class.getName() + ":1";
+  }
+
+  @Override
+  public String stateFingerprint(FileQueryInput input) {
+    if (!acceptCandidate(input)) {
+      return "";
+    }
+    var scope = DependencyScope.forFileExtension(input.fileExtension()).orElse(null);
+    if (scope == null) {
+      return "";
     }
+    var modulePath = input.module();
+    return m_fingerprintByModuleCache.computeIfAbsent(new CompositeObject(modulePath, scope), k -> accessibleKeysForModule(modulePath, scope)
+        .map(keys -> FileQueryCache.fingerprint(keys.stream()))
+        .orElse(""));
   }
 
-  protected void checkMatch(MatchResult match, AbstractTranslationPattern search, FileQueryInput fileQueryInput, DependencyScope scope) {
+  @Override
+  public void addCachedMatches(FileQueryInput input, Collection<FileQueryMatch> matches) {
+    m_matches.computeIfAbsent(input.file(), file -> newKeySet()).addAll(matches);
+  }
+
+  protected void checkMatch(MatchResult match, AbstractTranslationPattern search, FileQueryInput fileQueryInput, DependencyScope scope, ConstantAssignments constants) {
     int keyGroup;
 
     if (match.groupCount() > 1) {
@@ -146,7 +193,7 @@ public class MissingTranslationQuery implements IFileQuery {
       var noLiteral = Strings.isEmpty(match.group(1)) || Strings.isEmpty(match.group(3));
       if (noLiteral) {
         // is no string literal. might be e variable or concatenation.
-        if (!tryToResolveConstant(match.group(keyGroup), fileQueryInput, scope)) {
+        if (!tryToResolveConstant(match.group(keyGroup), fileQueryInput, scope, constants)) {
           // cannot be resolved as constant. register as match for manual review
           registerMatchIfNotIgnored(match, Level.INFO.intValue(), search, fileQueryInput);
         }
@@ -160,16 +207,12 @@ public class MissingTranslationQuery implements IFileQuery {
     registerMatchIfKeyIsMissing(match, keyGroup, Level.WARNING.intValue(), search, scope, fileQueryInput);
   }
 
-  protected boolean tryToResolveConstant(String constantName, FileQueryInput fileQueryInput, DependencyScope scope) {
-    var findAssignment = new AssignmentPattern(constantName);
-    var content = fileQueryInput.fileContent();
-    var constantMatcher = findAssignment.pattern().matcher(content);
-    var constantFound = false;
-    while (constantMatcher.find()) {
-      registerMatchIfKeyIsMissing(constantMatcher, 1, Level.WARNING.intValue(), findAssignment, scope, fileQueryInput);
-      constantFound = true;
+  protected boolean tryToResolveConstant(String constantName, FileQueryInput fileQueryInput, DependencyScope scope, ConstantAssignments constants) {
+    var assignments = constants.assignmentsOf(constantName);
+    for (var assignment : assignments) {
+      registerMatchIfKeyIsMissing(assignment, AssignmentPattern.VALUE_GROUP, Level.WARNING.intValue(), AssignmentPattern.INSTANCE, scope, fileQueryInput);
     }
-    return constantFound;
+    return !assignments.isEmpty();
   }
 
   protected void registerMatchIfKeyIsMissing(MatchResult match, int keyGroup, int severity, AbstractTranslationPattern pattern, DependencyScope scope, FileQueryInput queryInput) {
@@ -225,17 +268,49 @@ public class MissingTranslationQuery implements IFileQuery {
     return unmodifiableSet(ranges);
   }
 
-  private static final class AssignmentPattern extends AbstractTranslationPattern {
+  /**
+   * Index of all constant (or variable) assignments of a string literal in a file. The index is only built if
+   * requested.
+   */
+  protected static final class ConstantAssignments {
+
+    private final FileQueryInput m_input;
+    private final FinalValue<Map<String, List<MatchResult>>> m_assignmentsByName;
 
-    private final Pattern m_pattern;
+    private ConstantAssignments(FileQueryInput input) {
+      m_input = input;
+      m_assignmentsByName = new FinalValue<>();
+    }
+
+    /**
+     * @param constantName
+     *          The name of the constant
+     * @return All assignments to the constant given.
+     */
+    public List<MatchResult> assignmentsOf(String constantName) {
+      return m_assignmentsByName
+          .computeIfAbsentAndGet(this::buildIndex)
+          .getOrDefault(constantName, emptyList());
+    }
 
-    private AssignmentPattern(String constantName) {
-      m_pattern = Pattern.compile("\\s+" + constantName + "\\s*=\\s*[\"`'](" + NLS_KEY_PAT + ")[\"`'];");
+    private Map<String, List<MatchResult>> buildIndex() {
+      return AssignmentPattern.INSTANCE.pattern()
+          .matcher(m_input.fileContent())
+          .results()
+          .collect(groupingBy(match -> match.group(AssignmentPattern.NAME_GROUP)));
     }
+  }
+
+  private static final class AssignmentPattern extends AbstractTranslationPattern {
+
+    private static final int NAME_GROUP = 1;
+    private static final int VALUE_GROUP = 2;
+    private static final AssignmentPattern INSTANCE = new AssignmentPattern();
+    private static final Pattern REGEX = Pattern.compile("\\s+(" + NLS_KEY_PAT + ")\\s*=\\s*[\"`'](" + NLS_KEY_PAT + ")[\"`'];");
 
     @Override
     public Pattern pattern() {
-      return m_pattern;
+      return REGEX;
     }
 
     @Override
@@ -245,7 +320,7 @@ public class MissingTranslationQuery implements IFileQuery {
 
     @Override
     public Optional<FileRange> keyRangeIfAccept(MatchResult match, FileQueryInput fileQueryInput) {
-      return keyRangeIfInCode(match, fileQueryInput, 1);
+      return keyRangeIfInCode(match, fileQueryInput, VALUE_GROUP);
     }
   }
 }
@@ -11,16 +11,16 @@ package org.eclipse.scout.sdk.core.s.nls.query;
 
 import static java.util.Collections.emptySet;
 import static java.util.Collections.unmodifiableSet;
+import static java.util.concurrent.ConcurrentHashMap.newKeySet;
 import static java.util.stream.Collectors.groupingBy;
 import static java.util.stream.Collectors.toSet;
 
 import java.nio.file.Path;
 import java.util.Collection;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.regex.MatchResult;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
@@ -30,7 +30,7 @@ import org.eclipse.scout.sdk.core.s.nls.Translations.DependencyScope;
 import org.eclipse.scout.sdk.core.s.nls.query.TranslationPatterns.JsModelTextKeyPattern;
 import org.eclipse.scout.sdk.core.s.util.search.FileQueryInput;
 import org.eclipse.scout.sdk.core.s.util.search.FileQueryMatch;
-import org.eclipse.scout.sdk.core.s.util.search.IFileQuery;
+import org.eclipse.scout.sdk.core.s.util.search.ICacheableFileQuery;
 import org.eclipse.scout.sdk.core.util.Strings;
 
 /**
@@ -41,14 +41,16 @@ import org.eclipse.scout.sdk.core.util.Strings;
  *
  * @since 10.0.0
  */
-public class TranslationKeysQuery implements IFileQuery {
+public class TranslationKeysQuery implements ICacheableFileQuery {
 
   private static final String LITERAL_DELIMITER = "['`\"]";
   private static final Pattern TRANSLATION_LITERAL_PATTERN = Pattern.compile(LITERAL_DELIMITER + '(' + ITranslation.KEY_REGEX.pattern() + ')' + LITERAL_DELIMITER);
+  // literals and model text keys in one pattern so that the content is only scanned once. The two alternatives cannot overlap.
+  private static final Pattern TRANSLATION_KEY_PATTERN = Pattern.compile(TRANSLATION_LITERAL_PATTERN.pattern() + '|' + JsModelTextKeyPattern.REGEX.pattern());
   @SuppressWarnings("StaticCollection")
   private static final Set<String> ACCEPTED_EXTENSIONS = DependencyScope.supportedFileExtensions().keySet();
 
-  private final Map<Path, Set<FileQueryMatch>> m_result = new HashMap<>();
+  private final Map<Path, Set<FileQueryMatch>> m_result = new ConcurrentHashMap<>();
   private final String m_name;
 
   public TranslationKeysQuery() {
@@ -69,15 +71,35 @@ public class TranslationKeysQuery implements IFileQuery {
       return;
     }
 
-    var fileContent = input.fileContent();
-    Stream.of(TRANSLATION_LITERAL_PATTERN, JsModelTextKeyPattern.REGEX)
-        .flatMap(pat -> pat.matcher(fileContent).results())
-        .map(r -> toMatch(input, r))
-        .forEach(m -> m_result.computeIfAbsent(input.file(), k -> new HashSet<>()).add(m));
+    var matcher = TRANSLATION_KEY_PATTERN.matcher(input.fileContent());
+    while (matcher.find()) {
+      m_result.computeIfAbsent(input.file(), k -> newKeySet()).add(toMatch(input, matcher));
+    }
+  }
+
+  @Override
+  public boolean isThreadSafe() {
+    return true;
+  }
+
+  @Override
+  public String cacheId() {
+    return TranslationKeysQuery.class.getName() + ":1";
+  }
+
+  @Override
+  public String stateFingerprint(FileQueryInput input) {
+    return ""; // the keys found only depend on the file content
+  }
+
+  @Override
+  public void addCachedMatches(FileQueryInput input, Collection<FileQueryMatch> matches) {
+    m_result.computeIfAbsent(input.file(), k -> newKeySet()).addAll(matches);
   }
 
   protected static FileQueryMatch toMatch(FileQueryInput input, MatchResult result) {
-    return new FileQueryMatch(input.file(), input.module(), result.group(1), result.start(1), result.end(1));
+    var keyGroup = result.start(1) < 0 ? 2 : 1; // group 1: literal, group 2: model text key
+    return new FileQueryMatch(input.file(), input.module(), result.group(keyGroup), result.start(keyGroup), result.end(keyGroup));
   }
 
   /**
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.nls.query;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.regex.MatchResult;
+
+import org.eclipse.scout.sdk.core.s.nls.query.TranslationPatterns.AbstractTranslationPattern;
+import org.eclipse.scout.sdk.core.util.Ensure;
+
+/**
+ * <h3>{@link TranslationPatternScanner}</h3>
+ * <p>
+ * Evaluates several {@link AbstractTranslationPattern}s on a content. The content is first searched for the
+ * {@link AbstractTranslationPattern#anchors() anchors} of all patterns. Only the patterns for which at least one
+ * anchor is present (or which have no anchors) are evaluated afterwards. As most files do not contain any translation
+ * reference, this avoids the evaluation of all regular expressions for most files.
+ * <p>
+ * This class is thread safe.
+ *
+ * @since 13.0
+ */
+public class TranslationPatternScanner {
+
+  private static final int ASCII_LIMIT = 128;
+
+  private final List<AbstractTranslationPattern> m_patterns;
+  private final List<String> m_anchors;
+  private final List<BitSet> m_anchorsOfPattern; // for each pattern the indices of its anchors in m_anchors. null if the pattern has no anchors.
+  private final int[][] m_asciiAnchorsByFirstChar; // indices in m_anchors by first character of the anchor
+  private final Map<Character, int[]> m_otherAnchorsByFirstChar; // indices in m_anchors for anchors starting with a non ASCII character
+
+  /**
+   * @param patterns
+   *          The {@link AbstractTranslationPattern}s to evaluate. Must not be {@code null}.
+   */
+  public TranslationPatternScanner(Iterable<? extends AbstractTranslationPattern> patterns) {
+    m_patterns = new ArrayList<>();
+    m_anchors = new ArrayList<>();
+    m_anchorsOfPattern = new ArrayList<>();
+    Map<Character, BitSet> anchorsByFirstChar = new HashMap<>();
+    for (var pattern : Ensure.notNull(patterns)) {
+      m_patterns.add(pattern);
+      var anchors = pattern.anchors();
+      if (anchors.isEmpty()) {
+        m_anchorsOfPattern.add(null);
+        continue;
+      }
+
+      var anchorIndices = new BitSet();
+      for (var anchor : anchors) {
+        Ensure.notBlank(anchor, "Pattern {} has an empty anchor.", pattern);
+        var index = m_anchors.indexOf(anchor);
+        if (index < 0) {
+          index = m_anchors.size();
+          m_anchors.add(anchor);
+          anchorsByFirstChar.computeIfAbsent(anchor.charAt(0), c -> new BitSet()).set(index);
+        }
+        anchorIndices.set(index);
+      }
+      m_anchorsOfPattern.add(anchorIndices);
+    }
+
+    m_asciiAnchorsByFirstChar = new int[ASCII_LIMIT][];
+    m_otherAnchorsByFirstChar = new HashMap<>();
+    anchorsByFirstChar.forEach((c, indices) -> {
+      var anchorIndices = indices.stream().toArray();
+      if (c < ASCII_LIMIT) {
+        m_asciiAnchorsByFirstChar[c] = anchorIndices;
+      }
+      else {
+        m_otherAnchorsByFirstChar.put(c, anchorIndices);
+      }
+    });
+  }
+
+  /**
+   * Evaluates all patterns which may match on the content given.
+   *
+   * @param content
+   *          The content to scan. Must not be {@code null}.
+   * @param matchConsumer
+   *          Is called for each match found. The {@link MatchResult} is only valid during the call of the consumer.
+   *          Must not be {@code null}.
+   */
+  public void scan(CharSequence content, BiConsumer<AbstractTranslationPattern, MatchResult> matchConsumer) {
+    var presentAnchors = presentAnchors(content);
+    for (var i = 0; i < m_patterns.size(); i++) {
+      var anchorsOfPattern = m_anchorsOfPattern.get(i);
+      if (anchorsOfPattern != null && !anchorsOfPattern.intersects(presentAnchors)) {
+        continue; // the pattern cannot match
+      }
+
+      var pattern = m_patterns.get(i);
+      var matcher = pattern.pattern().matcher(content);
+      while (matcher.find()) {
+        matchConsumer.accept(pattern, matcher);
+      }
+    }
+  }
+
+  /**
+   * Searches the content for all anchors.
+   *
+   * @param content
+   *          The content to scan.
+   * @return A {@link BitSet} holding the indices of all anchors present in the content.
+   */
+  protected BitSet presentAnchors(CharSequence content) {
+    var present = new BitSet(m_anchors.size());
+    if (m_anchors.isEmpty()) {
+      return present;
+    }
+
+    if (content instanceof String str) {
+      // the search of the JDK is faster than the char by char scan below
+      for (var i = 0; i < m_anchors.size(); i++) {
+        if (str.contains(m_anchors.get(i))) {
+          present.set(i);
+        }
+      }
+      return present;
+    }
+    if (content instanceof StringBuilder sb) {
+      // file contents are usually read into a StringBuilder (see Strings#fromFile)
+      for (var i = 0; i < m_anchors.size(); i++) {
+        if (sb.indexOf(m_anchors.get(i)) >= 0) {
+          present.set(i);
+        }
+      }
+      return present;
+    }
+
+    var numFound = 0;
+    var length = content.length();
+    for (var pos = 0; pos < length; pos++) {
+      var c = content.charAt(pos);
+      var candidates = c < ASCII_LIMIT ? m_asciiAnchorsByFirstChar[c] : m_otherAnchorsByFirstChar.get(c);
+      if (candidates == null) {
+        continue;
+      }
+      for (var candidate : candidates) {
+        if (!present.get(candidate) && regionMatches(content, pos, m_anchors.get(candidate))) {
+          present.set(candidate);
+          numFound++;
+          if (numFound == m_anchors.size()) {
+            return present; // all anchors found
+          }
+        }
+      }
+    }
+    return present;
+  }
+
+  protected static boolean regionMatches(CharSequence content, int offset, CharSequence anchor) {
+    var anchorLength = anchor.length();
+    if (offset + anchorLength > content.length()) {
+      return false;
+    }
+    for (var i = 1; i < anchorLength; i++) { // first char has already been checked
+      if (content.charAt(offset + i) != anchor.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -9,12 +9,13 @@
  */
 package org.eclipse.scout.sdk.core.s.nls.query;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.joining;
-import static org.eclipse.scout.sdk.core.util.SourceState.isInCode;
-import static org.eclipse.scout.sdk.core.util.SourceState.isInString;
 import static org.eclipse.scout.sdk.core.util.Strings.nextLineEnd;
 
 import java.nio.CharBuffer;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
@@ -31,6 +32,7 @@ import org.eclipse.scout.sdk.core.s.util.search.FileQueryInput;
 import org.eclipse.scout.sdk.core.s.util.search.FileRange;
 import org.eclipse.scout.sdk.core.typescript.IWebConstants;
 import org.eclipse.scout.sdk.core.util.Ensure;
+import org.eclipse.scout.sdk.core.util.SourceState;
 import org.eclipse.scout.sdk.core.util.Strings;
 
 public final class TranslationPatterns {
@@ -85,6 +87,16 @@ public final class TranslationPatterns {
 
     public abstract String fileExtension();
 
+    /**
+     * Literals of which at least one is part of every match of {@link #pattern()}. They are used to skip the evaluation
+     * of the pattern for contents that cannot match (see {@link TranslationPatternScanner}).
+     *
+     * @return The anchor literals of this pattern. If empty, the pattern is always evaluated.
+     */
+    public Collection<String> anchors() {
+      return emptyList();
+    }
+
     public abstract Optional<FileRange> keyRangeIfAccept(MatchResult match, FileQueryInput fileQueryInput);
 
     protected static FileRange toFileRange(MatchResult match, FileQueryInput fileQueryInput, int keyGroup) {
@@ -103,7 +115,17 @@ public final class TranslationPatterns {
     protected static boolean isKeyInCode(CharSequence content, int offset) {
       /* the start index itself is inside the string literal and therefore never in the code. subtract two (one to get to the string delimiter and one to get to the char before */
       var posBeforeKeyMatch = offset - 2;
-      return isInCode(content, posBeforeKeyMatch);
+      return SourceState.isInCode(content, posBeforeKeyMatch);
+    }
+
+    /**
+     * Same as {@link #isKeyInCode(CharSequence, int)} but uses the {@link SourceState.Index} of the
+     * {@link FileQueryInput} given so that the content is only parsed once for all matches of a file.
+     *
+     * @since 13.0
+     */
+    protected static boolean isKeyInCode(FileQueryInput fileQueryInput, int offset) {
+      return fileQueryInput.sourceState().isInCode(offset - 2);
     }
 
     protected static boolean isAcceptedCodeMatch(MatchResult match, int keyGroup, CharSequence content) {
@@ -116,8 +138,21 @@ public final class TranslationPatterns {
       return isKeyInCode(content, startIndex);
     }
 
+    /**
+     * Same as {@link #isAcceptedCodeMatch(MatchResult, int, CharSequence)} but uses the {@link SourceState.Index} of
+     * the {@link FileQueryInput} given.
+     *
+     * @since 13.0
+     */
+    protected static boolean isAcceptedCodeMatch(MatchResult match, int keyGroup, FileQueryInput fileQueryInput) {
+      if (lineEndsWithIgnoreMarker(fileQueryInput.fileContent(), match.end(keyGroup))) {
+        return false;
+      }
+      return isKeyInCode(fileQueryInput, match.start(keyGroup));
+    }
+
     protected static Optional<FileRange> keyRangeIfInCode(MatchResult match, FileQueryInput fileQueryInput, int keyGroup) {
-      if (!isAcceptedCodeMatch(match, keyGroup, fileQueryInput.fileContent())) {
+      if (!isAcceptedCodeMatch(match, keyGroup, fileQueryInput)) {
         return Optional.empty();
       }
       return Optional.of(toFileRange(match, fileQueryInput, keyGroup));
@@ -127,7 +162,8 @@ public final class TranslationPatterns {
   public static class JsSessionTextPattern extends AbstractTranslationPattern {
 
     public static final AbstractTranslationPattern INSTANCE = new JsSessionTextPattern();
-    public static final Pattern REGEX = Pattern.compile("session\\.text\\((['`\"]?)(" + NLS_KEY_PAT + ")(['`\"]?)\\s*[,)]");
+    public static final String ANCHOR = "session.text(";
+    public static final Pattern REGEX = Pattern.compile(Pattern.quote(ANCHOR) + "(['`\"]?)(" + NLS_KEY_PAT + ")(['`\"]?)\\s*[,)]");
 
     protected JsSessionTextPattern() {
     }
@@ -142,6 +178,11 @@ public final class TranslationPatterns {
       return IWebConstants.JS_FILE_EXTENSION;
     }
 
+    @Override
+    public Collection<String> anchors() {
+      return singletonList(ANCHOR);
+    }
+
     @Override
     public Optional<FileRange> keyRangeIfAccept(MatchResult match, FileQueryInput fileQueryInput) {
       return keyRangeIfInCode(match, fileQueryInput, 2);
@@ -181,6 +222,11 @@ public final class TranslationPatterns {
       return IWebConstants.JS_FILE_EXTENSION;
     }
 
+    @Override
+    public Collection<String> anchors() {
+      return singletonList(MODEL_TEXT_KEY_PREFIX);
+    }
+
     @Override
     public Optional<FileRange> keyRangeIfAccept(MatchResult match, FileQueryInput fileQueryInput) {
       var keyGroup = 1;
@@ -189,7 +235,7 @@ public final class TranslationPatterns {
       }
 
       var startIndex = match.start(1);
-      if (!isInString(fileQueryInput.fileContent(), startIndex)) {
+      if (!fileQueryInput.sourceState().isInString(startIndex)) {
         return Optional.empty();
       }
 
@@ -210,6 +256,12 @@ public final class TranslationPatterns {
 
     public static final AbstractTranslationPattern INSTANCE = new JavaTextsGetPattern();
     public static final Pattern REGEX = Pattern.compile(computeTextsGetRegex());
+    @SuppressWarnings("StaticCollection")
+    private static final Collection<String> ANCHORS = ScoutApi.allKnown()
+        .map(IScoutVariousApi::TEXTS)
+        .map(texts -> texts.simpleName() + '.' + texts.getMethodName() + '(')
+        .distinct()
+        .toList();
 
     private static String computeTextsGetRegex() {
       return ScoutApi.allKnown()
@@ -236,6 +288,11 @@ public final class TranslationPatterns {
       return JavaTypes.JAVA_FILE_EXTENSION;
     }
 
+    @Override
+    public Collection<String> anchors() {
+      return ANCHORS;
+    }
+
     @Override
     public Optional<FileRange> keyRangeIfAccept(MatchResult match, FileQueryInput fileQueryInput) {
       return keyRangeIfInCode(match, fileQueryInput, 2);
@@ -262,6 +319,11 @@ public final class TranslationPatterns {
       return IWebConstants.HTML_FILE_EXTENSION;
     }
 
+    @Override
+    public Collection<String> anchors() {
+      return singletonList(ATTRIBUTE_NAME + '=');
+    }
+
     @Override
     public Optional<FileRange> keyRangeIfAccept(MatchResult match, FileQueryInput fileQueryInput) {
       var keyGroup = 1;
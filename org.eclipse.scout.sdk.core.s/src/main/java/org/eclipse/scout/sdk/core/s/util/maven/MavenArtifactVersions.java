@@ -10,26 +10,39 @@
 package org.eclipse.scout.sdk.core.s.util.maven;
 
 import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Properties;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.jar.Attributes.Name;
 import java.util.jar.JarFile;
+import java.util.jar.Manifest;
 import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
 import java.util.zip.ZipFile;
 
 import javax.xml.xpath.XPathExpressionException;
 
 import org.eclipse.scout.sdk.core.java.ISourceFolders;
 import org.eclipse.scout.sdk.core.java.apidef.ApiVersion;
-import org.eclipse.scout.sdk.core.java.model.api.IClasspathEntry;
 import org.eclipse.scout.sdk.core.java.model.api.IJavaEnvironment;
+import org.eclipse.scout.sdk.core.java.model.spi.ClasspathSpi;
+import org.eclipse.scout.sdk.core.java.model.spi.JavaEnvironmentSpi;
+import org.eclipse.scout.sdk.core.log.SdkLog;
 import org.eclipse.scout.sdk.core.util.SdkException;
 import org.eclipse.scout.sdk.core.util.Strings;
 import org.eclipse.scout.sdk.core.util.Xml;
@@ -40,8 +53,12 @@ import org.w3c.dom.Node;
  */
 public final class MavenArtifactVersions {
 
+  private static final String JAR_SUFFIX = ".jar";
+  private static final String MAVEN_METADATA_DIR = "META-INF/maven/";
+  private static final String POM_PROPERTIES = "pom.properties";
+
   @SuppressWarnings("StaticCollection")
-  private static final Map<Path, Optional<ApiVersion>> VERSION_CACHE = new ConcurrentHashMap<>();
+  private static final Map<JavaEnvironmentSpi, ClasspathIndex> CLASSPATH_INDEX = Collections.synchronizedMap(new WeakHashMap<>());
 
   private MavenArtifactVersions() {
   }
@@ -49,15 +66,19 @@ public final class MavenArtifactVersions {
   /**
    * Tries to find the module specified in the given {@link IJavaEnvironment} and computes its Maven version.
    * <p>
-   * For binary jars the version is taken from the {@link Name#IMPLEMENTATION_VERSION} manifest header.<br>
+   * For binary jars the version is taken from the {@link Name#IMPLEMENTATION_VERSION} manifest header or from the
+   * {@code pom.properties} of the artifact if the manifest header is missing.<br>
    * For source folders it is taken from the parent pom.xml<br>
    * Source or javadoc jar files are not supported.
    * </p>
+   * The classpath of an environment is indexed on first use. The versions detected are cached in this index until the
+   * jar or pom.xml is modified.
    * 
    * @param artifactId
-   *          The name of the Maven module. This is the name of the jar file (without any suffixes) and the name of the
-   *          directory that contains the source folders. Typically, this is equal to the artifactId of the module. May
-   *          be {@code null} but then the resulting {@link Optional} will always be empty.
+   *          The name of the Maven module. For jars this is the artifactId given by the Maven repository layout or by the
+   *          {@code pom.properties} of the jar. For source folders it is the name of the directory that contains the
+   *          source folders. Typically, this is equal to the artifactId of the module. May be {@code null} but then the
+   *          resulting {@link Optional} will always be empty.
    * @param context
    *          The {@link IJavaEnvironment} in which the module should be searched. May be {@code null} but then the
    *          resulting {@link Optional} will always be empty.
@@ -65,7 +86,11 @@ public final class MavenArtifactVersions {
    *         module could not be found, the version cannot be parsed or one of the parameters is {@code null}.
    */
   public static Optional<ApiVersion> usedIn(String artifactId, IJavaEnvironment context) {
-    return modulePathIn(artifactId, context).flatMap(MavenArtifactVersions::version);
+    if (context == null || Strings.isBlank(artifactId)) {
+      return Optional.empty();
+    }
+    var index = classpathIndexOf(context.unwrap());
+    return index.modulePath(artifactId).flatMap(index::version);
   }
 
   /**
@@ -94,25 +119,23 @@ public final class MavenArtifactVersions {
     }
   }
 
-  static Optional<Path> modulePathIn(String moduleName, IJavaEnvironment context) {
-    if (context == null || Strings.isBlank(moduleName)) {
-      return Optional.empty();
-    }
-    var jarPath = context.classpath()
-        .filter(p -> isModuleJar(moduleName, p))
-        .map(IClasspathEntry::path)
-        .findAny();
-    if (jarPath.isPresent()) {
-      return jarPath;
-    }
-    return context.classpath()
-        .filter(p -> isModuleSourceFolder(moduleName, p))
-        .map(IClasspathEntry::path)
-        .findAny();
+  /**
+   * Removes all cached versions and classpath indices.
+   */
+  public static void clearCache() {
+    CLASSPATH_INDEX.clear();
   }
 
-  static Optional<ApiVersion> version(Path pathToModule) {
-    return VERSION_CACHE.computeIfAbsent(pathToModule, MavenArtifactVersions::detectVersion);
+  static ClasspathIndex classpathIndexOf(JavaEnvironmentSpi env) {
+    var classpath = env.getClasspath(); // a new list instance is returned after the environment has been reloaded
+    synchronized (CLASSPATH_INDEX) {
+      var index = CLASSPATH_INDEX.get(env);
+      if (index == null || !index.isIndexOf(classpath)) {
+        index = ClasspathIndex.of(classpath);
+        CLASSPATH_INDEX.put(env, index);
+      }
+      return index;
+    }
   }
 
   static Optional<ApiVersion> detectVersion(Path pathToModule) {
@@ -122,24 +145,22 @@ public final class MavenArtifactVersions {
     return versionOfSourceFolder(pathToModule);
   }
 
-  static Optional<ApiVersion> versionOfSourceFolder(Path sourceFolder) {
+  static Optional<Path> pomOfSourceFolder(Path sourceFolder) {
     // remove src/main/java
-    var mainFolder = sourceFolder.getParent();
-    if (mainFolder == null) {
-      return Optional.empty();
-    }
-    var srcFolder = mainFolder.getParent();
-    if (srcFolder == null) {
-      return Optional.empty();
-    }
-    var modulePath = srcFolder.getParent();
-    if (modulePath == null) {
+    return Optional.ofNullable(sourceFolder.getParent())
+        .map(Path::getParent)
+        .map(Path::getParent)
+        .map(modulePath -> modulePath.resolve(IMavenConstants.POM));
+  }
+
+  static Optional<ApiVersion> versionOfSourceFolder(Path sourceFolder) {
+    var pom = pomOfSourceFolder(sourceFolder);
+    if (pom.isEmpty()) {
       return Optional.empty();
     }
 
     try {
-      var pomContent = Xml.get(modulePath.resolve(IMavenConstants.POM));
-      return Pom.version(pomContent).flatMap(ApiVersion::parse);
+      return Pom.readVersion(pom.orElseThrow()).flatMap(ApiVersion::parse);
     }
     catch (IOException e) {
       throw new SdkException("Error parsing version of source folder '{}'.", sourceFolder, e);
@@ -147,36 +168,187 @@ public final class MavenArtifactVersions {
   }
 
   static Optional<ApiVersion> versionOfJar(Path jar) {
-    try (var f = new JarFile(jar.toFile(), false, ZipFile.OPEN_READ)) {
-      return Optional.ofNullable(f.getManifest())
-          .map(mf -> mf.getMainAttributes().getValue(Name.IMPLEMENTATION_VERSION.toString()))
-          .flatMap(ApiVersion::parse);
+    // the central directory is read once when opening. Afterwards only the entries required are inflated.
+    try (var f = new ZipFile(jar.toFile(), ZipFile.OPEN_READ)) {
+      var version = implementationVersion(f);
+      if (version.isEmpty()) {
+        version = pomPropertiesVersion(f, jar);
+      }
+      return version.flatMap(ApiVersion::parse);
     }
     catch (IOException e) {
       throw new SdkException("Error parsing version of jar '{}'.", jar, e);
     }
   }
 
-  static boolean isModuleSourceFolder(String moduleName, IClasspathEntry entry) {
-    if (!entry.isDirectory()) {
-      return false;
+  static Optional<String> implementationVersion(ZipFile zip) throws IOException {
+    var manifestEntry = zip.getEntry(JarFile.MANIFEST_NAME);
+    if (manifestEntry == null) {
+      return Optional.empty();
     }
-    return entry.path().endsWith(moduleName + '/' + ISourceFolders.MAIN_JAVA_SOURCE_FOLDER);
+    try (var in = zip.getInputStream(manifestEntry)) {
+      return Strings.notBlank(new Manifest(in).getMainAttributes().getValue(Name.IMPLEMENTATION_VERSION));
+    }
+  }
+
+  static Optional<String> pomPropertiesVersion(ZipFile zip, Path jar) throws IOException {
+    return pomProperties(zip, jar).flatMap(properties -> Strings.notBlank(properties.getProperty("version")));
   }
 
-  static boolean isModuleJar(String moduleName, IClasspathEntry entry) {
-    if (entry.isDirectory()) {
-      return false;
+  static Optional<Properties> pomProperties(ZipFile zip, Path jar) throws IOException {
+    var fileName = jar.getFileName().toString();
+    ZipEntry candidate = null;
+    var numCandidates = 0;
+    var entries = zip.entries();
+    while (entries.hasMoreElements()) {
+      var entry = entries.nextElement();
+      var name = entry.getName();
+      if (!name.startsWith(MAVEN_METADATA_DIR) || !name.endsWith('/' + POM_PROPERTIES)) {
+        continue;
+      }
+      // META-INF/maven/<groupId>/<artifactId>/pom.properties
+      var artifactDir = name.substring(0, name.length() - POM_PROPERTIES.length() - 1);
+      var artifactId = artifactDir.substring(artifactDir.lastIndexOf('/') + 1);
+      if (fileName.startsWith(artifactId + '-')) {
+        candidate = entry;
+        numCandidates = 1;
+        break;
+      }
+      candidate = entry;
+      numCandidates++;
+    }
+    if (candidate == null || numCandidates > 1) {
+      return Optional.empty(); // ambiguous: a shaded jar containing several artifacts
     }
-    var lastSegment = entry.path().getFileName();
+    try (var in = zip.getInputStream(candidate)) {
+      var properties = new Properties();
+      properties.load(in);
+      return Optional.of(properties);
+    }
+  }
+
+  /**
+   * @param jar
+   *          The path of the jar (e.g. ".m2/repository/org/eclipse/scout/rt/org.eclipse.scout.rt.platform/10.0.5/org.eclipse.scout.rt.platform-10.0.5.jar").
+   * @return The artifactId of the jar if it is stored in a Maven repository layout or if it contains the
+   *         {@code pom.properties} of a single artifact. An empty {@link Optional} otherwise.
+   */
+  static Optional<String> artifactIdOfJar(Path jar) {
+    var lastSegment = jar.getFileName();
     if (lastSegment == null) {
-      return false;
+      return Optional.empty();
     }
     var fileName = lastSegment.toString();
-    // fileName is of form "org.eclipse.scout.rt.platform-10.0.5.jar" or "org.eclipse.scout.rt.platform-10.0.5-sources.jar"
-    return Strings.endsWith(fileName, ".jar", false)
-        && Strings.startsWith(fileName, moduleName + '-')
-        && !Strings.endsWith(fileName, "-sources.jar", false)
-        && !Strings.endsWith(fileName, "-javadoc.jar", false);
+    if (!Strings.endsWith(fileName, JAR_SUFFIX, false)
+        || Strings.endsWith(fileName, "-sources.jar", false)
+        || Strings.endsWith(fileName, "-javadoc.jar", false)) {
+      return Optional.empty();
+    }
+
+    // Maven repository layout: <groupId>/<artifactId>/<version>/<artifactId>-<version>[-<classifier>].jar
+    var versionDir = jar.getParent();
+    var artifactDir = versionDir == null ? null : versionDir.getParent();
+    if (artifactDir != null && versionDir.getFileName() != null && artifactDir.getFileName() != null) {
+      var artifactId = artifactDir.getFileName().toString();
+      if (fileName.startsWith(artifactId + '-' + versionDir.getFileName())) {
+        return Optional.of(artifactId);
+      }
+    }
+    return artifactIdOfPomProperties(jar);
+  }
+
+  static Optional<String> artifactIdOfPomProperties(Path jar) {
+    if (!Files.isRegularFile(jar)) {
+      return Optional.empty();
+    }
+    try (var f = new ZipFile(jar.toFile(), ZipFile.OPEN_READ)) {
+      return pomProperties(f, jar).flatMap(properties -> Strings.notBlank(properties.getProperty("artifactId")));
+    }
+    catch (IOException e) {
+      SdkLog.debug("Unable to read the pom.properties of jar '{}'. Jar is skipped.", jar, e);
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * @param sourceFolder
+   *          The source folder.
+   * @return The name of the module directory if the folder given is a Maven main source folder.
+   */
+  static Optional<String> moduleNameOfSourceFolder(Path sourceFolder) {
+    if (!sourceFolder.endsWith(ISourceFolders.MAIN_JAVA_SOURCE_FOLDER)) {
+      return Optional.empty();
+    }
+    return pomOfSourceFolder(sourceFolder)
+        .map(Path::getParent)
+        .map(Path::getFileName)
+        .map(Path::toString);
+  }
+
+  /**
+   * Index of the jars and source folders of a classpath by artifactId. It also caches the versions of the modules.
+   * <p>
+   * The classpath is only referenced weakly: its entries reference the {@link JavaEnvironmentSpi} which is the (weak)
+   * key of the index.
+   */
+  record ClasspathIndex(Reference<List<ClasspathSpi>> classpath, Map<String, Path> jars, Map<String, Path> sourceFolders, Map<Path, CachedVersion> versions) {
+
+    static ClasspathIndex of(List<ClasspathSpi> classpath) {
+      Map<String, Path> jars = new HashMap<>();
+      Map<String, Path> sourceFolders = new HashMap<>();
+      for (var entry : classpath) {
+        var path = entry.getPath();
+        if (entry.isDirectory()) {
+          moduleNameOfSourceFolder(path).ifPresent(name -> sourceFolders.putIfAbsent(name, path));
+        }
+        else {
+          artifactIdOfJar(path).ifPresent(artifactId -> jars.putIfAbsent(artifactId, path));
+        }
+      }
+      return new ClasspathIndex(new WeakReference<>(classpath), jars, sourceFolders, new ConcurrentHashMap<>());
+    }
+
+    boolean isIndexOf(List<ClasspathSpi> cp) {
+      return classpath().get() == cp;
+    }
+
+    Optional<Path> modulePath(String moduleName) {
+      var jar = jars().get(moduleName);
+      if (jar != null) {
+        return Optional.of(jar);
+      }
+      return Optional.ofNullable(sourceFolders().get(moduleName));
+    }
+
+    Optional<ApiVersion> version(Path pathToModule) {
+      var fileToWatch = Files.isRegularFile(pathToModule) ? pathToModule : pomOfSourceFolder(pathToModule).orElse(pathToModule);
+      var stamp = FileStamp.of(fileToWatch);
+      var cached = versions().get(pathToModule);
+      if (cached != null && cached.stamp().equals(stamp)) {
+        return cached.version();
+      }
+      var version = detectVersion(pathToModule);
+      versions().put(pathToModule, new CachedVersion(stamp, version));
+      return version;
+    }
+  }
+
+  record FileStamp(long size, long lastModified) {
+
+    static FileStamp of(Path file) {
+      try {
+        var attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return new FileStamp(attributes.size(), attributes.lastModifiedTime().toMillis());
+      }
+      catch (NoSuchFileException e) {
+        return new FileStamp(-1, -1);
+      }
+      catch (IOException e) {
+        throw new SdkException("Unable to read attributes of '{}'.", file, e);
+      }
+    }
+  }
+
+  record CachedVersion(FileStamp stamp, Optional<ApiVersion> version) {
   }
 }
@@ -9,6 +9,10 @@
  */
 package org.eclipse.scout.sdk.core.s.util.maven;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import org.eclipse.scout.sdk.core.util.Strings;
@@ -81,6 +85,77 @@ public final class Pom {
         .flatMap(Strings::notBlank);
   }
 
+  /**
+   * Gets the artifactId of the given pom.xml file. In contrast to {@link #artifactId(Document)} no DOM is created.
+   *
+   * @param pomFile
+   *          The pom.xml file. Must not be {@code null}.
+   * @return The artifactId or an empty {@link Optional} if no artifactId exists in the given file.
+   * @throws IOException
+   *           if the file cannot be read.
+   */
+  public static Optional<String> readArtifactId(Path pomFile) throws IOException {
+    return Optional.ofNullable(Xml.readElements(pomFile, List.of(IMavenConstants.ARTIFACT_ID)).get(IMavenConstants.ARTIFACT_ID))
+        .flatMap(Strings::notBlank);
+  }
+
+  /**
+   * Gets the groupId of the given pom.xml file. In contrast to {@link #groupId(Document)} no DOM is created.
+   *
+   * @param pomFile
+   *          The pom.xml file. Must not be {@code null}.
+   * @return The groupId or an empty {@link Optional} if no groupId exists in the given file.
+   * @throws IOException
+   *           if the file cannot be read.
+   */
+  public static Optional<String> readGroupId(Path pomFile) throws IOException {
+    return getInheritedValueOfPom(pomFile, IMavenConstants.GROUP_ID);
+  }
+
+  /**
+   * Gets the version of the given pom.xml file. In contrast to {@link #version(Document)} no DOM is created.
+   *
+   * @param pomFile
+   *          The pom.xml file. Must not be {@code null}.
+   * @return The version or an empty {@link Optional} if no version exists in the given file.
+   * @throws IOException
+   *           if the file cannot be read.
+   */
+  public static Optional<String> readVersion(Path pomFile) throws IOException {
+    return getInheritedValueOfPom(pomFile, IMavenConstants.VERSION);
+  }
+
+  /**
+   * Gets the artifactId of the parent of the given pom.xml file. In contrast to {@link #parentArtifactId(Document)} no
+   * DOM is created.
+   *
+   * @param pomFile
+   *          The pom.xml file. Must not be {@code null}.
+   * @return The artifactId name or an empty {@link Optional} if it does not exist.
+   * @throws IOException
+   *           if the file cannot be read.
+   */
+  public static Optional<String> readParentArtifactId(Path pomFile) throws IOException {
+    var path = IMavenConstants.PARENT + '/' + IMavenConstants.ARTIFACT_ID;
+    return Optional.ofNullable(Xml.readElements(pomFile, List.of(path)).get(path))
+        .flatMap(Strings::notBlank);
+  }
+
+  static Optional<String> getInheritedValueOfPom(Path pomFile, String tagName) throws IOException {
+    var parentPath = IMavenConstants.PARENT + '/' + tagName;
+    return getInheritedValueOfPom(Xml.readElements(pomFile, List.of(tagName, parentPath)), tagName, parentPath);
+  }
+
+  static Optional<String> getInheritedValueOfPom(Map<String, String> values, String tagName, String parentPath) {
+    var directlySpecified = Optional.ofNullable(values.get(tagName))
+        .filter(Strings::hasText);
+    if (directlySpecified.isPresent()) {
+      return directlySpecified;
+    }
+    return Optional.ofNullable(values.get(parentPath))
+        .flatMap(Strings::notBlank);
+  }
+
   static Optional<String> getInheritedValueOfPom(Document pom, String tagName) {
     if (pom == null) {
       return Optional.empty();
@@ -0,0 +1,422 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.util.search;
+
+import static java.util.stream.Collectors.joining;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.eclipse.scout.sdk.core.log.SdkLog;
+import org.eclipse.scout.sdk.core.util.CacheStatistics;
+import org.eclipse.scout.sdk.core.util.Ensure;
+
+/**
+ * <h3>{@link FileQueryCache}</h3>
+ * <p>
+ * Persistent cache for the matches of {@link ICacheableFileQuery cacheable queries}. The matches of a file are reused
+ * if
+ * <ul>
+ * <li>the {@link ICacheableFileQuery#stateFingerprint(FileQueryInput) state fingerprint} of the query is unchanged
+ * and</li>
+ * <li>the size and last modification time of the file are unchanged or (if not) the hash of the file content is
+ * unchanged.</li>
+ * </ul>
+ * Otherwise, the file is searched again and the new matches are stored in the cache.
+ * <p>
+ * Use {@link #cached(ICacheableFileQuery)} to get a query that uses this cache and {@link #store()} to persist the
+ * cache after the query has been executed.
+ * <p>
+ * This class is thread safe.
+ *
+ * @since 13.0
+ */
+public class FileQueryCache {
+
+  private static final int FORMAT_VERSION = 2;
+  private static final String HASH_ALGORITHM = "SHA-256";
+  private static final byte[] NO_HASH = new byte[0];
+
+  private final Path m_storage;
+  private final Map<String /* cache id */, Map<Path, Entry>> m_entries;
+  private final CacheStatistics m_statistics;
+  private final Set<Path> m_visitedFiles;
+
+  /**
+   * Creates a new empty cache. Use {@link #load(Path)} to create a cache containing the previously stored entries.
+   *
+   * @param storage
+   *          The file in which the cache is stored. Must not be {@code null}.
+   */
+  public FileQueryCache(Path storage) {
+    m_storage = Ensure.notNull(storage);
+    m_entries = new ConcurrentHashMap<>();
+    m_statistics = new CacheStatistics(FileQueryCache.class.getSimpleName());
+    m_visitedFiles = ConcurrentHashMap.newKeySet();
+  }
+
+  /**
+   * Creates a new cache and loads the entries previously {@link #store() stored} in the file given. If the file does not
+   * exist or cannot be read, the cache is empty.
+   *
+   * @param storage
+   *          The file in which the cache is stored. Must not be {@code null}.
+   * @return The new {@link FileQueryCache}.
+   */
+  public static FileQueryCache load(Path storage) {
+    var cache = new FileQueryCache(storage);
+    try {
+      cache.read();
+    }
+    catch (NoSuchFileException e) {
+      SdkLog.debug("No file query cache found at '{}'.", storage, e);
+    }
+    catch (IOException | RuntimeException e) {
+      SdkLog.warning("Unable to read file query cache '{}'. Cache is discarded.", storage, e);
+      cache.clear();
+    }
+    return cache;
+  }
+
+  /**
+   * Computes a fingerprint for a set of values (e.g. the translation keys accessible in a module). The fingerprint does
+   * not depend on the order of the values.
+   *
+   * @param values
+   *          The values. Must not be {@code null}.
+   * @return The fingerprint of the values.
+   */
+  public static String fingerprint(Stream<String> values) {
+    var digest = newDigest();
+    values
+        .sorted()
+        .forEach(value -> {
+          digest.update(value.getBytes(StandardCharsets.UTF_8));
+          digest.update((byte) 0);
+        });
+    return HexFormat.of().formatHex(digest.digest());
+  }
+
+  /**
+   * @param query
+   *          The {@link ICacheableFileQuery} to wrap. Must not be {@code null}.
+   * @return An {@link IFileQuery} that only searches in the files for which no valid matches are stored in this cache.
+   *         The result is available in the {@link ICacheableFileQuery} given.
+   */
+  public IFileQuery cached(ICacheableFileQuery query) {
+    return new CachedFileQuery(Ensure.notNull(query));
+  }
+
+  /**
+   * Searches the query in the input given or restores the matches from the cache if they are still valid.
+   *
+   * @param query
+   *          The query to execute.
+   * @param input
+   *          The file to search in.
+   */
+  protected void searchIn(ICacheableFileQuery query, FileQueryInput input) {
+    var file = input.file();
+    m_visitedFiles.add(file);
+    BasicFileAttributes attributes;
+    try {
+      attributes = Files.readAttributes(file, BasicFileAttributes.class);
+    }
+    catch (IOException e) {
+      SdkLog.debug("Unable to read attributes of file '{}'. File query cache is not used for this file.", file, e);
+      query.searchIn(input);
+      return;
+    }
+
+    var size = attributes.size();
+    var lastModified = attributes.lastModifiedTime().toMillis();
+    var fingerprint = query.stateFingerprint(input);
+    var entries = m_entries.computeIfAbsent(query.cacheId(), id -> new ConcurrentHashMap<>());
+    var entry = entries.get(file);
+    if (entry != null && entry.fingerprint().equals(fingerprint)) {
+      if (entry.size() == size && entry.lastModified() == lastModified) {
+        m_statistics.hit();
+        restore(query, input, entry);
+        return;
+      }
+      if (entry.hash().length > 0 && Arrays.equals(entry.hash(), contentHash(input.fileContent()))) {
+        // only touched: the content is unchanged
+        m_statistics.hit();
+        entries.put(file, new Entry(size, lastModified, entry.hash(), fingerprint, entry.matches()));
+        restore(query, input, entry);
+        return;
+      }
+    }
+
+    m_statistics.miss();
+    var start = System.nanoTime();
+    query.searchIn(input);
+    m_statistics.loaded(System.nanoTime() - start);
+
+    var result = query.result(file);
+    if (!input.isFileContentLoaded() && result.isEmpty()) {
+      // the query rejected the file without reading it (e.g. because of its extension). no need to cache that.
+      entries.remove(file);
+      return;
+    }
+
+    // only hash the content if it has been loaded by the query anyway
+    var hash = input.isFileContentLoaded() ? contentHash(input.fileContent()) : NO_HASH;
+    var matches = result.stream()
+        .map(m -> new StoredMatch(m.start(), m.end(), m.severity(), m.text().toString()))
+        .toList();
+    entries.put(file, new Entry(size, lastModified, hash, fingerprint, matches));
+  }
+
+  protected static void restore(ICacheableFileQuery query, FileQueryInput input, Entry entry) {
+    if (entry.matches().isEmpty()) {
+      return;
+    }
+    var matches = entry.matches().stream()
+        .map(m -> new FileQueryMatch(input.file(), input.module(), m.text(), m.start(), m.end(), m.severity()))
+        .toList();
+    query.addCachedMatches(input, matches);
+  }
+
+  protected static byte[] contentHash(CharSequence content) {
+    var digest = newDigest();
+    digest.update(StandardCharsets.UTF_8.encode(CharBuffer.wrap(content)));
+    return digest.digest();
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance(HASH_ALGORITHM);
+    }
+    catch (NoSuchAlgorithmException e) {
+      throw new IllegalStateException(e); // SHA-256 is available on all Java platforms
+    }
+  }
+
+  /**
+   * Writes all entries of this cache to the {@link #storage() storage file}.
+   *
+   * @throws IOException
+   *           if the file cannot be written.
+   */
+  public synchronized void store() throws IOException {
+    var parent = m_storage.toAbsolutePath().getParent();
+    if (parent != null) {
+      Files.createDirectories(parent);
+    }
+    // snapshot: the queries may still add entries concurrently (the sizes written must match the entries written)
+    var queries = new ArrayList<>(m_entries.entrySet());
+    var tmp = m_storage.resolveSibling(m_storage.getFileName() + ".tmp");
+    try (var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+      out.writeInt(FORMAT_VERSION);
+      out.writeInt(queries.size());
+      for (var queryEntries : queries) {
+        var entries = new ArrayList<>(queryEntries.getValue().entrySet());
+        writeString(out, queryEntries.getKey());
+        out.writeInt(entries.size());
+        for (var fileEntry : entries) {
+          var entry = fileEntry.getValue();
+          writeString(out, fileEntry.getKey().toString());
+          out.writeLong(entry.size());
+          out.writeLong(entry.lastModified());
+          out.writeInt(entry.hash().length);
+          out.write(entry.hash());
+          writeString(out, entry.fingerprint());
+          out.writeInt(entry.matches().size());
+          for (var match : entry.matches()) {
+            out.writeInt(match.start());
+            out.writeInt(match.end());
+            out.writeInt(match.severity());
+            writeString(out, match.text());
+          }
+        }
+      }
+    }
+    Files.move(tmp, m_storage, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  protected static void writeString(DataOutput out, String s) throws IOException {
+    // no writeUTF: it is limited to 64KB
+    var bytes = s.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  protected static String readString(DataInputStream in) throws IOException {
+    var length = in.readInt();
+    if (length < 0) {
+      throw new IOException("Invalid string length " + length + '.');
+    }
+    var bytes = in.readNBytes(length);
+    if (bytes.length != length) {
+      throw new EOFException();
+    }
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  protected synchronized void read() throws IOException {
+    try (var in = new DataInputStream(new BufferedInputStream(Files.newInputStream(m_storage)))) {
+      var version = in.readInt();
+      if (version != FORMAT_VERSION) {
+        SdkLog.debug("File query cache '{}' has format version {} but {} is required. Cache is discarded.", m_storage, version, FORMAT_VERSION);
+        return;
+      }
+      var numQueries = in.readInt();
+      for (var i = 0; i < numQueries; i++) {
+        var cacheId = readString(in);
+        var numEntries = in.readInt();
+        Map<Path, Entry> entries = new ConcurrentHashMap<>(numEntries);
+        for (var j = 0; j < numEntries; j++) {
+          var file = Paths.get(readString(in));
+          var size = in.readLong();
+          var lastModified = in.readLong();
+          var hash = in.readNBytes(in.readInt());
+          var fingerprint = readString(in);
+          var numMatches = in.readInt();
+          List<StoredMatch> matches = new ArrayList<>(numMatches);
+          for (var k = 0; k < numMatches; k++) {
+            matches.add(new StoredMatch(in.readInt(), in.readInt(), in.readInt(), readString(in)));
+          }
+          entries.put(file, new Entry(size, lastModified, hash, fingerprint, matches));
+        }
+        m_entries.put(cacheId, entries);
+      }
+    }
+  }
+
+  /**
+   * Removes all entries from this cache. The {@link #storage() storage file} is not modified until the next
+   * {@link #store()}.
+   */
+  public void clear() {
+    m_entries.clear();
+  }
+
+  /**
+   * Removes the entries of all files which no longer exist or are not part of the given files anymore (e.g. because
+   * they have been deleted).
+   *
+   * @param existingFiles
+   *          The files for which the entries should be kept. Must not be {@code null}.
+   */
+  public void retainAll(Set<Path> existingFiles) {
+    Ensure.notNull(existingFiles);
+    m_entries.values().forEach(entries -> entries.keySet().retainAll(existingFiles));
+  }
+
+  /**
+   * Removes the entries of all files which have not been searched by a {@link #cached(ICacheableFileQuery) cached
+   * query} of this instance (e.g. because they have been deleted or renamed). Call this method after a complete search
+   * and before {@link #store()} so that the stored cache does not grow with the entries of files which no longer exist.
+   */
+  public void retainVisited() {
+    retainAll(visitedFiles());
+  }
+
+  /**
+   * @return The files searched by the {@link #cached(ICacheableFileQuery) cached queries} of this instance.
+   */
+  public Set<Path> visitedFiles() {
+    return Set.copyOf(m_visitedFiles);
+  }
+
+  /**
+   * @return The number of files for which matches are stored (for all queries).
+   */
+  public int size() {
+    return m_entries.values().stream()
+        .mapToInt(Map::size)
+        .sum();
+  }
+
+  /**
+   * @return The file in which this cache is {@link #store() stored}.
+   */
+  public Path storage() {
+    return m_storage;
+  }
+
+  /**
+   * @return The {@link CacheStatistics} of this cache. A hit is a file for which the matches could be reused. The load
+   *         time is the time spent searching in files for which no valid matches were available.
+   */
+  public CacheStatistics statistics() {
+    return m_statistics;
+  }
+
+  @Override
+  public String toString() {
+    return m_entries.keySet().stream()
+        .collect(joining(", ", FileQueryCache.class.getSimpleName() + " [storage=" + m_storage + ", queries=[", "], " + m_statistics + ']'));
+  }
+
+  protected record Entry(long size, long lastModified, byte[] hash, String fingerprint, List<StoredMatch> matches) {
+  }
+
+  protected record StoredMatch(int start, int end, int severity, String text) {
+  }
+
+  private final class CachedFileQuery implements IFileQuery {
+
+    private final ICacheableFileQuery m_query;
+
+    private CachedFileQuery(ICacheableFileQuery query) {
+      m_query = query;
+    }
+
+    @Override
+    public void searchIn(FileQueryInput input) {
+      FileQueryCache.this.searchIn(m_query, input);
+    }
+
+    @Override
+    public boolean isThreadSafe() {
+      return m_query.isThreadSafe();
+    }
+
+    @Override
+    public Set<FileQueryMatch> result(Path file) {
+      return m_query.result(file);
+    }
+
+    @Override
+    public Stream<FileQueryMatch> result() {
+      return m_query.result();
+    }
+
+    @Override
+    public String name() {
+      return m_query.name();
+    }
+  }
+}
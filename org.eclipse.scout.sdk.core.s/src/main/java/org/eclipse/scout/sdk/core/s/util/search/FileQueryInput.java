@@ -16,6 +16,7 @@ import java.util.function.Supplier;
 
 import org.eclipse.scout.sdk.core.util.Ensure;
 import org.eclipse.scout.sdk.core.util.FinalValue;
+import org.eclipse.scout.sdk.core.util.SourceState;
 
 /**
  * Represents the input for an {@link IFileQuery}. This represents a file in which the query is searching.
@@ -27,12 +28,14 @@ public class FileQueryInput {
   private final String m_extension;
   private final Supplier<CharSequence> m_fileContentLoader;
   private final FinalValue<CharSequence> m_fileContent;
+  private final FinalValue<SourceState.Index> m_sourceState;
 
   public FileQueryInput(Path file, Path module, Supplier<CharSequence> fileContentLoader) {
     m_file = Ensure.notNull(file);
     m_module = Ensure.notNull(module);
     m_fileContentLoader = Ensure.notNull(fileContentLoader);
     m_fileContent = new FinalValue<>();
+    m_sourceState = new FinalValue<>();
     m_extension = extensionOf(file);
   }
 
@@ -64,6 +67,22 @@ public class FileQueryInput {
     return m_fileContent.computeIfAbsentAndGet(m_fileContentLoader);
   }
 
+  /**
+   * @return The lazy created {@link SourceState.Index} of the {@link #fileContent()}. Use it to check the state of
+   *         several positions within the file without parsing the content again for each position.
+   * @since 13.0
+   */
+  public SourceState.Index sourceState() {
+    return m_sourceState.computeIfAbsentAndGet(() -> SourceState.index(fileContent()));
+  }
+
+  /**
+   * @return {@code true} if the {@link #fileContent()} has already been loaded.
+   */
+  public boolean isFileContentLoaded() {
+    return m_fileContent.isSet();
+  }
+
   @Override
   public String toString() {
     return new StringBuilder(FileQueryInput.class.getSimpleName()).append(" [file=").append(m_file).append(']').toString();
@@ -0,0 +1,51 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.util.search;
+
+import java.util.Collection;
+
+/**
+ * An {@link IFileQuery} whose matches of a file only depend on the content of the file and on an external state that
+ * can be described by a fingerprint. The matches of such queries can be stored in a {@link FileQueryCache} so that
+ * unchanged files are not searched again.
+ *
+ * @since 13.0
+ */
+public interface ICacheableFileQuery extends IFileQuery {
+
+  /**
+   * @return An identifier for the matches of this query in a {@link FileQueryCache}. Must be changed if the search
+   *         logic of the query changes so that previously stored matches are no longer used.
+   */
+  String cacheId();
+
+  /**
+   * Computes a fingerprint of the external state the matches of the input given depend on (e.g. the translation keys
+   * accessible in the module of the file). Stored matches are only reused if the fingerprint is unchanged.
+   * <p>
+   * This method is called for each file and should therefore be fast (e.g. by caching the fingerprint for each module).
+   *
+   * @param input
+   *          The {@link FileQueryInput} for which the fingerprint should be returned. Is never {@code null}.
+   * @return The fingerprint. An empty {@link String} if the matches only depend on the file content.
+   */
+  String stateFingerprint(FileQueryInput input);
+
+  /**
+   * Adds matches that have been restored from a {@link FileQueryCache} to the result of this query. This method is called
+   * instead of {@link #searchIn(FileQueryInput)} if the matches of a file are still valid.
+   *
+   * @param input
+   *          The {@link FileQueryInput} for which the matches have been restored. Is never {@code null}.
+   * @param matches
+   *          The restored matches. Is never empty.
+   */
+  void addCachedMatches(FileQueryInput input, Collection<FileQueryMatch> matches);
+}
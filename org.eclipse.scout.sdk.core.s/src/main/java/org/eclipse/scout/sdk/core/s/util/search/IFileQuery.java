@@ -22,4 +22,19 @@ public interface IFileQuery extends IFileQueryResult {
    */
   void searchIn(FileQueryInput input);
 
+  /**
+   * Specifies if this query may be executed on several files in parallel.
+   * <p>
+   * If {@code true} is returned, {@link #searchIn(FileQueryInput)} may be called concurrently for different files (e.g.
+   * by a {@link WorkspaceWalker} with a parallelism greater than one). The results are read after all searches have
+   * completed.
+   *
+   * @return {@code true} if this query is thread safe and may therefore be executed in parallel. The default
+   *         implementation returns {@code false} so that the files are searched sequentially.
+   * @since 13.0
+   */
+  default boolean isThreadSafe() {
+    return false;
+  }
+
 }
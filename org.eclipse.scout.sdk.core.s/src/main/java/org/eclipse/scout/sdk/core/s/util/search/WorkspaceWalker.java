@@ -0,0 +1,483 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.s.util.search;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableCollection;
+
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.DirectoryIteratorException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+import java.util.function.BooleanSupplier;
+
+import org.eclipse.scout.sdk.core.log.SdkLog;
+import org.eclipse.scout.sdk.core.util.Ensure;
+import org.eclipse.scout.sdk.core.util.SdkException;
+import org.eclipse.scout.sdk.core.util.Strings;
+
+/**
+ * <h3>{@link WorkspaceWalker}</h3>
+ * <p>
+ * Supports visiting all files within a list of {@link WorkspaceModule modules}. It does not depend on an IDE and can
+ * therefore be used headless.
+ * </p>
+ * <p>
+ * By default hidden paths (leading dot) and node_modules folders are skipped. This behaviour may be changed using the
+ * methods {@link #withExtensionsAccepted(String...)}, {@link #withFilter(BiPredicate)},
+ * {@link #withSkipHiddenPaths(boolean)} and {@link #withSkipNodeModules(boolean)}.
+ * </p>
+ * <p>
+ * If a {@link #withParallelism(int) parallelism} greater than one is used, the directories are visited by a
+ * work-stealing pool using that many threads. The visitor is then called concurrently and must be thread safe. With a
+ * parallelism of one (the default) all files are visited in the calling thread.
+ * </p>
+ * <p>
+ * Directories and files which cannot be read are logged and skipped.
+ * </p>
+ *
+ * @since 13.0
+ */
+public class WorkspaceWalker {
+
+  /**
+   * The interval in which the calling thread asks for the cancellation while the files are visited in parallel.
+   */
+  public static final long CANCEL_CHECK_INTERVAL_MILLIS = 50;
+
+  private final Collection<String> m_fileExtensions;
+
+  private boolean m_skipHiddenPaths;
+  private boolean m_skipNodeModules;
+  private BiPredicate<Path, BasicFileAttributes> m_fileFilter;
+  private int m_parallelism;
+
+  public WorkspaceWalker() {
+    m_fileExtensions = new ArrayList<>();
+    m_skipHiddenPaths = true;
+    m_skipNodeModules = true;
+    m_parallelism = 1;
+  }
+
+  /**
+   * @return The default parallelism for walkers visiting in parallel: the number of available processors.
+   */
+  public static int defaultParallelism() {
+    return Runtime.getRuntime().availableProcessors();
+  }
+
+  /**
+   * Executes the query specified in the modules given. If the query is {@link IFileQuery#isThreadSafe() thread safe},
+   * the files are visited in parallel using the {@link #defaultParallelism()}. Otherwise, they are visited sequentially.
+   *
+   * @param query
+   *          The {@link IFileQuery} to execute. Must not be {@code null}.
+   * @param modules
+   *          The {@link WorkspaceModule modules} to search in. Must not be {@code null}.
+   * @param isCanceled
+   *          Is asked regularly if the execution should be canceled. May be {@code null}.
+   * @return The {@link IFileQueryResult} after execution.
+   */
+  public static IFileQueryResult executeQuery(IFileQuery query, Collection<WorkspaceModule> modules, BooleanSupplier isCanceled) {
+    new WorkspaceWalker()
+        .withParallelism(parallelismFor(query))
+        .walk(modules, (file, module) -> executeQueryInFile(query, file, module), isCanceled);
+    return query;
+  }
+
+  /**
+   * @param query
+   *          The {@link IFileQuery} to execute. Must not be {@code null}.
+   * @return The {@link #defaultParallelism()} if the query is {@link IFileQuery#isThreadSafe() thread safe}, one
+   *         otherwise.
+   * @since 13.0
+   */
+  public static int parallelismFor(IFileQuery query) {
+    return query.isThreadSafe() ? defaultParallelism() : 1;
+  }
+
+  protected static void executeQueryInFile(IFileQuery query, Path file, WorkspaceModule module) {
+    query.searchIn(new FileQueryInput(file, module.directory(), () -> readFile(file, module.charset())));
+  }
+
+  protected static CharSequence readFile(Path file, Charset charset) {
+    try {
+      return Strings.fromFile(file, charset);
+    }
+    catch (IOException e) {
+      throw new SdkException("Unable to read content of file '{}'.", file, e);
+    }
+  }
+
+  /**
+   * Visits all files in the modules given.
+   *
+   * @param modules
+   *          The {@link WorkspaceModule modules} to visit. Must not be {@code null}.
+   * @param visitor
+   *          The visitor to call for each file. Receives the file and the module it belongs to. Must not be
+   *          {@code null}. Must be thread safe if the {@link #parallelism()} is greater than one.
+   * @param isCanceled
+   *          Is asked regularly if the visit should be canceled. May be {@code null}. Must be thread safe if the
+   *          {@link #parallelism()} is greater than one.
+   */
+  public void walk(Collection<WorkspaceModule> modules, BiConsumer<Path, WorkspaceModule> visitor, BooleanSupplier isCanceled) {
+    walk(modules, visitor, isCanceled, false);
+  }
+
+  /**
+   * Visits all files in the modules given. In contrast to {@link #walk(Collection, BiConsumer, BooleanSupplier)} the
+   * cancellation is only asked in the calling thread: while the files are visited in parallel, the calling thread
+   * waits for the visit to complete and asks for the cancellation every {@value #CANCEL_CHECK_INTERVAL_MILLIS}
+   * milliseconds. Use this method if the cancellation must not be asked concurrently (e.g. because it asks a progress
+   * monitor of an IDE).
+   *
+   * @param modules
+   *          The {@link WorkspaceModule modules} to visit. Must not be {@code null}.
+   * @param visitor
+   *          The visitor to call for each file. Receives the file and the module it belongs to. Must not be
+   *          {@code null}. Must be thread safe if the {@link #parallelism()} is greater than one.
+   * @param isCanceled
+   *          Is asked regularly in the calling thread if the visit should be canceled. May be {@code null}.
+   */
+  public void walkCancelingInCallingThread(Collection<WorkspaceModule> modules, BiConsumer<Path, WorkspaceModule> visitor, BooleanSupplier isCanceled) {
+    walk(modules, visitor, isCanceled, true);
+  }
+
+  protected void walk(Collection<WorkspaceModule> modules, BiConsumer<Path, WorkspaceModule> visitor, BooleanSupplier isCanceled, boolean cancelInCallingThread) {
+    Ensure.notNull(modules);
+    Ensure.notNull(visitor);
+    var canceled = isCanceled == null ? (BooleanSupplier) () -> false : isCanceled;
+    var parallel = parallelism() > 1;
+    if (!parallel) {
+      // visit in the calling thread
+      modules.forEach(module -> new DirectoryVisit(module.directory(), module, visitor, canceled, false).compute());
+      return;
+    }
+
+    var stop = new AtomicBoolean();
+    BooleanSupplier canceledInWorker = cancelInCallingThread ? stop::get : () -> stop.get() || canceled.getAsBoolean();
+    var tasks = modules.stream()
+        .map(module -> new DirectoryVisit(module.directory(), module, visitor, canceledInWorker, true))
+        .toList();
+    var pool = new ForkJoinPool(parallelism());
+    try {
+      var visit = pool.submit(new RecursiveAction() {
+        private static final long serialVersionUID = 1L;
+
+        @Override
+        protected void compute() {
+          invokeAll(tasks);
+        }
+      });
+      awaitCompletion(visit, canceled, stop);
+    }
+    finally {
+      pool.shutdownNow();
+    }
+  }
+
+  protected static void awaitCompletion(Future<?> visit, BooleanSupplier isCanceled, AtomicBoolean stop) {
+    while (true) {
+      try {
+        visit.get(CANCEL_CHECK_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+        return;
+      }
+      catch (TimeoutException e) {
+        if (!stop.get() && isCanceled.getAsBoolean()) {
+          stop.set(true); // the running visits end soon
+        }
+      }
+      catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        stop.set(true);
+        throw new SdkException("Interrupted while visiting the workspace.", e);
+      }
+      catch (ExecutionException e) {
+        var cause = e.getCause();
+        if (cause instanceof RuntimeException re) {
+          throw re;
+        }
+        if (cause instanceof Error err) {
+          throw err;
+        }
+        throw new SdkException(cause);
+      }
+    }
+  }
+
+  protected boolean directoryFiltersAccepted(Path file, BasicFileAttributes attrs) {
+    if (isSkipHiddenPaths() && isHidden(file)) {
+      return false;
+    }
+
+    var fileName = file.getFileName();
+    if (isSkipNodeModules() && fileName != null && "node_modules".equals(fileName.toString())) {
+      return false;
+    }
+
+    return fileFilter()
+        .map(filter -> filter.test(file, attrs))
+        .orElse(Boolean.TRUE);
+  }
+
+  protected boolean allFiltersAccepted(Path file, BasicFileAttributes attrs) {
+    if (!acceptFileExtension(file)) {
+      return false;
+    }
+    return directoryFiltersAccepted(file, attrs);
+  }
+
+  protected boolean acceptFileExtension(Path file) {
+    if (extensionsAccepted().isEmpty()) {
+      return true; // no filter
+    }
+    var path = file.getFileName();
+    if (path == null) {
+      return false;
+    }
+    var fileName = path.toString().toLowerCase(Locale.US);
+    return extensionsAccepted().stream().anyMatch(fileName::endsWith);
+  }
+
+  /**
+   * @param path
+   *          The {@link Path} to check.
+   * @return {@code true} if the file name of the path given starts with a dot.
+   */
+  public static boolean isHidden(Path path) {
+    var fileName = path.getFileName();
+    return fileName != null && fileName.toString().startsWith(".");
+  }
+
+  /**
+   * @return The number of threads used to visit the files. If it is one, all files are visited in the calling thread.
+   */
+  public int parallelism() {
+    return m_parallelism;
+  }
+
+  /**
+   * @param parallelism
+   *          The number of threads used to visit the files. If it is one (the default), all files are visited in the
+   *          calling thread. Otherwise, the visitor must be thread safe. Must be greater than zero.
+   * @return this instance
+   */
+  public WorkspaceWalker withParallelism(int parallelism) {
+    Ensure.isTrue(parallelism > 0, "Parallelism must be greater than zero.");
+    m_parallelism = parallelism;
+    return this;
+  }
+
+  /**
+   * @return {@code true} if hidden paths (file or folder names with leading dot) should be skipped when visiting.
+   */
+  public boolean isSkipHiddenPaths() {
+    return m_skipHiddenPaths;
+  }
+
+  /**
+   * @param skipHiddenPaths
+   *          {@code true} if hidden paths (file or folder names with leading dot) should be skipped when visiting.
+   * @return this instance
+   */
+  public WorkspaceWalker withSkipHiddenPaths(boolean skipHiddenPaths) {
+    m_skipHiddenPaths = skipHiddenPaths;
+    return this;
+  }
+
+  /**
+   * @return {@code true} if "node_modules" folders should be skipped when visiting.
+   */
+  public boolean isSkipNodeModules() {
+    return m_skipNodeModules;
+  }
+
+  /**
+   * @param skipNodeModules
+   *          {@code true} if "node_modules" folders should be skipped when visiting.
+   * @return this instance
+   */
+  public WorkspaceWalker withSkipNodeModules(boolean skipNodeModules) {
+    m_skipNodeModules = skipNodeModules;
+    return this;
+  }
+
+  /**
+   * @return A custom file filter if available.
+   */
+  public Optional<BiPredicate<Path, BasicFileAttributes>> fileFilter() {
+    return Optional.ofNullable(m_fileFilter);
+  }
+
+  /**
+   * @param fileFilter
+   *          A custom file filter if available. Must be thread safe if the {@link #parallelism()} is greater than one.
+   * @return this instance
+   */
+  public WorkspaceWalker withFilter(BiPredicate<Path, BasicFileAttributes> fileFilter) {
+    m_fileFilter = fileFilter;
+    return this;
+  }
+
+  /**
+   * @return An unmodifiable collection holding the file extensions (with or without extension separator dot) which are
+   *         visited or an empty collection if all files should be visited.
+   */
+  public Collection<String> extensionsAccepted() {
+    return unmodifiableCollection(m_fileExtensions);
+  }
+
+  /**
+   * @param extensions
+   *          Sets all file extensions (with or without extension separator dot) which should be visited. May be
+   *          {@code null}.
+   * @return this instance
+   */
+  public WorkspaceWalker withExtensionsAccepted(String... extensions) {
+    Collection<String> l = extensions == null ? null : Arrays.asList(extensions);
+    return withExtensionsAccepted(l);
+  }
+
+  /**
+   * @param extensions
+   *          Sets all file extensions (with or without extension separator dot) which should be visited. May be
+   *          {@code null}.
+   * @return this instance
+   */
+  public WorkspaceWalker withExtensionsAccepted(Collection<String> extensions) {
+    m_fileExtensions.clear();
+    if (extensions != null && !extensions.isEmpty()) {
+      for (var e : extensions) {
+        if (Strings.hasText(e)) {
+          m_fileExtensions.add(e);
+        }
+      }
+    }
+    return this;
+  }
+
+  /**
+   * Visits the files of a directory and forks a new visit for each accepted subdirectory.
+   */
+  @SuppressWarnings("serial")
+  protected class DirectoryVisit extends RecursiveAction {
+    private final Path m_directory;
+    private final WorkspaceModule m_module;
+    private final BiConsumer<Path, WorkspaceModule> m_visitor;
+    private final BooleanSupplier m_isCanceled;
+    private final boolean m_forkSubDirectories;
+
+    protected DirectoryVisit(Path directory, WorkspaceModule module, BiConsumer<Path, WorkspaceModule> visitor, BooleanSupplier isCanceled, boolean forkSubDirectories) {
+      m_directory = directory;
+      m_module = module;
+      m_visitor = visitor;
+      m_isCanceled = isCanceled;
+      m_forkSubDirectories = forkSubDirectories;
+    }
+
+    @Override
+    protected void compute() {
+      if (m_isCanceled.getAsBoolean() || !acceptDirectory(m_directory)) {
+        return;
+      }
+
+      List<DirectoryVisit> subDirectories = new ArrayList<>();
+      try (var children = Files.newDirectoryStream(m_directory)) {
+        for (var child : children) {
+          if (m_isCanceled.getAsBoolean()) {
+            return;
+          }
+          var attributes = readAttributes(child);
+          if (attributes == null) {
+            continue; // skip unreadable file or subtree
+          }
+          if (attributes.isDirectory()) {
+            subDirectories.add(new DirectoryVisit(child, m_module, m_visitor, m_isCanceled, m_forkSubDirectories));
+          }
+          else if (allFiltersAccepted(child, attributes)) {
+            m_visitor.accept(child, m_module);
+          }
+        }
+      }
+      catch (IOException | DirectoryIteratorException e) {
+        // one unreadable directory must not abort the whole walk: skip the rest of it
+        SdkLog.warning("Unable to visit directory '{}'. Directory is skipped.", m_directory, e);
+      }
+
+      if (m_forkSubDirectories) {
+        invokeAll(subDirectories);
+      }
+      else {
+        subDirectories.forEach(DirectoryVisit::compute);
+      }
+    }
+
+    protected boolean acceptDirectory(Path directory) {
+      if (m_module.excludedDirectories().contains(directory)) {
+        return false;
+      }
+      var attributes = readAttributes(directory);
+      return attributes != null && directoryFiltersAccepted(directory, attributes);
+    }
+
+    protected BasicFileAttributes readAttributes(Path path) {
+      try {
+        return Files.readAttributes(path, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+      }
+      catch (IOException e) {
+        SdkLog.warning("Unable to read attributes of '{}'. It is skipped.", path, e);
+        return null;
+      }
+    }
+  }
+
+  /**
+   * A module (e.g. a project) to visit.
+   *
+   * @param directory
+   *          The root directory of the module. Must not be {@code null}.
+   * @param charset
+   *          The {@link Charset} of the files in the module. Must not be {@code null}.
+   * @param excludedDirectories
+   *          Directories within the module that should not be visited (e.g. output directories). Must not be
+   *          {@code null}.
+   */
+  public record WorkspaceModule(Path directory, Charset charset, Set<Path> excludedDirectories) {
+    public WorkspaceModule {
+      Ensure.notNull(directory);
+      Ensure.notNull(charset);
+      Ensure.notNull(excludedDirectories);
+    }
+
+    public WorkspaceModule(Path directory, Charset charset) {
+      this(directory, charset, emptySet());
+    }
+  }
+}
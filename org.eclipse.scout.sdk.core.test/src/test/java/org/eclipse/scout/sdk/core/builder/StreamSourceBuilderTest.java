@@ -12,6 +12,7 @@ package org.eclipse.scout.sdk.core.builder;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 
 import org.eclipse.scout.sdk.core.testing.CoreTestingUtils;
@@ -39,4 +40,17 @@ public class StreamSourceBuilderTest {
     var generated = out.toString(StandardCharsets.UTF_8); // here the output is flushed and available
     Assertions.assertEquals("Myteststring//commenttest", CoreTestingUtils.removeWhitespace(generated));
   }
+
+  @Test
+  public void testStreamSourceBuilderWithWriter() {
+    var large = new StringBuilder();
+    while (large.length() <= StreamSourceBuilder.CHUNK_SIZE * 2) {
+      large.append("0123456789");
+    }
+    var out = new StringWriter();
+    try (var builder = new StreamSourceBuilder(out, new BuilderContext())) {
+      builder.append("a").append(new char[]{'b', 'c'}).append(large).append(new StringBuilder("d"));
+    }
+    assertEquals("abc" + large + 'd', out.toString());
+  }
 }
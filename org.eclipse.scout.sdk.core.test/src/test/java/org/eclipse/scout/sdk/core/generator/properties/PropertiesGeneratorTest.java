@@ -18,11 +18,15 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Properties;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
@@ -93,4 +97,104 @@ public class PropertiesGeneratorTest {
     assertTrue(generator.equals(generator));
     assertFalse(generator.equals(""));
   }
+
+  @Test
+  public void testOrderPreserved() throws IOException {
+    var origContent = lines(
+        "# header",
+        "",
+        "z.key=last",
+        "# comment of b",
+        "b.key = b \\",
+        "   continued",
+        "a.key:\\u00E4",
+        "d.key=to be changed",
+        "c.key=to be removed");
+    var generator = PropertiesGenerator.create(new ByteArrayInputStream(origContent.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8)
+        .withOrderPreserved(true);
+    assertEquals(Arrays.asList("# header", ""), generator.headerLines());
+    assertEquals("b continued", generator.properties().get("b.key"));
+    assertEquals("ä", generator.properties().get("a.key"));
+
+    // unchanged content is written as read
+    assertEquals(origContent, generator.toSource(identity(), new BuilderContext()).toString());
+
+    generator.properties().put("d.key", "changed");
+    generator.properties().remove("c.key");
+    generator.properties().put("a0.key", "new");
+    generator.properties().put("zz.key", "new");
+    var expected = lines(
+        "# header",
+        "",
+        "a0.key=new",
+        "z.key=last",
+        "# comment of b",
+        "b.key = b \\",
+        "   continued",
+        "a.key:\\u00E4",
+        "d.key=changed",
+        "zz.key=new");
+    assertEquals(expected, generator.toSource(identity(), new BuilderContext()).toString());
+  }
+
+  @Test
+  public void testCompatibleWithJavaProperties() throws IOException {
+    var content = lines(
+        "! comment",
+        "  key1   value with spaces\\t",
+        "key\\ 2 = \\ leading space",
+        "key\\=3::value",
+        "key4\\",
+        "  \\",
+        "  continued\\\\",
+        "key5\\u0041=\\u00e4\\u20AC",
+        "# not continued \\",
+        "key6",
+        "key1=duplicate",
+        "key7=\\#\\!\\z");
+    var expected = new Properties();
+    expected.load(new StringReader(content));
+    var generator = PropertiesGenerator.create(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)), StandardCharsets.UTF_8);
+    assertEquals(expected, toProperties(generator.properties()));
+
+    // written lines are equal to the ones of java.util.Properties
+    var special = " \t#!=:\\ä€" + (char) 1;
+    generator.properties().put(special, special + "\n ");
+    generator.properties().put("k", "v");
+    generator.properties().put("k=", "v");
+    generator.properties().put("k:a", "v");
+    for (var escapeUnicode : new boolean[]{false, true}) {
+      generator.withEncoding(escapeUnicode ? StandardCharsets.ISO_8859_1 : StandardCharsets.UTF_8);
+      assertEquals("! comment\n" + storeWithJavaProperties(generator.properties(), escapeUnicode), generator.toSource(identity(), new BuilderContext()).toString());
+    }
+  }
+
+  private static String lines(String... lines) {
+    return Stream.of(lines).map(line -> line + '\n').collect(joining());
+  }
+
+  private static Properties toProperties(Map<String, String> map) {
+    var result = new Properties();
+    result.putAll(map);
+    return result;
+  }
+
+  private static String storeWithJavaProperties(Map<String, String> map, boolean escapeUnicode) throws IOException {
+    String stored;
+    if (escapeUnicode) {
+      var out = new ByteArrayOutputStream();
+      toProperties(map).store(out, null);
+      stored = out.toString(StandardCharsets.ISO_8859_1);
+    }
+    else {
+      var out = new StringWriter();
+      toProperties(map).store(out, null);
+      stored = out.toString();
+    }
+    return Stream.of(stored.split(lineSeparator()))
+        .filter(line -> !line.startsWith("#"))
+        .sorted()
+        .map(line -> line + '\n')
+        .collect(joining());
+  }
 }
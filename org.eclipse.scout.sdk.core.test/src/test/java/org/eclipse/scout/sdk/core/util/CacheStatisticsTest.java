@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+public class CacheStatisticsTest {
+
+  @Test
+  public void testCounters() {
+    var statistics = new CacheStatistics("test");
+    assertEquals(1.0, statistics.hitRate());
+    assertEquals(0, statistics.requestCount());
+
+    statistics.hit();
+    statistics.hit();
+    statistics.hit();
+    statistics.miss();
+    statistics.loaded(TimeUnit.MILLISECONDS.toNanos(5));
+
+    assertEquals(3, statistics.hitCount());
+    assertEquals(1, statistics.missCount());
+    assertEquals(4, statistics.requestCount());
+    assertEquals(0.75, statistics.hitRate());
+    assertEquals(5, statistics.totalLoadTimeMillis());
+    assertTrue(statistics.toString().startsWith("test [hits=3, misses=1, hitRate=75%"));
+
+    statistics.reset();
+    assertEquals(0, statistics.requestCount());
+    assertEquals(0, statistics.totalLoadTimeMillis());
+  }
+}
@@ -299,4 +299,83 @@ public class SourceStateTest {
     assertTrue(isInString(src, 21));
     assertFalse(isInString(src, 22));
   }
+
+  @Test
+  public void testTextBlock() {
+    var src = "a = \"\"\"\n  x \"y\" \\\"\"\" /* z */\n  \"\"\"; b = \"\"; // c";
+    var textBlockStart = src.indexOf("\"\"\"");
+    var textBlockEnd = src.lastIndexOf("\"\"\"") + 2;
+    for (var i = 0; i < textBlockStart; i++) {
+      assertFalse(isInString(src, i));
+    }
+    for (var i = textBlockStart; i <= textBlockEnd; i++) {
+      assertTrue(isInString(src, i));
+      assertFalse(isInCode(src, i));
+      assertFalse(isInComment(src, i));
+    }
+    assertEquals(State.IN_STRING, parse(src, textBlockStart));
+    assertEquals(State.ESCAPE_STRING, parse(src, src.indexOf('\\')));
+    assertEquals(State.DEFAULT, parse(src, textBlockEnd));
+    assertTrue(isInCode(src, textBlockEnd + 1)); // ;
+
+    var emptyString = src.indexOf("\"\";");
+    assertTrue(isInString(src, emptyString));
+    assertTrue(isInString(src, emptyString + 1));
+    assertTrue(isInCode(src, emptyString + 2)); // ;
+    assertTrue(isInComment(src, src.length() - 1));
+  }
+
+  @Test
+  public void testIndex() {
+    assertIndexEqualsParse(new String(getLineCommentSrc('"')));
+    assertIndexEqualsParse(new String(getLineCommentSrc('\'')));
+    assertIndexEqualsParse(new String(getLineCommentSrc('`')));
+    assertIndexEqualsParse(new String(getBlockCommentSrc('"')));
+    assertIndexEqualsParse(new String(getBlockCommentSrc('`')));
+    assertIndexEqualsParse("a`b\\`c`d");
+    assertIndexEqualsParse("a'inside\"still-inside'b");
+    assertIndexEqualsParse("/*");
+    assertIndexEqualsParse("\"\"\"\ntext \\\"\"\" block\"\"\"/**/x//");
+    assertIndexEqualsParse("");
+
+    var index = SourceState.index("a/*b*/c");
+    assertEquals(5, index.numRegions()); // code, slash, in comment, star, code again
+    assertEquals("a/*b*/c", index.source().toString());
+  }
+
+  @Test
+  public void testIndexOfLargeSource() {
+    var numLines = 20000;
+    var src = new StringBuilder(numLines * 40);
+    for (var i = 0; i < numLines; i++) {
+      switch (i % 5) {
+        case 0 -> src.append("    var s").append(i).append(" = TEXTS.get(\"Key").append(i).append("\"); // TEXTS.get(\"x\")\n");
+        case 1 -> src.append("    /* block ").append(i).append(" with \"quote */ int a").append(i).append(" = 4 / 2;\n");
+        case 2 -> src.append("    char c").append(i).append(" = '\\''; String t = \"\\\"\";\n");
+        case 3 -> src.append("    String b").append(i).append(" = \"\"\"\n      text \"block\" ").append(i).append("\n      \"\"\";\n");
+        default -> src.append("    session.text('Key").append(i).append("'); `template ${a} `;\n");
+      }
+    }
+    var index = SourceState.index(src);
+    for (var pos = 0; pos < src.length(); pos += 49999) {
+      assertIndexEqualsParse(index, pos);
+    }
+  }
+
+  private static void assertIndexEqualsParse(CharSequence src) {
+    var index = SourceState.index(src);
+    var charArrayIndex = SourceState.index(src.toString().toCharArray());
+    assertEquals(index.numRegions(), charArrayIndex.numRegions());
+    for (var pos = -1; pos <= src.length() + 1; pos++) {
+      assertIndexEqualsParse(index, pos);
+    }
+  }
+
+  private static void assertIndexEqualsParse(SourceState.Index index, int pos) {
+    var src = index.source();
+    assertEquals(parse(src, pos), index.parse(pos));
+    assertEquals(isInString(src, pos), index.isInString(pos));
+    assertEquals(isInCode(src, pos), index.isInCode(pos));
+    assertEquals(isInComment(src, pos), index.isInComment(pos));
+  }
 }
@@ -11,11 +11,19 @@ package org.eclipse.scout.sdk.core.util;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
@@ -130,4 +138,189 @@ public class TtlCacheTest {
 
     assertEquals(1, cleanupCounter.get());
   }
+
+  @Test
+  public void testMaxSize() {
+    var cache = new TtlCache<Integer, Integer>(-1, TimeUnit.DAYS, null, 32);
+    for (var i = 0; i < 32; i++) {
+      cache.put(i, i);
+    }
+    assertEquals(32, cache.size());
+    assertEquals(0, cache.get(0)); // 0 is now the most recently used
+
+    cache.put(32, 32);
+    assertTrue(cache.size() <= 32);
+    assertEquals(0, cache.get(0));
+    assertEquals(32, cache.get(32));
+    assertNull(cache.get(1)); // least recently used
+  }
+
+  @Test
+  public void testMaxSizeWithConcurrentAccess() throws InterruptedException, ExecutionException {
+    var cache = new TtlCache<Integer, Integer>(-1, TimeUnit.DAYS, null, 64);
+    var numThreads = 4;
+    var executor = Executors.newFixedThreadPool(numThreads);
+    try {
+      var futures = new ArrayList<Future<?>>(numThreads);
+      for (var t = 0; t < numThreads; t++) {
+        var offset = t;
+        futures.add(executor.submit(() -> {
+          for (var i = 0; i < 20_000; i++) {
+            var key = (i * 7 + offset) % 256;
+            cache.computeIfAbsent(key, k -> k);
+            cache.get(i % 64); // concurrently changes the access order used by the eviction
+          }
+        }));
+      }
+      for (var future : futures) {
+        future.get(); // rethrows failures of the eviction
+      }
+    }
+    finally {
+      executor.shutdownNow();
+    }
+    assertTrue(cache.size() <= 64);
+  }
+
+  @Test
+  @SuppressWarnings("deprecation")
+  public void testModifiableCacheView() {
+    var cache = new TtlCache<String, Long>(1, TimeUnit.DAYS) {
+      int removeViaCacheExec(String key) {
+        return withCacheExec(c -> {
+          var removed = c.remove(key) != null;
+          c.entrySet().removeIf(e -> e.getKey() == null);
+          return removed ? 1 : 0;
+        });
+      }
+    };
+    cache.put("a", 1L);
+    cache.put("b", 2L);
+    cache.put(null, 3L);
+    assertEquals(1, cache.removeViaCacheExec("a"));
+    assertNull(cache.get("a"));
+    assertNull(cache.get(null));
+    assertEquals(2L, cache.get("b"));
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void testNullKeyAndValue() {
+    var cache = new TtlCache<String, Long>(1, TimeUnit.DAYS);
+    assertNull(cache.computeIfAbsent(null, k -> null));
+    assertNull(cache.put(null, 1L));
+    assertEquals(1L, cache.get(null));
+    assertEquals(1L, cache.remove(null));
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testFailingMappingFunction() {
+    var cache = new TtlCache<String, Long>(1, TimeUnit.DAYS);
+    assertThrows(IllegalArgumentException.class, () -> cache.computeIfAbsent("a", k -> {
+      throw new IllegalArgumentException("expected test exception");
+    }));
+    assertEquals(0, cache.size());
+    assertEquals(1L, cache.computeIfAbsent("a", k -> 1L));
+    assertThrows(IllegalStateException.class, () -> cache.computeIfAbsent("b", k -> cache.computeIfAbsent(k, k2 -> 2L)));
+  }
+
+  @Test
+  public void testStatistics() {
+    var cache = new TtlCache<String, Long>(1, TimeUnit.DAYS);
+    cache.computeIfAbsent("a", k -> 1L);
+    cache.computeIfAbsent("a", k -> 2L);
+    cache.get("a");
+    cache.get("b");
+    assertEquals(2, cache.statistics().hitCount());
+    assertEquals(2, cache.statistics().missCount());
+  }
+
+  @Test
+  public void testComputationDoesNotBlockOtherKeys() throws InterruptedException, ExecutionException, TimeoutException {
+    var cache = new TtlCache<String, Object>(1, TimeUnit.DAYS);
+    var executor = Executors.newFixedThreadPool(2);
+    try {
+      var slowStarted = new CountDownLatch(1);
+      var releaseSlow = new CountDownLatch(1);
+      var slowValue = new Object();
+      var slow = executor.submit(() -> cache.computeIfAbsent("slow", k -> {
+        slowStarted.countDown();
+        await(releaseSlow);
+        return slowValue;
+      }));
+      slowStarted.await(1, TimeUnit.MINUTES);
+
+      // other keys can be computed while the slow computation is running
+      assertEquals(1L, executor.submit(() -> cache.computeIfAbsent("fast", k -> 1L)).get(1, TimeUnit.MINUTES));
+
+      // a concurrent computation for the same key waits for the running one
+      var waiting = executor.submit(() -> cache.computeIfAbsent("slow", k -> new Object()));
+      releaseSlow.countDown();
+      assertSame(slowValue, slow.get(1, TimeUnit.MINUTES));
+      assertSame(slowValue, waiting.get(1, TimeUnit.MINUTES));
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testContention() throws InterruptedException, ExecutionException {
+    var numThreads = 8;
+    var numKeys = 16;
+    var numRequestsPerThread = 2000;
+    var cache = new TtlCache<Integer, Integer>(1, TimeUnit.DAYS);
+    Map<Integer, AtomicInteger> numComputations = new ConcurrentHashMap<>();
+    var executor = Executors.newFixedThreadPool(numThreads);
+    try {
+      var start = new CountDownLatch(1);
+      var futures = new ArrayList<Future<?>>(numThreads);
+      for (var t = 0; t < numThreads; t++) {
+        var offset = t;
+        futures.add(executor.submit(() -> {
+          await(start);
+          for (var i = 0; i < numRequestsPerThread; i++) {
+            var key = (i + offset) % numKeys;
+            var value = cache.computeIfAbsent(key, k -> {
+              numComputations.computeIfAbsent(k, x -> new AtomicInteger()).incrementAndGet();
+              sleep(1); // simulate an expensive computation
+              return k * 10;
+            });
+            assertEquals(key * 10, value);
+          }
+        }));
+      }
+      start.countDown();
+      for (var future : futures) {
+        future.get();
+      }
+
+      // each key is computed exactly once even though all threads request it concurrently
+      assertEquals(numKeys, numComputations.size());
+      numComputations.values().forEach(c -> assertEquals(1, c.get()));
+      assertEquals((long) numThreads * numRequestsPerThread - numKeys, cache.statistics().hitCount());
+    }
+    finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await(1, TimeUnit.MINUTES);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    }
+    catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
 }
@@ -13,10 +13,15 @@ import static org.eclipse.scout.sdk.core.testing.CoreTestingUtils.normalizeWhite
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import java.io.IOException;
 import java.io.StringReader;
 import java.nio.file.Files;
+import java.util.List;
+import java.util.Map;
+
+import javax.xml.namespace.QName;
 
 import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.transform.TransformerConfigurationException;
@@ -111,6 +116,51 @@ public class XmlTest {
     }
   }
 
+  @Test
+  public void testReadElements() throws IOException {
+    var xml = "<?xml version=\"1.0\" encoding=\"UTF-8\"?><project xmlns=\"http://maven.apache.org/POM/4.0.0\">"
+        + "<parent><groupId>parent.group</groupId><version>1.0</version></parent>"
+        + "<dependencies><dependency><artifactId>nested</artifactId></dependency></dependencies>"
+        + "<artifactId>my<!-- comment -->.artifact</artifactId>"
+        + "<name><![CDATA[a & b]]> &amp; c</name>"
+        + "<artifactId>second</artifactId>"
+        + "</project>";
+    var values = Xml.readElements(xml, List.of("artifactId", "groupId", "parent/groupId", "parent/version", "name", "dependencies/dependency/artifactId"));
+    assertEquals(Map.of(
+        "artifactId", "my.artifact",
+        "parent/groupId", "parent.group",
+        "parent/version", "1.0",
+        "name", "a & b & c",
+        "dependencies/dependency/artifactId", "nested"), values);
+    assertEquals(Map.of(), Xml.readElements(xml, List.of()));
+
+    // the DOM returns the same text content
+    var document = Xml.get(xml);
+    assertEquals(document.getDocumentElement().getElementsByTagName("name").item(0).getTextContent(), values.get("name"));
+
+    assertThrows(IOException.class, () -> Xml.readElements("<root><unclosed></root>", List.of("a")));
+  }
+
+  @Test
+  public void testRootElement() throws IOException {
+    var xml = Files.createTempFile("XmlTest", ".xml");
+    try {
+      Files.writeString(xml, "<?xml version=\"1.0\" encoding=\"UTF-8\"?><!-- comment --><p:bindings xmlns:p=\"http://java.sun.com/xml/ns/jaxws\"><p:a/></p:bindings>");
+      assertEquals(new QName("http://java.sun.com/xml/ns/jaxws", "bindings"), Xml.rootElement(xml).orElseThrow());
+      assertEquals(Map.of("a", ""), Xml.readElements(xml, List.of("a")));
+    }
+    finally {
+      Files.deleteIfExists(xml);
+    }
+  }
+
+  @Test
+  public void testExternalEntitiesNotResolved() {
+    var xxe = "<?xml version=\"1.0\"?><!DOCTYPE root [<!ENTITY xxe SYSTEM \"file:///etc/passwd\">]><root><a>&xxe;</a></root>";
+    assertThrows(IOException.class, () -> Xml.get(xxe));
+    assertThrows(IOException.class, () -> Xml.readElements(xxe, List.of("a")));
+  }
+
   @Test
   public void testEvaluateXPath() throws XPathExpressionException, IOException {
     var ns = "http://java.sun.com/xml/ns/jaxws";
@@ -28,10 +28,8 @@ import java.nio.file.Path;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
-import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -59,6 +57,7 @@ import org.eclipse.scout.sdk.core.typescript.model.spi.ES6ClassSpi;
 import org.eclipse.scout.sdk.core.typescript.model.spi.FieldSpi;
 import org.eclipse.scout.sdk.core.typescript.model.spi.FunctionSpi;
 import org.eclipse.scout.sdk.core.typescript.model.spi.NodeElementSpi;
+import org.eclipse.scout.sdk.core.typescript.model.spi.NodeModuleInventory;
 import org.eclipse.scout.sdk.core.typescript.model.spi.NodeModuleSpi;
 import org.eclipse.scout.sdk.core.typescript.model.spi.NodeModulesProviderSpi;
 import org.eclipse.scout.sdk.core.typescript.model.spi.ObjectLiteralSpi;
@@ -92,7 +91,7 @@ public class TestingNodeModulesProviderSpi implements NodeModulesProviderSpi {
   public static final String TAG_NAME_TYPE = "type";
   public static final String TAG_NAME_VALUE = "value";
 
-  private final Map<String, Optional<NodeModuleSpi>> m_modules = new HashMap<>();
+  private final NodeModuleInventory<NodeModuleSpi> m_modules = new NodeModuleInventory<>();
 
   @Override
   public Optional<NodeModuleSpi> create(Path xmlFile) {
@@ -108,15 +107,15 @@ public class TestingNodeModulesProviderSpi implements NodeModulesProviderSpi {
 
   @Override
   public Set<NodeModuleSpi> remove(Path changedPath) {
-    var keysToRemove = m_modules
-        .keySet().stream()
-        .filter(changedPath::startsWith)
-        .collect(toSet());
-    return keysToRemove.stream()
-        .map(m_modules::remove)
-        .filter(Objects::nonNull)
-        .flatMap(Optional::stream)
-        .collect(toSet());
+    return Set.copyOf(m_modules.remove(changedPath.toString()));
+  }
+
+  /**
+   * @return The {@link NodeModuleInventory} holding the modules of this provider. The module names are used as
+   *         directory.
+   */
+  public NodeModuleInventory<NodeModuleSpi> inventory() {
+    return m_modules;
   }
 
   @Override
@@ -140,14 +139,7 @@ public class TestingNodeModulesProviderSpi implements NodeModulesProviderSpi {
   }
 
   private Optional<NodeModuleSpi> getOrCreateModule(String name, String version, CharSequence index, Collection<Element> subModules, Collection<Element> exports) {
-    var module = m_modules.get(name);
-    if (module != null) {
-      return module;
-    }
-
-    module = Optional.of(createModule(name, version, index, subModules, exports));
-    m_modules.put(name, module);
-    return module;
+    return Optional.ofNullable(m_modules.computeIfAbsent(name, () -> createModule(name, version, index, subModules, exports)));
   }
 
   private NodeModuleSpi createModule(String name, String version, CharSequence index, Collection<Element> subModules, Collection<Element> exports) {
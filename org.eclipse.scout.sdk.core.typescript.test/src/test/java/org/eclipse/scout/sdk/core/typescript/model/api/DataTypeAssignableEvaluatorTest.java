@@ -0,0 +1,203 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.typescript.model.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.eclipse.scout.sdk.core.typescript.model.spi.NodeModuleSpi;
+import org.eclipse.scout.sdk.core.typescript.testing.spi.TestingNodeModulesProviderSpi;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class DataTypeAssignableEvaluatorTest {
+
+  private static final String MODULE_NAME = "@eclipse-scout/core";
+  private static final int HIERARCHY_DEPTH = 30;
+
+  private Object m_context;
+  private Path m_xmlFile;
+
+  @BeforeEach
+  public void setup(@TempDir Path dir) throws IOException {
+    // Widget <- Widget0 <- Widget1 <- ... <- Widget29
+    var xml = new StringBuilder("<module name=\"").append(MODULE_NAME).append("\"><export name=\"Widget\"><class name=\"Widget\"></class></export>");
+    for (var i = 0; i < HIERARCHY_DEPTH; i++) {
+      var superClass = i == 0 ? "Widget" : "Widget" + (i - 1);
+      xml.append("<export name=\"Widget").append(i).append("\"><class name=\"Widget").append(i).append("\">")
+          .append("<superClass><ref name=\"").append(superClass).append("\" module=\"").append(MODULE_NAME).append("\"></ref></superClass>")
+          .append("</class></export>");
+    }
+    xml.append("</module>");
+    m_xmlFile = Files.writeString(dir.resolve("DataTypeAssignableEvaluatorTest.xml"), xml);
+
+    m_context = new Object();
+    NodeModulesProvider.registerProvider(m_context, new TestingNodeModulesProviderSpi());
+  }
+
+  @AfterEach
+  public void tearDown() {
+    NodeModulesProvider.clearNodeModules();
+    NodeModulesProvider.removeProvider(m_context);
+  }
+
+  @Test
+  public void testAssignable() {
+    var module = module();
+    var widget = widget(module, -1);
+    var leaf = widget(module, HIERARCHY_DEPTH - 1);
+    var factory = module.nodeElementFactory();
+
+    assertTrue(widget.isAssignableFrom(leaf));
+    assertTrue(widget.isAssignableFrom(widget));
+    assertFalse(leaf.isAssignableFrom(widget));
+    assertFalse(new DataTypeAssignableEvaluator(leaf).fulfills(null));
+
+    var widgetArray = factory.createArrayDataType(widget, 1);
+    assertTrue(widgetArray.isAssignableFrom(factory.createArrayDataType(leaf, 1)));
+    assertFalse(widgetArray.isAssignableFrom(factory.createArrayDataType(leaf, 2)));
+    assertFalse(widgetArray.isAssignableFrom(leaf));
+
+    var union = factory.createUnionDataType(List.of(widget(module, 10), factory.createArrayDataType(widget, 1)));
+    assertTrue(union.isAssignableFrom(leaf));
+    assertTrue(union.isAssignableFrom(factory.createArrayDataType(leaf, 1)));
+    assertFalse(union.isAssignableFrom(widget(module, 9)));
+  }
+
+  @Test
+  public void testCache() {
+    var module = module();
+    var widget = widget(module, -1);
+    var leaf = widget(module, HIERARCHY_DEPTH - 1);
+    var cache = module.assignabilityCache();
+
+    assertEquals(0, cache.size());
+    assertTrue(widget.isAssignableFrom(leaf));
+    assertFalse(leaf.isAssignableFrom(widget));
+    assertEquals(2, cache.size());
+
+    // the results are stored in the module of the child
+    var inverse = new DataTypeAssignableEvaluator(widget);
+    assertFalse(inverse.fulfills(leaf));
+    assertEquals(2, cache.size());
+
+    // the cache is discarded together with the module
+    NodeModulesProvider.removeNodeModule(Path.of(MODULE_NAME));
+    var recreated = module();
+    assertNotSame(module, recreated);
+    assertEquals(0, recreated.assignabilityCache().size());
+    assertTrue(widget(recreated, -1).isAssignableFrom(widget(recreated, HIERARCHY_DEPTH - 1)));
+    assertEquals(1, recreated.assignabilityCache().size());
+
+    cache.clear();
+    assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testCycle() {
+    var module = module();
+    var widget = widget(module, -1);
+    var leaf = widget(module, HIERARCHY_DEPTH - 1);
+    var other = widget(module, 5);
+    var factory = module.nodeElementFactory();
+
+    // alias = alias | alias[] | Widget5
+    var alias = widget(module, 20);
+    var aliasArray = factory.createArrayDataType(alias, 1);
+    Function<IDataType, Stream<IDataType>> childrenSupplier = dt -> {
+      if (dt == alias) {
+        return Stream.of(alias, aliasArray, other);
+      }
+      if (dt == aliasArray) {
+        return Stream.of(alias);
+      }
+      return dt.childTypes();
+    };
+
+    assertTrue(new DataTypeAssignableEvaluator(leaf, childrenSupplier).fulfills(alias));
+    assertFalse(new DataTypeAssignableEvaluator(widget, childrenSupplier).fulfills(alias));
+    assertTrue(new DataTypeAssignableEvaluator(factory.createArrayDataType(leaf, 1), childrenSupplier).fulfills(aliasArray));
+    assertFalse(new DataTypeAssignableEvaluator(factory.createArrayDataType(widget, 1), childrenSupplier).fulfills(aliasArray));
+
+    var evaluator = new DataTypeFulfillsEvaluator(dt -> dt == other, childrenSupplier);
+    assertTrue(evaluator.fulfills(alias));
+    assertTrue(evaluator.isCycleDetected());
+    assertFalse(new DataTypeFulfillsEvaluator(dt -> false, childrenSupplier).fulfills(aliasArray));
+  }
+
+  /**
+   * Checks every pair of classes of a deep class hierarchy. The uncached run clears the cache before each check. Once
+   * the cache has been filled, all checks are answered from the cache.
+   */
+  @Test
+  public void testCachedResultsAreReused() {
+    var module = module();
+    var classes = Stream.iterate(-1, i -> i < HIERARCHY_DEPTH, i -> i + 1)
+        .map(i -> widget(module, i))
+        .toList();
+    var cache = module.assignabilityCache();
+    var statistics = cache.statistics();
+
+    var numAssignable = 0;
+    for (var child : classes) {
+      for (var base : classes) {
+        cache.clear();
+        if (base.isAssignableFrom(child)) {
+          numAssignable++;
+        }
+      }
+    }
+    assertEquals(classes.size() * (classes.size() + 1) / 2, numAssignable);
+
+    assertEquals(numAssignable, countAssignable(classes)); // fills the cache
+    assertEquals(classes.size() * classes.size(), cache.size());
+
+    statistics.reset();
+    assertEquals(numAssignable, countAssignable(classes));
+    assertEquals(classes.size() * classes.size(), statistics.hitCount());
+    assertEquals(0, statistics.missCount());
+  }
+
+  private static int countAssignable(Iterable<IES6Class> classes) {
+    var numAssignable = 0;
+    for (var child : classes) {
+      for (var base : classes) {
+        if (base.isAssignableFrom(child)) {
+          numAssignable++;
+        }
+      }
+    }
+    return numAssignable;
+  }
+
+  private INodeModule module() {
+    return NodeModulesProvider.createNodeModule(m_xmlFile, m_context)
+        .map(NodeModuleSpi::api)
+        .orElseThrow();
+  }
+
+  private static IES6Class widget(INodeModule module, int index) {
+    var name = index < 0 ? "Widget" : "Widget" + index;
+    return module.export(name)
+        .map(IES6Class.class::cast)
+        .orElseThrow();
+  }
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.typescript.model.spi;
+
+import static java.util.stream.Collectors.toSet;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import org.eclipse.scout.sdk.core.typescript.model.api.INodeElement;
+import org.eclipse.scout.sdk.core.typescript.model.api.INodeModule;
+import org.eclipse.scout.sdk.core.typescript.model.api.NodeModulesProvider;
+import org.eclipse.scout.sdk.core.typescript.testing.ExtendWithNodeModules;
+import org.eclipse.scout.sdk.core.typescript.testing.spi.TestingNodeModulesProviderSpi;
+import org.junit.jupiter.api.Test;
+
+@ExtendWithNodeModules("NodeModuleInventoryTest")
+public class NodeModuleInventoryTest {
+
+  @Test
+  public void testRemoveWithDependents(INodeModule root) {
+    assertEquals("root", root.name());
+    assertEquals(Set.of("shared", "a", "b", "root"), names(NodeModulesProvider.removeNodeModule(Path.of("shared", "src", "index.js"))));
+    assertEquals(Set.of("c"), names(NodeModulesProvider.removeNodeModule(Path.of("c"))));
+    assertEquals(Set.of(), names(NodeModulesProvider.removeNodeModule(Path.of("shared"))));
+    assertEquals(Set.of("d"), names(NodeModulesProvider.removeNodeModule(Path.of("d"))));
+  }
+
+  @Test
+  public void testRemoveWithCycle(INodeModule root) {
+    var shared = root.packageJson()
+        .dependencies()
+        .withRecursive(true)
+        .withName("shared")
+        .first().orElseThrow();
+    shared.packageJson().spi().dependencies().add(root.spi()); // build cycle
+    assertEquals(Set.of("shared", "a", "b", "root"), names(NodeModulesProvider.removeNodeModule(Path.of("root"))));
+    assertEquals(Set.of("c"), names(NodeModulesProvider.removeNodeModule(Path.of("c"))));
+  }
+
+  @Test
+  public void testOwningModule() {
+    var inventory = new NodeModuleInventory<NodeModuleSpi>();
+    var app = inventory.computeIfAbsent("/ws/app", () -> TestingNodeModulesProviderSpi.createNodeModule("app", "1.0.0", null));
+    var lib = inventory.computeIfAbsent("/ws/app/node_modules/@scope/lib/", () -> TestingNodeModulesProviderSpi.createNodeModule("@scope/lib", "1.0.0", null));
+    assertSame(app, inventory.computeIfAbsent("/ws/app", () -> null));
+    assertSame(lib, inventory.get("/ws/app/node_modules/@scope/lib").orElseThrow());
+    assertEquals(2, inventory.size());
+
+    assertSame(lib, inventory.owningModule("/ws/app/node_modules/@scope/lib/src/index.js").orElseThrow());
+    assertSame(app, inventory.owningModule("/ws/app/src/main.ts").orElseThrow());
+    assertSame(app, inventory.owningModule("\\ws\\app\\src\\main.ts").orElseThrow());
+    assertSame(app, inventory.owningModule("/ws/app/node_modules").orElseThrow());
+    assertTrue(inventory.owningModule("/ws/other/src/main.ts").isEmpty());
+    assertTrue(inventory.owningModule("/ws").isEmpty());
+
+    // app does not depend on lib: only lib is removed
+    assertEquals(Set.of(lib), inventory.remove("/ws/app/node_modules/@scope/lib/src/index.js"));
+    assertTrue(inventory.get("/ws/app/node_modules/@scope/lib").isEmpty());
+    assertSame(app, inventory.owningModule("/ws/app/node_modules/@scope/lib/src/index.js").orElseThrow());
+    assertEquals(Set.of(app), inventory.remove("/ws/app"));
+    assertTrue(inventory.isEmpty());
+    assertEquals(Set.of(), inventory.remove("/ws/app"));
+  }
+
+  @Test
+  public void testDependents() {
+    var inventory = new NodeModuleInventory<NodeModuleSpi>();
+    var lib = inventory.computeIfAbsent("/ws/lib", () -> TestingNodeModulesProviderSpi.createNodeModule("lib", "1.0.0", null));
+    var app1 = inventory.computeIfAbsent("/ws/app1", () -> TestingNodeModulesProviderSpi.createNodeModule("app1", "1.0.0", null));
+    var app2 = inventory.computeIfAbsent("/ws/app2", () -> TestingNodeModulesProviderSpi.createNodeModule("app2", "1.0.0", null));
+    when(app1.packageJson().dependencies()).thenReturn(List.of(lib));
+    when(app2.packageJson().dependencies()).thenReturn(List.of(app1));
+
+    assertEquals(Set.of(app1), inventory.dependents(lib));
+    assertEquals(Set.of(app2), inventory.dependents(app1));
+    assertEquals(Set.of(), inventory.dependents(app2));
+
+    assertEquals(Set.of(app1, app2), inventory.remove(List.of(app1)));
+    assertEquals(Set.of(), inventory.dependents(lib));
+    assertEquals(Set.of(lib), Set.copyOf(inventory.modules()));
+
+    inventory.clear();
+    assertTrue(inventory.isEmpty());
+    assertTrue(inventory.owningModule("/ws/lib").isEmpty());
+  }
+
+  private static Set<String> names(Collection<NodeModuleSpi> modules) {
+    return modules.stream()
+        .map(NodeModuleSpi::api)
+        .map(INodeElement::name)
+        .collect(toSet());
+  }
+}
@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.typescript.model.api;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.eclipse.scout.sdk.core.util.CacheStatistics;
+import org.eclipse.scout.sdk.core.util.Ensure;
+
+/**
+ * Cache for the results of a {@link DataTypeAssignableEvaluator}.
+ * <p>
+ * Each {@link INodeModule} holds one instance (see {@link INodeModule#assignabilityCache()}) which stores the results
+ * for all child {@link IDataType data types} of that module. As {@link INodeModule modules} are discarded if they or one
+ * of their dependencies change, the cached results are invalidated together with the module.
+ * <p>
+ * The results are stored by identity of the child, the base and the children supplier used to evaluate them. Therefore,
+ * the same children supplier instance must be used for repeated checks to benefit from this cache.
+ * <p>
+ * This class is thread safe.
+ *
+ * @since 13.0
+ */
+public class DataTypeAssignabilityCache {
+
+  /**
+   * The maximum number of results stored per children supplier. If exceeded, the results of that supplier are
+   * discarded.
+   */
+  public static final int MAX_ENTRIES = 100_000;
+
+  /**
+   * The maximum number of children suppliers for which results are stored. If exceeded, all results are discarded.
+   * This protects against callers passing a new supplier instance for each check.
+   */
+  public static final int MAX_SUPPLIERS = 16;
+
+  private final Map<Function<IDataType, Stream<IDataType>>, Map<Key, Boolean>> m_results;
+  private final CacheStatistics m_statistics;
+
+  public DataTypeAssignabilityCache() {
+    m_results = new ConcurrentHashMap<>();
+    m_statistics = new CacheStatistics(DataTypeAssignabilityCache.class.getSimpleName());
+  }
+
+  /**
+   * Gets the cached result for the given data types.
+   *
+   * @param child
+   *          The child {@link IDataType}. Must not be {@code null}.
+   * @param base
+   *          The base {@link IDataType}. Must not be {@code null}.
+   * @param childrenSupplier
+   *          The children supplier used to evaluate the result. Must not be {@code null}.
+   * @return {@code true} if the child was assignable to the base, {@code false} if not or an empty {@link Optional} if
+   *         no result is available.
+   */
+  public Optional<Boolean> get(IDataType child, IDataType base, Function<IDataType, Stream<IDataType>> childrenSupplier) {
+    var results = m_results.get(Ensure.notNull(childrenSupplier));
+    var result = results == null ? null : results.get(new Key(child, base));
+    if (result == null) {
+      m_statistics.miss();
+      return Optional.empty();
+    }
+    m_statistics.hit();
+    return Optional.of(result);
+  }
+
+  /**
+   * Stores a result.
+   *
+   * @param child
+   *          The child {@link IDataType}. Must not be {@code null}.
+   * @param base
+   *          The base {@link IDataType}. Must not be {@code null}.
+   * @param childrenSupplier
+   *          The children supplier used to evaluate the result. Must not be {@code null}.
+   * @param assignable
+   *          {@code true} if the child is assignable to the base.
+   */
+  public void put(IDataType child, IDataType base, Function<IDataType, Stream<IDataType>> childrenSupplier, boolean assignable) {
+    Ensure.notNull(childrenSupplier);
+    if (m_results.size() >= MAX_SUPPLIERS && !m_results.containsKey(childrenSupplier)) {
+      m_results.clear();
+    }
+    var results = m_results.computeIfAbsent(childrenSupplier, k -> new ConcurrentHashMap<>());
+    if (results.size() >= MAX_ENTRIES) {
+      results.clear();
+    }
+    results.put(new Key(child, base), assignable);
+  }
+
+  /**
+   * @return The number of results stored.
+   */
+  public int size() {
+    return m_results.values().stream()
+        .mapToInt(Map::size)
+        .sum();
+  }
+
+  /**
+   * @return The {@link CacheStatistics} of this cache. A hit is a check for which a stored result could be used.
+   */
+  public CacheStatistics statistics() {
+    return m_statistics;
+  }
+
+  /**
+   * Removes all results.
+   */
+  public void clear() {
+    m_results.clear();
+  }
+
+  private record Key(IDataType child, IDataType base) {
+    private Key {
+      Ensure.notNull(child);
+      Ensure.notNull(base);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      return obj instanceof Key other && child == other.child && base == other.base;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * System.identityHashCode(child) + System.identityHashCode(base);
+    }
+  }
+}
@@ -9,32 +9,60 @@
  */
 package org.eclipse.scout.sdk.core.typescript.model.api;
 
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 import org.eclipse.scout.sdk.core.typescript.model.api.IDataType.DataTypeFlavor;
+import org.eclipse.scout.sdk.core.typescript.model.spi.NodeElementSpi;
+import org.eclipse.scout.sdk.core.typescript.model.spi.NodeModuleSpi;
 
 /**
  * Evaluator that checks if an {@link IDataType} can be assigned to other {@link IDataType datatypes} (assignment
  * compatible)
+ * <p>
+ * The results are stored in the {@link DataTypeAssignabilityCache} of the {@link INodeModule} containing the child
+ * data type. Use the same children supplier instance for repeated checks to benefit from it. Recursive data types are
+ * not assignable along the recursion. Results depending on such a cycle are not cached.
  */
 public class DataTypeAssignableEvaluator implements Predicate<IDataType> {
 
+  private static final Function<IDataType, Stream<IDataType>> CHILD_TYPES = IDataType::childTypes;
+
   private final IDataType m_childType;
   private final Function<IDataType, Stream<IDataType>> m_childrenSupplier;
   private final boolean m_childIsArray;
   private final boolean m_requiresInstanceOfCheck;
+  private final DataTypeAssignabilityCache m_cache;
+  private final EvaluationContext m_context;
 
   public DataTypeAssignableEvaluator(IDataType child) {
-    this(child, IDataType::childTypes);
+    this(child, CHILD_TYPES);
   }
 
   public DataTypeAssignableEvaluator(IDataType child, Function<IDataType, Stream<IDataType>> childrenSupplier) {
+    this(child, childrenSupplier, new EvaluationContext());
+  }
+
+  private DataTypeAssignableEvaluator(IDataType child, Function<IDataType, Stream<IDataType>> childrenSupplier, EvaluationContext context) {
     m_childType = child;
     m_childIsArray = child.flavor() == DataTypeFlavor.Array;
     m_childrenSupplier = childrenSupplier;
     m_requiresInstanceOfCheck = isInstanceOfCheckRequired(child);
+    m_cache = assignabilityCacheOf(child);
+    m_context = context;
+  }
+
+  private static DataTypeAssignabilityCache assignabilityCacheOf(IDataType child) {
+    return Optional.ofNullable(child.spi())
+        .map(NodeElementSpi::containingModule)
+        .map(NodeModuleSpi::api)
+        .map(INodeModule::assignabilityCache)
+        .orElse(null);
   }
 
   private static boolean isInstanceOfCheckRequired(IDataType child) {
@@ -57,7 +85,33 @@ public class DataTypeAssignableEvaluator implements Predicate<IDataType> {
     if (base == null) {
       return false;
     }
-    return new DataTypeFulfillsEvaluator(this, m_childrenSupplier).fulfills(base);
+    if (m_cache != null) {
+      var cachedResult = m_cache.get(m_childType, base, m_childrenSupplier);
+      if (cachedResult.isPresent()) {
+        return cachedResult.orElseThrow();
+      }
+    }
+
+    var key = List.of(m_childType, base);
+    if (!m_context.m_inProgress.add(key)) {
+      m_context.m_cycleDetected = true;
+      return false;
+    }
+    var evaluator = new DataTypeFulfillsEvaluator(this, m_childrenSupplier);
+    boolean result;
+    try {
+      result = evaluator.fulfills(base);
+    }
+    finally {
+      m_context.m_inProgress.remove(key);
+    }
+    if (evaluator.isCycleDetected()) {
+      m_context.m_cycleDetected = true;
+    }
+    if (m_cache != null && !m_context.m_cycleDetected) {
+      m_cache.put(m_childType, base, m_childrenSupplier, result);
+    }
+    return result;
   }
 
   @Override
@@ -75,7 +129,7 @@ public class DataTypeAssignableEvaluator implements Predicate<IDataType> {
         if (childArrComponentType == null || baseArrComponentType == null) {
           return false;
         }
-        return new DataTypeAssignableEvaluator(childArrComponentType, m_childrenSupplier).fulfills(baseArrComponentType);
+        return new DataTypeAssignableEvaluator(childArrComponentType, m_childrenSupplier, m_context).fulfills(baseArrComponentType);
       }
       return false;
     }
@@ -84,4 +138,9 @@ public class DataTypeAssignableEvaluator implements Predicate<IDataType> {
     }
     return false;
   }
+
+  private static final class EvaluationContext {
+    private final Set<List<IDataType>> m_inProgress = new HashSet<>();
+    private boolean m_cycleDetected;
+  }
 }
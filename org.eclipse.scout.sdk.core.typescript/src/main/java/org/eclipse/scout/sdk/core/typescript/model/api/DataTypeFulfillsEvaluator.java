@@ -9,6 +9,10 @@
  */
 package org.eclipse.scout.sdk.core.typescript.model.api;
 
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
@@ -17,11 +21,20 @@ import java.util.stream.Stream;
  * Evaluator to test if a datatype fulfills a given {@link Predicate}.<br>
  * The evaluator handles all {@link IDataType#flavor() flavors} and uses the given children supplier to step into union
  * and intersection data types. The {@link Predicate} is called for arrays and single flavors only.
+ * <p>
+ * The evaluator is cycle safe: a data type which is reached again while it is being evaluated (e.g. for recursive type
+ * aliases) does not fulfill the {@link Predicate}. Results are memoized per data type for the lifetime of the evaluator
+ * instance, except for results which depend on such a cycle.
+ * <p>
+ * This class is not thread safe.
  */
 public class DataTypeFulfillsEvaluator {
 
   private final Predicate<IDataType> m_evalStrategy;
   private final Function<IDataType, Stream<IDataType>> m_childrenSupplier;
+  private final Set<IDataType> m_inProgress;
+  private final Map<IDataType, Boolean> m_results;
+  private int m_numCycles;
 
   public DataTypeFulfillsEvaluator(Predicate<IDataType> evalStrategy) {
     this(evalStrategy, IDataType::childTypes);
@@ -30,6 +43,8 @@ public class DataTypeFulfillsEvaluator {
   public DataTypeFulfillsEvaluator(Predicate<IDataType> evalStrategy, Function<IDataType, Stream<IDataType>> childrenSupplier) {
     m_evalStrategy = evalStrategy;
     m_childrenSupplier = childrenSupplier;
+    m_inProgress = Collections.newSetFromMap(new IdentityHashMap<>());
+    m_results = new IdentityHashMap<>();
   }
 
   /**
@@ -44,12 +59,40 @@ public class DataTypeFulfillsEvaluator {
       return false;
     }
 
-    return switch (dataType.flavor()) {
-      case Union -> checkUnion(dataType);
-      case Intersection -> checkIntersection(dataType);
-      case Array -> checkArray(dataType);
-      case Single -> checkSingle(dataType);
-    };
+    var cachedResult = m_results.get(dataType);
+    if (cachedResult != null) {
+      return cachedResult;
+    }
+    if (!m_inProgress.add(dataType)) {
+      m_numCycles++;
+      return false;
+    }
+
+    var numCyclesBefore = m_numCycles;
+    boolean result;
+    try {
+      result = switch (dataType.flavor()) {
+        case Union -> checkUnion(dataType);
+        case Intersection -> checkIntersection(dataType);
+        case Array -> checkArray(dataType);
+        case Single -> checkSingle(dataType);
+      };
+    }
+    finally {
+      m_inProgress.remove(dataType);
+    }
+    if (numCyclesBefore == m_numCycles) {
+      m_results.put(dataType, result);
+    }
+    return result;
+  }
+
+  /**
+   * @return {@code true} if a cycle has been detected during the evaluations of this instance. In that case some
+   *         results may be {@code false} because the cycle was not followed.
+   */
+  public boolean isCycleDetected() {
+    return m_numCycles > 0;
   }
 
   protected boolean checkUnion(IDataType dataType) {
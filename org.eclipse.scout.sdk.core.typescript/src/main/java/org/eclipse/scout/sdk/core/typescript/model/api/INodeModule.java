@@ -74,4 +74,10 @@ public interface INodeModule extends INodeElement {
    * @return The {@link INodeElementFactory} for this module.
    */
   INodeElementFactory nodeElementFactory();
+
+  /**
+   * @return The {@link DataTypeAssignabilityCache} holding the assignability results for the {@link IDataType data
+   *         types} of this module.
+   */
+  DataTypeAssignabilityCache assignabilityCache();
 }
@@ -15,6 +15,7 @@ import java.util.Set;
 import java.util.stream.Stream;
 
 import org.eclipse.scout.sdk.core.typescript.model.api.AbstractNodeElement;
+import org.eclipse.scout.sdk.core.typescript.model.api.DataTypeAssignabilityCache;
 import org.eclipse.scout.sdk.core.typescript.model.api.IES6Class;
 import org.eclipse.scout.sdk.core.typescript.model.api.INodeElement;
 import org.eclipse.scout.sdk.core.typescript.model.api.INodeElementFactory;
@@ -30,10 +31,12 @@ import org.eclipse.scout.sdk.core.util.Ensure;
 public class NodeModuleImplementor extends AbstractNodeElement<NodeModuleSpi> implements INodeModule {
 
   private final PackageJsonSpi m_packageJson;
+  private final DataTypeAssignabilityCache m_assignabilityCache;
 
   public NodeModuleImplementor(NodeModuleSpi spi, PackageJsonSpi packageJson) {
     super(spi);
     m_packageJson = Ensure.notNull(packageJson);
+    m_assignabilityCache = new DataTypeAssignabilityCache();
   }
 
   @Override
@@ -72,6 +75,11 @@ public class NodeModuleImplementor extends AbstractNodeElement<NodeModuleSpi> im
     return spi().nodeElementFactory().api();
   }
 
+  @Override
+  public DataTypeAssignabilityCache assignabilityCache() {
+    return m_assignabilityCache;
+  }
+
   @Override
   public String toString() {
     return packageJson().toString();
@@ -0,0 +1,327 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.typescript.model.spi;
+
+import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableSet;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.eclipse.scout.sdk.core.util.Ensure;
+
+/**
+ * Inventory of {@link NodeModuleSpi} instances for {@link NodeModulesProviderSpi} implementations.
+ * <p>
+ * The modules are stored in a trie of their directory path segments. This allows to find the module owning a changed
+ * file without comparing the path against all modules. Additionally, a reverse dependency index is maintained so that
+ * removing a module only visits the modules actually depending on it (directly or transitively).
+ * <p>
+ * The dependencies of a module are only indexed on the first removal after the module has been added because
+ * {@link PackageJsonSpi#dependencies()} may create further modules in this inventory.
+ * <p>
+ * This class is not thread safe.
+ *
+ * @param <M>
+ *          The type of module stored
+ * @since 13.0
+ */
+public class NodeModuleInventory<M extends NodeModuleSpi> {
+
+  private final PathNode<M> m_root;
+  private final Map<M, List<String>> m_pathByModule;
+  private final Map<M, Collection<NodeModuleSpi>> m_dependencies;
+  private final Map<NodeModuleSpi, Set<M>> m_dependents;
+  private final Set<M> m_notIndexed;
+
+  public NodeModuleInventory() {
+    m_root = new PathNode<>();
+    m_pathByModule = new HashMap<>();
+    m_dependencies = new HashMap<>();
+    m_dependents = new HashMap<>();
+    m_notIndexed = new LinkedHashSet<>();
+  }
+
+  /**
+   * Gets the module at the given directory.
+   *
+   * @param moduleDir
+   *          The directory of the module. Must not be {@code null}. Both slashes and backslashes are accepted as
+   *          separator.
+   * @return The module whose directory is exactly the one given.
+   */
+  public Optional<M> get(CharSequence moduleDir) {
+    return Optional.ofNullable(m_root.find(segments(moduleDir)))
+        .map(node -> node.m_module);
+  }
+
+  /**
+   * Gets the module at the given directory. If no module exists yet, the given {@link Supplier} is used to create one.
+   * The supplier may add further modules to this inventory.
+   *
+   * @param moduleDir
+   *          The directory of the module. Must not be {@code null}.
+   * @param factory
+   *          The factory to create the module if it does not exist yet. Must not be {@code null}. May return
+   *          {@code null}.
+   * @return The existing or created module or {@code null} if the factory returned {@code null}.
+   */
+  public M computeIfAbsent(CharSequence moduleDir, Supplier<? extends M> factory) {
+    var path = segments(moduleDir);
+    var node = m_root.find(path);
+    if (node != null && node.m_module != null) {
+      return node.m_module;
+    }
+
+    var created = factory.get();
+    if (created == null) {
+      return null;
+    }
+
+    node = m_root.findOrCreate(path);
+    if (node.m_module != null) {
+      return node.m_module; // created in the meantime by the factory
+    }
+    node.m_module = created;
+    m_pathByModule.put(created, path);
+    m_notIndexed.add(created);
+    return created;
+  }
+
+  /**
+   * Gets the module owning the given path. This is the module having the longest directory which is a parent of the
+   * path given (or the path itself).
+   *
+   * @param path
+   *          A file or directory. Must not be {@code null}.
+   * @return The owning module.
+   */
+  public Optional<M> owningModule(CharSequence path) {
+    M result = null;
+    var node = m_root;
+    for (var segment : segments(path)) {
+      node = node.child(segment);
+      if (node == null) {
+        break;
+      }
+      if (node.m_module != null) {
+        result = node.m_module;
+      }
+    }
+    return Optional.ofNullable(result);
+  }
+
+  /**
+   * Removes the module owning the changed path (see {@link #owningModule(CharSequence)}) and all modules depending on
+   * it.
+   *
+   * @param changedPath
+   *          The file or directory which changed. Must not be {@code null}.
+   * @return All modules removed.
+   */
+  public Set<M> remove(CharSequence changedPath) {
+    return owningModule(changedPath)
+        .map(Set::of)
+        .map(this::remove)
+        .orElse(emptySet());
+  }
+
+  /**
+   * Removes the given modules and all modules depending on one of them (directly or transitively). Modules not part of
+   * this inventory are ignored.
+   *
+   * @param modules
+   *          The modules to remove. Must not be {@code null}.
+   * @return All modules removed.
+   */
+  public Set<M> remove(Collection<? extends NodeModuleSpi> modules) {
+    indexDependencies();
+
+    var removed = new HashSet<M>();
+    var queue = new ArrayDeque<NodeModuleSpi>(modules);
+    while (!queue.isEmpty()) {
+      var module = queue.poll();
+      //noinspection SuspiciousMethodCalls
+      if (!m_pathByModule.containsKey(module)) {
+        continue;
+      }
+      @SuppressWarnings("unchecked")
+      var m = (M) module;
+      if (removed.add(m)) {
+        queue.addAll(m_dependents.getOrDefault(m, emptySet()));
+      }
+    }
+    removed.forEach(this::removeSingle);
+    return removed;
+  }
+
+  /**
+   * @param module
+   *          The module for which the dependents should be returned. Must not be {@code null}.
+   * @return The modules of this inventory directly depending on the module given.
+   */
+  public Set<M> dependents(NodeModuleSpi module) {
+    indexDependencies();
+    return unmodifiableSet(new HashSet<>(m_dependents.getOrDefault(Ensure.notNull(module), emptySet())));
+  }
+
+  /**
+   * @return All modules of this inventory.
+   */
+  public Collection<M> modules() {
+    return m_pathByModule.keySet();
+  }
+
+  public int size() {
+    return m_pathByModule.size();
+  }
+
+  public boolean isEmpty() {
+    return m_pathByModule.isEmpty();
+  }
+
+  /**
+   * Removes all modules.
+   */
+  public void clear() {
+    m_root.m_children = null;
+    m_root.m_module = null;
+    m_pathByModule.clear();
+    m_dependencies.clear();
+    m_dependents.clear();
+    m_notIndexed.clear();
+  }
+
+  protected void indexDependencies() {
+    while (!m_notIndexed.isEmpty()) {
+      var iterator = m_notIndexed.iterator();
+      var module = iterator.next();
+      iterator.remove();
+
+      // may add new modules to m_notIndexed
+      var dependencies = new ArrayList<>(dependenciesOf(module));
+      if (!m_pathByModule.containsKey(module)) {
+        continue;
+      }
+      m_dependencies.put(module, dependencies);
+      for (var dependency : dependencies) {
+        m_dependents.computeIfAbsent(dependency, k -> new HashSet<>()).add(module);
+      }
+    }
+  }
+
+  protected Collection<NodeModuleSpi> dependenciesOf(M module) {
+    var dependencies = module.packageJson().dependencies();
+    if (dependencies == null) {
+      return emptySet();
+    }
+    return dependencies;
+  }
+
+  protected void removeSingle(M module) {
+    var path = m_pathByModule.remove(module);
+    if (path != null) {
+      m_root.remove(path, 0);
+    }
+    m_notIndexed.remove(module);
+    m_dependents.remove(module);
+    var dependencies = m_dependencies.remove(module);
+    if (dependencies == null) {
+      return;
+    }
+    for (var dependency : dependencies) {
+      var dependents = m_dependents.get(dependency);
+      if (dependents != null) {
+        dependents.remove(module);
+        if (dependents.isEmpty()) {
+          m_dependents.remove(dependency);
+        }
+      }
+    }
+  }
+
+  static List<String> segments(CharSequence path) {
+    var p = Ensure.notNull(path);
+    var result = new ArrayList<String>();
+    var start = 0;
+    for (var i = 0; i <= p.length(); i++) {
+      if (i == p.length() || p.charAt(i) == '/' || p.charAt(i) == '\\') {
+        if (i > start) {
+          result.add(p.subSequence(start, i).toString());
+        }
+        start = i + 1;
+      }
+    }
+    return result;
+  }
+
+  private static final class PathNode<M> {
+    private Map<String, PathNode<M>> m_children;
+    private M m_module;
+
+    private PathNode<M> child(String segment) {
+      if (m_children == null) {
+        return null;
+      }
+      return m_children.get(segment);
+    }
+
+    private PathNode<M> find(Iterable<String> path) {
+      var node = this;
+      for (var segment : path) {
+        node = node.child(segment);
+        if (node == null) {
+          return null;
+        }
+      }
+      return node;
+    }
+
+    private PathNode<M> findOrCreate(Iterable<String> path) {
+      var node = this;
+      for (var segment : path) {
+        if (node.m_children == null) {
+          node.m_children = new HashMap<>();
+        }
+        node = node.m_children.computeIfAbsent(segment, k -> new PathNode<>());
+      }
+      return node;
+    }
+
+    /**
+     * @return {@code true} if this node is empty after the removal and may be removed from its parent.
+     */
+    private boolean remove(List<String> path, int index) {
+      if (index == path.size()) {
+        m_module = null;
+      }
+      else {
+        var segment = path.get(index);
+        var child = child(segment);
+        if (child != null && child.remove(path, index + 1)) {
+          m_children.remove(segment);
+          if (m_children.isEmpty()) {
+            m_children = null;
+          }
+        }
+      }
+      return m_module == null && m_children == null;
+    }
+  }
+}
@@ -27,6 +27,12 @@ import org.eclipse.scout.sdk.core.util.SdkException;
  */
 public class StreamSourceBuilder extends AbstractSourceBuilder<StreamSourceBuilder> implements AutoCloseable, Flushable {
 
+  /**
+   * {@link StringBuilder StringBuilders} longer than this are written in chunks of this size instead of being converted
+   * to a {@link String} first.
+   */
+  protected static final int CHUNK_SIZE = 8192;
+
   private final Writer m_writer;
 
   public StreamSourceBuilder(OutputStream out) {
@@ -38,8 +44,22 @@ public class StreamSourceBuilder extends AbstractSourceBuilder<StreamSourceBuild
   }
 
   public StreamSourceBuilder(OutputStream out, Charset charset, IBuilderContext context) {
+    this(new OutputStreamWriter(Ensure.notNull(out), Ensure.notNull(charset)), context);
+  }
+
+  /**
+   * Creates a {@link StreamSourceBuilder} writing directly to the {@link Writer} given (e.g. a {@link Writer} on a file
+   * channel). No additional buffering is applied.
+   *
+   * @param writer
+   *          The {@link Writer} to which the content is written. Must not be {@code null}.
+   * @param context
+   *          The {@link IBuilderContext} to use. Must not be {@code null}.
+   * @since 13.0
+   */
+  public StreamSourceBuilder(Writer writer, IBuilderContext context) {
     super(context);
-    m_writer = new OutputStreamWriter(Ensure.notNull(out), Ensure.notNull(charset));
+    m_writer = Ensure.notNull(writer);
   }
 
   /**
@@ -60,10 +80,37 @@ public class StreamSourceBuilder extends AbstractSourceBuilder<StreamSourceBuild
     }
   }
 
+  @Override
+  public StreamSourceBuilder append(String s) {
+    try {
+      source().write(Ensure.notNull(s));
+      return thisInstance();
+    }
+    catch (IOException e) {
+      throw new SdkException(e);
+    }
+  }
+
+  @Override
+  public StreamSourceBuilder append(char[] c) {
+    try {
+      source().write(Ensure.notNull(c));
+      return thisInstance();
+    }
+    catch (IOException e) {
+      throw new SdkException(e);
+    }
+  }
+
   @Override
   public StreamSourceBuilder append(CharSequence seq) {
     try {
-      source().append(seq);
+      if (seq instanceof StringBuilder sb && sb.length() > CHUNK_SIZE) {
+        writeChunked(sb);
+      }
+      else {
+        source().append(seq);
+      }
       return thisInstance();
     }
     catch (IOException e) {
@@ -71,6 +118,16 @@ public class StreamSourceBuilder extends AbstractSourceBuilder<StreamSourceBuild
     }
   }
 
+  protected void writeChunked(StringBuilder sb) throws IOException {
+    var length = sb.length();
+    var chunk = new char[CHUNK_SIZE];
+    for (var start = 0; start < length; start += CHUNK_SIZE) {
+      var end = Math.min(length, start + CHUNK_SIZE);
+      sb.getChars(start, end, chunk, 0);
+      source().write(chunk, 0, end - start);
+    }
+  }
+
   /**
    * Flushes all buffered content to the {@link OutputStream}.
    *
@@ -9,46 +9,47 @@
  */
 package org.eclipse.scout.sdk.core.generator.properties;
 
-import static java.lang.System.lineSeparator;
-import static org.eclipse.scout.sdk.core.util.Strings.fromInputStream;
-import static org.eclipse.scout.sdk.core.util.Strings.toCharArray;
+import static java.util.Comparator.comparing;
 
 import java.io.BufferedReader;
-import java.io.ByteArrayOutputStream;
-import java.io.CharArrayReader;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.Reader;
-import java.io.StringWriter;
+import java.io.InputStreamReader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Properties;
-import java.util.regex.Pattern;
-import java.util.stream.Stream;
 
 import org.eclipse.scout.sdk.core.builder.ISourceBuilder;
 import org.eclipse.scout.sdk.core.generator.ISourceGenerator;
-import org.eclipse.scout.sdk.core.util.SdkException;
-import org.eclipse.scout.sdk.core.util.Strings;
 
 /**
  * Generator to create .properties files. It supports header comments.
+ * <p>
+ * The content read by {@link #load(InputStream)} is kept as ordered line model. By default, the properties are written
+ * sorted. If the {@link #withOrderPreserved(boolean) order is preserved}, comments, blank lines and the lines of
+ * unchanged properties are written as they have been read. Only the lines of modified properties are rewritten and new
+ * properties are inserted before the first existing property with a greater key.
  */
 public class PropertiesGenerator implements ISourceGenerator<ISourceBuilder<?>> {
 
   private static final Charset DEFAULT_ENCODING = StandardCharsets.UTF_8;
-  private static final Pattern LINE_SEPARATOR_REGEX = Pattern.compile(lineSeparator());
+  private static final char[] HEX_DIGITS = "0123456789ABCDEF".toCharArray();
+  private static final Comparator<EncodedEntry> LINE_ORDER = comparing(EncodedEntry::encodedKey, PropertiesGenerator::compareAsLine);
 
   private final Map<String, String> m_properties = new HashMap<>();
   private final List<String> m_headerLines = new ArrayList<>();
+  private final List<Line> m_lines = new ArrayList<>(); // the lines after the header as read by load()
   private Charset m_encoding = null; // uses default
+  private boolean m_orderPreserved = false;
 
   /**
    * @return A new empty {@link PropertiesGenerator}.
@@ -81,7 +82,7 @@ public class PropertiesGenerator implements ISourceGenerator<ISourceBuilder<?>>
   /**
    * Creates a new {@link PropertiesGenerator} pre-filled with the properties and header lines from the
    * {@link InputStream} given.
-   * 
+   *
    * @param in
    *          The {@link InputStream} in the .properties file format. Must not be {@code null}.
    * @param encoding
@@ -108,22 +109,62 @@ public class PropertiesGenerator implements ISourceGenerator<ISourceBuilder<?>>
 
   /**
    * Loads this generator with the content of the given {@link InputStream} having the .properties file format.<br>
-   * All existing content is replaced.
-   * 
+   * All existing content is replaced. The content is parsed according to {@link Properties#load(java.io.Reader)}.
+   *
    * @param input
    *          The {@link InputStream} in the .properties file format. Must not be {@code null}.
    * @return This generator.
    * @throws IOException
    *           while reading from the given {@link InputStream}.
+   * @throws IllegalArgumentException
+   *           if the input contains a malformed unicode escape sequence.
    */
   public PropertiesGenerator load(InputStream input) throws IOException {
-    var encoding = encoding().orElse(DEFAULT_ENCODING);
-    var content = toCharArray(fromInputStream(input, encoding));
-    try (var reader = new BufferedReader(new CharArrayReader(content))) {
-      readHeaderLines(reader);
+    m_headerLines.clear();
+    m_lines.clear();
+    m_properties.clear();
+
+    var reader = new BufferedReader(new InputStreamReader(input, encoding().orElse(DEFAULT_ENCODING)));
+    Map<String, Integer> lineIndexByKey = new HashMap<>();
+    var hasDuplicates = false;
+    String physicalLine;
+    while ((physicalLine = reader.readLine()) != null) {
+      var start = skipWhiteSpace(physicalLine, 0);
+      if (start == physicalLine.length() || isComment(physicalLine.charAt(start))) {
+        // blank or comment line: comment lines are never continued
+        if (m_lines.isEmpty()) {
+          m_headerLines.add(physicalLine);
+        }
+        else {
+          m_lines.add(new Line(null, null, List.of(physicalLine)));
+        }
+        continue;
+      }
+
+      List<String> rawLines = new ArrayList<>(1);
+      var logicalLine = new StringBuilder();
+      var segment = physicalLine;
+      while (true) {
+        rawLines.add(segment);
+        var isContinued = endsWithContinuation(segment);
+        logicalLine.append(segment, start, isContinued ? segment.length() - 1 : segment.length());
+        if (!isContinued || (segment = reader.readLine()) == null) {
+          break;
+        }
+        start = skipWhiteSpace(segment, 0);
+      }
+
+      var line = parseEntry(logicalLine, rawLines);
+      var previousIndex = lineIndexByKey.put(line.key(), m_lines.size());
+      if (previousIndex != null) {
+        m_lines.set(previousIndex, null); // the last definition wins
+        hasDuplicates = true;
+      }
+      m_lines.add(line);
+      m_properties.put(line.key(), line.value());
     }
-    try (var reader = new CharArrayReader(content)) {
-      readProperties(reader);
+    if (hasDuplicates) {
+      m_lines.removeIf(Objects::isNull);
     }
     return this;
   }
@@ -145,7 +186,7 @@ public class PropertiesGenerator implements ISourceGenerator<ISourceBuilder<?>>
   /**
    * Sets the new {@link Charset} to use when writing .properties files. By default, UTF-8 is used. If
    * {@link StandardCharsets#ISO_8859_1} is passed, characters are encoded as necessary.
-   * 
+   *
    * @param newEncoding
    *          The new {@link Charset} or {@code null} to use the default charset (UTF-8).
    * @return this instance
@@ -155,6 +196,30 @@ public class PropertiesGenerator implements ISourceGenerator<ISourceBuilder<?>>
     return this;
   }
 
+  /**
+   * @return {@code true} if the order and formatting of the content {@link #load(InputStream) loaded} is preserved
+   *         when generating. {@code false} if all properties are written sorted (the default).
+   * @since 13.0
+   */
+  public boolean isOrderPreserved() {
+    return m_orderPreserved;
+  }
+
+  /**
+   * Specifies if the content {@link #load(InputStream) loaded} should be preserved when generating. If enabled, only
+   * the lines of modified properties are rewritten. This minimizes the changes to an existing file. By default, all
+   * properties are written sorted.
+   *
+   * @param orderPreserved
+   *          {@code true} if the order and formatting of the content loaded should be preserved.
+   * @return this instance
+   * @since 13.0
+   */
+  public PropertiesGenerator withOrderPreserved(boolean orderPreserved) {
+    m_orderPreserved = orderPreserved;
+    return this;
+  }
+
   /**
    * @return All the property mappings. The resulting {@link Map} may be modified.
    */
@@ -165,77 +230,240 @@ public class PropertiesGenerator implements ISourceGenerator<ISourceBuilder<?>>
   @Override
   public void generate(ISourceBuilder<?> builder) {
     m_headerLines.forEach(builder::appendLine);
-    getAsPropertiesEncodedLines()
-        .sorted()
-        .forEach(builder::appendLine);
+    var escapeUnicode = StandardCharsets.ISO_8859_1.equals(encoding().orElse(DEFAULT_ENCODING)); // use encoded content (non Latin-1 characters are written as their appropriate unicode hexadecimal value) for ISO-8859-1 encoding
+    if (isOrderPreserved()) {
+      generatePreservingOrder(builder, escapeUnicode);
+    }
+    else {
+      generateSorted(builder, escapeUnicode);
+    }
   }
 
-  protected Stream<String> getAsPropertiesEncodedLines() {
-    var encoding = encoding().orElse(DEFAULT_ENCODING);
-    var escapeUnicode = StandardCharsets.ISO_8859_1.equals(encoding); // use encoded content (non Latin-1 characters are written as their appropriate unicode hexadecimal value) for ISO-8859-1 encoding
-    var content = escapeUnicode ? getWithUnicodeEscape() : getWithoutUnicodeEscape();
-    return LINE_SEPARATOR_REGEX.splitAsStream(content)
-        .filter(line -> !isComment(line));
+  protected void generateSorted(ISourceBuilder<?> builder, boolean escapeUnicode) {
+    encodeAndSort(m_properties.entrySet(), escapeUnicode)
+        .forEach(entry -> appendEntry(builder, entry, escapeUnicode));
   }
 
-  protected CharSequence getWithoutUnicodeEscape() {
-    var prop = new Properties();
-    prop.putAll(m_properties);
+  protected void generatePreservingOrder(ISourceBuilder<?> builder, boolean escapeUnicode) {
+    var existingKeys = new HashSet<String>(m_lines.size());
+    for (var line : m_lines) {
+      if (line.key() != null) {
+        existingKeys.add(line.key());
+      }
+    }
+    var newEntries = encodeAndSort(m_properties.entrySet().stream()
+        .filter(entry -> !existingKeys.contains(entry.getKey()))
+        .toList(), escapeUnicode);
 
-    try (var out = new StringWriter()) {
-      prop.store(out, null); // store to Writer performs NO unicode escape
-      return out.getBuffer();
+    var nextNewEntry = 0;
+    for (var line : m_lines) {
+      if (line.key() == null) {
+        line.rawLines().forEach(builder::appendLine);
+        continue;
+      }
+      var value = m_properties.get(line.key());
+      if (value == null) {
+        continue; // removed
+      }
+
+      var encodedEntry = new EncodedEntry(escape(line.key(), true, escapeUnicode), value);
+      while (nextNewEntry < newEntries.size() && LINE_ORDER.compare(newEntries.get(nextNewEntry), encodedEntry) < 0) {
+        appendEntry(builder, newEntries.get(nextNewEntry++), escapeUnicode);
+      }
+
+      if (value.equals(line.value())) {
+        line.rawLines().forEach(builder::appendLine);
+      }
+      else {
+        appendEntry(builder, encodedEntry, escapeUnicode);
+      }
     }
-    catch (IOException e) {
-      throw new SdkException("Error encoding properties", e);
+    for (var i = nextNewEntry; i < newEntries.size(); i++) {
+      appendEntry(builder, newEntries.get(i), escapeUnicode);
     }
   }
 
-  protected CharSequence getWithUnicodeEscape() {
-    var prop = new Properties();
-    prop.putAll(m_properties);
+  protected static List<EncodedEntry> encodeAndSort(Collection<Map.Entry<String, String>> entries, boolean escapeUnicode) {
+    var result = new ArrayList<EncodedEntry>(entries.size());
+    for (var entry : entries) {
+      result.add(new EncodedEntry(escape(entry.getKey(), true, escapeUnicode), entry.getValue()));
+    }
+    result.sort(LINE_ORDER);
+    return result;
+  }
+
+  protected static void appendEntry(ISourceBuilder<?> builder, EncodedEntry entry, boolean escapeUnicode) {
+    builder.append(entry.encodedKey())
+        .append('=')
+        .append(escape(entry.value(), false, escapeUnicode))
+        .nl();
+  }
+
+  /**
+   * Compares two encoded keys like {@link Properties#store(java.io.Writer, String)} would order the lines of the keys.
+   * The encoded keys are compared as if they are followed by the key-value separator.
+   */
+  private static int compareAsLine(CharSequence a, CharSequence b) {
+    var minLength = Math.min(a.length(), b.length());
+    for (var i = 0; i < minLength; i++) {
+      var diff = a.charAt(i) - b.charAt(i);
+      if (diff != 0) {
+        return diff;
+      }
+    }
+    if (a.length() == b.length()) {
+      return 0;
+    }
+    return a.length() > b.length() ? a.charAt(minLength) - '=' : '=' - b.charAt(minLength);
+  }
 
-    try (var out = new ByteArrayOutputStream()) {
-      prop.store(out, null); // store to OutputStream performs unicode escape
-      return out.toString(StandardCharsets.ISO_8859_1);
+  /**
+   * Escapes the given key or value in the same way as {@link Properties#store(java.io.Writer, String)} does. If
+   * nothing needs to be escaped, the given {@link String} is returned.
+   */
+  static String escape(String s, boolean isKey, boolean escapeUnicode) {
+    StringBuilder result = null;
+    for (var i = 0; i < s.length(); i++) {
+      var c = s.charAt(i);
+      if (needsEscape(c, i, isKey, escapeUnicode)) {
+        if (result == null) {
+          result = new StringBuilder(s.length() + 8).append(s, 0, i);
+        }
+        appendEscaped(result, c, escapeUnicode);
+      }
+      else if (result != null) {
+        result.append(c);
+      }
     }
-    catch (IOException e) {
-      throw new SdkException("Error encoding properties", e);
+    return result == null ? s : result.toString();
+  }
+
+  private static boolean needsEscape(char c, int index, boolean isKey, boolean escapeUnicode) {
+    if (c > 61 && c < 127) {
+      return c == '\\';
     }
+    return switch (c) {
+      case ' ' -> index == 0 || isKey;
+      case '\t', '\n', '\r', '\f', '=', ':', '#', '!' -> true;
+      default -> escapeUnicode && (c < 0x20 || c > 0x7e);
+    };
   }
 
-  private static boolean isComment(CharSequence line) {
-    return line.charAt(0) == '#' || line.charAt(0) == '!';
+  private static void appendEscaped(StringBuilder out, char c, boolean escapeUnicode) {
+    out.append('\\');
+    switch (c) {
+      case '\t' -> out.append('t');
+      case '\n' -> out.append('n');
+      case '\r' -> out.append('r');
+      case '\f' -> out.append('f');
+      default -> {
+        if (escapeUnicode && (c < 0x20 || c > 0x7e)) {
+          out.append('u')
+              .append(HEX_DIGITS[(c >> 12) & 0xF])
+              .append(HEX_DIGITS[(c >> 8) & 0xF])
+              .append(HEX_DIGITS[(c >> 4) & 0xF])
+              .append(HEX_DIGITS[c & 0xF]);
+        }
+        else {
+          out.append(c);
+        }
+      }
+    }
   }
 
-  private void readHeaderLines(BufferedReader reader) throws IOException {
-    String line;
-    m_headerLines.clear();
-    while ((line = reader.readLine()) != null) {
-      var lineTrimmed = Strings.trim(line);
-      if (Strings.isEmpty(lineTrimmed)) {
-        m_headerLines.add(line);
+  private static Line parseEntry(CharSequence line, List<String> rawLines) {
+    var limit = line.length();
+    var keyLength = 0;
+    var valueStart = limit;
+    var hasSeparator = false;
+    var precedingBackslash = false;
+    while (keyLength < limit) {
+      var c = line.charAt(keyLength);
+      if ((c == '=' || c == ':') && !precedingBackslash) {
+        valueStart = keyLength + 1;
+        hasSeparator = true;
+        break;
       }
-      else if (isComment(lineTrimmed)) {
-        m_headerLines.add(line);
+      if (isWhiteSpace(c) && !precedingBackslash) {
+        valueStart = keyLength + 1;
+        break;
       }
-      else {
-        return;
+      precedingBackslash = c == '\\' && !precedingBackslash;
+      keyLength++;
+    }
+    while (valueStart < limit) {
+      var c = line.charAt(valueStart);
+      if (!isWhiteSpace(c)) {
+        if (hasSeparator || (c != '=' && c != ':')) {
+          break;
+        }
+        hasSeparator = true;
       }
+      valueStart++;
     }
+    return new Line(unescape(line, 0, keyLength), unescape(line, valueStart, limit), rawLines);
   }
 
-  private void readProperties(Reader reader) throws IOException {
-    var props = new Properties();
-    props.load(reader);
-    m_properties.clear();
-    for (var entry : props.entrySet()) {
-      var key = entry.getKey();
-      var value = entry.getValue();
-      if (key instanceof String && value instanceof String) {
-        m_properties.put((String) key, (String) value);
+  private static String unescape(CharSequence in, int start, int end) {
+    var out = new StringBuilder(end - start);
+    var i = start;
+    while (i < end) {
+      var c = in.charAt(i++);
+      if (c != '\\') {
+        out.append(c);
+        continue;
+      }
+      if (i >= end) {
+        break;
+      }
+      c = in.charAt(i++);
+      switch (c) {
+        case 't' -> out.append('\t');
+        case 'r' -> out.append('\r');
+        case 'n' -> out.append('\n');
+        case 'f' -> out.append('\f');
+        case 'u' -> {
+          if (i + 4 > end) {
+            throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+          }
+          var value = 0;
+          for (var j = 0; j < 4; j++) {
+            var digit = Character.digit(in.charAt(i++), 16);
+            if (digit < 0) {
+              throw new IllegalArgumentException("Malformed \\uxxxx encoding.");
+            }
+            value = (value << 4) + digit;
+          }
+          out.append((char) value);
+        }
+        default -> out.append(c);
       }
     }
+    return out.toString();
+  }
+
+  private static boolean endsWithContinuation(CharSequence segment) {
+    var numBackslashes = 0;
+    for (var i = segment.length() - 1; i >= 0 && segment.charAt(i) == '\\'; i--) {
+      numBackslashes++;
+    }
+    return numBackslashes % 2 == 1;
+  }
+
+  private static int skipWhiteSpace(CharSequence s, int start) {
+    var i = start;
+    while (i < s.length() && isWhiteSpace(s.charAt(i))) {
+      i++;
+    }
+    return i;
+  }
+
+  private static boolean isWhiteSpace(char c) {
+    return c == ' ' || c == '\t' || c == '\f';
+  }
+
+  private static boolean isComment(char c) {
+    return c == '#' || c == '!';
   }
 
   @Override
@@ -255,4 +483,16 @@ public class PropertiesGenerator implements ISourceGenerator<ISourceBuilder<?>>
   public int hashCode() {
     return Objects.hash(m_properties, m_headerLines);
   }
+
+  /**
+   * A line of the content read. Comments and blank lines have no key and value.
+   */
+  private record Line(String key, String value, List<String> rawLines) {
+  }
+
+  /**
+   * A property with an already escaped key.
+   */
+  protected record EncodedEntry(String encodedKey, String value) {
+  }
 }
@@ -0,0 +1,124 @@
+/*
+ * Copyright (c) 2010, 2024 BSI Business Systems Integration AG
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ */
+package org.eclipse.scout.sdk.core.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects hit, miss and load time counters of a cache.
+ * <p>
+ * This class is thread safe.
+ *
+ * @since 13.0
+ */
+public class CacheStatistics {
+
+  private final String m_name;
+  private final LongAdder m_hits;
+  private final LongAdder m_misses;
+  private final LongAdder m_loadTimeNanos;
+
+  /**
+   * @param name
+   *          The name of the cache used in {@link #toString()}. May be {@code null}.
+   */
+  public CacheStatistics(String name) {
+    m_name = name;
+    m_hits = new LongAdder();
+    m_misses = new LongAdder();
+    m_loadTimeNanos = new LongAdder();
+  }
+
+  /**
+   * Records a cache hit.
+   */
+  public void hit() {
+    m_hits.increment();
+  }
+
+  /**
+   * Records a cache miss.
+   */
+  public void miss() {
+    m_misses.increment();
+  }
+
+  /**
+   * Records the time it took to load a value for a missing entry.
+   *
+   * @param nanos
+   *          The load time in nanoseconds.
+   */
+  public void loaded(long nanos) {
+    m_loadTimeNanos.add(nanos);
+  }
+
+  /**
+   * @return The name of the cache. May be {@code null}.
+   */
+  public String name() {
+    return m_name;
+  }
+
+  /**
+   * @return The number of cache hits.
+   */
+  public long hitCount() {
+    return m_hits.sum();
+  }
+
+  /**
+   * @return The number of cache misses.
+   */
+  public long missCount() {
+    return m_misses.sum();
+  }
+
+  /**
+   * @return The number of requests (hits and misses).
+   */
+  public long requestCount() {
+    return hitCount() + missCount();
+  }
+
+  /**
+   * @return The ratio of hits to requests between 0 and 1. If there was no request yet, 1 is returned.
+   */
+  public double hitRate() {
+    var hits = hitCount();
+    var requests = hits + missCount();
+    if (requests == 0) {
+      return 1.0;
+    }
+    return (double) hits / requests;
+  }
+
+  /**
+   * @return The total time spent loading values in milliseconds.
+   */
+  public long totalLoadTimeMillis() {
+    return TimeUnit.NANOSECONDS.toMillis(m_loadTimeNanos.sum());
+  }
+
+  /**
+   * Resets all counters to zero.
+   */
+  public void reset() {
+    m_hits.reset();
+    m_misses.reset();
+    m_loadTimeNanos.reset();
+  }
+
+  @Override
+  public String toString() {
+    return (m_name == null ? "Cache" : m_name) + " [hits=" + hitCount() + ", misses=" + missCount() + ", hitRate=" + Math.round(hitRate() * 100) + "%, loadTime=" + totalLoadTimeMillis() + "ms]";
+  }
+}
@@ -11,6 +11,8 @@ package org.eclipse.scout.sdk.core.util;
 
 import static java.nio.CharBuffer.wrap;
 
+import java.util.Arrays;
+
 /**
  * Utility class to determine the state of a certain position in Java or JavaScript/TypeScript sources.<br/>
  * It is possible to query if a certain index is within a comment (line or block) or within a string or char literal.
@@ -98,6 +100,9 @@ public final class SourceState {
   }
 
   private static final class EscapeStringState implements IState {
+    private static final IState DOUBLE_QUOTE = new EscapeStringState('"');
+    private static final IState SINGLE_QUOTE = new EscapeStringState('\'');
+    private static final IState BACKTICK = new EscapeStringState('`');
 
     private final char m_delimiter;
 
@@ -105,9 +110,17 @@ public final class SourceState {
       m_delimiter = delimiter;
     }
 
+    private static IState of(char delimiter) {
+      return switch (delimiter) {
+        case '"' -> DOUBLE_QUOTE;
+        case '\'' -> SINGLE_QUOTE;
+        default -> BACKTICK;
+      };
+    }
+
     @Override
     public IState next(char c) {
-      return new InStringState(m_delimiter);
+      return InStringState.of(m_delimiter);
     }
 
     @Override
@@ -117,6 +130,9 @@ public final class SourceState {
   }
 
   private static final class InStringState implements IState {
+    private static final IState DOUBLE_QUOTE = new InStringState('"');
+    private static final IState SINGLE_QUOTE = new InStringState('\'');
+    private static final IState BACKTICK = new InStringState('`');
 
     private final char m_delimiter;
 
@@ -124,13 +140,21 @@ public final class SourceState {
       m_delimiter = delimiter;
     }
 
+    private static IState of(char delimiter) {
+      return switch (delimiter) {
+        case '"' -> DOUBLE_QUOTE;
+        case '\'' -> SINGLE_QUOTE;
+        default -> BACKTICK;
+      };
+    }
+
     @Override
     public IState next(char c) {
       if (c == m_delimiter) {
         return DefaultState.INSTANCE;
       }
       if (c == '\\') {
-        return new EscapeStringState(m_delimiter);
+        return EscapeStringState.of(m_delimiter);
       }
       return this;
     }
@@ -141,13 +165,101 @@ public final class SourceState {
     }
   }
 
+  /**
+   * Directly after the opening " of a string. If the next char is a " as well, this might be the start of a Java text
+   * block.
+   */
+  private static final class StringStartState implements IState {
+    private static final IState INSTANCE = new StringStartState();
+
+    @Override
+    public IState next(char c) {
+      if (c == '"') {
+        return EmptyStringState.INSTANCE;
+      }
+      return InStringState.DOUBLE_QUOTE.next(c);
+    }
+
+    @Override
+    public State toState() {
+      return State.IN_STRING;
+    }
+  }
+
+  /**
+   * After an empty string "". If the next char is a " as well, a Java text block starts.
+   */
+  private static final class EmptyStringState implements IState {
+    private static final IState INSTANCE = new EmptyStringState();
+
+    @Override
+    public IState next(char c) {
+      if (c == '"') {
+        return InTextBlockState.INSTANCE;
+      }
+      return DefaultState.INSTANCE.next(c);
+    }
+
+    @Override
+    public State toState() {
+      return State.DEFAULT;
+    }
+  }
+
+  private static final class InTextBlockState implements IState {
+    private static final IState INSTANCE = new InTextBlockState(0);
+    private static final IState ONE_QUOTE = new InTextBlockState(1);
+    private static final IState TWO_QUOTES = new InTextBlockState(2);
+
+    private final int m_numQuotes;
+
+    private InTextBlockState(int numQuotes) {
+      m_numQuotes = numQuotes;
+    }
+
+    @Override
+    public IState next(char c) {
+      if (c == '"') {
+        return switch (m_numQuotes) {
+          case 0 -> ONE_QUOTE;
+          case 1 -> TWO_QUOTES;
+          default -> DefaultState.INSTANCE;
+        };
+      }
+      if (c == '\\') {
+        return EscapeTextBlockState.INSTANCE;
+      }
+      return INSTANCE;
+    }
+
+    @Override
+    public State toState() {
+      return State.IN_STRING;
+    }
+  }
+
+  private static final class EscapeTextBlockState implements IState {
+    private static final IState INSTANCE = new EscapeTextBlockState();
+
+    @Override
+    public IState next(char c) {
+      return InTextBlockState.INSTANCE;
+    }
+
+    @Override
+    public State toState() {
+      return State.ESCAPE_STRING;
+    }
+  }
+
   private static final class DefaultState implements IState {
     private static final IState INSTANCE = new DefaultState();
 
     @Override
     public IState next(char c) {
       return switch (c) {
-        case '"', '`', '\'' -> new InStringState(c);
+        case '"' -> StringStartState.INSTANCE;
+        case '`', '\'' -> InStringState.of(c);
         case '/' -> AboutToEnterCommentState.INSTANCE;
         default -> this;
       };
@@ -200,8 +312,8 @@ public final class SourceState {
      */
     ESCAPE_STRING,
     /**
-     * Describes positions within a String or char literal. While the starting " or ' is already in state InString, the
-     * ending character is not.
+     * Describes positions within a String or char literal or a Java text block. While the starting " or ' is already in
+     * state InString, the ending character is not.
      */
     IN_STRING,
     /**
@@ -229,6 +341,27 @@ public final class SourceState {
     return parseImpl(src, limit).toState();
   }
 
+  /**
+   * Creates an {@link Index} for the source given. The index parses the source once and then answers queries for
+   * arbitrary positions without parsing the source again. Use it if many positions of the same source are queried.
+   *
+   * @param src
+   *          The Java or JavaScript/TypeScript source. Must not be {@code null}. The source must not be modified as long
+   *          as the index is in use.
+   * @return The created {@link Index}.
+   * @since 13.0
+   */
+  public static Index index(CharSequence src) {
+    return new Index(src);
+  }
+
+  /**
+   * @see #index(CharSequence)
+   */
+  public static Index index(char[] src) {
+    return index(wrap(src));
+  }
+
   /**
    * Checks if the given position within the source specified is in a {@link String} or char literal.<br/>
    * The starting and ending quotes are considered to be in the string.<br/>
@@ -251,7 +384,10 @@ public final class SourceState {
    */
   public static boolean isInString(CharSequence src, int pos) {
     var limit = limit(src, pos);
-    var state = parseImpl(src, limit);
+    return isInString(parseImpl(src, limit), src, limit);
+  }
+
+  static boolean isInString(IState state, CharSequence src, int limit) {
     if (isStringEnd(state, src, limit)) {
       return true;
     }
@@ -286,14 +422,17 @@ public final class SourceState {
    */
   public static boolean isInCode(CharSequence src, int pos) {
     var limit = limit(src, pos);
-    var state = parseImpl(src, limit);
+    return isInCode(parseImpl(src, limit), src, limit);
+  }
+
+  static boolean isInCode(IState state, CharSequence src, int limit) {
     if (isStringEnd(state, src, limit)) {
       return false;
     }
     if (isCommentBoundary(state, src, limit)) {
       return false;
     }
-    return state == DefaultState.INSTANCE
+    return isDefault(state)
         || state == AboutToEnterCommentState.INSTANCE;
   }
 
@@ -319,7 +458,10 @@ public final class SourceState {
    */
   public static boolean isInComment(CharSequence src, int pos) {
     var limit = limit(src, pos);
-    var state = parseImpl(src, limit);
+    return isInComment(parseImpl(src, limit), src, limit);
+  }
+
+  static boolean isInComment(IState state, CharSequence src, int limit) {
     if (isCommentBoundary(state, src, limit)) {
       return true;
     }
@@ -328,6 +470,10 @@ public final class SourceState {
         || state == AboutToExitBlockCommentState.INSTANCE;
   }
 
+  static boolean isDefault(IState state) {
+    return state == DefaultState.INSTANCE || state == EmptyStringState.INSTANCE;
+  }
+
   static boolean isCommentBoundary(IState calculatedState, CharSequence src, int limit) {
     if (calculatedState == DefaultState.INSTANCE) {
       return previousState(DefaultState.INSTANCE, src, limit) == AboutToEnterCommentState.INSTANCE;
@@ -340,7 +486,7 @@ public final class SourceState {
   }
 
   static boolean isStringEnd(IState calculatedState, CharSequence src, int limit) {
-    return calculatedState == DefaultState.INSTANCE && previousState(DefaultState.INSTANCE, src, limit).toState() == State.IN_STRING;
+    return isDefault(calculatedState) && previousState(DefaultState.INSTANCE, src, limit).toState() == State.IN_STRING;
   }
 
   static IState parseImpl(CharSequence chars, int end) {
@@ -368,4 +514,108 @@ public final class SourceState {
     }
     return calculatedState.next(src.charAt(limit));
   }
+
+  /**
+   * Index of the source states of a Java or JavaScript/TypeScript source.
+   * <p>
+   * The source is parsed once on creation. The regions having the same state (e.g. a comment, a string literal or
+   * code) are stored in sorted arrays so that the state of a position can be found using a binary search. Therefore,
+   * all queries are answered in logarithmic time instead of parsing the source up to the position queried. The results
+   * are the same as the ones of the corresponding static methods of {@link SourceState}.
+   * <p>
+   * This class is thread safe.
+   *
+   * @since 13.0
+   */
+  public static final class Index {
+
+    private final CharSequence m_src;
+    private final int[] m_regionStarts; // index of the first char (inclusive) having the state of the region
+    private final IState[] m_regionStates; // the state after consuming the chars of the region
+
+    private Index(CharSequence src) {
+      m_src = Ensure.notNull(src);
+      var length = src.length();
+      var starts = new int[16];
+      var states = new IState[starts.length];
+      var numRegions = 0;
+      var state = DefaultState.INSTANCE;
+      IState previous = null;
+      for (var i = 0; i < length; i++) {
+        state = state.next(src.charAt(i));
+        if (state != previous) {
+          if (numRegions == starts.length) {
+            starts = Arrays.copyOf(starts, numRegions * 2);
+            states = Arrays.copyOf(states, numRegions * 2);
+          }
+          starts[numRegions] = i;
+          states[numRegions] = state;
+          numRegions++;
+          previous = state;
+        }
+      }
+      m_regionStarts = Arrays.copyOf(starts, numRegions);
+      m_regionStates = Arrays.copyOf(states, numRegions);
+    }
+
+    /**
+     * @return The source of this index.
+     */
+    public CharSequence source() {
+      return m_src;
+    }
+
+    /**
+     * @return The number of regions having the same state.
+     */
+    public int numRegions() {
+      return m_regionStarts.length;
+    }
+
+    /**
+     * @see SourceState#parse(CharSequence, int)
+     */
+    public State parse(int pos) {
+      return stateAt(limit(m_src, pos)).toState();
+    }
+
+    /**
+     * @see SourceState#isInString(CharSequence, int)
+     */
+    public boolean isInString(int pos) {
+      var limit = limit(m_src, pos);
+      return SourceState.isInString(stateAt(limit), m_src, limit);
+    }
+
+    /**
+     * @see SourceState#isInCode(CharSequence, int)
+     */
+    public boolean isInCode(int pos) {
+      var limit = limit(m_src, pos);
+      return SourceState.isInCode(stateAt(limit), m_src, limit);
+    }
+
+    /**
+     * @see SourceState#isInComment(CharSequence, int)
+     */
+    public boolean isInComment(int pos) {
+      var limit = limit(m_src, pos);
+      return SourceState.isInComment(stateAt(limit), m_src, limit);
+    }
+
+    /**
+     * @return The state after consuming the first {@code limit} chars. Same as {@link SourceState#parseImpl} but
+     *         without parsing.
+     */
+    IState stateAt(int limit) {
+      if (limit <= 0 || m_regionStarts.length == 0) {
+        return DefaultState.INSTANCE;
+      }
+      var index = Arrays.binarySearch(m_regionStarts, limit - 1);
+      if (index < 0) {
+        index = -index - 2; // the region starting before
+      }
+      return m_regionStates[index];
+    }
+  }
 }
@@ -9,12 +9,22 @@
  */
 package org.eclipse.scout.sdk.core.util;
 
-import java.util.HashMap;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 import org.eclipse.scout.sdk.core.log.SdkLog;
@@ -23,11 +33,17 @@ import org.eclipse.scout.sdk.core.log.SdkLog;
  * Implements a simple {@link Map} like cache whose elements are removed after a certain timeout elapsed.
  * <p>
  * It optionally allows to asynchronously remove old items from the cache even if the cache is not accessed.
+ * Additionally, the number of items may be limited. If the limit is exceeded, the least recently used items are
+ * removed.
+ * <p>
+ * Values are computed per key without holding a lock on the whole cache: concurrent
+ * {@link #computeIfAbsent(Object, Function)} calls for the same key wait for the first computation while calls for
+ * other keys are not blocked.
  * <p>
  * The cache allows {@code null} for keys and values.
  * <p>
  * This class is thread safe.
- * 
+ *
  * @param <K>
  *          The key type
  * @param <V>
@@ -35,11 +51,19 @@ import org.eclipse.scout.sdk.core.log.SdkLog;
  */
 public class TtlCache<K, V> {
 
+  private static final Object NULL_KEY = new Object();
+  private static final int PURGE_INTERVAL = 64; // number of writes after which elapsed entries are removed
+
   private final long m_ttl;
   private final TimeUnit m_timeUnit;
   private final ScheduledExecutorService m_executorService; // may be null
-  private final Map<K, TtlCacheEntry<V>> m_cache;
-  private ScheduledFuture<?> m_cleanupFuture; // may be null
+  private final int m_maxSize;
+  private final Map<Object /* masked key */, TtlCacheEntry<V>> m_cache;
+  private final AtomicBoolean m_cleanupScheduled;
+  private final AtomicLong m_accessClock;
+  private final AtomicLong m_writeCounter;
+  private final AtomicBoolean m_evicting;
+  private final CacheStatistics m_statistics;
 
   /**
    * Creates a new cache instance.
@@ -56,7 +80,7 @@ public class TtlCache<K, V> {
 
   /**
    * Creates a new cache instance.
-   * 
+   *
    * @param ttl
    *          The ttl (time-to-live) for cached items. A ttl <= 0 means the items will stay in the cache forever (no
    *          ttl).
@@ -67,14 +91,36 @@ public class TtlCache<K, V> {
    *          ttl has elapsed. May be {@code null}. In that case old items are only removed on next cache access.
    */
   public TtlCache(long ttl, TimeUnit timeUnit, ScheduledExecutorService executorService) {
+    this(ttl, timeUnit, executorService, 0);
+  }
+
+  /**
+   * Creates a new cache instance.
+   *
+   * @param ttl
+   *          The ttl (time-to-live) for cached items. A ttl <= 0 means the items will stay in the cache forever (no
+   *          ttl).
+   * @param timeUnit
+   *          The {@link TimeUnit} of the ttl. Must not be {@code null}.
+   * @param executorService
+   *          An optional {@link ScheduledExecutorService}. If provided it is used to asynchronously remove items whose
+   *          ttl has elapsed. May be {@code null}. In that case old items are only removed on cache access.
+   * @param maxSize
+   *          The maximum number of items in the cache. If more items are added, the least recently used items are
+   *          removed. A value <= 0 means the number of items is not limited.
+   * @since 13.0
+   */
+  public TtlCache(long ttl, TimeUnit timeUnit, ScheduledExecutorService executorService, int maxSize) {
     m_timeUnit = Ensure.notNull(timeUnit);
     m_executorService = executorService;
     m_ttl = ttl;
-    m_cache = new HashMap<>();
-  }
-
-  protected static void removeInvalidEntriesOf(Map<?, ? extends TtlCacheEntry<?>> cache) {
-    cache.values().removeIf(TtlCacheEntry::elapsed);
+    m_maxSize = maxSize;
+    m_cache = new ConcurrentHashMap<>();
+    m_cleanupScheduled = new AtomicBoolean();
+    m_accessClock = new AtomicLong();
+    m_writeCounter = new AtomicLong();
+    m_evicting = new AtomicBoolean();
+    m_statistics = new CacheStatistics(TtlCache.class.getSimpleName());
   }
 
   /**
@@ -83,23 +129,32 @@ public class TtlCache<K, V> {
    * @param key
    *          The key of the item to retrieve. May be {@code null}.
    * @return The cached item for the given key or {@code null} if there is no such item for which the ttl has not
-   *         elapsed yet.
+   *         elapsed yet. If the item is currently computed by {@link #computeIfAbsent(Object, Function)}, this method
+   *         waits until the computation completes.
    */
   public V get(K key) {
-    var element = withCacheExec(it -> it.get(key));
-    if (element == null) {
+    var maskedKey = mask(key);
+    var entry = validEntry(maskedKey);
+    if (entry == null) {
+      m_statistics.miss();
       return null;
     }
-    return element.m_element;
+    if (entry.isLoadingInCurrentThread()) {
+      return null; // called from within the mapping function of the key
+    }
+    m_statistics.hit();
+    return entry.join(maskedKey, m_cache);
   }
 
   /**
    * If the specified key is not already associated with a value, computes its value using the given mapping function
    * and enters it into this cache.
    * <p>
-   * If the mapping function throws an exception, the exception is rethrown, and no mapping is recorded.
+   * If the mapping function throws an exception, the exception is rethrown, and no mapping is recorded. Concurrent
+   * calls waiting for the same key receive the same exception.
    * <p>
-   * The mapping function should not modify this cache during computation.
+   * The mapping function is executed without holding a lock on the cache. It should not modify the mapping of the key
+   * given during computation.
    *
    * @param key
    *          The key of the item to retrieve. May be {@code null}.
@@ -109,10 +164,42 @@ public class TtlCache<K, V> {
    *         value is {@code null}.
    * @throws IllegalArgumentException
    *           if the mappingFunction is {@code null}.
+   * @throws IllegalStateException
+   *           if the mapping function tries to compute the value of the same key.
    */
   public V computeIfAbsent(K key, Function<? super K, ? extends V> mappingFunction) {
     Ensure.notNull(mappingFunction);
-    return withCacheExec(cache -> cache.computeIfAbsent(key, k -> new TtlCacheEntry<>(mappingFunction.apply(k), getTtl(), getTimeUnit())).m_element);
+    var maskedKey = mask(key);
+    while (true) {
+      var existing = validEntry(maskedKey);
+      if (existing != null) {
+        m_statistics.hit();
+        return existing.join(maskedKey, m_cache);
+      }
+
+      var loading = new TtlCacheEntry<V>(Thread.currentThread(), m_accessClock.incrementAndGet());
+      if (m_cache.putIfAbsent(maskedKey, loading) != null) {
+        continue; // another thread created an entry in the meantime: use that one
+      }
+
+      m_statistics.miss();
+      var start = System.nanoTime();
+      V value;
+      try {
+        value = mappingFunction.apply(key);
+      }
+      catch (RuntimeException | Error e) {
+        m_cache.remove(maskedKey, loading);
+        loading.fail(e);
+        throw e;
+      }
+      finally {
+        m_statistics.loaded(System.nanoTime() - start);
+      }
+      loading.complete(value, validUntil());
+      afterWrite();
+      return value;
+    }
   }
 
   /**
@@ -126,20 +213,44 @@ public class TtlCache<K, V> {
    * @return the previous value associated with key, or {@code null} if there was no mapping for key.
    */
   public V put(K key, V value) {
-    var previous = withCacheExec(it -> it.put(key, new TtlCacheEntry<>(value, getTtl(), getTimeUnit())));
-    if (previous == null) {
+    var previous = m_cache.put(mask(key), new TtlCacheEntry<>(value, validUntil(), m_accessClock.incrementAndGet()));
+    afterWrite();
+    if (previous == null || !previous.isDone() || previous.elapsed(System.nanoTime())) {
+      return null;
+    }
+    return previous.value();
+  }
+
+  /**
+   * Removes the mapping for the given key.
+   *
+   * @param key
+   *          The key of the item to remove. May be {@code null}.
+   * @return the previous value associated with key, or {@code null} if there was no mapping for key.
+   * @since 13.0
+   */
+  public V remove(K key) {
+    var previous = m_cache.remove(mask(key));
+    if (previous == null || !previous.isDone() || previous.elapsed(System.nanoTime())) {
       return null;
     }
-    return previous.m_element;
+    return previous.value();
   }
 
   /**
    * Removes all elements from the cache.
    */
   public void clear() {
-    synchronized (m_cache) {
-      m_cache.clear();
-    }
+    m_cache.clear();
+  }
+
+  /**
+   * @return The number of items in the cache. This may include items whose ttl has already elapsed but which have not
+   *         been removed yet.
+   * @since 13.0
+   */
+  public int size() {
+    return m_cache.size();
   }
 
   /**
@@ -156,50 +267,296 @@ public class TtlCache<K, V> {
     return m_timeUnit;
   }
 
-  protected <R> R withCacheExec(Function<Map<K, TtlCacheEntry<V>>, R> function) {
-    synchronized (m_cache) {
-      var cacheHasTtl = getTtl() > 0;
-      if (cacheHasTtl) {
-        removeInvalidEntriesOf(m_cache); // ensure cache is up-to-date
+  /**
+   * @return The maximum number of items in this cache or a value <= 0 if the size is not limited.
+   * @since 13.0
+   */
+  public int getMaxSize() {
+    return m_maxSize;
+  }
+
+  /**
+   * @return The {@link CacheStatistics} of this cache.
+   * @since 13.0
+   */
+  public CacheStatistics statistics() {
+    return m_statistics;
+  }
+
+  private TtlCacheEntry<V> validEntry(Object maskedKey) {
+    var entry = m_cache.get(maskedKey);
+    if (entry == null) {
+      return null;
+    }
+    if (entry.elapsed(System.nanoTime())) {
+      m_cache.remove(maskedKey, entry);
+      return null;
+    }
+    entry.m_lastAccess = m_accessClock.incrementAndGet();
+    return entry;
+  }
+
+  private long validUntil() {
+    if (getTtl() <= 0) {
+      return Long.MAX_VALUE;
+    }
+    return System.nanoTime() + getTimeUnit().toNanos(getTtl());
+  }
+
+  protected void afterWrite() {
+    if (m_maxSize > 0 && m_cache.size() > m_maxSize) {
+      evictLeastRecentlyUsed();
+    }
+    if (getTtl() <= 0) {
+      return;
+    }
+    if (m_writeCounter.incrementAndGet() % PURGE_INTERVAL == 0) {
+      removeElapsedEntries();
+    }
+    scheduleCacheCleanup();
+  }
+
+  /**
+   * Removes the least recently used entries until the cache is within its {@link #getMaxSize() size limit}. To amortize
+   * the costs, some additional entries are removed. Only one thread evicts at a time.
+   */
+  protected void evictLeastRecentlyUsed() {
+    if (!m_evicting.compareAndSet(false, true)) {
+      return; // another thread is already evicting
+    }
+    try {
+      removeElapsedEntries();
+      var numToRemove = m_cache.size() - m_maxSize;
+      if (numToRemove <= 0) {
+        return;
       }
-      var result = function.apply(m_cache);
-      if (cacheHasTtl && !m_cache.isEmpty()) {
-        scheduleCacheCleanup();
+      numToRemove += m_maxSize / 16; // evict some additional items so that not every write requires an eviction
+      // snapshot the access stamps: they are modified concurrently and must not change while sorting
+      var candidates = new ArrayList<EvictionCandidate<V>>(m_cache.size());
+      for (var entry : m_cache.entrySet()) {
+        var value = entry.getValue();
+        if (value.isDone()) { // entries being computed are not evicted
+          candidates.add(new EvictionCandidate<>(entry.getKey(), value, value.m_lastAccess));
+        }
       }
-      return result;
+      candidates.sort(Comparator.comparingLong(EvictionCandidate::lastAccess));
+      for (var i = 0; i < numToRemove && i < candidates.size(); i++) {
+        var candidate = candidates.get(i);
+        m_cache.remove(candidate.maskedKey(), candidate.entry());
+      }
+    }
+    finally {
+      m_evicting.set(false);
     }
   }
 
+  protected void removeElapsedEntries() {
+    removeInvalidEntriesOf(m_cache);
+  }
+
+  protected static void removeInvalidEntriesOf(Map<?, ? extends TtlCacheEntry<?>> cache) {
+    var now = System.nanoTime();
+    cache.values().removeIf(entry -> entry.elapsed(now));
+  }
+
+  /**
+   * Schedules an asynchronous cleanup if an {@link ScheduledExecutorService} is available and no cleanup is scheduled
+   * yet.
+   */
   protected void scheduleCacheCleanup() {
-    if (m_executorService == null) {
+    if (m_executorService == null || m_cleanupScheduled.get() || !m_cleanupScheduled.compareAndSet(false, true)) {
       return;
     }
+    try {
+      m_executorService.schedule(this::runScheduledCacheCleanup, getTimeUnit().toMillis(getTtl()) + 1, TimeUnit.MILLISECONDS);
+    }
+    catch (RejectedExecutionException e) {
+      m_cleanupScheduled.set(false);
+      SdkLog.debug("Unable to schedule {} cleanup.", getClass().getSimpleName(), e);
+    }
+  }
+
+  protected void runScheduledCacheCleanup() {
+    m_cleanupScheduled.set(false);
+    removeElapsedEntries();
+    afterScheduledCacheCleanup(new CacheView());
+    if (!m_cache.isEmpty()) {
+      scheduleCacheCleanup();
+    }
+  }
 
-    var cleanupFuture = m_cleanupFuture;
-    if (cleanupFuture != null) {
-      cleanupFuture.cancel(false);
+  /**
+   * Executes the given function on the content of this cache. Elapsed entries are removed before.
+   *
+   * @param function
+   *          The function to execute. Must not be {@code null}.
+   * @return The result of the function.
+   * @deprecated The function is no longer executed under a lock of the whole cache. Concurrent modifications of other
+   *             threads may be visible to the function. Use {@link #get(Object)}, {@link #put(Object, Object)},
+   *             {@link #computeIfAbsent(Object, Function)} or {@link #remove(Object)} instead.
+   */
+  @Deprecated
+  protected <R> R withCacheExec(Function<Map<K, TtlCacheEntry<V>>, R> function) {
+    Ensure.notNull(function);
+    if (getTtl() > 0) {
+      removeElapsedEntries();
     }
-    m_cleanupFuture = m_executorService.schedule(() -> withCacheExec(this::afterScheduledCacheCleanup),
-        getTimeUnit().toMillis(getTtl()) + 1, TimeUnit.MILLISECONDS);
+    var result = function.apply(new CacheView());
+    if (getTtl() > 0 && !m_cache.isEmpty()) {
+      scheduleCacheCleanup();
+    }
+    return result;
   }
 
   protected Void afterScheduledCacheCleanup(Map<K, TtlCacheEntry<V>> cache) {
-    SdkLog.debug("{} cleanup executed after {} {}. Remaining cached items: {}.",
-        getClass().getSimpleName(), getTtl(), getTimeUnit().toString().toLowerCase(Locale.US), cache.size());
+    SdkLog.debug("{} cleanup executed after {} {}. Remaining cached items: {}. {}",
+        getClass().getSimpleName(), getTtl(), getTimeUnit().toString().toLowerCase(Locale.US), cache.size(), m_statistics);
     return null;
   }
 
+  private static Object mask(Object key) {
+    return key == null ? NULL_KEY : key;
+  }
+
+  @SuppressWarnings("unchecked")
+  private K unmask(Object maskedKey) {
+    return maskedKey == NULL_KEY ? null : (K) maskedKey;
+  }
+
   protected static final class TtlCacheEntry<T> {
-    private final T m_element;
-    private final long m_validUntil;
+    private final CompletableFuture<T> m_element;
+    private final Thread m_loader; // the thread computing the element. null if already completed.
+    private volatile long m_validUntil;
+    private volatile long m_lastAccess;
+
+    private TtlCacheEntry(T element, long validUntil, long lastAccess) {
+      m_element = CompletableFuture.completedFuture(element);
+      m_loader = null;
+      m_validUntil = validUntil;
+      m_lastAccess = lastAccess;
+    }
+
+    private TtlCacheEntry(Thread loader, long lastAccess) {
+      m_element = new CompletableFuture<>();
+      m_loader = loader;
+      m_validUntil = Long.MAX_VALUE; // does not elapse while loading
+      m_lastAccess = lastAccess;
+    }
+
+    private void complete(T element, long validUntil) {
+      m_validUntil = validUntil;
+      m_element.complete(element);
+    }
 
-    private TtlCacheEntry(T element, long ttl, TimeUnit timeUnit) {
-      m_element = element;
-      m_validUntil = System.currentTimeMillis() + timeUnit.toMillis(ttl);
+    private void fail(Throwable t) {
+      m_element.completeExceptionally(t);
+    }
+
+    private boolean isDone() {
+      return m_element.isDone();
+    }
+
+    private boolean isLoadingInCurrentThread() {
+      return m_loader == Thread.currentThread() && !isDone();
+    }
+
+    private T value() {
+      return m_element.getNow(null);
+    }
+
+    private T join(Object maskedKey, Map<Object, ?> cache) {
+      if (isLoadingInCurrentThread()) {
+        throw new IllegalStateException("Recursive computation of the value for key '" + maskedKey + "'.");
+      }
+      try {
+        return m_element.join();
+      }
+      catch (CompletionException e) {
+        cache.remove(maskedKey, this);
+        var cause = e.getCause();
+        if (cause instanceof RuntimeException re) {
+          throw re;
+        }
+        if (cause instanceof Error err) {
+          throw err;
+        }
+        throw e;
+      }
     }
 
     boolean elapsed() {
-      return System.currentTimeMillis() > m_validUntil;
+      return elapsed(System.nanoTime());
+    }
+
+    boolean elapsed(long now) {
+      var validUntil = m_validUntil;
+      return validUntil != Long.MAX_VALUE && now - validUntil > 0;
+    }
+  }
+
+  private record EvictionCandidate<T>(Object maskedKey, TtlCacheEntry<T> entry, long lastAccess) {
+  }
+
+  /**
+   * Modifiable view on the cache content passed to {@link #afterScheduledCacheCleanup(Map)} and
+   * {@link #withCacheExec(Function)}. Modifications are written through to the cache.
+   */
+  private final class CacheView extends AbstractMap<K, TtlCacheEntry<V>> {
+    @Override
+    public TtlCacheEntry<V> get(Object key) {
+      return m_cache.get(mask(key));
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return m_cache.containsKey(mask(key));
+    }
+
+    @Override
+    public TtlCacheEntry<V> put(K key, TtlCacheEntry<V> value) {
+      return m_cache.put(mask(key), Ensure.notNull(value));
+    }
+
+    @Override
+    public TtlCacheEntry<V> remove(Object key) {
+      return m_cache.remove(mask(key));
+    }
+
+    @Override
+    public void clear() {
+      m_cache.clear();
+    }
+
+    @Override
+    public Set<Entry<K, TtlCacheEntry<V>>> entrySet() {
+      return new AbstractSet<>() {
+        @Override
+        public Iterator<Entry<K, TtlCacheEntry<V>>> iterator() {
+          var iterator = m_cache.entrySet().iterator();
+          return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+              return iterator.hasNext();
+            }
+
+            @Override
+            public Entry<K, TtlCacheEntry<V>> next() {
+              var next = iterator.next();
+              return new SimpleImmutableEntry<>(unmask(next.getKey()), next.getValue());
+            }
+
+            @Override
+            public void remove() {
+              iterator.remove();
+            }
+          };
+        }
+
+        @Override
+        public int size() {
+          return m_cache.size();
+        }
+      };
     }
   }
 }
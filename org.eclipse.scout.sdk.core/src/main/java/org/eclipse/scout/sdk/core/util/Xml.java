@@ -29,19 +29,27 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.StandardOpenOption;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.IntStream;
 
 import javax.xml.XMLConstants;
 import javax.xml.namespace.NamespaceContext;
+import javax.xml.namespace.QName;
 import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
 import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 import javax.xml.transform.OutputKeys;
 import javax.xml.transform.Result;
 import javax.xml.transform.Transformer;
@@ -70,6 +78,9 @@ import org.xml.sax.SAXException;
  */
 public final class Xml {
 
+  private static final char PATH_DELIMITER = '/';
+  private static final ThreadLocal<DocumentBuilder> DOCUMENT_BUILDER = ThreadLocal.withInitial(Xml::newCachedDocumentBuilder);
+
   private Xml() {
   }
 
@@ -133,22 +144,206 @@ public final class Xml {
    */
   public static Document get(String rawXmlAsString) throws IOException {
     try (Reader r = new StringReader(Ensure.notBlank(rawXmlAsString))) {
-      return createDocumentBuilder().parse(new InputSource(r));
+      return parse(new InputSource(r));
     }
-    catch (SAXException | ParserConfigurationException e) {
+  }
+
+  static Document get(InputStream in) throws IOException {
+    return parse(new InputSource(in));
+  }
+
+  static Document parse(InputSource source) throws IOException {
+    // the builder of the current thread is reused: creating a new factory and builder is more expensive than parsing a small file
+    var builder = DOCUMENT_BUILDER.get();
+    try {
+      return builder.parse(source);
+    }
+    catch (SAXException e) {
       throw new IOException(e);
     }
+    finally {
+      builder.reset();
+    }
   }
 
-  static Document get(InputStream in) throws IOException {
+  /**
+   * Reads the text content of some elements of the specified xml file without creating a DOM.
+   * <p>
+   * The elements are specified by paths relative to the root element consisting of the local names of the elements
+   * separated by a slash (e.g. {@code "parent/version"} for the version element within the parent element of a pom).
+   * Only the first occurrence of each path is returned. The file is only read until all paths have been found. This
+   * is much faster than {@link #get(Path)} if only a few elements near the root are required.
+   *
+   * @param xmlFile
+   *          A {@link Path} pointing to the xml file. Must not be {@code null}.
+   * @param elementPaths
+   *          The paths of the elements whose text content should be returned. Must not be {@code null}.
+   * @return A {@link Map} holding the element path as key and its text content (see {@link Node#getTextContent()}) as
+   *         value. Paths which could not be found are not part of the map.
+   * @throws IOException
+   *           if there is an exception reading the file.
+   */
+  public static Map<String, String> readElements(Path xmlFile, Collection<String> elementPaths) throws IOException {
+    try (var in = new BufferedInputStream(Files.newInputStream(Ensure.notNull(xmlFile), StandardOpenOption.READ))) {
+      return readElements(in, elementPaths);
+    }
+  }
+
+  /**
+   * Reads the text content of some elements of the specified XML {@link String} without creating a DOM.
+   *
+   * @param rawXmlAsString
+   *          The {@link String} holding the XML content. Must not be blank (see {@link Strings#isBlank(CharSequence)}).
+   * @param elementPaths
+   *          The paths of the elements whose text content should be returned. Must not be {@code null}.
+   * @return A {@link Map} holding the element path as key and its text content as value.
+   * @throws IOException
+   *           if there is an exception parsing the content.
+   * @see #readElements(Path, Collection)
+   */
+  public static Map<String, String> readElements(String rawXmlAsString, Collection<String> elementPaths) throws IOException {
+    try (Reader r = new StringReader(Ensure.notBlank(rawXmlAsString))) {
+      var reader = createXmlStreamReader(r);
+      try {
+        return readElements(reader, elementPaths);
+      }
+      finally {
+        closeSafe(reader);
+      }
+    }
+  }
+
+  static Map<String, String> readElements(InputStream in, Collection<String> elementPaths) throws IOException {
+    var reader = createXmlStreamReader(in);
     try {
-      return createDocumentBuilder().parse(in);
+      return readElements(reader, elementPaths);
+    }
+    finally {
+      closeSafe(reader);
     }
-    catch (SAXException | ParserConfigurationException e) {
+  }
+
+  static Map<String, String> readElements(XMLStreamReader reader, Collection<String> elementPaths) throws IOException {
+    Set<String> remaining = new HashSet<>(elementPaths);
+    var maxDepth = 0;
+    for (var path : remaining) {
+      maxDepth = Math.max(maxDepth, (int) path.chars().filter(c -> c == PATH_DELIMITER).count() + 1);
+    }
+    Map<String, String> result = new HashMap<>(remaining.size());
+    if (remaining.isEmpty()) {
+      return result;
+    }
+
+    try {
+      var path = new StringBuilder();
+      var pathLengths = new int[maxDepth + 1];
+      var depth = -1; // the root element has depth 0
+      var captureDepth = -1;
+      String capturePath = null;
+      StringBuilder text = null;
+      while (reader.hasNext()) {
+        var event = reader.next();
+        if (event == XMLStreamConstants.START_ELEMENT) {
+          depth++;
+          if (captureDepth < 0 && depth > 0 && depth <= maxDepth) {
+            path.setLength(pathLengths[depth - 1]);
+            if (depth > 1) {
+              path.append(PATH_DELIMITER);
+            }
+            path.append(reader.getLocalName());
+            pathLengths[depth] = path.length();
+            var candidate = path.toString();
+            if (remaining.remove(candidate)) {
+              captureDepth = depth;
+              capturePath = candidate;
+              text = new StringBuilder();
+            }
+          }
+        }
+        else if (event == XMLStreamConstants.END_ELEMENT) {
+          if (depth == captureDepth) {
+            result.put(capturePath, text.toString());
+            captureDepth = -1;
+            if (remaining.isEmpty()) {
+              return result;
+            }
+          }
+          depth--;
+        }
+        else if (captureDepth >= 0 && (event == XMLStreamConstants.CHARACTERS || event == XMLStreamConstants.CDATA || event == XMLStreamConstants.SPACE)) {
+          text.append(reader.getTextCharacters(), reader.getTextStart(), reader.getTextLength());
+        }
+      }
+      return result;
+    }
+    catch (XMLStreamException e) {
       throw new IOException(e);
     }
   }
 
+  /**
+   * Gets the qualified name of the root element of the specified xml file. Only the beginning of the file is read.
+   *
+   * @param xmlFile
+   *          A {@link Path} pointing to the xml file. Must not be {@code null}.
+   * @return The {@link QName} of the root element (holding the namespace URI and the local name) or an empty
+   *         {@link Optional} if the file has no root element.
+   * @throws IOException
+   *           if there is an exception reading the file.
+   */
+  public static Optional<QName> rootElement(Path xmlFile) throws IOException {
+    try (var in = new BufferedInputStream(Files.newInputStream(Ensure.notNull(xmlFile), StandardOpenOption.READ))) {
+      var reader = createXmlStreamReader(in);
+      try {
+        while (reader.hasNext()) {
+          if (reader.next() == XMLStreamConstants.START_ELEMENT) {
+            return Optional.of(reader.getName());
+          }
+        }
+        return Optional.empty();
+      }
+      catch (XMLStreamException e) {
+        throw new IOException(e);
+      }
+      finally {
+        closeSafe(reader);
+      }
+    }
+  }
+
+  static XMLStreamReader createXmlStreamReader(InputStream in) throws IOException {
+    var factory = FactoryHolder.XML_INPUT_FACTORY;
+    try {
+      synchronized (factory) {
+        return factory.createXMLStreamReader(in); // detects the encoding as specified in the xml declaration
+      }
+    }
+    catch (XMLStreamException e) {
+      throw new IOException(e);
+    }
+  }
+
+  static XMLStreamReader createXmlStreamReader(Reader in) throws IOException {
+    var factory = FactoryHolder.XML_INPUT_FACTORY;
+    try {
+      synchronized (factory) {
+        return factory.createXMLStreamReader(in);
+      }
+    }
+    catch (XMLStreamException e) {
+      throw new IOException(e);
+    }
+  }
+
+  private static void closeSafe(XMLStreamReader reader) {
+    try {
+      reader.close();
+    }
+    catch (XMLStreamException e) {
+      SdkLog.debug("Unable to close XML stream reader.", e);
+    }
+  }
+
   /**
    * Gets the first child {@link Element} of the specified parent {@link Element} having the specified local tag name
    * (ignoring namespaces).
@@ -339,6 +534,18 @@ public final class Xml {
     return dbf;
   }
 
+  /**
+   * @return A safe pre configured {@link XMLInputFactory} for streaming access. DTDs and external entities are disabled
+   *         to prevent XXE.
+   */
+  public static XMLInputFactory createXmlInputFactory() {
+    var factory = XMLInputFactory.newDefaultFactory();
+    factory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+    factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+    factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE);
+    return factory;
+  }
+
   /**
    * Creates a new {@link DocumentBuilder} to create a DOM of an XML file.<br>
    * Use e.g. {@link DocumentBuilder#parse(InputStream)} to create a new {@link Document}.
@@ -348,7 +555,19 @@ public final class Xml {
    *           if a {@link DocumentBuilder} cannot be created which satisfies the configuration requested.
    */
   public static DocumentBuilder createDocumentBuilder() throws ParserConfigurationException {
-    return createDocumentBuilderFactory().newDocumentBuilder();
+    var factory = FactoryHolder.DOCUMENT_BUILDER_FACTORY; // factories are not thread safe
+    synchronized (factory) {
+      return factory.newDocumentBuilder();
+    }
+  }
+
+  private static DocumentBuilder newCachedDocumentBuilder() {
+    try {
+      return createDocumentBuilder();
+    }
+    catch (ParserConfigurationException e) {
+      throw new SdkException(e);
+    }
   }
 
   /**
@@ -457,6 +676,36 @@ public final class Xml {
    */
   @SuppressWarnings("HttpUrlsUsage")
   public static Transformer createTransformer(boolean format) throws TransformerConfigurationException {
+    var tf = FactoryHolder.TRANSFORMER_FACTORY;
+    Transformer transformer;
+    synchronized (tf) {
+      transformer = tf.newTransformer();
+    }
+
+    Map<String, String> outputProps = new HashMap<>(4);
+    outputProps.put(OutputKeys.ENCODING, StandardCharsets.UTF_8.name());
+    outputProps.put(OutputKeys.METHOD, "xml");
+    if (format) {
+      outputProps.put(OutputKeys.INDENT, "yes");
+      outputProps.put("{http://xml.apache.org/xslt}indent-amount", Integer.toString(2));
+    }
+    else {
+      outputProps.put(OutputKeys.INDENT, "no");
+    }
+
+    for (var o : outputProps.entrySet()) {
+      try {
+        transformer.setOutputProperty(o.getKey(), o.getValue());
+      }
+      catch (IllegalArgumentException e) {
+        SdkLog.debug("Error applying output property '{}' on transformer of class '{}'.", o.getKey(), transformer.getClass().getName(), e);
+      }
+    }
+    return transformer;
+  }
+
+  @SuppressWarnings("HttpUrlsUsage")
+  static TransformerFactory createTransformerFactory() {
     var tf = TransformerFactory.newDefaultInstance();
     try {
       tf.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
@@ -477,27 +726,18 @@ public final class Xml {
       }
     }
 
-    var transformer = tf.newTransformer();
+    return tf;
+  }
 
-    Map<String, String> outputProps = new HashMap<>(4);
-    outputProps.put(OutputKeys.ENCODING, StandardCharsets.UTF_8.name());
-    outputProps.put(OutputKeys.METHOD, "xml");
-    if (format) {
-      outputProps.put(OutputKeys.INDENT, "yes");
-      outputProps.put("{http://xml.apache.org/xslt}indent-amount", Integer.toString(2));
-    }
-    else {
-      outputProps.put(OutputKeys.INDENT, "no");
-    }
+  /**
+   * Holds the pre configured factories which are expensive to create. Access must be synchronized on the factory.
+   */
+  private static final class FactoryHolder {
+    private static final DocumentBuilderFactory DOCUMENT_BUILDER_FACTORY = createDocumentBuilderFactory();
+    private static final TransformerFactory TRANSFORMER_FACTORY = createTransformerFactory();
+    private static final XMLInputFactory XML_INPUT_FACTORY = createXmlInputFactory();
 
-    for (var o : outputProps.entrySet()) {
-      try {
-        transformer.setOutputProperty(o.getKey(), o.getValue());
-      }
-      catch (IllegalArgumentException e) {
-        SdkLog.debug("Error applying output property '{}' on transformer of class '{}'.", o.getKey(), transformer.getClass().getName(), e);
-      }
+    private FactoryHolder() {
     }
-    return transformer;
   }
 }
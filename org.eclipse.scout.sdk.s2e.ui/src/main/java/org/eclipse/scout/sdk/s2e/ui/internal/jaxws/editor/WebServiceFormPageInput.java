@@ -525,10 +525,10 @@ public class WebServiceFormPageInput implements Comparable<WebServiceFormPageInp
 
     for (var candidate : m_bindings) {
       try {
-        var document = Xml.get(candidate);
-        var rootTag = document.getDocumentElement();
-        if (JaxWsUtils.BINDINGS_ELEMENT_NAME.equals(rootTag.getLocalName())) {
-          var rootNs = rootTag.getNamespaceURI();
+        // only the root element is required: don't create a DOM
+        var rootTag = Xml.rootElement(candidate);
+        if (rootTag.isPresent() && JaxWsUtils.BINDINGS_ELEMENT_NAME.equals(rootTag.orElseThrow().getLocalPart())) {
+          var rootNs = rootTag.orElseThrow().getNamespaceURI();
           if (jaxWsNamespace.equals(rootNs)) {
             m_jaxwsBindingFiles.add(candidate);
           }
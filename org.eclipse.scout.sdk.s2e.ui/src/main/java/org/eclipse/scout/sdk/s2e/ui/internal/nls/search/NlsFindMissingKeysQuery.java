@@ -11,12 +11,16 @@ package org.eclipse.scout.sdk.s2e.ui.internal.nls.search;
 
 import static org.eclipse.scout.sdk.s2e.ui.util.S2eUiUtils.queryResultToSearchResult;
 
+import java.io.IOException;
 import java.util.logging.Level;
 
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.IStatus;
 import org.eclipse.core.runtime.Status;
+import org.eclipse.scout.sdk.core.log.SdkLog;
 import org.eclipse.scout.sdk.core.s.nls.query.MissingTranslationQuery;
+import org.eclipse.scout.sdk.core.s.util.search.FileQueryCache;
+import org.eclipse.scout.sdk.s2e.S2ESdkActivator;
 import org.eclipse.scout.sdk.s2e.util.EclipseWorkspaceWalker;
 import org.eclipse.search.internal.ui.text.FileSearchQuery;
 import org.eclipse.search.internal.ui.text.FileSearchResult;
@@ -28,6 +32,8 @@ import org.eclipse.search.internal.ui.text.FileSearchResult;
  */
 public class NlsFindMissingKeysQuery extends FileSearchQuery {
 
+  private static final String CACHE_FILE_NAME = "missingTranslationQuery.cache";
+
   public NlsFindMissingKeysQuery() {
     super("", false, false, null);
   }
@@ -49,10 +55,25 @@ public class NlsFindMissingKeysQuery extends FileSearchQuery {
 
   @Override
   public IStatus run(IProgressMonitor monitor) {
-    var query = EclipseWorkspaceWalker.executeQuerySync(MissingTranslationQuery::new, monitor);
+    var cache = FileQueryCache.load(S2ESdkActivator.getDefault().getStateLocation().append(CACHE_FILE_NAME).toFile().toPath());
+    var query = EclipseWorkspaceWalker.executeQuerySync((e, p) -> cache.cached(new MissingTranslationQuery(e, p)), monitor);
     queryResultToSearchResult(query
         .result()
         .filter(r -> r.severity() >= Level.WARNING.intValue()), getSearchResult());
+    if (monitor == null || !monitor.isCanceled()) {
+      cache.retainVisited(); // remove the entries of deleted or renamed files
+    }
+    storeCache(cache);
     return Status.OK_STATUS;
   }
+
+  protected static void storeCache(FileQueryCache cache) {
+    SdkLog.debug("Missing translation search finished. {}", cache.statistics());
+    try {
+      cache.store();
+    }
+    catch (IOException e) {
+      SdkLog.warning("Unable to store the missing translation search cache.", e);
+    }
+  }
 }
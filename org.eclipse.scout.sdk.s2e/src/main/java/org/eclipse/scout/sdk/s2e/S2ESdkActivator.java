@@ -9,8 +9,12 @@
  */
 package org.eclipse.scout.sdk.s2e;
 
+import java.io.IOException;
+
 import org.eclipse.core.runtime.Plugin;
+import org.eclipse.scout.sdk.core.log.SdkLog;
 import org.eclipse.scout.sdk.core.s.dataobject.DoContextResolvers;
+import org.eclipse.scout.sdk.core.s.derived.DtoFingerprintIndex;
 import org.eclipse.scout.sdk.core.s.nls.ITranslationStoreSupplier;
 import org.eclipse.scout.sdk.core.s.nls.Translations;
 import org.eclipse.scout.sdk.core.s.util.maven.MavenRunner;
@@ -25,10 +29,12 @@ import org.osgi.framework.BundleContext;
 public class S2ESdkActivator extends Plugin {
 
   public static final String PLUGIN_ID = "org.eclipse.scout.sdk.s2e";
+  private static final String DTO_FINGERPRINTS_FILE_NAME = "dto-fingerprints.bin";
 
   private static volatile S2ESdkActivator plugin;
   private volatile ITranslationStoreSupplier m_nlsSupplier;
   private volatile DerivedResourceManager m_derivedResourceManager;
+  private volatile DtoFingerprintIndex m_dtoFingerprints;
 
   @Override
   public void start(BundleContext context) throws Exception {
@@ -37,8 +43,16 @@ public class S2ESdkActivator extends Plugin {
     plugin = this;
 
     // DTO auto update
-    m_derivedResourceManager = new DerivedResourceManager();
-    m_derivedResourceManager.addDerivedResourceHandlerFactory(new DtoDerivedResourceHandlerFactory());
+    var dtoFingerprints = DtoFingerprintIndex.load(getStateLocation().append(DTO_FINGERPRINTS_FILE_NAME).toFile().toPath());
+    m_dtoFingerprints = dtoFingerprints;
+    m_derivedResourceManager = new DerivedResourceManager() {
+      @Override
+      protected void handlersExecuted() {
+        // store after each run so that the fingerprints are not lost if the IDE terminates abnormally
+        storeDtoFingerprints(dtoFingerprints);
+      }
+    };
+    m_derivedResourceManager.addDerivedResourceHandlerFactory(new DtoDerivedResourceHandlerFactory(dtoFingerprints));
 
     // TranslationStore supplier (NLS)
     m_nlsSupplier = new EclipseTranslationStoreSupplier();
@@ -63,10 +77,23 @@ public class S2ESdkActivator extends Plugin {
     m_derivedResourceManager.dispose();
     m_derivedResourceManager = null;
 
+    storeDtoFingerprints(m_dtoFingerprints);
+    m_dtoFingerprints = null;
+
     plugin = null;
     super.stop(context);
   }
 
+  protected static void storeDtoFingerprints(DtoFingerprintIndex fingerprints) {
+    SdkLog.debug("Storing DTO fingerprints. {}", fingerprints);
+    try {
+      fingerprints.storeIfModified();
+    }
+    catch (IOException e) {
+      SdkLog.warning("Unable to store the DTO fingerprints.", e);
+    }
+  }
+
   public static S2ESdkActivator getDefault() {
     return plugin;
   }
@@ -19,20 +19,32 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
 import java.util.zip.ZipError;
 
 import org.eclipse.core.resources.IMarker;
 import org.eclipse.core.resources.IResource;
+import org.eclipse.core.resources.IResourceChangeEvent;
+import org.eclipse.core.resources.IResourceChangeListener;
+import org.eclipse.core.resources.IResourceDelta;
 import org.eclipse.core.resources.ResourcesPlugin;
 import org.eclipse.core.runtime.CoreException;
 import org.eclipse.core.runtime.IProgressMonitor;
 import org.eclipse.core.runtime.OperationCanceledException;
+import org.eclipse.core.runtime.Path;
 import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.Job;
+import org.eclipse.jdt.core.ElementChangedEvent;
 import org.eclipse.jdt.core.IAnnotation;
+import org.eclipse.jdt.core.ICompilationUnit;
+import org.eclipse.jdt.core.IElementChangedListener;
 import org.eclipse.jdt.core.IJavaElement;
+import org.eclipse.jdt.core.IJavaElementDelta;
+import org.eclipse.jdt.core.IPackageFragmentRoot;
 import org.eclipse.jdt.core.IType;
+import org.eclipse.jdt.core.JavaCore;
+import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.SourceRange;
 import org.eclipse.jdt.core.search.IJavaSearchConstants;
 import org.eclipse.jdt.core.search.ReferenceMatch;
@@ -44,7 +56,9 @@ import org.eclipse.jdt.core.search.SearchRequestor;
 import org.eclipse.jface.text.BadLocationException;
 import org.eclipse.jface.text.Document;
 import org.eclipse.jface.text.IDocument;
+import org.eclipse.scout.sdk.core.java.JavaTypes;
 import org.eclipse.scout.sdk.core.log.SdkLog;
+import org.eclipse.scout.sdk.core.s.classid.ClassIdIndex;
 import org.eclipse.scout.sdk.core.s.java.apidef.IScoutAnnotationApi.ClassId;
 import org.eclipse.scout.sdk.core.s.java.apidef.IScoutApi;
 import org.eclipse.scout.sdk.core.s.java.apidef.ScoutApi;
@@ -56,6 +70,11 @@ import org.eclipse.scout.sdk.s2e.util.S2eUtils;
 
 /**
  * <h3>{@link ClassIdValidationJob}</h3>
+ * <p>
+ * The {@code @ClassId} values of the workspace are kept in a {@link ClassIdIndex}. The index is built by a workspace
+ * search on the first run (and on runs requested by the user or after classpath changes). Afterwards, only the Java
+ * files changed since the last run are read again. Binary types are indexed using the path of their
+ * {@link IPackageFragmentRoot} so that source types having the same value as a type of a library are reported as well.
  *
  * @since 4.0.0 2014-05-20
  */
@@ -65,7 +84,13 @@ public final class ClassIdValidationJob extends AbstractJob {
   public static final String CLASS_ID_DUPLICATE_MARKER_ID = "org.eclipse.scout.sdk.classid.duplicate";
   public static final String CLASS_ID_ATTR_ANNOTATION = "SCOUT_CLASS_ID_ATTR_ANNOTATION";
 
+  private static final ClassIdIndex INDEX = new ClassIdIndex();
+  private static final Set<String /* file path */> CHANGED_FILES = ConcurrentHashMap.newKeySet();
+  private static volatile IResourceChangeListener changeListener;
+  private static volatile boolean indexReady;
+
   private final Set<IType> m_classIdTypes;
+  private final boolean m_fullScan;
 
   private ClassIdValidationJob(Set<IType> classIdTypes, boolean showToUser) {
     super(ClassIdValidationJob.class.getName());
@@ -74,6 +99,16 @@ public final class ClassIdValidationJob extends AbstractJob {
     setRule(new P_SchedulingRule());
     setPriority(Job.BUILD);
     m_classIdTypes = classIdTypes;
+    m_fullScan = showToUser || !indexReady; // a validation requested by the user always rebuilds the index
+  }
+
+  /**
+   * @return The {@link ClassIdIndex} holding the {@code @ClassId} values of the workspace. The index is only complete
+   *         after the first validation has been executed.
+   * @since 13.0
+   */
+  public static ClassIdIndex index() {
+    return INDEX;
   }
 
   private Set<IAnnotation> getAllClassIdAnnotationsInWorkspace(IProgressMonitor monitor) {
@@ -143,28 +178,219 @@ public final class ClassIdValidationJob extends AbstractJob {
     return CLASS_ID_VALIDATION_JOB_FAMILY.equals(family);
   }
 
-  private Map<String /*classid*/, List<IAnnotation>> getClassIdOccurrences(IProgressMonitor monitor) {
+  private boolean rebuildIndex(IProgressMonitor monitor) {
+    registerChangeListener(); // before the search so that no change is lost
+    CHANGED_FILES.clear();
     var allClassIdAnnotationsInWorkspace = getAllClassIdAnnotationsInWorkspace(monitor);
     if (monitor.isCanceled()) {
-      return null;
+      return false;
     }
 
-    Map<String, List<IAnnotation>> ids = new HashMap<>();
+    Map<String /* file path */, Map<String /* owner fqn */, String /* classid */>> mappingsByFile = new HashMap<>();
     for (var r : allClassIdAnnotationsInWorkspace) {
       if (monitor.isCanceled()) {
-        return null;
+        return false;
+      }
+      var owner = (IType) r.getAncestor(IJavaElement.TYPE);
+      var file = fileOf(owner);
+      var id = classIdValue(r);
+      if (file != null && id != null) {
+        mappingsByFile.computeIfAbsent(file, k -> new HashMap<>()).put(ownerName(owner), id);
       }
+    }
+
+    INDEX.clear();
+    mappingsByFile.forEach(INDEX::update);
+    indexReady = true;
+    return true;
+  }
 
-      if (JdtUtils.exists(r)) {
-        var id = JdtUtils.getAnnotationValueString(r, "value");
-        if (!Strings.isEmpty(id)) {
-          ids.computeIfAbsent(id, k -> new ArrayList<>()).add(r);
+  private void updateChangedFiles(IProgressMonitor monitor) throws JavaModelException {
+    var classIdFqns = classIdFqns();
+    var root = ResourcesPlugin.getWorkspace().getRoot();
+    for (var path : new ArrayList<>(CHANGED_FILES)) {
+      if (monitor.isCanceled()) {
+        return;
+      }
+      CHANGED_FILES.remove(path);
+      var file = root.getFile(new Path(path));
+      var icu = file.exists() ? JavaCore.createCompilationUnitFrom(file) : null;
+      if (!isInSearchScope(icu)) {
+        INDEX.remove(path);
+        continue;
+      }
+      Map<String, String> mappingsInFile = new HashMap<>();
+      for (var type : icu.getAllTypes()) {
+        for (var classIdFqn : classIdFqns) {
+          var id = classIdValue(JdtUtils.getAnnotation(type, classIdFqn));
+          if (id != null) {
+            mappingsInFile.put(ownerName(type), id);
+          }
+        }
+      }
+      INDEX.update(path, mappingsInFile);
+    }
+  }
+
+  /**
+   * Same scope as the workspace search: the compilation unit must be part of a source folder of a Java project.
+   */
+  private static boolean isInSearchScope(ICompilationUnit icu) {
+    if (!JdtUtils.exists(icu)) {
+      return false;
+    }
+    var jp = icu.getJavaProject();
+    return JdtUtils.exists(jp) && jp.isOnClasspath(icu);
+  }
+
+  private Map<String /*classid*/, List<IAnnotation>> getDuplicateOccurrences(IProgressMonitor monitor) throws JavaModelException {
+    var classIdFqns = classIdFqns();
+    Map<String, List<IAnnotation>> ids = new HashMap<>();
+    for (var classId : INDEX.duplicates().keySet()) {
+      for (var owner : INDEX.ownersOf(classId)) {
+        if (monitor.isCanceled()) {
+          return null;
+        }
+        var annotation = classIdAnnotationOf(findOwner(owner.file(), owner.ownerFqn()), classId, classIdFqns);
+        if (annotation != null) {
+          ids.computeIfAbsent(classId, k -> new ArrayList<>()).add(annotation);
         }
       }
     }
     return ids;
   }
 
+  private Set<String> classIdFqns() {
+    return m_classIdTypes.stream()
+        .map(IType::getFullyQualifiedName)
+        .collect(toSet());
+  }
+
+  private static IAnnotation classIdAnnotationOf(IType owner, String classId, Iterable<String> classIdFqns) {
+    if (owner == null) {
+      return null;
+    }
+    for (var classIdFqn : classIdFqns) {
+      var annotation = JdtUtils.getAnnotation(owner, classIdFqn);
+      if (classId.equals(classIdValue(annotation))) {
+        return annotation;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * @param file
+   *          The file of the {@link ClassIdIndex}: the path of the Java file for source types or the path of the
+   *          {@link IPackageFragmentRoot} for binary types (see {@link #fileOf(IType)}).
+   * @param ownerFqn
+   *          The fully qualified name of the type using '.' as enclosing type separator.
+   * @return The {@link IType} or {@code null} if it cannot be found.
+   */
+  private static IType findOwner(String file, String ownerFqn) throws JavaModelException {
+    var path = new Path(file);
+    if (JavaCore.isJavaLikeFileName(path.lastSegment())) {
+      var resource = ResourcesPlugin.getWorkspace().getRoot().getFile(path);
+      if (!resource.exists()) {
+        return null;
+      }
+      var icu = JavaCore.createCompilationUnitFrom(resource);
+      if (!JdtUtils.exists(icu)) {
+        return null;
+      }
+      for (var type : icu.getAllTypes()) {
+        if (ownerFqn.equals(ownerName(type))) {
+          return type;
+        }
+      }
+      return null;
+    }
+
+    for (var jp : JavaCore.create(ResourcesPlugin.getWorkspace().getRoot()).getJavaProjects()) {
+      var root = jp.findPackageFragmentRoot(path);
+      if (JdtUtils.exists(root)) {
+        var type = findBinaryType(root, ownerFqn);
+        if (type != null) {
+          return type;
+        }
+      }
+    }
+    return null;
+  }
+
+  private static IType findBinaryType(IPackageFragmentRoot root, String ownerFqn) {
+    // the enclosing type separator is unknown: try all splits into package and type name
+    for (var pos = ownerFqn.lastIndexOf(JavaTypes.C_DOT); pos > 0; pos = ownerFqn.lastIndexOf(JavaTypes.C_DOT, pos - 1)) {
+      var type = findBinaryType(root, ownerFqn.substring(0, pos), ownerFqn.substring(pos + 1));
+      if (type != null) {
+        return type;
+      }
+    }
+    return findBinaryType(root, "", ownerFqn); // default package
+  }
+
+  private static IType findBinaryType(IPackageFragmentRoot root, String packageName, String typeName) {
+    var classFile = root.getPackageFragment(packageName).getOrdinaryClassFile(typeName.replace(JavaTypes.C_DOT, JavaTypes.C_DOLLAR) + JavaTypes.CLASS_FILE_SUFFIX);
+    if (!classFile.exists()) {
+      return null;
+    }
+    return classFile.getType();
+  }
+
+  /**
+   * @return The file of the type for the {@link ClassIdIndex}. This is the path of the Java file for source types and the
+   *         path of the {@link IPackageFragmentRoot} (e.g. the jar) for binary types.
+   */
+  private static String fileOf(IType owner) {
+    if (owner == null) {
+      return null;
+    }
+    if (owner.isBinary()) {
+      var root = (IPackageFragmentRoot) owner.getAncestor(IJavaElement.PACKAGE_FRAGMENT_ROOT);
+      if (root == null) {
+        return null;
+      }
+      return root.getPath().toString();
+    }
+    var resource = owner.getResource();
+    if (resource == null) {
+      return null;
+    }
+    return pathOf(resource);
+  }
+
+  /**
+   * @return The fully qualified name of the type using '.' as enclosing type separator. This is the same name as used
+   *         by the IntelliJ and headless ({@link org.eclipse.scout.sdk.core.s.classid.ClassIdScanner}) indices.
+   */
+  private static String ownerName(IType type) {
+    return type.getFullyQualifiedName(JavaTypes.C_DOT);
+  }
+
+  private static String classIdValue(IAnnotation annotation) {
+    if (!JdtUtils.exists(annotation)) {
+      return null;
+    }
+    var id = JdtUtils.getAnnotationValueString(annotation, "value");
+    if (Strings.isEmpty(id)) {
+      return null;
+    }
+    return id;
+  }
+
+  private static String pathOf(IResource resource) {
+    return resource.getFullPath().toString();
+  }
+
+  private static synchronized void registerChangeListener() {
+    if (changeListener != null) {
+      return;
+    }
+    changeListener = new P_JavaFileChangeListener();
+    ResourcesPlugin.getWorkspace().addResourceChangeListener(changeListener, IResourceChangeEvent.POST_CHANGE);
+    JavaCore.addElementChangedListener(new P_ClasspathChangeListener(), ElementChangedEvent.POST_CHANGE);
+  }
+
   private static IAnnotation getVisibleDuplicate(IJavaElement current, Iterable<IAnnotation> matchesById) {
     var jp = current.getJavaProject();
     for (var m : matchesById) {
@@ -185,7 +411,7 @@ public final class ClassIdValidationJob extends AbstractJob {
         for (var duplicate : matchesById) {
           var other = getVisibleDuplicate(duplicate, matchesById);
           var parent = (IType) duplicate.getAncestor(IJavaElement.TYPE);
-          if (JdtUtils.exists(parent) && JdtUtils.exists(other)) {
+          if (JdtUtils.exists(parent) && !parent.isBinary() && JdtUtils.exists(other)) { // markers for source types only. the duplicate may be binary.
             @SuppressWarnings("squid:S2259")
             var otherParent = (IType) other.getAncestor(IJavaElement.TYPE);
             var sourceRange = duplicate.getSourceRange();
@@ -223,7 +449,17 @@ public final class ClassIdValidationJob extends AbstractJob {
 
   @Override
   protected void execute(IProgressMonitor monitor) throws CoreException {
-    var classIdOccurrences = getClassIdOccurrences(monitor);
+    if (m_fullScan) {
+      if (!rebuildIndex(monitor)) {
+        indexReady = false; // incomplete index: rebuild on next run
+        return;
+      }
+    }
+    else {
+      updateChangedFiles(monitor);
+    }
+
+    var classIdOccurrences = getDuplicateOccurrences(monitor);
     if (monitor.isCanceled()) {
       return;
     }
@@ -273,6 +509,67 @@ public final class ClassIdValidationJob extends AbstractJob {
     j.schedule(startDelay);
   }
 
+  /**
+   * Collects the Java files that have been added, changed or removed since the last validation.
+   */
+  private static final class P_JavaFileChangeListener implements IResourceChangeListener {
+    @Override
+    public void resourceChanged(IResourceChangeEvent event) {
+      var delta = event.getDelta();
+      if (delta == null) {
+        return;
+      }
+      try {
+        delta.accept(d -> {
+          var resource = d.getResource();
+          if (resource.getType() != IResource.FILE) {
+            return true;
+          }
+          var isContentChange = d.getKind() != IResourceDelta.CHANGED || (d.getFlags() & IResourceDelta.CONTENT) != 0;
+          if (isContentChange && JavaCore.isJavaLikeFileName(resource.getName())) {
+            CHANGED_FILES.add(pathOf(resource));
+          }
+          return false;
+        });
+      }
+      catch (CoreException e) {
+        SdkLog.warning("Unable to collect changed files for the @ClassId validation. Index is rebuilt on next run.", e);
+        indexReady = false;
+      }
+    }
+  }
+
+  /**
+   * The {@code @ClassId} values of binary types are only collected by the workspace search. Therefore, the index is
+   * rebuilt on the next run if the classpath of a project changes.
+   */
+  private static final class P_ClasspathChangeListener implements IElementChangedListener {
+    @Override
+    public void elementChanged(ElementChangedEvent event) {
+      if (isClasspathChanged(event.getDelta())) {
+        indexReady = false;
+      }
+    }
+
+    private static boolean isClasspathChanged(IJavaElementDelta delta) {
+      if (delta == null) {
+        return false;
+      }
+      if ((delta.getFlags() & (IJavaElementDelta.F_RESOLVED_CLASSPATH_CHANGED | IJavaElementDelta.F_ARCHIVE_CONTENT_CHANGED)) != 0) {
+        return true;
+      }
+      if (delta.getElement().getElementType() >= IJavaElement.PACKAGE_FRAGMENT_ROOT) {
+        return false; // no need to visit the source changes
+      }
+      for (var child : delta.getAffectedChildren()) {
+        if (isClasspathChanged(child)) {
+          return true;
+        }
+      }
+      return false;
+    }
+  }
+
   private static final class P_SchedulingRule implements ISchedulingRule {
 
     @Override
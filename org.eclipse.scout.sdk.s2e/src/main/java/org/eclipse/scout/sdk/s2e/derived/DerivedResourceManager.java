@@ -13,6 +13,7 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toCollection;
 import static org.eclipse.scout.sdk.s2e.environment.EclipseEnvironment.runInEclipseEnvironment;
+import static org.eclipse.scout.sdk.s2e.environment.WorkingCopyManager.callWithWorkingCopyManager;
 import static org.eclipse.scout.sdk.s2e.environment.WorkingCopyManager.currentWorkingCopyManager;
 
 import java.util.ArrayList;
@@ -23,8 +24,14 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 import org.eclipse.core.resources.IResource;
 import org.eclipse.core.resources.IResourceChangeEvent;
@@ -38,11 +45,12 @@ import org.eclipse.core.runtime.jobs.ISchedulingRule;
 import org.eclipse.core.runtime.jobs.Job;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
 import org.eclipse.scout.sdk.core.log.SdkLog;
+import org.eclipse.scout.sdk.core.s.derived.DerivedResourceHandlerScheduler;
 import org.eclipse.scout.sdk.core.s.derived.IDerivedResourceHandler;
 import org.eclipse.scout.sdk.core.s.environment.IEnvironment;
 import org.eclipse.scout.sdk.core.s.environment.IFuture;
 import org.eclipse.scout.sdk.core.s.environment.IProgress;
-import org.eclipse.scout.sdk.core.s.environment.SdkFuture;
+import org.eclipse.scout.sdk.core.s.environment.NullProgress;
 import org.eclipse.scout.sdk.s2e.environment.AbstractJob;
 import org.eclipse.scout.sdk.s2e.environment.EclipseProgress;
 import org.eclipse.scout.sdk.s2e.util.JdtUtils;
@@ -57,6 +65,9 @@ public class DerivedResourceManager implements IDerivedResourceManager {
   public static final String TYPE_CHANGED_TRIGGER_JOB_FAMILY = "AUTO_UPDATE_JOB_FAMILY";
   public static final String JAVA_DELTA_CHECK_JOB_FAMILY = "JAVA_DELTA_CHECK_JOB_FAMILY";
 
+  private static final int HANDLER_PARALLELISM = DerivedResourceHandlerScheduler.DEFAULT_PARALLELISM;
+  private static final ExecutorService HANDLER_EXECUTOR = createHandlerExecutor();
+
   private boolean m_enabled;
   private final List<IDerivedResourceHandlerFactory> m_updateHandlerFactories;
 
@@ -84,11 +95,23 @@ public class DerivedResourceManager implements IDerivedResourceManager {
     m_javaChangeEventsToCheck = new ArrayBlockingQueue<>(500, true);
     m_triggerHandlers = new ArrayBlockingQueue<>(200, true);
 
-    m_runQueuedTriggerHandlersJob = new P_RunQueuedTriggerHandlersJob(m_triggerHandlers);
+    //noinspection ThisEscapedInObjectConstruction
+    m_runQueuedTriggerHandlersJob = new P_RunQueuedTriggerHandlersJob(m_triggerHandlers, this::handlersExecuted);
     //noinspection ThisEscapedInObjectConstruction
     m_javaDeltaCheckJob = new P_ResourceChangeEventCheckJob(this, m_javaChangeEventsToCheck);
   }
 
+  private static ExecutorService createHandlerExecutor() {
+    var threadNumber = new AtomicInteger();
+    var executor = new ThreadPoolExecutor(HANDLER_PARALLELISM, HANDLER_PARALLELISM, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), r -> {
+      var thread = new Thread(r, "scout-sdk-derived-resource-handler-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    });
+    executor.allowCoreThreadTimeOut(true); // no idle threads if no derived resources are updated
+    return executor;
+  }
+
   /**
    * Shutdown the manager. Afterwards no auto updates are performed. All listeners are removed. Waits until all derived
    * resources have finished updating.
@@ -101,6 +124,14 @@ public class DerivedResourceManager implements IDerivedResourceManager {
     AbstractJob.waitForJobFamily(TYPE_CHANGED_TRIGGER_JOB_FAMILY);
   }
 
+  /**
+   * Callback invoked after a run of the derived resource handlers has finished (also if it has been canceled or
+   * aborted). The default implementation does nothing.
+   */
+  protected void handlersExecuted() {
+    // nop
+  }
+
   @Override
   public void addDerivedResourceHandlerFactory(IDerivedResourceHandlerFactory handler) {
     m_updateHandlerFactories.add(handler);
@@ -348,6 +379,7 @@ public class DerivedResourceManager implements IDerivedResourceManager {
       setPriority(DECORATE);
       m_manager = m;
       m_queueToConsume = queueToConsume;
+      m_handlersExecuted = handlersExecuted;
     }
 
     @Override
@@ -402,9 +434,10 @@ public class DerivedResourceManager implements IDerivedResourceManager {
   private static final class P_RunQueuedTriggerHandlersJob extends AbstractJob {
 
     private final BlockingQueue<IDerivedResourceHandler> m_queueToConsume;
-    private boolean m_isAborted;
+    private final Runnable m_handlersExecuted;
+    private volatile boolean m_isAborted;
 
-    private P_RunQueuedTriggerHandlersJob(BlockingQueue<IDerivedResourceHandler> queueToConsume) {
+    private P_RunQueuedTriggerHandlersJob(BlockingQueue<IDerivedResourceHandler> queueToConsume, Runnable handlersExecuted) {
       super("Auto-updating derived resources");
       setRule(RunTriggerHandlersJobRule.INSTANCE);
       setPriority(Job.DECORATE);
@@ -464,52 +497,91 @@ public class DerivedResourceManager implements IDerivedResourceManager {
     }
 
     private void execute(IEnvironment env, EclipseProgress progress, int numOperations) {
-      var workByHandler = 100;
-      progress.init(numOperations * workByHandler, "");
-      Collection<IFuture<?>> executedFileWrites = new ArrayList<>(numOperations);
-      for (var i = 1; i <= numOperations; i++) {
-        if (isAborted()) {
-          doAbort();
-          return;
+      progress.init(numOperations, "");
+      // already remove the operations here. if there is a problem with an operation we don't want to keep trying
+      List<IDerivedResourceHandler> handlers = new ArrayList<>(numOperations);
+      m_queueToConsume.drainTo(handlers, numOperations);
+      Set<IDerivedResourceHandler> started = ConcurrentHashMap.newKeySet();
+      var workingCopyManager = currentWorkingCopyManager();
+      var scheduler = new DerivedResourceHandlerScheduler(env, HANDLER_EXECUTOR, HANDLER_PARALLELISM) {
+        @Override
+        protected <V> V callInWorker(Supplier<V> task) {
+          return callWithWorkingCopyManager(task, workingCopyManager);
         }
 
-        // already remove the operation here. if there is a problem with this operation we don't want to keep trying
-        var handler = m_queueToConsume.poll();
-        if (handler == null) {
-          continue;
+        @Override
+        protected Collection<? extends IFuture<?>> executeHandler(IDerivedResourceHandler handler, IProgress p) {
+          started.add(handler);
+          return super.executeHandler(handler, p);
         }
-        var handlerName = handler.toString();
-        progress.monitor().setTaskName(handlerName + " [" + i + " of " + numOperations + ']');
-        progress.monitor().subTask("");
 
-        try {
-          executedFileWrites.addAll(executeHandler(handler, env, progress.newChild(workByHandler)));
+        @Override
+        protected IProgress createHandlerProgress(IDerivedResourceHandler handler) {
+          // the handlers run concurrently: the EclipseProgress of the job must not be used. Only forward the cancellation.
+          return new NullProgress() {
+            @Override
+            public IProgress newChild(int work) {
+              if (isCanceled()) {
+                throw new OperationCanceledException();
+              }
+              return this;
+            }
+          };
         }
-        catch (OperationCanceledException e) {
-          doCancel();
-          throw e; // is handled by job manager
-        }
-        catch (RuntimeException e) {
-          SdkLog.error("Error while: {}", handlerName, e);
+
+        @Override
+        protected boolean isCanceled() {
+          return isAborted() || progress.monitor().isCanceled();
         }
 
-        if (i % 500 == 0) {
+        @Override
+        protected boolean isCheckpointRequired(int numExecuted) {
           // flush derived resources to disk in blocks of 500 items. this prevents out-of-memory in large workspaces where the transaction could get to big
-          SdkFuture.awaitAllLoggingOnError(executedFileWrites);
-          executedFileWrites.clear();
-          currentWorkingCopyManager().checkpoint(null);
+          return numExecuted % 500 == 0;
+        }
+
+        @Override
+        protected void checkpoint() {
+          workingCopyManager.checkpoint(null);
         }
-      }
-      SdkFuture.awaitAllLoggingOnError(executedFileWrites); // wait until all write operations are executed. otherwise the java environment might already be closed while writing jobs are using it
-    }
 
-    private static Collection<? extends IFuture<?>> executeHandler(IDerivedResourceHandler handler, IEnvironment env, IProgress progress) {
-      var start = System.currentTimeMillis();
+        @Override
+        protected void handleFailure(IDerivedResourceHandler handler, Throwable t) {
+          if (t instanceof OperationCanceledException oce) {
+            throw oce;
+          }
+          super.handleFailure(handler, t);
+        }
+      };
+
       try {
-        return handler.apply(env, progress);
+        scheduler.run(handlers, progress);
+      }
+      catch (OperationCanceledException e) {
+        doCancel();
+        throw e; // is handled by job manager
       }
       finally {
-        SdkLog.debug("Derived Resource Handler ({}) took {}ms to execute.", handler.toString(), System.currentTimeMillis() - start);
+        m_handlersExecuted.run();
+      }
+
+      if (progress.monitor().isCanceled()) {
+        doCancel();
+      }
+      else if (isAborted()) {
+        requeueNotStarted(handlers, started);
+        doAbort();
+      }
+    }
+
+    /**
+     * An abort keeps the operations not executed yet for the next run.
+     */
+    private void requeueNotStarted(Collection<IDerivedResourceHandler> handlers, Set<IDerivedResourceHandler> started) {
+      for (var handler : handlers) {
+        if (!started.contains(handler) && !m_queueToConsume.offer(handler)) {
+          SdkLog.warning("Unable to queue more derived resource update events. Queue is already full. Skipping event: {}", handler);
+        }
       }
     }
   }
@@ -26,6 +26,7 @@ import org.eclipse.jdt.core.IType;
 import org.eclipse.jdt.core.JavaCore;
 import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.jdt.core.search.IJavaSearchScope;
+import org.eclipse.scout.sdk.core.s.derived.DtoFingerprintIndex;
 import org.eclipse.scout.sdk.core.s.derived.DtoUpdateHandler;
 import org.eclipse.scout.sdk.core.s.derived.IDerivedResourceHandler;
 import org.eclipse.scout.sdk.core.s.java.apidef.IScoutAnnotationApi;
@@ -36,6 +37,22 @@ import org.eclipse.scout.sdk.s2e.util.JdtUtils;
 
 public class DtoDerivedResourceHandlerFactory implements IDerivedResourceHandlerFactory {
 
+  private final DtoFingerprintIndex m_fingerprints;
+
+  public DtoDerivedResourceHandlerFactory() {
+    this(null);
+  }
+
+  /**
+   * @param fingerprints
+   *          The {@link DtoFingerprintIndex} to skip the generation of unchanged DTOs or {@code null} if all DTOs should
+   *          be generated.
+   * @since 13.0
+   */
+  public DtoDerivedResourceHandlerFactory(DtoFingerprintIndex fingerprints) {
+    m_fingerprints = fingerprints;
+  }
+
   @Override
   public List<IDerivedResourceHandler> createHandlersFor(Set<IResource> resources, IJavaSearchScope searchScope) throws JavaModelException {
     Collection<IType> baseTypes = new HashSet<>();
@@ -47,7 +64,7 @@ public class DtoDerivedResourceHandlerFactory implements IDerivedResourceHandler
 
     return baseTypes.stream()
         .map(DerivedResourceInputWithJdt::new)
-        .map(DtoUpdateHandler::new)
+        .map(input -> new DtoUpdateHandler(input, m_fingerprints))
         .collect(toList());
   }
 
@@ -77,10 +77,27 @@ public final class WorkingCopyManager implements IWorkingCopyManager {
   }
 
   static void runWithWorkingCopyManager(Runnable r, IWorkingCopyManager wcm) {
-    callInContext(CURRENT, wcm, () -> {
+    callWithWorkingCopyManager(() -> {
       r.run();
       return null;
-    });
+    }, wcm);
+  }
+
+  /**
+   * Executes the specified {@link Supplier} within an existing {@link IWorkingCopyManager}. This allows to share the
+   * {@link IWorkingCopyManager} of an operation with other threads working for the same operation. The caller is
+   * responsible to close the {@link IWorkingCopyManager}.
+   *
+   * @param callable
+   *          The {@link Supplier} to execute. Must not be {@code null}.
+   * @param wcm
+   *          The {@link IWorkingCopyManager} which is returned by {@link #currentWorkingCopyManager()} while the
+   *          {@link Supplier} is executed. Must not be {@code null}.
+   * @return The result of the {@link Supplier}.
+   * @since 13.0
+   */
+  public static <T> T callWithWorkingCopyManager(Supplier<T> callable, IWorkingCopyManager wcm) {
+    return callInContext(CURRENT, Ensure.notNull(wcm), Ensure.notNull(callable));
   }
 
   private WorkingCopyManager() {
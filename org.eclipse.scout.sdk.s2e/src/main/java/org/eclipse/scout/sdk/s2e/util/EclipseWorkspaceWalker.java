@@ -17,17 +17,15 @@ import static org.eclipse.scout.sdk.s2e.environment.EclipseEnvironment.toScoutPr
 
 import java.io.IOException;
 import java.nio.charset.Charset;
-import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Locale;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -49,9 +47,12 @@ import org.eclipse.jdt.core.JavaModelException;
 import org.eclipse.scout.sdk.core.s.environment.IEnvironment;
 import org.eclipse.scout.sdk.core.s.environment.IFuture;
 import org.eclipse.scout.sdk.core.s.environment.IProgress;
+import org.eclipse.scout.sdk.core.s.environment.NullProgress;
 import org.eclipse.scout.sdk.core.s.util.search.FileQueryInput;
 import org.eclipse.scout.sdk.core.s.util.search.IFileQuery;
 import org.eclipse.scout.sdk.core.s.util.search.IFileQueryResult;
+import org.eclipse.scout.sdk.core.s.util.search.WorkspaceWalker;
+import org.eclipse.scout.sdk.core.s.util.search.WorkspaceWalker.WorkspaceModule;
 import org.eclipse.scout.sdk.core.util.Ensure;
 import org.eclipse.scout.sdk.core.util.FinalValue;
 import org.eclipse.scout.sdk.core.util.SdkException;
@@ -69,6 +70,10 @@ import org.eclipse.scout.sdk.s2e.environment.AbstractJob;
  * {@link #withFilter(BiPredicate)}, {@link #withSkipHiddenPaths(boolean)}, {@link #withSkipNodeModules(boolean)} and
  * {@link #withSkipOutputLocation(boolean)}.
  * </p>
+ * <p>
+ * The files are visited using a {@link WorkspaceWalker}. See {@link #withParallelism(int)} to visit the files in
+ * parallel.
+ * </p>
  *
  * @since 7.0.100
  */
@@ -81,6 +86,8 @@ public class EclipseWorkspaceWalker {
   private boolean m_skipHiddenPaths;
   private boolean m_skipNodeModules;
   private BiPredicate<Path, BasicFileAttributes> m_fileFilter;
+  private int m_parallelism;
+  private final P_WorkspaceWalker m_walker;
 
   /**
    * @param taskName
@@ -92,6 +99,8 @@ public class EclipseWorkspaceWalker {
     m_skipOutputLocation = true;
     m_skipHiddenPaths = true;
     m_skipNodeModules = true;
+    m_parallelism = 1;
+    m_walker = new P_WorkspaceWalker();
   }
 
   /**
@@ -144,6 +153,7 @@ public class EclipseWorkspaceWalker {
   protected static IFileQuery executeQueryInWorkspace(IFileQuery query, IProgressMonitor monitor) {
     try {
       new EclipseWorkspaceWalker(query.name())
+          .withParallelism(WorkspaceWalker.parallelismFor(query))
           .walk((file, progress) -> executeQueryInFile(query, file), monitor);
       return query;
     }
@@ -194,6 +204,14 @@ public class EclipseWorkspaceWalker {
     }
   }
 
+  /**
+   * @return The IDE independent {@link WorkspaceWalker} used to visit the files. It uses the visit settings and the
+   *         filter methods of this instance.
+   */
+  protected WorkspaceWalker toWorkspaceWalker() {
+    return m_walker;
+  }
+
   protected static Set<Path> getOutputLocations(IJavaProject jp) throws JavaModelException {
     if (!JdtUtils.exists(jp)) {
       return emptySet();
@@ -208,78 +226,30 @@ public class EclipseWorkspaceWalker {
         .collect(toSet());
   }
 
+  /**
+   * Visits all files in the folder given using the {@link #toWorkspaceWalker() workspace walker}. The monitor is only
+   * used by the calling thread. If the files are visited in parallel, the visitor receives a progress without effect.
+   */
   protected void searchInFolder(BiConsumer<WorkspaceFile, IProgress> visitor, Path folder, Charset charset, Collection<Path> outputFolders, IProgressMonitor monitor) {
-    try {
-      Files.walkFileTree(folder,
-          new SimpleFileVisitor<>() {
-            @Override
-            public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
-              if (monitor.isCanceled()) {
-                return FileVisitResult.TERMINATE;
-              }
-              if (outputFolders.contains(dir)) {
-                return FileVisitResult.SKIP_SUBTREE;
-              }
-              if (!directoryFiltersAccepted(dir, attrs)) {
-                return FileVisitResult.SKIP_SUBTREE;
-              }
-              return FileVisitResult.CONTINUE;
-            }
-
-            @Override
-            public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
-              if (monitor.isCanceled()) {
-                return FileVisitResult.TERMINATE;
-              }
-              if (allFiltersAccepted(file, attrs)) {
-                visitor.accept(new WorkspaceFile(file, folder, charset), toScoutProgress(monitor));
-              }
-              return FileVisitResult.CONTINUE;
-            }
-          });
-    }
-    catch (IOException e) {
-      throw new SdkException(e);
-    }
+    var progress = parallelism() > 1 ? new NullProgress() : toScoutProgress(monitor);
+    var module = new WorkspaceModule(folder, charset, new HashSet<>(outputFolders));
+    toWorkspaceWalker().walkCancelingInCallingThread(List.of(module), (file, m) -> visitor.accept(new WorkspaceFile(file, folder, charset), progress), monitor::isCanceled);
   }
 
   protected boolean directoryFiltersAccepted(Path file, BasicFileAttributes attrs) {
-    if (isSkipHiddenPaths() && isHidden(file)) {
-      return false;
-    }
-
-    var fileName = file.getFileName();
-    if (isSkipNodeModules() && fileName != null && "node_modules".equals(fileName.toString())) {
-      return false;
-    }
-
-    return fileFilter()
-        .map(filter -> filter.test(file, attrs))
-        .orElse(Boolean.TRUE);
+    return m_walker.defaultDirectoryFiltersAccepted(file, attrs);
   }
 
   protected boolean allFiltersAccepted(Path file, BasicFileAttributes attrs) {
-    if (!acceptFileExtension(file)) {
-      return false;
-    }
-    return directoryFiltersAccepted(file, attrs);
+    return m_walker.defaultAllFiltersAccepted(file, attrs);
   }
 
   protected boolean acceptFileExtension(Path file) {
-    if (extensionsAccepted().isEmpty()) {
-      return true; // no filter
-    }
-    var path = file.getFileName();
-    if (path == null) {
-      return false;
-    }
-    var fileName = path.toString().toLowerCase(Locale.US);
-    return extensionsAccepted().stream().anyMatch(fileName::endsWith);
+    return m_walker.defaultAcceptFileExtension(file);
   }
 
   protected static boolean isHidden(Path path) {
-    var fileName = path.getFileName();
-    return fileName != null && fileName.toString().startsWith(".");
+    return WorkspaceWalker.isHidden(path);
   }
 
   /**
@@ -289,6 +259,25 @@ public class EclipseWorkspaceWalker {
     return m_taskName;
   }
 
+  /**
+   * @return The number of threads used to visit the files. If it is one, all files are visited in the calling thread.
+   */
+  public int parallelism() {
+    return m_parallelism;
+  }
+
+  /**
+   * @param parallelism
+   *          The number of threads used to visit the files. If it is one (the default), all files are visited in the
+   *          calling thread. Otherwise, the visitor must be thread safe. Must be greater than zero.
+   * @return this instance
+   */
+  public EclipseWorkspaceWalker withParallelism(int parallelism) {
+    Ensure.isTrue(parallelism > 0, "Parallelism must be greater than zero.");
+    m_parallelism = parallelism;
+    return this;
+  }
+
   /**
    * @return {@code true} if module output directories (like target/classes or bin) should e skipped when visiting.
    */
@@ -394,6 +383,65 @@ public class EclipseWorkspaceWalker {
     return this;
   }
 
+  /**
+   * {@link WorkspaceWalker} using the visit settings and the filter methods of the enclosing
+   * {@link EclipseWorkspaceWalker}.
+   */
+  private final class P_WorkspaceWalker extends WorkspaceWalker {
+
+    @Override
+    protected boolean directoryFiltersAccepted(Path file, BasicFileAttributes attrs) {
+      return EclipseWorkspaceWalker.this.directoryFiltersAccepted(file, attrs);
+    }
+
+    @Override
+    protected boolean allFiltersAccepted(Path file, BasicFileAttributes attrs) {
+      return EclipseWorkspaceWalker.this.allFiltersAccepted(file, attrs);
+    }
+
+    @Override
+    protected boolean acceptFileExtension(Path file) {
+      return EclipseWorkspaceWalker.this.acceptFileExtension(file);
+    }
+
+    private boolean defaultDirectoryFiltersAccepted(Path file, BasicFileAttributes attrs) {
+      return super.directoryFiltersAccepted(file, attrs);
+    }
+
+    private boolean defaultAllFiltersAccepted(Path file, BasicFileAttributes attrs) {
+      return super.allFiltersAccepted(file, attrs);
+    }
+
+    private boolean defaultAcceptFileExtension(Path file) {
+      return super.acceptFileExtension(file);
+    }
+
+    @Override
+    public int parallelism() {
+      return EclipseWorkspaceWalker.this.parallelism();
+    }
+
+    @Override
+    public boolean isSkipHiddenPaths() {
+      return EclipseWorkspaceWalker.this.isSkipHiddenPaths();
+    }
+
+    @Override
+    public boolean isSkipNodeModules() {
+      return EclipseWorkspaceWalker.this.isSkipNodeModules();
+    }
+
+    @Override
+    public Optional<BiPredicate<Path, BasicFileAttributes>> fileFilter() {
+      return EclipseWorkspaceWalker.this.fileFilter();
+    }
+
+    @Override
+    public Collection<String> extensionsAccepted() {
+      return EclipseWorkspaceWalker.this.extensionsAccepted();
+    }
+  }
+
   /**
    * Represents a file in an Eclipse workspace
    */
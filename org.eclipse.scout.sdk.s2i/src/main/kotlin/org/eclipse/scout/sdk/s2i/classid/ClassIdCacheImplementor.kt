@@ -27,6 +27,7 @@ import com.intellij.psi.util.PsiTreeUtil
 import com.intellij.util.FileContentUtilCore
 import com.intellij.util.concurrency.AppExecutorUtil
 import org.eclipse.scout.sdk.core.log.SdkLog
+import org.eclipse.scout.sdk.core.s.classid.ClassIdIndex
 import org.eclipse.scout.sdk.core.s.dto.AbstractDtoGenerator
 import org.eclipse.scout.sdk.core.s.environment.SdkFuture
 import org.eclipse.scout.sdk.core.s.java.apidef.IScoutApi
@@ -38,14 +39,14 @@ import org.eclipse.scout.sdk.s2i.environment.IdeaEnvironment.Factory.computeInRe
 import org.eclipse.scout.sdk.s2i.environment.IdeaProgress
 import org.eclipse.scout.sdk.s2i.findAllTypesAnnotatedWith
 import org.eclipse.scout.sdk.s2i.util.ApiHelper
-import java.util.concurrent.ConcurrentHashMap
 import java.util.concurrent.Future
 import java.util.concurrent.TimeUnit
 import kotlin.streams.asSequence
 
 class ClassIdCacheImplementor(val project: Project) : ClassIdCache {
 
-    private val m_fileCache = ConcurrentHashMap<String /* file path */, MutableMap<String /* fqn */, String /* classid */>>()
+    private val m_index = ClassIdIndex() // file path -> fqn -> classid with a reverse index for duplicates
+    private val m_setupLock = Any()
     private val m_stopTypes: Array<Class<out PsiElement>> = arrayOf(PsiClass::class.java, PsiModifierList::class.java, PsiTypeElement::class.java, PsiTypeParameter::class.java, PsiJavaFile::class.java)
     private val m_delayedProcessor = DelayedBuffer(2, TimeUnit.SECONDS, AppExecutorUtil.getAppScheduledExecutorService(), true, this::processFileEvents)
 
@@ -69,7 +70,7 @@ class ClassIdCacheImplementor(val project: Project) : ClassIdCache {
         return AppExecutorUtil.getAppExecutorService().submit { setup() }
     }
 
-    override fun setup() = synchronized(m_fileCache) {
+    override fun setup() = synchronized(m_setupLock) {
         // synchronized so that only one is creating the cache at a time
         if (isCacheReady()) {
             return
@@ -99,7 +100,7 @@ class ClassIdCacheImplementor(val project: Project) : ClassIdCache {
     }
 
     override fun dispose() {
-        m_fileCache.clear()
+        m_index.clear()
     }
 
     override fun findAllClassIds(scope: SearchScope, indicator: ProgressIndicator?) =
@@ -114,44 +115,33 @@ class ClassIdCacheImplementor(val project: Project) : ClassIdCache {
             .mapNotNull { ClassIdAnnotation.of(null, it, project, scoutApi) }
             .filter { it.hasValue() }
 
-    override fun typesWithClassId(classId: String): List<String> = usageByClassId()[classId] ?: emptyList()
+    override fun typesWithClassId(classId: String): List<String> = m_index.typesWithClassId(classId)
 
-    override fun duplicates(): Map<String, List<String>> = duplicates(null)
+    override fun duplicates(): Map<String, List<String>> = m_index.duplicates()
 
-    override fun duplicates(absoluteFilePath: String): Map<String, List<String>> {
-        val classIdsInFile = m_fileCache[absoluteFilePath]?.map { it.value }?.toSet() ?: return emptyMap()
-        return duplicates { classIdsInFile.contains(it.value) } // only duplicates of the current file
-    }
-
-    internal fun duplicates(filter: ((Map.Entry<String, String>) -> Boolean)?) = usageByClassId(filter).filter { it.value.size > 1 }
+    override fun duplicates(absoluteFilePath: String): Map<String, List<String>> = m_index.duplicates(absoluteFilePath) // only duplicates of the current file
 
-    internal fun usageByClassId(filter: ((Map.Entry<String, String>) -> Boolean)? = null): Map<String /* classId */, List<String /* fqn */>> {
-        val nullSafeFilter = filter ?: { true }
-        return m_fileCache.values
-            .asSequence()
-            .map { it.entries }
-            .flatten()
-            .filter { nullSafeFilter(it) }
-            .groupBy({ it.value }, { it.key })
-    }
+    internal fun usageByClassId(): Map<String /* classId */, List<String /* fqn */>> = m_index.usageByClassId()
 
     internal fun trySetupCache() {
         SdkLog.debug("Start building @ClassId value cache.")
         val start = System.currentTimeMillis()
+        val mappingsByFile = HashMap<String /* file path */, MutableMap<String /* fqn */, String /* classid */>>()
         findAllClassIds(GlobalSearchScope.projectScope(project))
             .filter { !ignoreClassId(it) }
             .forEach {
                 val fqn = it.ownerFqn() ?: return@forEach
                 val classIdValue = it.value() ?: return@forEach
                 val filePath = it.psiClass.containingFile.virtualFile.path
-                m_fileCache.computeIfAbsent(filePath) { ConcurrentHashMap() }[fqn] = classIdValue
+                mappingsByFile.computeIfAbsent(filePath) { HashMap() }[fqn] = classIdValue
             }
-        SdkLog.debug("Finished building initial @ClassId value cache in {}ms. @ClassId values found in {} files.", System.currentTimeMillis() - start, m_fileCache.size)
+        mappingsByFile.forEach { m_index.update(it.key, it.value) }
+        SdkLog.debug("Finished building initial @ClassId value cache in {}ms. @ClassId values found in {} files.", System.currentTimeMillis() - start, mappingsByFile.size)
     }
 
     internal fun ignoreClassId(classId: ClassIdAnnotation) = classId.value()?.endsWith(AbstractDtoGenerator.FORMDATA_CLASSID_SUFFIX) ?: true
 
-    internal fun fileCache() = m_fileCache // for testing
+    internal fun index() = m_index // for testing
 
     internal fun processFileEvents(events: List<PsiFile>) {
         if (!project.isInitialized || events.isEmpty()) return
@@ -200,11 +190,7 @@ class ClassIdCacheImplementor(val project: Project) : ClassIdCache {
             })
         }
 
-        if (mappingsInFile.isEmpty()) {
-            m_fileCache.remove(path)
-        } else {
-            m_fileCache[path] = mappingsInFile
-        }
+        m_index.update(path, mappingsInFile) // removes the file from the index if there are no mappings
     }
 
     private inner class PsiListener : PsiTreeChangeAdapter() {
@@ -223,7 +209,7 @@ class ClassIdCacheImplementor(val project: Project) : ClassIdCache {
             }
             return object : AsyncFileListener.ChangeApplier {
                 override fun afterVfsChange() {
-                    removedFiles.forEach { m_fileCache.remove(it) }
+                    removedFiles.forEach { m_index.remove(it) }
                 }
             }
         }
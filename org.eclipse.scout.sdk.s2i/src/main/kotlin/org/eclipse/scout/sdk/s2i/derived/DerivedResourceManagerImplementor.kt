@@ -12,8 +12,8 @@ package org.eclipse.scout.sdk.s2i.derived
 import com.intellij.openapi.editor.Document
 import com.intellij.openapi.fileEditor.FileDocumentManager
 import com.intellij.openapi.fileEditor.FileDocumentManagerListener
-import com.intellij.openapi.progress.ProgressIndicator
 import com.intellij.openapi.project.Project
+import com.intellij.openapi.project.getProjectCachePath
 import com.intellij.openapi.vfs.VirtualFile
 import com.intellij.psi.search.GlobalSearchScope
 import com.intellij.psi.search.GlobalSearchScope.fileScope
@@ -22,10 +22,12 @@ import com.intellij.util.concurrency.AppExecutorUtil
 import com.intellij.util.messages.MessageBusConnection
 import org.eclipse.scout.sdk.core.java.JavaTypes
 import org.eclipse.scout.sdk.core.log.SdkLog
+import org.eclipse.scout.sdk.core.s.derived.DerivedResourceHandlerScheduler
+import org.eclipse.scout.sdk.core.s.derived.DtoFingerprintIndex
 import org.eclipse.scout.sdk.core.s.derived.IDerivedResourceHandler
 import org.eclipse.scout.sdk.core.s.environment.IFuture
 import org.eclipse.scout.sdk.core.s.environment.IProgress
-import org.eclipse.scout.sdk.core.s.environment.SdkFuture
+import org.eclipse.scout.sdk.core.s.environment.NullProgress
 import org.eclipse.scout.sdk.core.util.DelayedBuffer
 import org.eclipse.scout.sdk.s2i.EclipseScoutBundle.message
 import org.eclipse.scout.sdk.s2i.environment.IdeaEnvironment
@@ -37,13 +39,20 @@ import org.eclipse.scout.sdk.s2i.environment.TransactionManager.Companion.callIn
 import org.eclipse.scout.sdk.s2i.settings.ScoutSettings
 import org.eclipse.scout.sdk.s2i.settings.SettingsChangedListener
 import org.eclipse.scout.sdk.s2i.util.compat.AppTopics
+import java.io.IOException
 import java.util.Collections.emptyList
-import java.util.concurrent.ConcurrentLinkedQueue
 import java.util.concurrent.TimeUnit
+import java.util.function.Supplier
 import java.util.stream.Collectors.toList
 
 class DerivedResourceManagerImplementor(val project: Project) : DerivedResourceManager, SettingsChangedListener {
 
+    companion object {
+        private val HANDLER_PARALLELISM = DerivedResourceHandlerScheduler.DEFAULT_PARALLELISM
+        private val HANDLER_EXECUTOR = AppExecutorUtil.createBoundedApplicationPoolExecutor("Scout Derived Resource Handlers", HANDLER_PARALLELISM)
+        private const val DTO_FINGERPRINTS_FILE_NAME = "dto-fingerprints.bin"
+    }
+
     private val m_updateHandlerFactories = HashMap<Class<*>, DerivedResourceHandlerFactory>() // use a map so that there is always only one factory of the same type
     private val m_delayedProcessor = DelayedBuffer(2, TimeUnit.SECONDS, AppExecutorUtil.getAppScheduledExecutorService(), true) { events ->
         if (!project.isInitialized || events.isEmpty()) return@DelayedBuffer
@@ -52,9 +61,12 @@ class DerivedResourceManagerImplementor(val project: Project) : DerivedResourceM
         scheduleUpdate(unionScope)
     }
     private var m_busConnection: MessageBusConnection? = null
+    private var m_dtoFingerprints: DtoFingerprintIndex? = null
 
     override fun start() {
-        addDerivedResourceHandlerFactory(DtoUpdateHandlerFactory())
+        val dtoFingerprints = DtoFingerprintIndex.load(project.getProjectCachePath("scout").resolve(DTO_FINGERPRINTS_FILE_NAME))
+        m_dtoFingerprints = dtoFingerprints
+        addDerivedResourceHandlerFactory(DtoUpdateHandlerFactory(dtoFingerprints))
         ScoutSettings.addListener(this)
         updateSubscription()
     }
@@ -63,6 +75,17 @@ class DerivedResourceManagerImplementor(val project: Project) : DerivedResourceM
         unsubscribe()
         ScoutSettings.removeListener(this)
         m_updateHandlerFactories.clear()
+        m_dtoFingerprints?.let { storeDtoFingerprints(it) }
+        m_dtoFingerprints = null
+    }
+
+    private fun storeDtoFingerprints(fingerprints: DtoFingerprintIndex) {
+        SdkLog.debug("Storing DTO fingerprints. {}", fingerprints)
+        try {
+            fingerprints.storeIfModified()
+        } catch (e: IOException) {
+            SdkLog.warning("Unable to store the DTO fingerprints.", e)
+        }
     }
 
     override fun changed(key: String, oldVal: String?, newVal: String?) {
@@ -124,7 +147,12 @@ class DerivedResourceManagerImplementor(val project: Project) : DerivedResourceM
             .collect(toList())
         SdkLog.debug("Derived resource handler creation took {}ms. Number of created handlers: {}", System.currentTimeMillis() - start, handlers.size)
         if (handlers.isNotEmpty() && !progress.indicator.isCanceled) {
-            executeAllHandlersAndWait(handlers, env, progress)
+            try {
+                executeAllHandlersAndWait(handlers, env, progress)
+            } finally {
+                // store after each run so that the fingerprints are not lost if the IDE terminates abnormally
+                m_dtoFingerprints?.let { storeDtoFingerprints(it) }
+            }
         }
     }
 
@@ -141,45 +169,55 @@ class DerivedResourceManagerImplementor(val project: Project) : DerivedResourceM
     }
 
     private fun executeAllHandlersAndWait(handlers: List<IDerivedResourceHandler>, env: IdeaEnvironment, progress: IdeaProgress) {
-        val workForHandler = 1000
-        val start = System.currentTimeMillis()
         val transaction = TransactionManager.current()
-        val runningFileWrites = ConcurrentLinkedQueue<IFuture<*>>()
         val indicator = progress.indicator
-        progress.init(handlers.size * workForHandler, message("update.derived.resources"))
+        progress.init(handlers.size, message("update.derived.resources"))
 
-        handlers.forEach {
-            try {
-                if (indicator.isCanceled) {
-                    return@forEach
+        val scheduler = object : DerivedResourceHandlerScheduler(env, HANDLER_EXECUTOR, HANDLER_PARALLELISM) {
+            override fun <V> callInWorker(task: Supplier<V>): V = callInExistingTransaction(transaction) { task.get() }
+
+            override fun executeHandler(handler: IDerivedResourceHandler, progress: IProgress): Collection<IFuture<*>> {
+                indicator.text2 = handler.toString()
+                return this@DerivedResourceManagerImplementor.executeHandler(handler, env, progress)
+            }
+
+            override fun isCanceled() = indicator.isCanceled
+
+            // the handlers run concurrently: the IdeaProgress of the update must not be used. Only forward the cancellation.
+            override fun createHandlerProgress(handler: IDerivedResourceHandler): IProgress = object : NullProgress() {
+                override fun newChild(work: Int): IProgress {
+                    indicator.checkCanceled()
+                    return this
                 }
-                indicator.text2 = it.toString()
-                runningFileWrites.addAll(executeHandler(it, transaction, env, progress.newChild(workForHandler)))
-                commitTransactionIfNecessary(transaction, runningFileWrites, indicator)
-            } catch (t: Throwable) {
-                // catch throwable here because parallel streams return early: the first thread having this throwable would report to the caller which quits the transaction and kills the java environment. but other threads may still try to use it -> boom.
-                indicator.cancel() // fatal error: abort all
-                SdkLog.error("Fatal error while: {}", it, t)
             }
-        }
 
-        // wait for the remaining file writes to participate in the current transaction.
-        // The failure of a single file does not fail the whole transaction, therefore only log the failed writes.
-        SdkFuture.awaitAllLoggingOnError(runningFileWrites)
+            // to save memory the running transaction is committed in chunk blocks
+            // bigger chunks are faster (fewer events in the IDE) but require more memory to store the transaction members
+            override fun isCheckpointRequired(numExecuted: Int) = !indicator.isCanceled && transaction.size() >= TransactionManager.BULK_UPDATE_LIMIT
+
+            override fun checkpoint() {
+                SdkLog.debug("Derived resource update transaction chunk size reached. Performing intermediate commit.")
+                transaction.checkpoint(null)
+            }
 
-        if (handlers.size > 1) {
-            SdkLog.debug("All derived resource handlers took {}ms", System.currentTimeMillis() - start)
+            override fun handleFailure(handler: IDerivedResourceHandler, t: Throwable) {
+                // fatal error (exceptions of the handler are already logged): abort all. The scheduler waits for the running handlers before returning.
+                indicator.cancel()
+                SdkLog.error("Fatal error while: {}", handler, t)
+            }
         }
+
+        // waits for the remaining file writes to participate in the current transaction.
+        // The failure of a single file does not fail the whole transaction, therefore only the failed writes are logged.
+        scheduler.run(handlers, progress)
     }
 
-    private fun executeHandler(handler: IDerivedResourceHandler, transaction: TransactionManager, env: IdeaEnvironment, progress: IProgress): Collection<IFuture<*>> {
+    private fun executeHandler(handler: IDerivedResourceHandler, env: IdeaEnvironment, progress: IProgress): Collection<IFuture<*>> {
         val start = System.currentTimeMillis()
 
         try {
-            return callInExistingTransaction(transaction) {
-                SdkLog.debug("About to execute derived resource handler: {}", handler)
-                handler.apply(env, progress)
-            }
+            SdkLog.debug("About to execute derived resource handler: {}", handler)
+            return handler.apply(env, progress)
         } catch (e: Exception) {
             // log the exception but continue processing. The failure of one handler does not abort the transaction
             SdkLog.error("Error while: {}", handler, e)
@@ -189,25 +227,6 @@ class DerivedResourceManagerImplementor(val project: Project) : DerivedResourceM
         return emptyList()
     }
 
-    private fun commitTransactionIfNecessary(transaction: TransactionManager, runningFileWrites: MutableCollection<IFuture<*>>, indicator: ProgressIndicator) {
-        if (indicator.isCanceled) {
-            return
-        }
-
-        // to save memory the running transaction is committed in chunk blocks
-        // bigger chunks are faster (fewer events in the IDE) but require more memory to store the transaction members
-        val chunkSize = TransactionManager.BULK_UPDATE_LIMIT
-        if (transaction.size() < chunkSize) {
-            return
-        }
-
-        SdkFuture.awaitAllLoggingOnError(runningFileWrites)
-        runningFileWrites.clear()
-
-        SdkLog.debug("Derived resource update transaction chunk size reached. Performing intermediate commit.")
-        transaction.checkpoint(null)
-    }
-
     private inner class DocumentSyncListener : FileDocumentManagerListener {
         override fun fileContentReloaded(file: VirtualFile, document: Document) {
             if (JavaTypes.JAVA_FILE_EXTENSION == file.extension) {
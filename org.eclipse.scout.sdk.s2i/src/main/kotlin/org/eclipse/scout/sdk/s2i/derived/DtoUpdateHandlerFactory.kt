@@ -14,6 +14,7 @@ import com.intellij.psi.PsiClass
 import com.intellij.psi.PsiJavaFile
 import com.intellij.psi.PsiModifier
 import com.intellij.psi.search.SearchScope
+import org.eclipse.scout.sdk.core.s.derived.DtoFingerprintIndex
 import org.eclipse.scout.sdk.core.s.derived.DtoUpdateHandler
 import org.eclipse.scout.sdk.core.s.derived.IDerivedResourceHandler
 import org.eclipse.scout.sdk.core.s.java.apidef.IScoutApi
@@ -22,7 +23,10 @@ import org.eclipse.scout.sdk.s2i.findAllTypesAnnotatedWith
 import kotlin.streams.asSequence
 
 
-open class DtoUpdateHandlerFactory : DerivedResourceHandlerFactory {
+/**
+ * @param fingerprints The [DtoFingerprintIndex] to skip the generation of unchanged DTOs or null if all DTOs should be generated.
+ */
+open class DtoUpdateHandlerFactory(val fingerprints: DtoFingerprintIndex? = null) : DerivedResourceHandlerFactory {
     override fun createHandlersFor(scope: SearchScope, project: Project) =
             ScoutApi.allKnown().asSequence()
                     .flatMap { dtoMarkerAnnotationNames(it) }
@@ -33,7 +37,7 @@ open class DtoUpdateHandlerFactory : DerivedResourceHandlerFactory {
 
     protected fun dtoMarkerAnnotationNames(scoutApi: IScoutApi) = sequenceOf(scoutApi.FormData().fqn(), scoutApi.PageData().fqn(), scoutApi.Data().fqn())
 
-    fun typeToHandlers(type: PsiClass): Sequence<IDerivedResourceHandler> = sequenceOf(DtoUpdateHandler(DerivedResourceInputWithIdea(type)))
+    fun typeToHandlers(type: PsiClass): Sequence<IDerivedResourceHandler> = sequenceOf(DtoUpdateHandler(DerivedResourceInputWithIdea(type), fingerprints))
 
     protected fun acceptClass(type: PsiClass): Boolean = type.isValid
             && type.isPhysical
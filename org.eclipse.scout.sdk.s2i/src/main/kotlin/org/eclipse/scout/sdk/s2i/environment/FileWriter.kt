@@ -13,7 +13,9 @@ import com.intellij.openapi.fileEditor.FileDocumentManager
 import com.intellij.openapi.project.Project
 import com.intellij.openapi.vfs.VfsUtil
 import org.eclipse.scout.sdk.core.log.SdkLog
+import org.eclipse.scout.sdk.core.util.Strings
 import org.eclipse.scout.sdk.s2i.EclipseScoutBundle.message
+import org.eclipse.scout.sdk.s2i.environment.IdeaEnvironment.Factory.computeInReadAction
 import org.eclipse.scout.sdk.s2i.toVirtualFile
 import java.nio.file.Path
 
@@ -21,6 +23,18 @@ open class FileWriter(val targetFile: Path, private val m_content: CharSequence,
 
     override fun file(): Path = targetFile
 
+    override fun prepare(progress: IdeaProgress): Boolean {
+        val existingFile = targetFile.toVirtualFile() ?: return true // new file
+        val unchanged = computeInReadAction(project, false) {
+            val document = FileDocumentManager.getInstance().getDocument(existingFile)
+            document != null && Strings.equals(document.immutableCharSequence, m_content)
+        }
+        if (unchanged) {
+            SdkLog.debug("Skipping write of '{}' because the content did not change.", targetFile)
+        }
+        return !unchanged
+    }
+
     override fun commit(progress: IdeaProgress): Boolean {
         progress.init(4, toString())
 
@@ -22,15 +22,19 @@ import com.intellij.openapi.project.Project
 import com.intellij.openapi.vfs.ReadonlyStatusHandler
 import com.intellij.openapi.vfs.VirtualFile
 import com.intellij.psi.PsiDocumentManager
+import com.intellij.util.concurrency.AppExecutorUtil
 import org.eclipse.scout.sdk.core.log.SdkLog
 import org.eclipse.scout.sdk.core.log.SdkLog.onTrace
 import org.eclipse.scout.sdk.core.util.CoreUtils.callInContext
 import org.eclipse.scout.sdk.core.util.Ensure
 import org.eclipse.scout.sdk.core.util.FinalValue
 import org.eclipse.scout.sdk.s2i.EclipseScoutBundle.message
+import org.eclipse.scout.sdk.s2i.environment.IdeaEnvironment.Factory.computeInReadAction
 import org.eclipse.scout.sdk.s2i.toIdea
 import org.eclipse.scout.sdk.s2i.toVirtualFile
 import java.nio.file.Path
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.CompletionException
 
 class TransactionManager(val project: Project, val transactionName: String? = null) {
 
@@ -260,33 +264,108 @@ class TransactionManager(val project: Project, val transactionName: String? = nu
         if (m_members.isEmpty()) return true
         try {
             if (!save || progress.indicator.isCanceled) return false
-            return computeInWriteAction(project, transactionName) { commitAllInUiThread(progress) } ?: return false
+            // prepare outside the UI thread so that the write action only contains the modifications
+            val preparedCommit = prepareCommit(progress)
+            if (preparedCommit.members.isEmpty() && !preparedCommit.hasModifiedDocuments()) {
+                SdkLog.debug("All transaction members are up to date. Nothing to commit.")
+                return true
+            }
+            return computeInWriteAction(project, transactionName) { commitAllInUiThread(preparedCommit, progress) } ?: return false
         } finally {
             m_members.clear()
             m_size = 0
         }
     }
 
-    private fun commitAllInUiThread(progress: IdeaProgress): Boolean {
+    /**
+     * Prepares the members of all files concurrently: asks the members if a commit is necessary and resolves the [VirtualFile]s and [Document]s of the files to modify.
+     */
+    private fun prepareCommit(progress: IdeaProgress): PreparedCommit {
+        val files = m_members.entries.toList()
+        val parallelism = Runtime.getRuntime().availableProcessors()
+        val preparedFiles = if (files.size < 2 || parallelism < 2 || ApplicationManager.getApplication().isReadAccessAllowed) {
+            // if the read lock is already held, don't wait for other threads requiring the read lock (possible deadlock if a write action is pending)
+            files.map { prepareFile(it.key, it.value, progress) }
+        } else {
+            val chunkSize = (files.size + parallelism - 1) / parallelism
+            val executor = AppExecutorUtil.getAppExecutorService()
+            files.chunked(chunkSize)
+                .map { chunk -> CompletableFuture.supplyAsync({ chunk.map { prepareFile(it.key, it.value, progress) } }, executor) }
+                .flatMap { joinUnwrapped(it) }
+        }
+
+        val members = LinkedHashMap<Path, List<TransactionMember>>()
+        val documentMappings = HashMap<Path, Pair<VirtualFile, Document?>?>()
+        val skippedFiles = ArrayList<PreparedFile>()
+        for (preparedFile in preparedFiles) {
+            if (preparedFile.skippedMembers.isNotEmpty()) {
+                skippedFiles.add(preparedFile)
+            }
+            if (preparedFile.members.isEmpty()) continue
+            members[preparedFile.path] = preparedFile.members
+            documentMappings[preparedFile.path] = preparedFile.mapping
+        }
+        val numDropped = m_size - members.values.sumOf { it.size }
+        if (numDropped > 0) {
+            SdkLog.debug("{} transaction members dropped because they would not change anything.", numDropped)
+        }
+        return PreparedCommit(members, documentMappings, skippedFiles)
+    }
+
+    private fun <T> joinUnwrapped(future: CompletableFuture<T>): T {
+        try {
+            return future.join()
+        } catch (e: CompletionException) {
+            throw e.cause ?: e
+        }
+    }
+
+    private fun prepareFile(path: Path, members: List<TransactionMember>, progress: IdeaProgress): PreparedFile {
+        val indicator = progress.indicator
+        indicator.checkCanceled()
+
+        // remember the modification stamp before the members compare the content: if the document is modified afterwards, the skipped members are committed anyway
+        val file = path.toVirtualFile()
+        val document = file?.let { f -> computeInReadAction(project, false) { m_documentManager.getDocument(f) } }
+        val modificationStamp = document?.modificationStamp
+
+        // only members which are not preceded by a modifying member can know if they would change the file
+        val membersToCommit = members.dropWhile { !it.prepare(IdeaProgress(indicator)) }
+        val skippedMembers = members.subList(0, members.size - membersToCommit.size)
+        return PreparedFile(path, membersToCommit, skippedMembers, file?.let { Pair(it, document) }, modificationStamp)
+    }
+
+    private fun commitAllInUiThread(preparedCommit: PreparedCommit, progress: IdeaProgress): Boolean {
+        // copy as the commit might be retried
+        val members = LinkedHashMap(preparedCommit.members)
+        val documentMappings = HashMap(preparedCommit.documentMappings)
+
+        // the skipped members compared the content before the write lock was acquired: if the document has been modified since then, they must be committed as well
+        for (skippedFile in preparedCommit.skippedFiles) {
+            if (!skippedFile.isDocumentModified()) continue
+            SdkLog.debug("Document of '{}' has been modified since the preparation. Committing all its transaction members.", skippedFile.path)
+            members[skippedFile.path] = skippedFile.skippedMembers + skippedFile.members
+            documentMappings[skippedFile.path] = skippedFile.mapping
+        }
+
         val workForEnsureWritable = 1
-        progress.init(size() + workForEnsureWritable, message("starting.commit.transaction.x", size()))
+        val size = members.values.sumOf { it.size }
+        progress.init(size + workForEnsureWritable, message("starting.commit.transaction.x", size))
 
-        // map member path to virtual files
-        val files = m_members.keys.associateWith { it.toVirtualFile() }.toMap()
+        // files might have been deleted since the preparation: resolve again
+        documentMappings.replaceAll { path, mapping ->
+            if (mapping == null || mapping.first.isValid) mapping
+            else path.toVirtualFile()?.let { Pair(it, m_documentManager.getDocument(it)) }
+        }
 
         // make file writable
-        val status = ReadonlyStatusHandler.getInstance(project).ensureFilesWritable(files.values.filterNotNull())
+        val status = ReadonlyStatusHandler.getInstance(project).ensureFilesWritable(documentMappings.values.filterNotNull().map { it.first })
         if (status.hasReadonlyFiles()) {
             SdkLog.info("Unable to make all resources writable. Transaction will be discarded. Message: ${status.readonlyFilesMessage}")
             return false
         }
         progress.worked(workForEnsureWritable)
 
-        // map to documents
-        val documentMappings = files
-            .map { pair -> pair.key to pair.value?.let { Pair(it, m_documentManager.getDocument(it)) } }
-            .toMap(HashMap())
-
         // validate documents and prepare for modification
         val documentsReady = documentMappings.values.filterNotNull().all { documentReady(it.second) }
         if (!documentsReady) {
@@ -295,7 +374,7 @@ class TransactionManager(val project: Project, val transactionName: String? = nu
         }
 
         // commit transaction members
-        return commitTransaction(documentMappings, progress)
+        return commitTransaction(members, documentMappings, progress)
     }
 
     private fun documentReady(document: Document?): Boolean {
@@ -305,7 +384,8 @@ class TransactionManager(val project: Project, val transactionName: String? = nu
         return document.isWritable
     }
 
-    private fun commitTransaction(documentMappings: MutableMap<Path, Pair<VirtualFile, Document?>?>, progress: IdeaProgress) = m_members.entries.minOfOrNull { commitMembersAndPersist(it.key, it.value, documentMappings, progress) } ?: false
+    private fun commitTransaction(members: Map<Path, List<TransactionMember>>, documentMappings: MutableMap<Path, Pair<VirtualFile, Document?>?>, progress: IdeaProgress) =
+        members.entries.minOfOrNull { commitMembersAndPersist(it.key, it.value, documentMappings, progress) } ?: false
 
     private fun commitMembersAndPersist(path: Path, members: List<TransactionMember>, documentMappings: MutableMap<Path, Pair<VirtualFile, Document?>?>, progress: IdeaProgress): Boolean {
         val success = members.minOfOrNull { member -> commitMember(member, path, documentMappings, progress.newChild(1)) } ?: false
@@ -363,5 +443,15 @@ class TransactionManager(val project: Project, val transactionName: String? = nu
     private fun ensureOpen(member: TransactionMember?) {
         Ensure.isTrue(m_open, "Transaction has already been committed. Tried to register member '{}'.", member)
     }
-}
 
+    private class PreparedFile(val path: Path, val members: List<TransactionMember>, val skippedMembers: List<TransactionMember>, val mapping: Pair<VirtualFile, Document?>?, val modificationStamp: Long?) {
+        fun isDocumentModified(): Boolean {
+            val (file, document) = mapping ?: return false
+            return !file.isValid || document == null || document.modificationStamp != modificationStamp
+        }
+    }
+
+    private class PreparedCommit(val members: Map<Path, List<TransactionMember>>, val documentMappings: Map<Path, Pair<VirtualFile, Document?>?>, val skippedFiles: List<PreparedFile>) {
+        fun hasModifiedDocuments() = skippedFiles.any { it.isDocumentModified() }
+    }
+}
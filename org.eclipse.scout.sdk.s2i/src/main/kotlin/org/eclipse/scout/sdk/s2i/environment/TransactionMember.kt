@@ -46,6 +46,20 @@ interface TransactionMember {
      */
     fun commit(progress: IdeaProgress): Boolean
 
+    /**
+     * Prepares the commit of this member. Called before the write action of the transaction is acquired.
+     *
+     * The preparation runs in a background thread without holding any locks. The members of different files are prepared concurrently.
+     * Therefore, a member must not modify anything here. Instead, expensive computations (like reading or comparing the current content of the file) should be done here so that the [commit] in the UI thread is as short as possible.
+     *
+     * This method is only called as long as the file has not been changed by a preceding member of the same file.
+     *
+     * @param progress The [IdeaProgress] which may be used to check for cancellation. Progress must not be reported as the preparation runs concurrently with others.
+     * @return false if the commit of this member would not change anything (e.g. because the file already has the desired content). Such members are not committed.
+     * true if the member must be committed. Members returning false are committed anyway if the document of the file is modified before the write action is acquired.
+     */
+    fun prepare(progress: IdeaProgress): Boolean = true
+
     /**
      * Specifies if this [TransactionMember] should replace the given one. This method is only called for members having the same [file].
      * @param member The [TransactionMember] which should be checked
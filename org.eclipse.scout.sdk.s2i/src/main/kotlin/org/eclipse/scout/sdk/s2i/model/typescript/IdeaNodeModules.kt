@@ -25,11 +25,21 @@ import com.intellij.psi.util.PsiTreeUtil
 import org.eclipse.scout.sdk.core.typescript.model.api.IPackageJson
 import org.eclipse.scout.sdk.core.typescript.model.spi.ES6ClassSpi
 import org.eclipse.scout.sdk.core.typescript.model.spi.NodeElementSpi
+import org.eclipse.scout.sdk.core.typescript.model.spi.NodeModuleInventory
 
 class IdeaNodeModules(val project: Project) {
 
-    private val m_modules = HashMap<VirtualFile, IdeaNodeModule>()
-    private val m_packageJsonLocationByFile = HashMap<VirtualFile, VirtualFile?>()
+    companion object {
+        /**
+         * Maximum number of files for which the location of the parent package.json is cached.
+         */
+        const val MAX_PACKAGE_JSON_LOCATIONS = 10_000
+    }
+
+    private val m_modules = NodeModuleInventory<IdeaNodeModule>()
+    private val m_packageJsonLocationByFile = object : LinkedHashMap<VirtualFile, VirtualFile?>(256, 0.75f, true) {
+        override fun removeEldestEntry(eldest: MutableMap.MutableEntry<VirtualFile, VirtualFile?>?) = size > MAX_PACKAGE_JSON_LOCATIONS
+    }
 
     fun create(nodeModuleDir: VirtualFile) = getOrCreateModule(nodeModuleDir)
 
@@ -97,32 +107,32 @@ class IdeaNodeModules(val project: Project) {
 
     internal fun getOrCreateModule(file: VirtualFile): IdeaNodeModule? = synchronized(m_modules) {
         val packageJsonFile = file.canonicalFile?.let { findParentPackageJson(it) } ?: return null
-        return m_modules.computeIfAbsent(packageJsonFile.parent) { IdeaNodeModule(this, it) }
+        val nodeModuleDir = packageJsonFile.parent
+        return m_modules.computeIfAbsent(nodeModuleDir.path) { IdeaNodeModule(this, nodeModuleDir) }
     }
 
     internal fun getModules(): Collection<IdeaNodeModule> = synchronized(m_modules) {
-        m_modules.values.toSet()
+        m_modules.modules().toSet()
     }
 
+    /**
+     * Removes the module owning the changed path and all modules depending on it.
+     */
     fun remove(changedPath: VirtualFile): Set<IdeaNodeModule> = synchronized(m_modules) {
-        val modules = m_modules
-            .filter { changedPath.path.startsWith(it.key.path) }
-            .map { it.value }
-
-        if (modules.isEmpty()) return emptySet()
-
-        return remove(modules)
+        if (changedPath.isDirectory || changedPath.name == IPackageJson.FILE_NAME) {
+            // package.json files might have been added or removed: the cached locations are no longer valid
+            m_packageJsonLocationByFile.clear()
+        }
+        return m_modules.remove(changedPath.path)
     }
 
     fun remove(module: IdeaNodeModule) = remove(setOf(module))
 
+    /**
+     * Removes the given modules and all modules depending on one of them.
+     */
     fun remove(modules: Collection<IdeaNodeModule>): Set<IdeaNodeModule> = synchronized(m_modules) {
-        val dependentModules = collectDependentModules(modules)
-
-        // remove everything that is mapped to a module contained in dependentModules
-        m_modules.values.removeIf { it in dependentModules }
-
-        return dependentModules
+        return m_modules.remove(modules)
     }
 
     fun clear() = synchronized(m_modules) {
@@ -130,27 +140,5 @@ class IdeaNodeModules(val project: Project) {
         m_packageJsonLocationByFile.clear()
     }
 
-    fun isEmpty() = m_modules.isEmpty()
-
-    private fun collectDependentModules(modules: Collection<IdeaNodeModule>): Set<IdeaNodeModule> {
-        val remainingModules = m_modules.values.toMutableSet()
-
-        val result = mutableSetOf<IdeaNodeModule>()
-        var current = modules.filter { it in remainingModules }.toSet()
-
-        while (current.isNotEmpty()) {
-            // add to result
-            result.addAll(current)
-
-            // remove from remaining modules
-            remainingModules.removeAll(current)
-
-            // all modules with a dependency on one of the current modules
-            current = remainingModules
-                .filter { it.packageJson().dependencies().any { dependency -> dependency in current } }
-                .toSet()
-        }
-
-        return result
-    }
+    fun isEmpty() = synchronized(m_modules) { m_modules.isEmpty() }
 }
\ No newline at end of file
@@ -37,7 +37,7 @@ class ClassIdCacheImplementorTest : TestCase() {
 
     private fun createCache(initialMap: MutableMap<String /* file name */, MutableMap<String /* fqn */, String /* classid */>>): ClassIdCacheImplementor {
         val cache = ClassIdCacheImplementor(mock(Project::class.java))
-        initialMap.forEach { cache.fileCache()[it.key] = it.value }
+        initialMap.forEach { cache.index().update(it.key, it.value) }
         return cache
     }
 }
\ No newline at end of file